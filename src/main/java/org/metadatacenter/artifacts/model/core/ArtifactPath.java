@@ -0,0 +1,149 @@
+package org.metadatacenter.artifacts.model.core;
+
+/**
+ * An immutable path to a node in an artifact, such as /Study/Address[2]/Zip, that is only rendered as a string when
+ * needed.
+ * <p></p>
+ * A path is a chain of segments, each of which refers to its parent. Descending into a child therefore allocates a
+ * single segment rather than copying the text of the whole path, and a path that is never reported is never rendered.
+ * Because paths are immutable they can be retained by visitors, captured for deferred reading and shared between
+ * threads.
+ * <p></p>
+ * The root path is rendered as "/". A key segment is rendered as "/" followed by the key and an index segment as the
+ * index enclosed in square brackets, so the child key "Address" of the root followed by the index 2 is rendered as
+ * "/Address[2]".
+ */
+public final class ArtifactPath
+{
+  private static final int NO_INDEX = -1;
+  private static final ArtifactPath ROOT = new ArtifactPath(null, "/", NO_INDEX);
+
+  private final ArtifactPath parent;
+  private final String key;
+  private final int index;
+  private String renderedPath;
+
+  private ArtifactPath(ArtifactPath parent, String key, int index)
+  {
+    this.parent = parent;
+    this.key = key;
+    this.index = index;
+  }
+
+  public static ArtifactPath root()
+  {
+    return ROOT;
+  }
+
+  /**
+   * Return a path that is rendered as the supplied string and to which further segments can be appended. This is
+   * intended for adapting string-based paths; an empty string or "/" is treated as the root path.
+   */
+  public static ArtifactPath of(String path)
+  {
+    if (path.isEmpty() || path.equals("/"))
+      return ROOT;
+    else
+      return new ArtifactPath(null, path, NO_INDEX);
+  }
+
+  public ArtifactPath child(String key)
+  {
+    return new ArtifactPath(this, key, NO_INDEX);
+  }
+
+  public ArtifactPath index(int index)
+  {
+    if (index < 0)
+      throw new IllegalArgumentException("Path index must not be negative, got " + index);
+
+    return new ArtifactPath(this, null, index);
+  }
+
+  public boolean isRoot()
+  {
+    return this == ROOT;
+  }
+
+  /**
+   * Return the path this segment was appended to, or null for the root path and for a path created by
+   * {@link #of(String)}
+   */
+  public ArtifactPath parent()
+  {
+    return parent;
+  }
+
+  public boolean isIndex()
+  {
+    return index != NO_INDEX;
+  }
+
+  /**
+   * Return the key of a key segment, or the string a path created by {@link #of(String)} was adapted from; an index
+   * segment has no key
+   */
+  public String key()
+  {
+    return key;
+  }
+
+  /**
+   * Return the index of an index segment, or -1 for any other segment
+   */
+  public int index()
+  {
+    return index;
+  }
+
+  @Override public String toString()
+  {
+    String path = renderedPath;
+
+    if (path == null) {
+      path = isRoot() ? key : render();
+      renderedPath = path;
+    }
+    return path;
+  }
+
+  @Override public boolean equals(Object o)
+  {
+    if (this == o)
+      return true;
+    if (!(o instanceof ArtifactPath))
+      return false;
+
+    return toString().equals(o.toString());
+  }
+
+  @Override public int hashCode()
+  {
+    return toString().hashCode();
+  }
+
+  private String render()
+  {
+    StringBuilder sb = new StringBuilder();
+
+    appendTo(sb);
+
+    return sb.toString();
+  }
+
+  private void appendTo(StringBuilder sb)
+  {
+    if (isRoot())
+      return;
+
+    if (parent != null)
+      parent.appendTo(sb);
+
+    if (index != NO_INDEX)
+      sb.append('[').append(index).append(']');
+    else if (parent == null)
+      sb.append(key);
+    else
+      sb.append('/').append(key);
+  }
+}
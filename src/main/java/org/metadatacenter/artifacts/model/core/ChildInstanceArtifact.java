@@ -2,7 +2,17 @@ package org.metadatacenter.artifacts.model.core;
 
 public interface ChildInstanceArtifact extends ChildArtifact, InstanceArtifact
 {
-  void accept(InstanceArtifactVisitor visitor, String path);
+  void accept(InstanceArtifactVisitor visitor, ArtifactPath path);
 
-  void accept(InstanceArtifactVisitor visitor, String path, String specificationPath);
+  void accept(InstanceArtifactVisitor visitor, ArtifactPath path, ArtifactPath specificationPath);
+
+  default void accept(InstanceArtifactVisitor visitor, String path)
+  {
+    accept(visitor, ArtifactPath.of(path));
+  }
+
+  default void accept(InstanceArtifactVisitor visitor, String path, String specificationPath)
+  {
+    accept(visitor, ArtifactPath.of(path), ArtifactPath.of(specificationPath));
+  }
 }
@@ -16,5 +16,10 @@ public sealed interface ChildSchemaArtifact extends SchemaArtifact, ChildArtifac
 
   Optional<URI> propertyUri();
 
-  void accept(SchemaArtifactVisitor visitor, String path);
+  void accept(SchemaArtifactVisitor visitor, ArtifactPath path);
+
+  default void accept(SchemaArtifactVisitor visitor, String path)
+  {
+    accept(visitor, ArtifactPath.of(path));
+  }
 }
@@ -5,6 +5,7 @@ import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -46,13 +47,13 @@ public non-sealed interface ElementInstanceArtifact extends InstanceArtifact, Pa
 
   // NOTE: Even though this method looks almost identical to the equivalent method in the TemplateInstanceArtifact
   // its path handling is different.
-  default void accept(InstanceArtifactVisitor visitor, String path)
+  default void accept(InstanceArtifactVisitor visitor, ArtifactPath path)
   {
     visitor.visitElementInstanceArtifact(this, path);
 
     for (Map.Entry<String, FieldInstanceArtifact> entry : singleInstanceFieldInstances().entrySet()) {
       String fieldKey = entry.getKey();
-      String childBasePath = path + "/" + fieldKey;
+      ArtifactPath childBasePath = path.child(fieldKey);
       FieldInstanceArtifact fieldInstanceArtifact = entry.getValue();
 
       fieldInstanceArtifact.accept(visitor, childBasePath);
@@ -60,19 +61,19 @@ public non-sealed interface ElementInstanceArtifact extends InstanceArtifact, Pa
 
     for (Map.Entry<String, List<FieldInstanceArtifact>> entry : multiInstanceFieldInstances().entrySet()) {
       String fieldKey = entry.getKey();
-      String childBasePath = path + "/" + fieldKey;
+      ArtifactPath childBasePath = path.child(fieldKey);
       List<FieldInstanceArtifact> fieldInstanceArtifacts = entry.getValue();
 
       int childNumber = 0;
       for (FieldInstanceArtifact fieldInstanceArtifact : fieldInstanceArtifacts) {
-        fieldInstanceArtifact.accept(visitor, childBasePath + "[" + childNumber + "]");
+        fieldInstanceArtifact.accept(visitor, childBasePath.index(childNumber));
         childNumber++;
       }
     }
 
     for (Map.Entry<String, ElementInstanceArtifact> entry : singleInstanceElementInstances().entrySet()) {
       String elementKey = entry.getKey();
-      String childBasePath = path + "/" + elementKey;
+      ArtifactPath childBasePath = path.child(elementKey);
       ElementInstanceArtifact elementInstanceArtifact = entry.getValue();
 
       elementInstanceArtifact.accept(visitor, childBasePath);
@@ -80,12 +81,12 @@ public non-sealed interface ElementInstanceArtifact extends InstanceArtifact, Pa
 
     for (Map.Entry<String, List<ElementInstanceArtifact>> entry : multiInstanceElementInstances().entrySet()) {
       String elementKey = entry.getKey();
-      String childBasePath = path + "/" + elementKey;
+      ArtifactPath childBasePath = path.child(elementKey);
       List<ElementInstanceArtifact> elementInstanceArtifacts = entry.getValue();
 
       int childNumber = 0;
       for (ElementInstanceArtifact elementInstanceArtifact : elementInstanceArtifacts) {
-        elementInstanceArtifact.accept(visitor, childBasePath + "[" + childNumber + "]");
+        elementInstanceArtifact.accept(visitor, childBasePath.index(childNumber));
         childNumber++;
       }
     }
@@ -97,8 +98,8 @@ public non-sealed interface ElementInstanceArtifact extends InstanceArtifact, Pa
       for (Map.Entry<String, FieldInstanceArtifact> perAttributeValueFieldInstanceNameAndInstance : perAttributeValueFieldInstances.entrySet()) {
         String attributeValueFieldInstanceKey = perAttributeValueFieldInstanceNameAndInstance.getKey();
         FieldInstanceArtifact fieldInstanceArtifact = perAttributeValueFieldInstanceNameAndInstance.getValue();
-        String attributeValueFieldSpecificationPath = path + "/" + attributeValueFieldGroupName;
-        String attributeValueFieldInstancePath = path + "/" + attributeValueFieldInstanceKey;
+        ArtifactPath attributeValueFieldSpecificationPath = path.child(attributeValueFieldGroupName);
+        ArtifactPath attributeValueFieldInstancePath = path.child(attributeValueFieldInstanceKey);
 
         fieldInstanceArtifact.accept(visitor, attributeValueFieldInstancePath, attributeValueFieldSpecificationPath);
       }
@@ -126,7 +127,7 @@ public non-sealed interface ElementInstanceArtifact extends InstanceArtifact, Pa
     private Optional<URI> modifiedBy = Optional.empty();
     private Optional<OffsetDateTime> createdOn = Optional.empty();
     private Optional<OffsetDateTime> lastUpdatedOn = Optional.empty();
-    private List<String> childKeys = new ArrayList<>();
+    private LinkedHashSet<String> childKeys = new LinkedHashSet<>();
     private LinkedHashMap<String, FieldInstanceArtifact> singleInstanceFieldInstances = new LinkedHashMap<>();
     private LinkedHashMap<String, List<FieldInstanceArtifact>> multiInstanceFieldInstances = new LinkedHashMap<>();
     private LinkedHashMap<String, ElementInstanceArtifact> singleInstanceElementInstances = new LinkedHashMap<>();
@@ -148,7 +149,7 @@ public non-sealed interface ElementInstanceArtifact extends InstanceArtifact, Pa
       this.modifiedBy = elementInstanceArtifact.modifiedBy();
       this.createdOn = elementInstanceArtifact.createdOn();
       this.lastUpdatedOn = elementInstanceArtifact.lastUpdatedOn();
-      this.childKeys = new ArrayList<>(elementInstanceArtifact.childKeys());
+      this.childKeys = new LinkedHashSet<>(elementInstanceArtifact.childKeys());
       this.singleInstanceFieldInstances = new LinkedHashMap<>(elementInstanceArtifact.singleInstanceFieldInstances());
       this.multiInstanceFieldInstances = new LinkedHashMap<>(elementInstanceArtifact.multiInstanceFieldInstances());
       this.singleInstanceElementInstances = new LinkedHashMap<>(
@@ -357,8 +358,9 @@ public non-sealed interface ElementInstanceArtifact extends InstanceArtifact, Pa
     public ElementInstanceArtifact build()
     {
       return new ElementInstanceArtifactRecord(jsonLdContext, jsonLdTypes, jsonLdId, name, description, createdBy,
-        modifiedBy, createdOn, lastUpdatedOn, childKeys, singleInstanceFieldInstances, multiInstanceFieldInstances,
-        singleInstanceElementInstances, multiInstanceElementInstances, attributeValueFieldInstanceGroups);
+        modifiedBy, createdOn, lastUpdatedOn, new ArrayList<>(childKeys), singleInstanceFieldInstances,
+        multiInstanceFieldInstances, singleInstanceElementInstances, multiInstanceElementInstances,
+        attributeValueFieldInstanceGroups);
     }
   }
 }
@@ -57,20 +57,20 @@ public non-sealed interface ElementSchemaArtifact extends SchemaArtifact, ChildS
 
   ElementUi elementUi();
 
-  @Override default void accept(SchemaArtifactVisitor visitor, String path)
+  @Override default void accept(SchemaArtifactVisitor visitor, ArtifactPath path)
   {
     visitor.visitElementSchemaArtifact(this, path);
 
     for (Map.Entry<String, FieldSchemaArtifact> entry : fieldSchemas().entrySet()) {
       String fieldName = entry.getKey();
-      String childPath = path + "/" + fieldName;
+      ArtifactPath childPath = path.child(fieldName);
       FieldSchemaArtifact fieldSchemaArtifact = entry.getValue();
       fieldSchemaArtifact.accept(visitor, childPath);
     }
 
     for (Map.Entry<String, ElementSchemaArtifact> entry : elementSchemas().entrySet()) {
       String fieldName = entry.getKey();
-      String childPath = path + "/" + fieldName;
+      ArtifactPath childPath = path.child(fieldName);
       ElementSchemaArtifact elementSchemaArtifact = entry.getValue();
       elementSchemaArtifact.accept(visitor, childPath);
     }
@@ -42,12 +42,12 @@ public sealed interface FieldInstanceArtifact extends ChildInstanceArtifact perm
 
   Optional<String> language();
 
-  @Override default void accept(InstanceArtifactVisitor visitor, String path)
+  @Override default void accept(InstanceArtifactVisitor visitor, ArtifactPath path)
   {
     visitor.visitFieldInstanceArtifact(this, path);
   }
 
-  @Override default void accept(InstanceArtifactVisitor visitor, String path, String specificationPath)
+  @Override default void accept(InstanceArtifactVisitor visitor, ArtifactPath path, ArtifactPath specificationPath)
   {
     visitor.visitAttributeValueFieldInstanceArtifact(this, path, specificationPath);
   }
@@ -69,7 +69,7 @@ public sealed interface FieldSchemaArtifact extends SchemaArtifact, ChildSchemaA
       return Optional.empty();
   }
 
-  @Override default void accept(SchemaArtifactVisitor visitor, String path)
+  @Override default void accept(SchemaArtifactVisitor visitor, ArtifactPath path)
   {
     visitor.visitFieldSchemaArtifact(this, path);
   }
@@ -1,12 +1,35 @@
 package org.metadatacenter.artifacts.model.core;
 
+/**
+ * Visitor for the artifacts of a template instance artifact.
+ * <p></p>
+ * Child artifacts are visited with an {@link ArtifactPath}. By default the path is rendered and passed to the
+ * corresponding String-based method, so existing visitors only need to implement those; visitors that override the
+ * path-based methods avoid rendering the path of every child.
+ */
 public interface InstanceArtifactVisitor
 {
   void visitTemplateInstanceArtifact(TemplateInstanceArtifact templateInstanceArtifact);
 
-  void visitElementInstanceArtifact(ElementInstanceArtifact elementInstanceArtifact, String path);
+  default void visitElementInstanceArtifact(ElementInstanceArtifact elementInstanceArtifact, String path) {}
 
-  void visitFieldInstanceArtifact(FieldInstanceArtifact fieldInstanceArtifact, String path);
+  default void visitFieldInstanceArtifact(FieldInstanceArtifact fieldInstanceArtifact, String path) {}
 
-  void visitAttributeValueFieldInstanceArtifact(FieldInstanceArtifact fieldInstanceArtifact, String path, String specificationPath);
+  default void visitAttributeValueFieldInstanceArtifact(FieldInstanceArtifact fieldInstanceArtifact, String path, String specificationPath) {}
+
+  default void visitElementInstanceArtifact(ElementInstanceArtifact elementInstanceArtifact, ArtifactPath path)
+  {
+    visitElementInstanceArtifact(elementInstanceArtifact, path.toString());
+  }
+
+  default void visitFieldInstanceArtifact(FieldInstanceArtifact fieldInstanceArtifact, ArtifactPath path)
+  {
+    visitFieldInstanceArtifact(fieldInstanceArtifact, path.toString());
+  }
+
+  default void visitAttributeValueFieldInstanceArtifact(FieldInstanceArtifact fieldInstanceArtifact,
+    ArtifactPath path, ArtifactPath specificationPath)
+  {
+    visitAttributeValueFieldInstanceArtifact(fieldInstanceArtifact, path.toString(), specificationPath.toString());
+  }
 }
@@ -0,0 +1,57 @@
+package org.metadatacenter.artifacts.model.core;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * The encodings in which the JSON and JSON-LD specifications of artifacts can be read and written
+ * <p></p>
+ * Smile and CBOR are binary encodings of the JSON data model, so an artifact read from a binary encoding of a
+ * specification is identical to the artifact read from its JSON text. Parsers and generators created by a format
+ * can be passed to the {@link JsonParser} and {@link JsonGenerator} methods of the JSON artifact reader and renderer.
+ */
+public enum JsonArtifactFormat
+{
+  JSON(new JsonFactory()),
+  SMILE(new SmileFactory()),
+  CBOR(new CBORFactory());
+
+  private final ObjectMapper mapper;
+
+  JsonArtifactFormat(JsonFactory factory)
+  {
+    this.mapper = new ObjectMapper(factory);
+  }
+
+  public boolean isBinary()
+  {
+    return this != JSON;
+  }
+
+  public JsonParser createParser(InputStream inputStream) throws IOException
+  {
+    return mapper.getFactory().createParser(inputStream);
+  }
+
+  public JsonGenerator createGenerator(OutputStream outputStream) throws IOException
+  {
+    return mapper.getFactory().createGenerator(outputStream);
+  }
+
+  public static JsonArtifactFormat fromString(String name)
+  {
+    for (JsonArtifactFormat format : values())
+      if (format.name().equalsIgnoreCase(name))
+        return format;
+
+    throw new IllegalArgumentException("Unknown artifact format " + name);
+  }
+}
@@ -0,0 +1,134 @@
+package org.metadatacenter.artifacts.model.core;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
+
+/**
+ * An unmodifiable, insertion-ordered map of element schema artifacts whose values are only read when first accessed.
+ * <p></p>
+ * Keys are known up front, so key-only operations such as containsKey, size and keySet never read an element. Each
+ * element is read at most once, even when accessed concurrently, and is then retained. An element is read by the first
+ * thread to access it, without holding any lock, and other threads accessing it meanwhile wait for that read. If
+ * reading an element fails, the exception is propagated to the callers waiting for it and the element will be read
+ * again on the next access.
+ */
+final class LazyElementSchemaArtifactMap extends AbstractMap<String, ElementSchemaArtifact>
+{
+  private final LinkedHashMap<String, Supplier<ElementSchemaArtifact>> elementSchemaArtifactSuppliers;
+  private final ConcurrentHashMap<String, FutureTask<ElementSchemaArtifact>> elementSchemaArtifactReads =
+    new ConcurrentHashMap<>();
+
+  LazyElementSchemaArtifactMap(LinkedHashMap<String, Supplier<ElementSchemaArtifact>> elementSchemaArtifactSuppliers)
+  {
+    this.elementSchemaArtifactSuppliers = new LinkedHashMap<>(elementSchemaArtifactSuppliers);
+  }
+
+  /**
+   * Return a map containing only the entries of this map whose keys are not in the supplied set. Elements that have
+   * already been read are shared with the returned map.
+   */
+  LazyElementSchemaArtifactMap withoutKeys(Set<String> elementKeys)
+  {
+    LinkedHashMap<String, Supplier<ElementSchemaArtifact>> retainedElementSchemaArtifactSuppliers =
+      new LinkedHashMap<>();
+
+    for (String elementKey : elementSchemaArtifactSuppliers.keySet()) {
+      if (!elementKeys.contains(elementKey))
+        retainedElementSchemaArtifactSuppliers.put(elementKey, () -> get(elementKey));
+    }
+    return new LazyElementSchemaArtifactMap(retainedElementSchemaArtifactSuppliers);
+  }
+
+  @Override public ElementSchemaArtifact get(Object elementKey)
+  {
+    Supplier<ElementSchemaArtifact> elementSchemaArtifactSupplier = elementSchemaArtifactSuppliers.get(elementKey);
+
+    if (elementSchemaArtifactSupplier == null)
+      return null;
+
+    FutureTask<ElementSchemaArtifact> elementSchemaArtifactRead = elementSchemaArtifactReads.get(elementKey);
+
+    if (elementSchemaArtifactRead == null) {
+      FutureTask<ElementSchemaArtifact> newElementSchemaArtifactRead =
+        new FutureTask<>(elementSchemaArtifactSupplier::get);
+
+      elementSchemaArtifactRead = elementSchemaArtifactReads.putIfAbsent((String)elementKey,
+        newElementSchemaArtifactRead);
+      if (elementSchemaArtifactRead == null) {
+        elementSchemaArtifactRead = newElementSchemaArtifactRead;
+        elementSchemaArtifactRead.run();
+      }
+    }
+
+    try {
+      return elementSchemaArtifactRead.get();
+    } catch (ExecutionException e) {
+      elementSchemaArtifactReads.remove(elementKey, elementSchemaArtifactRead);
+      if (e.getCause() instanceof RuntimeException runtimeException)
+        throw runtimeException;
+      else if (e.getCause() instanceof Error error)
+        throw error;
+      else
+        throw new RuntimeException(
+          "Error reading element schema artifact " + elementKey + ": " + e.getCause().getMessage(), e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while reading element schema artifact " + elementKey);
+    }
+  }
+
+  @Override public boolean containsKey(Object elementKey)
+  {
+    return elementSchemaArtifactSuppliers.containsKey(elementKey);
+  }
+
+  @Override public int size()
+  {
+    return elementSchemaArtifactSuppliers.size();
+  }
+
+  @Override public Set<String> keySet()
+  {
+    return Collections.unmodifiableSet(elementSchemaArtifactSuppliers.keySet());
+  }
+
+  @Override public Set<Map.Entry<String, ElementSchemaArtifact>> entrySet()
+  {
+    return new AbstractSet<>()
+    {
+      @Override public Iterator<Map.Entry<String, ElementSchemaArtifact>> iterator()
+      {
+        Iterator<String> elementKeys = elementSchemaArtifactSuppliers.keySet().iterator();
+
+        return new Iterator<>()
+        {
+          @Override public boolean hasNext()
+          {
+            return elementKeys.hasNext();
+          }
+
+          @Override public Map.Entry<String, ElementSchemaArtifact> next()
+          {
+            String elementKey = elementKeys.next();
+
+            return new AbstractMap.SimpleImmutableEntry<>(elementKey, get(elementKey));
+          }
+        };
+      }
+
+      @Override public int size()
+      {
+        return elementSchemaArtifactSuppliers.size();
+      }
+    };
+  }
+}
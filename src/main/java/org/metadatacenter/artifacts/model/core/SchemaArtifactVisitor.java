@@ -1,10 +1,27 @@
 package org.metadatacenter.artifacts.model.core;
 
+/**
+ * Visitor for the artifacts of a template schema artifact.
+ * <p></p>
+ * Child artifacts are visited with an {@link ArtifactPath}. By default the path is rendered and passed to the
+ * corresponding String-based method, so existing visitors only need to implement those; visitors that override the
+ * path-based methods avoid rendering the path of every child.
+ */
 public interface SchemaArtifactVisitor
 {
   void visitTemplateSchemaArtifact(TemplateSchemaArtifact templateSchemaArtifact);
 
-  void visitElementSchemaArtifact(ElementSchemaArtifact elementSchemaArtifact, String path);
+  default void visitElementSchemaArtifact(ElementSchemaArtifact elementSchemaArtifact, String path) {}
 
-  void visitFieldSchemaArtifact(FieldSchemaArtifact fieldSchemaArtifact, String path);
+  default void visitFieldSchemaArtifact(FieldSchemaArtifact fieldSchemaArtifact, String path) {}
+
+  default void visitElementSchemaArtifact(ElementSchemaArtifact elementSchemaArtifact, ArtifactPath path)
+  {
+    visitElementSchemaArtifact(elementSchemaArtifact, path.toString());
+  }
+
+  default void visitFieldSchemaArtifact(FieldSchemaArtifact fieldSchemaArtifact, ArtifactPath path)
+  {
+    visitFieldSchemaArtifact(fieldSchemaArtifact, path.toString());
+  }
 }
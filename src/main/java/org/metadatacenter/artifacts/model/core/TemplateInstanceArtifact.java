@@ -35,13 +35,13 @@ public non-sealed interface TemplateInstanceArtifact extends InstanceArtifact, P
   Optional<Annotations> annotations();
 
   default void accept(InstanceArtifactVisitor visitor) {
-    String path = "/";
+    ArtifactPath path = ArtifactPath.root();
 
     visitor.visitTemplateInstanceArtifact(this);
 
     for (Map.Entry<String, ElementInstanceArtifact> entry : singleInstanceElementInstances().entrySet()) {
       String elementKey = entry.getKey();
-      String childBasePath = path + elementKey;
+      ArtifactPath childBasePath = path.child(elementKey);
       ElementInstanceArtifact elementInstanceArtifact = entry.getValue();
 
       elementInstanceArtifact.accept(visitor, childBasePath);
@@ -49,19 +49,19 @@ public non-sealed interface TemplateInstanceArtifact extends InstanceArtifact, P
 
     for (Map.Entry<String, List<ElementInstanceArtifact>> entry : multiInstanceElementInstances().entrySet()) {
       String elementKey = entry.getKey();
-      String childBasePath = path + elementKey;
+      ArtifactPath childBasePath = path.child(elementKey);
       List<ElementInstanceArtifact> elementInstanceArtifacts = entry.getValue();
 
       int childNumber = 0;
       for (ElementInstanceArtifact elementInstanceArtifact : elementInstanceArtifacts) {
-        elementInstanceArtifact.accept(visitor, childBasePath + "[" + childNumber + "]");
+        elementInstanceArtifact.accept(visitor, childBasePath.index(childNumber));
         childNumber++;
       }
     }
 
     for (Map.Entry<String, FieldInstanceArtifact> entry : singleInstanceFieldInstances().entrySet()) {
       String fieldKey = entry.getKey();
-      String childBasePath = path + fieldKey;
+      ArtifactPath childBasePath = path.child(fieldKey);
       FieldInstanceArtifact fieldInstanceArtifact = entry.getValue();
 
       fieldInstanceArtifact.accept(visitor, childBasePath);
@@ -69,12 +69,12 @@ public non-sealed interface TemplateInstanceArtifact extends InstanceArtifact, P
 
     for (Map.Entry<String, List<FieldInstanceArtifact>> entry : multiInstanceFieldInstances().entrySet()) {
       String fieldKey = entry.getKey();
-      String childBasePath = path + fieldKey;
+      ArtifactPath childBasePath = path.child(fieldKey);
       List<FieldInstanceArtifact> fieldInstanceArtifacts = entry.getValue();
 
       int childNumber = 0;
       for (FieldInstanceArtifact fieldInstanceArtifact : fieldInstanceArtifacts) {
-        fieldInstanceArtifact.accept(visitor, childBasePath + "[" + childNumber + "]");
+        fieldInstanceArtifact.accept(visitor, childBasePath.index(childNumber));
         childNumber++;
       }
     }
@@ -87,8 +87,8 @@ public non-sealed interface TemplateInstanceArtifact extends InstanceArtifact, P
           perAttributeValueFieldInstances.entrySet()) {
         String attributeValueFieldInstanceName = perAttributeValueFieldInstanceNameAndInstance.getKey();
         FieldInstanceArtifact fieldInstanceArtifact = perAttributeValueFieldInstanceNameAndInstance.getValue();
-        String attributeValueFieldSpecificationPath = path + attributeValueFieldGroupName;
-        String attributeValueFieldInstancePath = path + attributeValueFieldInstanceName;
+        ArtifactPath attributeValueFieldSpecificationPath = path.child(attributeValueFieldGroupName);
+        ArtifactPath attributeValueFieldInstancePath = path.child(attributeValueFieldInstanceName);
 
         fieldInstanceArtifact.accept(visitor, attributeValueFieldInstancePath, attributeValueFieldSpecificationPath);
       }
@@ -115,7 +115,7 @@ public non-sealed interface TemplateInstanceArtifact extends InstanceArtifact, P
     private Optional<URI> modifiedBy = Optional.empty();
     private Optional<OffsetDateTime> createdOn = Optional.empty();
     private Optional<OffsetDateTime> lastUpdatedOn = Optional.empty();
-    private List<String> childKeys = new ArrayList<>();
+    private LinkedHashSet<String> childKeys = new LinkedHashSet<>();
     private LinkedHashMap<String, FieldInstanceArtifact> singleInstanceFieldInstances = new LinkedHashMap<>();
     private LinkedHashMap<String, List<FieldInstanceArtifact>> multiInstanceFieldInstances = new LinkedHashMap<>();
     private LinkedHashMap<String, ElementInstanceArtifact> singleInstanceElementInstances = new LinkedHashMap<>();
@@ -139,7 +139,7 @@ public non-sealed interface TemplateInstanceArtifact extends InstanceArtifact, P
       this.modifiedBy = templateInstanceArtifact.modifiedBy();
       this.createdOn = templateInstanceArtifact.createdOn();
       this.lastUpdatedOn = templateInstanceArtifact.lastUpdatedOn();
-      this.childKeys = new ArrayList<>(templateInstanceArtifact.childKeys());
+      this.childKeys = new LinkedHashSet<>(templateInstanceArtifact.childKeys());
       this.singleInstanceFieldInstances = new LinkedHashMap<>(templateInstanceArtifact.singleInstanceFieldInstances());
       this.multiInstanceFieldInstances = new LinkedHashMap<>(templateInstanceArtifact.multiInstanceFieldInstances());
       this.singleInstanceElementInstances = new LinkedHashMap<>(
@@ -349,9 +349,9 @@ public non-sealed interface TemplateInstanceArtifact extends InstanceArtifact, P
 
     public TemplateInstanceArtifact build() {
       return new TemplateInstanceArtifactRecord(jsonLdContext, jsonLdTypes, jsonLdId, name, description, createdBy,
-          modifiedBy, createdOn, lastUpdatedOn, isBasedOn, derivedFrom, childKeys, singleInstanceFieldInstances,
-          multiInstanceFieldInstances, singleInstanceElementInstances, multiInstanceElementInstances,
-          attributeValueFieldInstanceGroups, annotations);
+          modifiedBy, createdOn, lastUpdatedOn, isBasedOn, derivedFrom, new ArrayList<>(childKeys),
+          singleInstanceFieldInstances, multiInstanceFieldInstances, singleInstanceElementInstances,
+          multiInstanceElementInstances, attributeValueFieldInstanceGroups, annotations);
     }
   }
 }
@@ -12,6 +12,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toSet;
@@ -52,26 +53,49 @@ public non-sealed interface TemplateSchemaArtifact extends SchemaArtifact, Paren
       fieldSchemas, elementSchemas, language, templateUi, annotations, internalName, internalDescription);
   }
 
+  /**
+   * Create a template schema artifact with the same content as the supplied artifact but whose element schema
+   * artifacts are read on demand. The supplied artifact's own element schema artifacts are ignored.
+   * <p></p>
+   * Each supplier is invoked at most once, when the value for its key is first accessed through elementSchemas().
+   * Accesses that only need the template's fields or the keys of its elements do not invoke any supplier. If a
+   * supplier throws, the exception is propagated to the caller of the accessing method.
+   */
+  static TemplateSchemaArtifact createLazy(TemplateSchemaArtifact templateSchemaArtifact,
+    LinkedHashMap<String, Supplier<ElementSchemaArtifact>> elementSchemaArtifactSuppliers)
+  {
+    return new TemplateSchemaArtifactRecord(templateSchemaArtifact.jsonLdContext(),
+      templateSchemaArtifact.jsonLdTypes(), templateSchemaArtifact.jsonLdId(),
+      templateSchemaArtifact.instanceJsonLdType(), templateSchemaArtifact.name(), templateSchemaArtifact.description(),
+      templateSchemaArtifact.identifier(), templateSchemaArtifact.version(), templateSchemaArtifact.status(),
+      templateSchemaArtifact.previousVersion(), templateSchemaArtifact.derivedFrom(),
+      templateSchemaArtifact.createdBy(), templateSchemaArtifact.modifiedBy(), templateSchemaArtifact.createdOn(),
+      templateSchemaArtifact.lastUpdatedOn(), new LinkedHashMap<>(templateSchemaArtifact.fieldSchemas()),
+      new LazyElementSchemaArtifactMap(elementSchemaArtifactSuppliers), templateSchemaArtifact.language(),
+      templateSchemaArtifact.templateUi(), templateSchemaArtifact.annotations(),
+      templateSchemaArtifact.internalName(), templateSchemaArtifact.internalDescription());
+  }
+
   TemplateUi templateUi();
 
   default ParentArtifactUi getUi() {return templateUi();}
 
   default void accept(SchemaArtifactVisitor visitor)
   {
-    String path = "/";
+    ArtifactPath path = ArtifactPath.root();
 
     visitor.visitTemplateSchemaArtifact(this);
 
     for (Map.Entry<String, FieldSchemaArtifact> entry : fieldSchemas().entrySet()) {
       String fieldName = entry.getKey();
-      String childPath = path + fieldName;
+      ArtifactPath childPath = path.child(fieldName);
       FieldSchemaArtifact fieldSchemaArtifact = entry.getValue();
       fieldSchemaArtifact.accept(visitor, childPath);
     }
 
     for (Map.Entry<String, ElementSchemaArtifact> entry : elementSchemas().entrySet()) {
       String fieldName = entry.getKey();
-      String childPath = path + fieldName;
+      ArtifactPath childPath = path.child(fieldName);
       ElementSchemaArtifact elementSchemaArtifact = entry.getValue();
       elementSchemaArtifact.accept(visitor, childPath);
     }
@@ -367,7 +391,7 @@ record TemplateSchemaArtifactRecord(
                                     Optional<URI> createdBy, Optional<URI> modifiedBy,
                                     Optional<OffsetDateTime> createdOn, Optional<OffsetDateTime> lastUpdatedOn,
                                     LinkedHashMap<String, FieldSchemaArtifact> fieldSchemas,
-                                    LinkedHashMap<String, ElementSchemaArtifact> elementSchemas,
+                                    Map<String, ElementSchemaArtifact> elementSchemas,
                                     Optional<String> language, TemplateUi templateUi, Optional<Annotations> annotations, String internalName, String internalDescription)
   implements TemplateSchemaArtifact
 {
@@ -386,7 +410,8 @@ record TemplateSchemaArtifactRecord(
     validateOptionalFieldNotNull(this, jsonLdId, JSON_LD_ID);
     validateOptionalFieldNotNull(this, instanceJsonLdType, "instanceJsonLdType");
     validateMapFieldNotNull(this, fieldSchemas, "fieldSchemas");
-    validateMapFieldNotNull(this, elementSchemas, "elementSchemas");
+    if (!(elementSchemas instanceof LazyElementSchemaArtifactMap)) // Checking lazily-read values would read them
+      validateMapFieldNotNull(this, elementSchemas, "elementSchemas");
     validateOptionalFieldNotNull(this, language, "language");
     validateUiFieldNotNull(this, templateUi, UI);
     validateOptionalFieldNotNull(this, annotations, "annotations");
@@ -395,18 +420,20 @@ record TemplateSchemaArtifactRecord(
     Set<String> childKeys = Stream.concat(fieldSchemas.keySet().stream(), elementSchemas.keySet().stream())
       .collect(toSet());
 
-    if (!order.containsAll(childKeys)) {
-      childKeys.removeAll(order); // Generate the names of children not in the order map
-      order.removeAll(childKeys); // Silently remove these extra children from the order
-      for (String childToRemove : childKeys) { // And from the
-        fieldSchemas.remove(childToRemove);
-        elementSchemas.remove(childToRemove);
-      }
-    }
-
     jsonLdContext = new LinkedHashMap<>(jsonLdContext);
     jsonLdTypes = List.copyOf(jsonLdTypes);
     fieldSchemas = new LinkedHashMap<>(fieldSchemas);
-    elementSchemas = new LinkedHashMap<>(elementSchemas);
+
+    if (!order.containsAll(childKeys)) {
+      childKeys.removeAll(order); // Generate the names of children not in the order map
+      fieldSchemas.keySet().removeAll(childKeys); // And silently remove these extra children
+      if (elementSchemas instanceof LazyElementSchemaArtifactMap lazyElementSchemas)
+        elementSchemas = lazyElementSchemas.withoutKeys(childKeys);
+      else {
+        elementSchemas = new LinkedHashMap<>(elementSchemas);
+        elementSchemas.keySet().removeAll(childKeys);
+      }
+    } else if (!(elementSchemas instanceof LazyElementSchemaArtifactMap))
+      elementSchemas = new LinkedHashMap<>(elementSchemas);
   }
 }
@@ -0,0 +1,560 @@
+package org.metadatacenter.artifacts.model.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A compact, versioned binary snapshot format for template schema artifacts
+ * <p></p>
+ * A snapshot records the components of a template schema artifact and of all its nested artifacts, UIs, value
+ * constraints, default values and annotations. Reading a snapshot reconstructs the artifact's records directly through
+ * their canonical constructors, so it needs no JSON parsing and skips the reader's and builders' checks of the
+ * JSON-LD and JSON Schema specification. Strings, URIs and record type names are written once and then referred to by
+ * their position in a string table, so the children keys, property URIs and term URIs that are repeated throughout
+ * a template are stored and read once.
+ * <p></p>
+ * Snapshots are intended as a cache of artifacts that were already read and validated, not as an interchange format.
+ * Records and enums are identified by their position in a fixed table of the model types that a template can
+ * contain, so no class named in a snapshot is ever loaded. The header holds a fingerprint of the names and types of
+ * the components of every record in the table and the constants of every enum, so a snapshot written before any of
+ * them changed, including a reordering of components of the same type, is rejected rather than read as a different
+ * artifact.
+ */
+public final class TemplateSchemaArtifactSnapshot
+{
+  public static final int MAGIC_NUMBER = 0x43545353; // "CTSS"
+  public static final int FORMAT_VERSION = 2;
+
+  private static final String MODEL_PACKAGE_PREFIX = "org.metadatacenter.artifacts.model.core.";
+
+  // The record and enum types that can appear in a template schema artifact; a type's tag is its position here
+  private static final List<String> SNAPSHOT_TYPE_NAMES = List.of(
+    "Annotations", "IriAnnotationValue", "LiteralAnnotationValue", "Version", "Status",
+    "TemplateSchemaArtifactRecord", "ElementSchemaArtifactRecord", "AttributeValueFieldRecord", "CheckboxFieldRecord",
+    "ControlledTermFieldRecord", "EmailFieldRecord", "ImageFieldRecord", "LinkFieldRecord", "ListFieldRecord",
+    "NumericFieldRecord", "PageBreakFieldRecord", "PhoneNumberFieldRecord", "RadioFieldRecord", "RichTextFieldRecord",
+    "SectionBreakFieldRecord", "TemporalFieldRecord", "TextAreaFieldRecord", "TextFieldRecord", "YouTubeFieldRecord",
+    "fields.ControlledTermDefaultValue", "fields.EmailDefaultValue", "fields.LinkDefaultValue",
+    "fields.NumericDefaultValue", "fields.PhoneNumberDefaultValue", "fields.TemporalDefaultValue",
+    "fields.TextDefaultValue", "fields.DefaultValueType", "fields.FieldInputType", "fields.InputTimeFormat",
+    "fields.TemporalGranularity", "fields.XsdDatatype", "fields.XsdNumericDatatype", "fields.XsdTemporalDatatype",
+    "fields.constraints.BranchValueConstraint", "fields.constraints.ClassValueConstraint",
+    "fields.constraints.ControlledTermValueConstraintsRecord",
+    "fields.constraints.ControlledTermValueConstraintsAction", "fields.constraints.EmailValueConstraintsRecord",
+    "fields.constraints.LinkValueConstraintsRecord", "fields.constraints.LiteralValueConstraint",
+    "fields.constraints.NumericValueConstraintsRecord", "fields.constraints.OntologyValueConstraint",
+    "fields.constraints.PhoneNumberValueConstraintsRecord", "fields.constraints.TemporalValueConstraintsRecord",
+    "fields.constraints.TextValueConstraintsRecord", "fields.constraints.ValueConstraintsActionType",
+    "fields.constraints.ValueSetValueConstraint", "fields.constraints.ValueType", "ui.ElementUiRecord",
+    "ui.FieldUiRecord", "ui.NumericFieldUiRecord", "ui.StaticFieldUiRecord", "ui.TemplateUiRecord",
+    "ui.TemporalFieldUiRecord", "ui.UiType");
+
+  private static final byte NULL_TAG = 0;
+  private static final byte STRING_TAG = 1;
+  private static final byte URI_TAG = 2;
+  private static final byte BOOLEAN_TAG = 3;
+  private static final byte INTEGER_TAG = 4;
+  private static final byte LONG_TAG = 5;
+  private static final byte SHORT_TAG = 6;
+  private static final byte DOUBLE_TAG = 7;
+  private static final byte FLOAT_TAG = 8;
+  private static final byte BIG_INTEGER_TAG = 9;
+  private static final byte BIG_DECIMAL_TAG = 10;
+  private static final byte OFFSET_DATE_TIME_TAG = 11;
+  private static final byte EMPTY_OPTIONAL_TAG = 12;
+  private static final byte OPTIONAL_TAG = 13;
+  private static final byte LIST_TAG = 14;
+  private static final byte MAP_TAG = 15;
+  private static final byte ENUM_TAG = 16;
+  private static final byte RECORD_TAG = 17;
+
+  private static final List<Class<?>> snapshotTypes = loadSnapshotTypes();
+  private static final Map<Class<?>, Integer> snapshotTypeTags = createSnapshotTypeTags();
+  private static final long SNAPSHOT_TYPES_FINGERPRINT = computeSnapshotTypesFingerprint();
+
+  private static final ConcurrentHashMap<Class<?>, SnapshotRecordType> snapshotRecordTypes = new ConcurrentHashMap<>();
+
+  private TemplateSchemaArtifactSnapshot()
+  {
+  }
+
+  /**
+   * Write a snapshot of a template schema artifact to a stream. The stream is flushed but not closed.
+   */
+  public static void write(TemplateSchemaArtifact templateSchemaArtifact, OutputStream outputStream)
+    throws IOException
+  {
+    DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(outputStream));
+
+    dataOutputStream.writeInt(MAGIC_NUMBER);
+    dataOutputStream.writeShort(FORMAT_VERSION);
+    dataOutputStream.writeLong(SNAPSHOT_TYPES_FINGERPRINT);
+    new SnapshotWriter(dataOutputStream).writeValue(templateSchemaArtifact);
+    dataOutputStream.flush();
+  }
+
+  /**
+   * Read a template schema artifact from a stream containing its snapshot. The stream is not closed.
+   *
+   * @throws IllegalArgumentException if the stream does not contain a snapshot of a template schema artifact in a
+   *                                  supported format version written for the current artifact model
+   */
+  public static TemplateSchemaArtifact read(InputStream inputStream) throws IOException
+  {
+    DataInputStream dataInputStream = new DataInputStream(new BufferedInputStream(inputStream));
+
+    if (dataInputStream.readInt() != MAGIC_NUMBER)
+      throw new IllegalArgumentException("Stream does not contain a template schema artifact snapshot");
+
+    int formatVersion = dataInputStream.readUnsignedShort();
+    if (formatVersion != FORMAT_VERSION)
+      throw new IllegalArgumentException("Unsupported template schema artifact snapshot format version "
+        + formatVersion + "; expecting " + FORMAT_VERSION);
+
+    if (dataInputStream.readLong() != SNAPSHOT_TYPES_FINGERPRINT)
+      throw new IllegalArgumentException(
+        "Template schema artifact snapshot was written for a different version of the artifact model");
+
+    Object value = new SnapshotReader(dataInputStream).readValue();
+
+    if (!(value instanceof TemplateSchemaArtifact templateSchemaArtifact))
+      throw new IllegalArgumentException("Snapshot does not contain a template schema artifact");
+
+    return templateSchemaArtifact;
+  }
+
+  private static final class SnapshotWriter
+  {
+    private final DataOutputStream outputStream;
+    private final HashMap<String, Integer> stringTable = new HashMap<>();
+
+    SnapshotWriter(DataOutputStream outputStream)
+    {
+      this.outputStream = outputStream;
+    }
+
+    void writeValue(Object value) throws IOException
+    {
+      if (value == null)
+        outputStream.writeByte(NULL_TAG);
+      else if (value instanceof String string) {
+        outputStream.writeByte(STRING_TAG);
+        writeString(string);
+      } else if (value instanceof URI uri) {
+        outputStream.writeByte(URI_TAG);
+        writeString(uri.toString());
+      } else if (value instanceof Boolean b) {
+        outputStream.writeByte(BOOLEAN_TAG);
+        outputStream.writeBoolean(b);
+      } else if (value instanceof Number number)
+        writeNumber(number);
+      else if (value instanceof OffsetDateTime offsetDateTime) {
+        outputStream.writeByte(OFFSET_DATE_TIME_TAG);
+        outputStream.writeLong(offsetDateTime.toEpochSecond());
+        outputStream.writeInt(offsetDateTime.getNano());
+        outputStream.writeInt(offsetDateTime.getOffset().getTotalSeconds());
+      } else if (value instanceof Optional<?> optional) {
+        if (optional.isPresent()) {
+          outputStream.writeByte(OPTIONAL_TAG);
+          writeValue(optional.get());
+        } else
+          outputStream.writeByte(EMPTY_OPTIONAL_TAG);
+      } else if (value instanceof List<?> list) {
+        outputStream.writeByte(LIST_TAG);
+        writeCount(list.size());
+        for (Object element : list)
+          writeValue(element);
+      } else if (value instanceof Map<?, ?> map) {
+        outputStream.writeByte(MAP_TAG);
+        writeCount(map.size());
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+          writeValue(entry.getKey());
+          writeValue(entry.getValue());
+        }
+      } else if (value instanceof Enum<?> e) {
+        outputStream.writeByte(ENUM_TAG);
+        writeCount(getSnapshotTypeTag(e.getDeclaringClass()));
+        writeString(e.name());
+      } else if (value instanceof Record record)
+        writeRecord(record);
+      else
+        throw new IllegalArgumentException("Cannot snapshot value of type " + value.getClass().getName());
+    }
+
+    private void writeRecord(Record record) throws IOException
+    {
+      SnapshotRecordType snapshotRecordType = getSnapshotRecordType(record.getClass());
+
+      outputStream.writeByte(RECORD_TAG);
+      writeCount(getSnapshotTypeTag(record.getClass()));
+      for (Method accessor : snapshotRecordType.accessors)
+        writeValue(snapshotRecordType.getComponent(record, accessor));
+    }
+
+    private void writeNumber(Number number) throws IOException
+    {
+      if (number instanceof Integer i) {
+        outputStream.writeByte(INTEGER_TAG);
+        outputStream.writeInt(i);
+      } else if (number instanceof Long l) {
+        outputStream.writeByte(LONG_TAG);
+        outputStream.writeLong(l);
+      } else if (number instanceof Short s) {
+        outputStream.writeByte(SHORT_TAG);
+        outputStream.writeShort(s);
+      } else if (number instanceof Double d) {
+        outputStream.writeByte(DOUBLE_TAG);
+        outputStream.writeDouble(d);
+      } else if (number instanceof Float f) {
+        outputStream.writeByte(FLOAT_TAG);
+        outputStream.writeFloat(f);
+      } else if (number instanceof BigInteger bigInteger) {
+        outputStream.writeByte(BIG_INTEGER_TAG);
+        writeString(bigInteger.toString());
+      } else if (number instanceof BigDecimal bigDecimal) {
+        outputStream.writeByte(BIG_DECIMAL_TAG);
+        writeString(bigDecimal.toString());
+      } else
+        throw new IllegalArgumentException("Cannot snapshot number of type " + number.getClass().getName());
+    }
+
+    /**
+     * A string is written in full on its first occurrence and as a reference to its string table position after that
+     */
+    private void writeString(String string) throws IOException
+    {
+      Integer position = stringTable.get(string);
+
+      if (position != null)
+        writeCount(position + 1);
+      else {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        stringTable.put(string, stringTable.size());
+        writeCount(0);
+        writeCount(bytes.length);
+        outputStream.write(bytes);
+      }
+    }
+
+    private void writeCount(int count) throws IOException
+    {
+      while ((count & ~0x7F) != 0) {
+        outputStream.writeByte((count & 0x7F) | 0x80);
+        count >>>= 7;
+      }
+      outputStream.writeByte(count);
+    }
+  }
+
+  private static final class SnapshotReader
+  {
+    private final DataInputStream inputStream;
+    private final ArrayList<String> stringTable = new ArrayList<>();
+    private final HashMap<String, URI> uris = new HashMap<>();
+
+    SnapshotReader(DataInputStream inputStream)
+    {
+      this.inputStream = inputStream;
+    }
+
+    Object readValue() throws IOException
+    {
+      byte tag = inputStream.readByte();
+
+      switch (tag) {
+        case NULL_TAG:
+          return null;
+        case STRING_TAG:
+          return readString();
+        case URI_TAG:
+          return uris.computeIfAbsent(readString(), URI::create);
+        case BOOLEAN_TAG:
+          return inputStream.readBoolean();
+        case INTEGER_TAG:
+          return inputStream.readInt();
+        case LONG_TAG:
+          return inputStream.readLong();
+        case SHORT_TAG:
+          return inputStream.readShort();
+        case DOUBLE_TAG:
+          return inputStream.readDouble();
+        case FLOAT_TAG:
+          return inputStream.readFloat();
+        case BIG_INTEGER_TAG:
+          return new BigInteger(readString());
+        case BIG_DECIMAL_TAG:
+          return new BigDecimal(readString());
+        case OFFSET_DATE_TIME_TAG:
+          return readOffsetDateTime();
+        case EMPTY_OPTIONAL_TAG:
+          return Optional.empty();
+        case OPTIONAL_TAG:
+          return Optional.of(readValue());
+        case LIST_TAG:
+          return readList();
+        case MAP_TAG:
+          return readMap();
+        case ENUM_TAG:
+          return readEnum();
+        case RECORD_TAG:
+          return readRecord();
+        default:
+          throw new IllegalArgumentException("Unknown value tag " + tag + " in template schema artifact snapshot");
+      }
+    }
+
+    private OffsetDateTime readOffsetDateTime() throws IOException
+    {
+      long epochSecond = inputStream.readLong();
+      int nano = inputStream.readInt();
+      int offsetSeconds = inputStream.readInt();
+
+      return OffsetDateTime.ofInstant(Instant.ofEpochSecond(epochSecond, nano),
+        ZoneOffset.ofTotalSeconds(offsetSeconds));
+    }
+
+    private List<Object> readList() throws IOException
+    {
+      int size = readCount();
+      ArrayList<Object> list = new ArrayList<>(size);
+
+      for (int i = 0; i < size; i++)
+        list.add(readValue());
+
+      return list;
+    }
+
+    private LinkedHashMap<Object, Object> readMap() throws IOException
+    {
+      int size = readCount();
+      LinkedHashMap<Object, Object> map = new LinkedHashMap<>();
+
+      for (int i = 0; i < size; i++) {
+        Object key = readValue();
+        map.put(key, readValue());
+      }
+      return map;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Enum<?> readEnum() throws IOException
+    {
+      Class<?> enumClass = readSnapshotType();
+      String name = readString();
+
+      if (!enumClass.isEnum())
+        throw new IllegalArgumentException("Type " + enumClass.getName() + " in snapshot is not an enum");
+
+      return Enum.valueOf((Class<? extends Enum>)enumClass, name);
+    }
+
+    private Record readRecord() throws IOException
+    {
+      Class<?> recordClass = readSnapshotType();
+
+      if (!recordClass.isRecord())
+        throw new IllegalArgumentException("Type " + recordClass.getName() + " in snapshot is not a record");
+
+      SnapshotRecordType snapshotRecordType = getSnapshotRecordType(recordClass);
+      Object[] components = new Object[snapshotRecordType.accessors.length];
+
+      for (int i = 0; i < components.length; i++)
+        components[i] = readValue();
+
+      return snapshotRecordType.newRecord(components);
+    }
+
+    private Class<?> readSnapshotType() throws IOException
+    {
+      int tag = readCount();
+
+      if (tag < 0 || tag >= snapshotTypes.size())
+        throw new IllegalArgumentException("Unknown type tag " + tag + " in template schema artifact snapshot");
+
+      return snapshotTypes.get(tag);
+    }
+
+    private String readString() throws IOException
+    {
+      int reference = readCount();
+
+      if (reference == 0) {
+        byte[] bytes = new byte[readCount()];
+        inputStream.readFully(bytes);
+        String string = new String(bytes, StandardCharsets.UTF_8);
+        stringTable.add(string);
+        return string;
+      } else if (reference <= stringTable.size())
+        return stringTable.get(reference - 1);
+      else
+        throw new IllegalArgumentException("Invalid string reference " + reference + " in snapshot");
+    }
+
+    private int readCount() throws IOException
+    {
+      int count = 0;
+
+      for (int shift = 0; shift < 32; shift += 7) {
+        int b = inputStream.readUnsignedByte();
+        count |= (b & 0x7F) << shift;
+        if ((b & 0x80) == 0)
+          return count;
+      }
+      throw new IllegalArgumentException("Invalid count in snapshot");
+    }
+  }
+
+  private static int getSnapshotTypeTag(Class<?> type)
+  {
+    Integer tag = snapshotTypeTags.get(type);
+
+    if (tag == null)
+      throw new IllegalArgumentException("Cannot snapshot value of type " + type.getName());
+
+    return tag;
+  }
+
+  private static List<Class<?>> loadSnapshotTypes()
+  {
+    List<Class<?>> types = new ArrayList<>();
+
+    for (String typeName : SNAPSHOT_TYPE_NAMES) {
+      try {
+        types.add(Class.forName(MODEL_PACKAGE_PREFIX + typeName, false,
+          TemplateSchemaArtifactSnapshot.class.getClassLoader()));
+      } catch (ClassNotFoundException e) {
+        throw new RuntimeException("Unknown snapshot type " + typeName, e);
+      }
+    }
+    return List.copyOf(types);
+  }
+
+  private static Map<Class<?>, Integer> createSnapshotTypeTags()
+  {
+    HashMap<Class<?>, Integer> tags = new HashMap<>();
+
+    for (int tag = 0; tag < snapshotTypes.size(); tag++)
+      tags.put(snapshotTypes.get(tag), tag);
+
+    return Map.copyOf(tags);
+  }
+
+  /**
+   * A hash of each type's name together with the names and generic types of a record's components, in order, or the
+   * constants of an enum
+   */
+  private static long computeSnapshotTypesFingerprint()
+  {
+    StringBuilder shapes = new StringBuilder();
+
+    for (Class<?> type : snapshotTypes) {
+      shapes.append(type.getName()).append('(');
+      if (type.isRecord()) {
+        for (RecordComponent recordComponent : type.getRecordComponents())
+          shapes.append(recordComponent.getName()).append(' ').append(recordComponent.getGenericType().getTypeName())
+            .append(',');
+      } else {
+        for (Object constant : type.getEnumConstants())
+          shapes.append(((Enum<?>)constant).name()).append(',');
+      }
+      shapes.append(')');
+    }
+
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(shapes.toString().getBytes(StandardCharsets.UTF_8));
+      return ByteBuffer.wrap(digest).getLong();
+    } catch (NoSuchAlgorithmException e) {
+      throw new RuntimeException("SHA-256 not available", e);
+    }
+  }
+
+  private static SnapshotRecordType getSnapshotRecordType(Class<?> recordClass)
+  {
+    return snapshotRecordTypes.computeIfAbsent(recordClass, SnapshotRecordType::new);
+  }
+
+  /**
+   * The component accessors and canonical constructor of a record class. Records of the artifact model are mostly
+   * package-private, so these are made accessible once and cached.
+   */
+  private static final class SnapshotRecordType
+  {
+    private final Method[] accessors;
+    private final Constructor<?> canonicalConstructor;
+
+    SnapshotRecordType(Class<?> recordClass)
+    {
+      RecordComponent[] recordComponents = recordClass.getRecordComponents();
+      Class<?>[] componentTypes = new Class<?>[recordComponents.length];
+
+      this.accessors = new Method[recordComponents.length];
+      for (int i = 0; i < recordComponents.length; i++) {
+        accessors[i] = recordComponents[i].getAccessor();
+        accessors[i].setAccessible(true);
+        componentTypes[i] = recordComponents[i].getType();
+      }
+
+      try {
+        this.canonicalConstructor = recordClass.getDeclaredConstructor(componentTypes);
+        this.canonicalConstructor.setAccessible(true);
+      } catch (NoSuchMethodException e) {
+        throw new RuntimeException("No canonical constructor for record " + recordClass.getName(), e);
+      }
+    }
+
+    Object getComponent(Record record, Method accessor)
+    {
+      try {
+        return accessor.invoke(record);
+      } catch (IllegalAccessException | InvocationTargetException e) {
+        throw new RuntimeException("Error reading component " + accessor.getName() + " of record "
+          + record.getClass().getName() + ": " + e.getMessage(), e);
+      }
+    }
+
+    Record newRecord(Object[] components)
+    {
+      try {
+        return (Record)canonicalConstructor.newInstance(components);
+      } catch (InstantiationException | IllegalAccessException e) {
+        throw new RuntimeException("Error creating record " + canonicalConstructor.getDeclaringClass().getName()
+          + ": " + e.getMessage(), e);
+      } catch (IllegalArgumentException e) {
+        throw new IllegalArgumentException("Snapshot components do not match record "
+          + canonicalConstructor.getDeclaringClass().getName() + ": " + e.getMessage(), e);
+      } catch (InvocationTargetException e) {
+        if (e.getCause() instanceof RuntimeException runtimeException)
+          throw runtimeException;
+        else
+          throw new RuntimeException("Error creating record " + canonicalConstructor.getDeclaringClass().getName()
+            + ": " + e.getCause().getMessage(), e.getCause());
+      }
+    }
+  }
+}
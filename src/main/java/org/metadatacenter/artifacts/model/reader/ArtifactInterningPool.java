@@ -0,0 +1,131 @@
+package org.metadatacenter.artifacts.model.reader;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bounded pool of canonical child keys and URIs that can be shared by artifact readers.
+ * <p></p>
+ * Artifacts in a corpus typically repeat the same child keys and property, type and term URIs many times. A reader
+ * supplied with a pool returns one shared instance for each distinct key or URI instead of allocating a new one on
+ * every occurrence. The pool is safe for concurrent use, so a single pool can be shared by readers on several threads.
+ * <p></p>
+ * Once the pool holds its maximum number of entries, values that are not already pooled are returned without being
+ * added, so the number of pooled keys and URIs never exceeds the bound.
+ */
+public final class ArtifactInterningPool
+{
+  public static final int DEFAULT_MAXIMUM_SIZE = 100_000;
+
+  private final int maximumSize;
+  private final AtomicInteger size = new AtomicInteger();
+  private final ConcurrentHashMap<String, String> strings = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<String, URI> uris = new ConcurrentHashMap<>();
+
+  public ArtifactInterningPool()
+  {
+    this(DEFAULT_MAXIMUM_SIZE);
+  }
+
+  public ArtifactInterningPool(int maximumSize)
+  {
+    if (maximumSize < 0)
+      throw new IllegalArgumentException("Maximum size of interning pool must not be negative, got " + maximumSize);
+
+    this.maximumSize = maximumSize;
+  }
+
+  /**
+   * Return the pooled instance of the supplied string, or the string itself if it is not pooled and the pool is full
+   */
+  public String intern(String value)
+  {
+    String pooledValue = strings.get(value);
+
+    if (pooledValue != null)
+      return pooledValue;
+    else if (!reserveEntry())
+      return value;
+    else {
+      pooledValue = strings.putIfAbsent(value, value);
+
+      if (pooledValue != null) {
+        size.decrementAndGet();
+        return pooledValue;
+      } else
+        return value;
+    }
+  }
+
+  /**
+   * Return the pooled URI for the supplied string, creating it if it is not already pooled. If the pool is full a new
+   * URI is returned without being pooled.
+   *
+   * @throws URISyntaxException if the supplied string is not a valid URI
+   */
+  public URI internUri(String value) throws URISyntaxException
+  {
+    URI pooledUri = uris.get(value);
+
+    if (pooledUri != null)
+      return pooledUri;
+
+    URI uri = new URI(value);
+
+    if (!reserveEntry())
+      return uri;
+    else {
+      pooledUri = uris.putIfAbsent(value, uri);
+
+      if (pooledUri != null) {
+        size.decrementAndGet();
+        return pooledUri;
+      } else
+        return uri;
+    }
+  }
+
+  /**
+   * Return the pooled instance of the supplied URI, or the URI itself if it is not pooled and the pool is full
+   */
+  public URI internUri(URI uri)
+  {
+    String value = uri.toString();
+    URI pooledUri = uris.get(value);
+
+    if (pooledUri != null)
+      return pooledUri;
+    else if (!reserveEntry())
+      return uri;
+    else {
+      pooledUri = uris.putIfAbsent(value, uri);
+
+      if (pooledUri != null) {
+        size.decrementAndGet();
+        return pooledUri;
+      } else
+        return uri;
+    }
+  }
+
+  public int size()
+  {
+    return size.get();
+  }
+
+  public int maximumSize()
+  {
+    return maximumSize;
+  }
+
+  private boolean reserveEntry()
+  {
+    if (size.incrementAndGet() > maximumSize) {
+      size.decrementAndGet();
+      return false;
+    } else
+      return true;
+  }
+}
@@ -1,5 +1,7 @@
 package org.metadatacenter.artifacts.model.reader;
 
+import org.metadatacenter.artifacts.model.core.ArtifactPath;
+
 public class ArtifactParseException extends RuntimeException
 {
   private final String parseErrorMessage;
@@ -14,6 +16,11 @@ public class ArtifactParseException extends RuntimeException
     this.path = path;
   }
 
+  public ArtifactParseException(String parseErrorMessage, String fieldName, ArtifactPath path)
+  {
+    this(parseErrorMessage, fieldName, path.toString());
+  }
+
   public String getParseErrorMessage()
   {
     return parseErrorMessage;
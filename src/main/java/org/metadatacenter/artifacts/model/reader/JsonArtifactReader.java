@@ -1,14 +1,21 @@
 package org.metadatacenter.artifacts.model.reader;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.metadatacenter.artifacts.model.core.AnnotationValue;
 import org.metadatacenter.artifacts.model.core.Annotations;
+import org.metadatacenter.artifacts.model.core.ArtifactPath;
+import org.metadatacenter.artifacts.model.core.ChildSchemaArtifact;
 import org.metadatacenter.artifacts.model.core.ElementInstanceArtifact;
 import org.metadatacenter.artifacts.model.core.ElementSchemaArtifact;
 import org.metadatacenter.artifacts.model.core.FieldInstanceArtifact;
 import org.metadatacenter.artifacts.model.core.FieldSchemaArtifact;
+import org.metadatacenter.artifacts.model.core.InstanceArtifact;
 import org.metadatacenter.artifacts.model.core.IriAnnotationValue;
+import org.metadatacenter.artifacts.model.core.JsonArtifactFormat;
 import org.metadatacenter.artifacts.model.core.LiteralAnnotationValue;
 import org.metadatacenter.artifacts.model.core.Status;
 import org.metadatacenter.artifacts.model.core.TemplateInstanceArtifact;
@@ -47,6 +54,9 @@ import org.metadatacenter.artifacts.model.core.ui.StaticFieldUi;
 import org.metadatacenter.artifacts.model.core.ui.TemplateUi;
 import org.metadatacenter.artifacts.model.core.ui.TemporalFieldUi;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.time.OffsetDateTime;
@@ -57,10 +67,14 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
 
 import static org.metadatacenter.model.ModelNodeNames.ANNOTATIONS;
 import static org.metadatacenter.model.ModelNodeNames.ARTIFACT_CONTEXT_ENTRIES;
@@ -167,9 +181,47 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
 {
   private final String jsonSchemaSchemaUri = JSON_SCHEMA_SCHEMA_IRI;
   private final Version modelVersion = Version.fromString("1.6.0");
+  private final ObjectMapper mapper = new ObjectMapper();
+  private final Optional<ForkJoinPool> forkJoinPool;
+  private final Optional<ArtifactInterningPool> interningPool;
 
   public JsonArtifactReader()
   {
+    this.forkJoinPool = Optional.empty();
+    this.interningPool = Optional.empty();
+  }
+
+  /**
+   * Create a reader that reads the child field and element schema artifacts of each template and element schema
+   * artifact in parallel using the supplied pool. Children are assembled in document order, and if a specification
+   * is invalid the exception thrown is the same one that a sequential reader would throw.
+   * <p></p>
+   * Only the tree-based schema artifact readers are parallelized.
+   */
+  public JsonArtifactReader(ForkJoinPool forkJoinPool)
+  {
+    this.forkJoinPool = Optional.of(forkJoinPool);
+    this.interningPool = Optional.empty();
+  }
+
+  /**
+   * Create a reader that shares child keys and URIs through the supplied interning pool, so that keys and URIs that
+   * are repeated within and across the artifacts it reads are represented by a single instance.
+   */
+  public JsonArtifactReader(ArtifactInterningPool interningPool)
+  {
+    this.forkJoinPool = Optional.empty();
+    this.interningPool = Optional.of(interningPool);
+  }
+
+  /**
+   * Create a reader that reads child schema artifacts in parallel using the supplied fork-join pool and that shares
+   * child keys and URIs through the supplied interning pool.
+   */
+  public JsonArtifactReader(ForkJoinPool forkJoinPool, ArtifactInterningPool interningPool)
+  {
+    this.forkJoinPool = Optional.of(forkJoinPool);
+    this.interningPool = Optional.of(interningPool);
   }
 
   /**
@@ -202,7 +254,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
    */
   public TemplateSchemaArtifact readTemplateSchemaArtifact(ObjectNode sourceNode)
   {
-    return readTemplateSchemaArtifact(sourceNode, "");
+    return invokeInForkJoinPoolIfPresent(() -> readTemplateSchemaArtifact(sourceNode, ArtifactPath.root()));
   }
 
   /**
@@ -233,8 +285,10 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
    */
   public ElementSchemaArtifact readElementSchemaArtifact(ObjectNode sourceNode)
   {
-    String name = readRequiredString(sourceNode, "/", SCHEMA_ORG_NAME);
-    return readElementSchemaArtifact(sourceNode, "", name, false, Optional.empty(), Optional.empty(), Optional.empty());
+    String name = readRequiredString(sourceNode, ArtifactPath.root(), SCHEMA_ORG_NAME);
+    return invokeInForkJoinPoolIfPresent(
+      () -> readElementSchemaArtifact(sourceNode, ArtifactPath.root(), name, false, Optional.empty(), Optional.empty(),
+        Optional.empty()));
   }
 
   /**
@@ -267,8 +321,144 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
    */
   public FieldSchemaArtifact readFieldSchemaArtifact(ObjectNode sourceNode)
   {
-    String name = readRequiredString(sourceNode, "/", SCHEMA_ORG_NAME);
-    return readFieldSchemaArtifact(sourceNode, "", name, false, true, Optional.empty(), Optional.empty(),
+    String name = readRequiredString(sourceNode, ArtifactPath.root(), SCHEMA_ORG_NAME);
+    return readFieldSchemaArtifact(sourceNode, ArtifactPath.root(), name, false, true, Optional.empty(), Optional.empty(),
+      Optional.empty());
+  }
+
+  /**
+   * Read a JSON Schema specification for a template schema artifact, deferring the reading of its child elements
+   * <p></p>
+   * The template's own fields and its direct child fields are read immediately. Each direct child element schema
+   * artifact is read from the retained source node when its value is first accessed through elementSchemas(), so
+   * workflows that only use the template's fields avoid the cost of reading deeply nested elements. Reading is
+   * thread-safe and each element is read at most once. An invalid child element specification causes an
+   * {@link ArtifactParseException} when that element is accessed rather than when the template is read.
+   * <p></p>
+   * The source node must not be modified while the returned artifact is in use.
+   */
+  public TemplateSchemaArtifact readLazyTemplateSchemaArtifact(ObjectNode sourceNode)
+  {
+    ArtifactPath path = ArtifactPath.root();
+    LinkedHashMap<String, FieldSchemaArtifact> fieldSchemas = new LinkedHashMap<>();
+    LinkedHashMap<String, Supplier<ElementSchemaArtifact>> elementSchemaArtifactSuppliers = new LinkedHashMap<>();
+    LinkedHashMap<String, URI> childPropertyUris = getChildPropertyUris(sourceNode, path);
+    Map<String, String> childSchemaOrgNames = new HashMap<>();
+    JsonNode propertiesNode = sourceNode.get(JSON_SCHEMA_PROPERTIES);
+
+    if (propertiesNode == null || !propertiesNode.isObject())
+      throw new ArtifactParseException("Invalid JSON Schema properties node", JSON_SCHEMA_PROPERTIES, path);
+
+    Iterator<String> jsonChildKeys = propertiesNode.fieldNames();
+
+    while (jsonChildKeys.hasNext()) {
+      String childKey = internKey(jsonChildKeys.next());
+
+      if (!TEMPLATE_INSTANCE_ARTIFACT_KEYWORDS.contains(childKey) && !FIELD_INSTANCE_ARTIFACT_KEYWORDS.contains(
+        childKey) && !ELEMENT_INSTANCE_ARTIFACT_KEYWORDS.contains(childKey)) {
+        JsonNode childNode = propertiesNode.get(childKey);
+        Optional<ObjectNode> elementSchemaArtifactNode = getElementSchemaArtifactNode(childNode);
+
+        if (elementSchemaArtifactNode.isPresent()) {
+          ArtifactPath elementPath = elementSchemaArtifactNode.get() == childNode ?
+            path.child(JSON_SCHEMA_PROPERTIES).child(childKey) :
+            path.child(JSON_SCHEMA_PROPERTIES).child(childKey).child(JSON_SCHEMA_ITEMS);
+          childSchemaOrgNames.put(childKey,
+            readRequiredString(elementSchemaArtifactNode.get(), elementPath, SCHEMA_ORG_NAME));
+          elementSchemaArtifactSuppliers.put(childKey,
+            () -> (ElementSchemaArtifact)readNestedFieldOrElementSchemaArtifact(childNode, path, childKey,
+              childPropertyUris));
+        } else {
+          ChildSchemaArtifact childSchemaArtifact = readNestedFieldOrElementSchemaArtifact(childNode, path, childKey,
+            childPropertyUris);
+          if (childSchemaArtifact instanceof ElementSchemaArtifact elementSchemaArtifact)
+            elementSchemaArtifactSuppliers.put(childKey, () -> elementSchemaArtifact);
+          else
+            fieldSchemas.put(childKey, (FieldSchemaArtifact)childSchemaArtifact);
+          childSchemaOrgNames.put(childKey, childSchemaArtifact.name());
+        }
+      }
+    }
+
+    TemplateSchemaArtifact templateSchemaArtifact = readTemplateSchemaArtifact(sourceNode, path, fieldSchemas,
+      new LinkedHashMap<>(), childSchemaOrgNames);
+
+    return TemplateSchemaArtifact.createLazy(templateSchemaArtifact, elementSchemaArtifactSuppliers);
+  }
+
+  /**
+   * Read a JSON Schema specification for a template schema artifact from a JSON token stream
+   * <p></p>
+   * Unlike {@link #readTemplateSchemaArtifact(ObjectNode)}, a tree for the full specification is never built. Each
+   * nested field and element schema artifact is converted as soon as its JSON object has been read and its JSON is
+   * then dropped, so only the keyword entries of the artifacts enclosing the current position are held as JSON. The
+   * exception is a child that appears before the @context entry declaring its property URI, which is held until its
+   * parent's properties field is complete. The resulting artifact is identical to the one produced from the
+   * equivalent tree.
+   */
+  public TemplateSchemaArtifact readTemplateSchemaArtifact(JsonParser parser) throws IOException
+  {
+    StreamedSchemaArtifactNode streamedNode = readStreamedSchemaArtifactNode(parser, ArtifactPath.root());
+
+    LinkedHashMap<String, FieldSchemaArtifact> fieldSchemas = new LinkedHashMap<>();
+    LinkedHashMap<String, ElementSchemaArtifact> elementSchemas = new LinkedHashMap<>();
+    Map<String, String> childSchemaOrgNames = readStreamedNestedFieldAndElementSchemaArtifacts(streamedNode, ArtifactPath.root(),
+      fieldSchemas, elementSchemas);
+
+    return readTemplateSchemaArtifact(streamedNode.node, ArtifactPath.root(), fieldSchemas, elementSchemas, childSchemaOrgNames);
+  }
+
+  public TemplateSchemaArtifact readTemplateSchemaArtifact(InputStream inputStream) throws IOException
+  {
+    try (JsonParser parser = mapper.getFactory().createParser(inputStream)) {
+      return readTemplateSchemaArtifact(parser);
+    }
+  }
+
+  public TemplateSchemaArtifact readTemplateSchemaArtifact(Reader reader) throws IOException
+  {
+    try (JsonParser parser = mapper.getFactory().createParser(reader)) {
+      return readTemplateSchemaArtifact(parser);
+    }
+  }
+
+  /**
+   * Read a template schema artifact from a stream containing its specification in the supplied format. The artifact
+   * is identical to the one read from the JSON text of the same specification.
+   */
+  public TemplateSchemaArtifact readTemplateSchemaArtifact(InputStream inputStream, JsonArtifactFormat format)
+    throws IOException
+  {
+    try (JsonParser parser = format.createParser(inputStream)) {
+      return readTemplateSchemaArtifact(parser);
+    }
+  }
+
+  /**
+   * Read a JSON Schema specification for an element schema artifact from a JSON token stream
+   * <p></p>
+   * See {@link #readTemplateSchemaArtifact(JsonParser)}.
+   */
+  public ElementSchemaArtifact readElementSchemaArtifact(JsonParser parser) throws IOException
+  {
+    StreamedSchemaArtifactNode streamedNode = readStreamedSchemaArtifactNode(parser, ArtifactPath.root());
+    String name = readRequiredString(streamedNode.node, ArtifactPath.root(), SCHEMA_ORG_NAME);
+
+    return readStreamedElementSchemaArtifact(streamedNode, ArtifactPath.root(), name, false, Optional.empty(), Optional.empty(),
+      Optional.empty());
+  }
+
+  /**
+   * Read a JSON Schema specification for a field schema artifact from a JSON token stream
+   * <p></p>
+   * See {@link #readTemplateSchemaArtifact(JsonParser)}.
+   */
+  public FieldSchemaArtifact readFieldSchemaArtifact(JsonParser parser) throws IOException
+  {
+    StreamedSchemaArtifactNode streamedNode = readStreamedSchemaArtifactNode(parser, ArtifactPath.root());
+    String name = readRequiredString(streamedNode.node, ArtifactPath.root(), SCHEMA_ORG_NAME);
+
+    return readFieldSchemaArtifact(streamedNode.node, ArtifactPath.root(), name, false, true, Optional.empty(), Optional.empty(),
       Optional.empty());
   }
 
@@ -307,10 +497,70 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
    */
   public TemplateInstanceArtifact readTemplateInstanceArtifact(ObjectNode sourceNode)
   {
-    return readTemplateInstanceArtifact(sourceNode, "");
+    return readTemplateInstanceArtifact(sourceNode, ArtifactPath.root());
   }
 
-  private TemplateSchemaArtifact readTemplateSchemaArtifact(ObjectNode sourceNode, String path)
+  /**
+   * Read a JSON-LD template instance artifact from a JSON token stream
+   * <p></p>
+   * Unlike {@link #readTemplateInstanceArtifact(ObjectNode)}, a tree for the full instance is never built. Each
+   * nested field and element instance artifact, including each entry of a multi-instance array, is built as soon as
+   * it has been read from the stream, so memory use is bounded by the resulting artifact rather than by the artifact
+   * plus its JSON tree. Attribute-value fields are post-processed in the same way as for the tree-based reader.
+   */
+  public TemplateInstanceArtifact readTemplateInstanceArtifact(JsonParser parser) throws IOException
+  {
+    NestedInstanceArtifacts nestedInstanceArtifacts = new NestedInstanceArtifacts();
+    ObjectNode sourceNode = readStreamedInstanceArtifactNode(parser, ArtifactPath.root(), nestedInstanceArtifacts);
+
+    processAttributeValueFields(ArtifactPath.root(), nestedInstanceArtifacts.singleInstanceFieldInstances,
+      nestedInstanceArtifacts.attributeValueFieldGroupInstanceNames,
+      nestedInstanceArtifacts.attributeValueFieldInstanceGroups);
+
+    return readTemplateInstanceArtifact(sourceNode, ArtifactPath.root(), nestedInstanceArtifacts);
+  }
+
+  public TemplateInstanceArtifact readTemplateInstanceArtifact(InputStream inputStream) throws IOException
+  {
+    try (JsonParser parser = mapper.getFactory().createParser(inputStream)) {
+      return readTemplateInstanceArtifact(parser);
+    }
+  }
+
+  public TemplateInstanceArtifact readTemplateInstanceArtifact(Reader reader) throws IOException
+  {
+    try (JsonParser parser = mapper.getFactory().createParser(reader)) {
+      return readTemplateInstanceArtifact(parser);
+    }
+  }
+
+  /**
+   * Read a template instance artifact from a stream containing it in the supplied format
+   *
+   * @see #readTemplateSchemaArtifact(InputStream, JsonArtifactFormat)
+   */
+  public TemplateInstanceArtifact readTemplateInstanceArtifact(InputStream inputStream, JsonArtifactFormat format)
+    throws IOException
+  {
+    try (JsonParser parser = format.createParser(inputStream)) {
+      return readTemplateInstanceArtifact(parser);
+    }
+  }
+
+  private TemplateSchemaArtifact readTemplateSchemaArtifact(ObjectNode sourceNode, ArtifactPath path)
+  {
+    LinkedHashMap<String, FieldSchemaArtifact> fieldSchemas = new LinkedHashMap<>();
+    LinkedHashMap<String, ElementSchemaArtifact> elementSchemas = new LinkedHashMap<>();
+    LinkedHashMap<String, URI> childPropertyUris = getChildPropertyUris(sourceNode, path);
+    Map<String, String> childSchemaOrgNames = readNestedFieldAndElementSchemaArtifacts(sourceNode, path, fieldSchemas,
+      elementSchemas, childPropertyUris);
+
+    return readTemplateSchemaArtifact(sourceNode, path, fieldSchemas, elementSchemas, childSchemaOrgNames);
+  }
+
+  private TemplateSchemaArtifact readTemplateSchemaArtifact(ObjectNode sourceNode, ArtifactPath path,
+    LinkedHashMap<String, FieldSchemaArtifact> fieldSchemas, LinkedHashMap<String, ElementSchemaArtifact> elementSchemas,
+    Map<String, String> childSchemaOrgNames)
   {
     LinkedHashMap<String, URI> jsonLdContext = readString2UriMap(sourceNode, path, JSON_LD_CONTEXT);
     List<URI> jsonLdTypes = readUriArray(sourceNode, path, JSON_LD_TYPE);
@@ -329,13 +579,8 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     Optional<Status> status = readStatus(sourceNode, path, BIBO_STATUS);
     Optional<URI> previousVersion = readUri(sourceNode, path, PAV_PREVIOUS_VERSION);
     Optional<URI> derivedFrom = readUri(sourceNode, path, PAV_DERIVED_FROM);
-    LinkedHashMap<String, FieldSchemaArtifact> fieldSchemas = new LinkedHashMap<>();
-    LinkedHashMap<String, ElementSchemaArtifact> elementSchemas = new LinkedHashMap<>();
-    LinkedHashMap<String, URI> childPropertyUris = getChildPropertyUris(sourceNode, path);
     Optional<String> language = readLanguage(sourceNode, path);
     Optional<Annotations> annotations = readAnnotations(sourceNode, path, ANNOTATIONS);
-    Map<String, String> childSchemaOrgNames = readNestedFieldAndElementSchemaArtifacts(sourceNode, path, fieldSchemas,
-      elementSchemas, childPropertyUris);
     TemplateUi templateUi = readTemplateUi(sourceNode, path, UI, childSchemaOrgNames);
 
     checkArtifactJsonSchemaSchemaUri(sourceNode, path);
@@ -348,8 +593,23 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
       fieldSchemas, elementSchemas, language, templateUi, annotations, internalName, internalDescription);
   }
 
-  private ElementSchemaArtifact readElementSchemaArtifact(ObjectNode sourceNode, String path, String childKey,
+  private ElementSchemaArtifact readElementSchemaArtifact(ObjectNode sourceNode, ArtifactPath path, String childKey,
     boolean isMultiInstance, Optional<Integer> minItems, Optional<Integer> maxItems, Optional<URI> propertyUri)
+  {
+    LinkedHashMap<String, FieldSchemaArtifact> fieldSchemas = new LinkedHashMap<>();
+    LinkedHashMap<String, ElementSchemaArtifact> elementSchemas = new LinkedHashMap<>();
+    LinkedHashMap<String, URI> childPropertyUris = getChildPropertyUris(sourceNode, path);
+    Map<String, String> childSchemaOrgNames = readNestedFieldAndElementSchemaArtifacts(sourceNode, path, fieldSchemas,
+      elementSchemas, childPropertyUris);
+
+    return readElementSchemaArtifact(sourceNode, path, isMultiInstance, minItems, maxItems, propertyUri, fieldSchemas,
+      elementSchemas, childSchemaOrgNames);
+  }
+
+  private ElementSchemaArtifact readElementSchemaArtifact(ObjectNode sourceNode, ArtifactPath path, boolean isMultiInstance,
+    Optional<Integer> minItems, Optional<Integer> maxItems, Optional<URI> propertyUri,
+    LinkedHashMap<String, FieldSchemaArtifact> fieldSchemas, LinkedHashMap<String, ElementSchemaArtifact> elementSchemas,
+    Map<String, String> childSchemaOrgNames)
   {
     LinkedHashMap<String, URI> jsonLdContext = readString2UriMap(sourceNode, path, JSON_LD_CONTEXT);
     List<URI> jsonLdTypes = readUriArray(sourceNode, path, JSON_LD_TYPE);
@@ -368,10 +628,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     Optional<Status> status = readStatus(sourceNode, path, BIBO_STATUS);
     Optional<URI> previousVersion = readUri(sourceNode, path, PAV_PREVIOUS_VERSION);
     Optional<URI> derivedFrom = readUri(sourceNode, path, PAV_DERIVED_FROM);
-    LinkedHashMap<String, FieldSchemaArtifact> fieldSchemas = new LinkedHashMap<>();
-    LinkedHashMap<String, ElementSchemaArtifact> elementSchemas = new LinkedHashMap<>();
     Optional<String> language = readLanguage(sourceNode, path);
-    LinkedHashMap<String, URI> childPropertyUris = getChildPropertyUris(sourceNode, path);
     Optional<Annotations> annotations = readAnnotations(sourceNode, path, ANNOTATIONS);
 
     checkArtifactJsonSchemaSchemaUri(sourceNode, path);
@@ -379,9 +636,6 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     checkElementSchemaArtifactJsonLdType(jsonLdTypes, path);
     checkSchemaArtifactModelVersion(sourceNode, path);
 
-    Map<String, String> childSchemaOrgNames = readNestedFieldAndElementSchemaArtifacts(sourceNode, path, fieldSchemas,
-      elementSchemas, childPropertyUris);
-
     ElementUi elementUi = readElementUi(sourceNode, path, UI, childSchemaOrgNames);
 
     return ElementSchemaArtifact.create(internalName, internalDescription, jsonLdContext, jsonLdTypes, jsonLdId,
@@ -390,7 +644,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
       minItems, maxItems, propertyUri, language, elementUi, annotations);
   }
 
-  private FieldSchemaArtifact readFieldSchemaArtifact(ObjectNode sourceNode, String path, String childKey,
+  private FieldSchemaArtifact readFieldSchemaArtifact(ObjectNode sourceNode, ArtifactPath path, String childKey,
     boolean isMultiInstance, boolean isStandalone, Optional<Integer> minItems, Optional<Integer> maxItems,
     Optional<URI> propertyUri)
   {
@@ -430,7 +684,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
       alternateLabels, language, fieldUi, valueConstraints, annotations);
   }
 
-  private Map<String, String> readNestedFieldAndElementSchemaArtifacts(ObjectNode parentNode, String path,
+  private Map<String, String> readNestedFieldAndElementSchemaArtifacts(ObjectNode parentNode, ArtifactPath path,
     Map<String, FieldSchemaArtifact> fieldSchemas, Map<String, ElementSchemaArtifact> elementSchemas,
     Map<String, URI> childPropertyUris)
   {
@@ -440,93 +694,334 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     if (propertiesNode == null || !propertiesNode.isObject())
       throw new ArtifactParseException("Invalid JSON Schema properties node", JSON_SCHEMA_PROPERTIES, path);
 
+    List<String> childKeys = new ArrayList<>();
     Iterator<String> jsonChildKeys = propertiesNode.fieldNames();
 
     while (jsonChildKeys.hasNext()) {
-      String childKey = jsonChildKeys.next();
-      boolean isMultiInstance = false;
-      Optional<Integer> minItems = Optional.empty();
-      Optional<Integer> maxItems = Optional.empty();
+      String childKey = internKey(jsonChildKeys.next());
 
       // The /properties field for each schema artifact contains entries constraining fields in instances
       if (!TEMPLATE_INSTANCE_ARTIFACT_KEYWORDS.contains(childKey))
         if (!FIELD_INSTANCE_ARTIFACT_KEYWORDS.contains(childKey) && !ELEMENT_INSTANCE_ARTIFACT_KEYWORDS.contains(
-          childKey)) {
-          JsonNode jsonFieldOrElementSchemaArtifactNode = propertiesNode.get(childKey);
-          String fieldOrElementPath = path + "/properties/" + childKey;
+          childKey))
+          childKeys.add(childKey);
+    }
 
-          if (jsonFieldOrElementSchemaArtifactNode.isObject()) {
+    List<ChildSchemaArtifact> childSchemaArtifacts = forkJoinPool.isPresent() && childKeys.size() > 1
+      && ForkJoinTask.inForkJoinPool() ?
+      readNestedFieldAndElementSchemaArtifactsInParallel(propertiesNode, path, childKeys, childPropertyUris) :
+      childKeys.stream().map(childKey -> readNestedFieldOrElementSchemaArtifact(propertiesNode.get(childKey), path,
+        childKey, childPropertyUris)).toList();
 
-            String jsonSchemaType = readRequiredString((ObjectNode)jsonFieldOrElementSchemaArtifactNode,
-              fieldOrElementPath, JSON_SCHEMA_TYPE);
+    for (int childIndex = 0; childIndex < childKeys.size(); childIndex++) {
+      String childKey = childKeys.get(childIndex);
+      ChildSchemaArtifact childSchemaArtifact = childSchemaArtifacts.get(childIndex);
 
-            if (jsonSchemaType.equals(JSON_SCHEMA_ARRAY)) {
+      if (childSchemaArtifact instanceof ElementSchemaArtifact elementSchemaArtifact)
+        elementSchemas.put(childKey, elementSchemaArtifact);
+      else
+        fieldSchemas.put(childKey, (FieldSchemaArtifact)childSchemaArtifact);
 
-              isMultiInstance = true;
+      childSchemaOrgNames.put(childKey, childSchemaArtifact.name());
+    }
+    return childSchemaOrgNames;
+  }
 
-              minItems = readInteger((ObjectNode)jsonFieldOrElementSchemaArtifactNode, fieldOrElementPath,
-                JSON_SCHEMA_MIN_ITEMS);
+  /**
+   * Read each child of a parent schema artifact as a separate fork-join task. Results are returned in document order.
+   * <p></p>
+   * Tasks are joined in document order so that if several children are invalid the exception reported is the one
+   * for the first invalid child in the document, exactly as in sequential mode. Remaining tasks are then cancelled.
+   */
+  private List<ChildSchemaArtifact> readNestedFieldAndElementSchemaArtifactsInParallel(JsonNode propertiesNode,
+    ArtifactPath path, List<String> childKeys, Map<String, URI> childPropertyUris)
+  {
+    List<ForkJoinTask<ChildSchemaArtifact>> childTasks = new ArrayList<>();
+    List<ChildSchemaArtifact> childSchemaArtifacts = new ArrayList<>();
 
-              maxItems = readInteger((ObjectNode)jsonFieldOrElementSchemaArtifactNode, fieldOrElementPath,
-                JSON_SCHEMA_MAX_ITEMS);
+    for (String childKey : childKeys)
+      childTasks.add(ForkJoinTask.adapt(
+        () -> readNestedFieldOrElementSchemaArtifact(propertiesNode.get(childKey), path, childKey, childPropertyUris))
+        .fork());
 
-              jsonFieldOrElementSchemaArtifactNode = jsonFieldOrElementSchemaArtifactNode.get(JSON_SCHEMA_ITEMS);
+    try {
+      for (ForkJoinTask<ChildSchemaArtifact> childTask : childTasks)
+        childSchemaArtifacts.add(childTask.join());
+    } catch (RuntimeException e) {
+      for (ForkJoinTask<ChildSchemaArtifact> childTask : childTasks)
+        childTask.cancel(false);
+      throw e;
+    }
+    return childSchemaArtifacts;
+  }
 
-              if (jsonFieldOrElementSchemaArtifactNode == null)
-                throw new ArtifactParseException("No items field in array", JSON_SCHEMA_ITEMS, fieldOrElementPath);
+  /**
+   * Return the element schema artifact specification in a child entry of a parent's properties field, which is
+   * either the entry itself or the items field of an array entry. No validation is performed; entries that are not
+   * recognized as elements are left to {@link #readNestedFieldOrElementSchemaArtifact} to validate.
+   */
+  private Optional<ObjectNode> getElementSchemaArtifactNode(JsonNode childNode)
+  {
+    JsonNode jsonFieldOrElementSchemaArtifactNode = childNode;
 
-              fieldOrElementPath += "/items";
+    if (childNode.isObject() && childNode.path(JSON_SCHEMA_TYPE).asText().equals(JSON_SCHEMA_ARRAY))
+      jsonFieldOrElementSchemaArtifactNode = childNode.get(JSON_SCHEMA_ITEMS);
 
-              if (!jsonFieldOrElementSchemaArtifactNode.isObject())
-                throw new ArtifactParseException("Non-object items content in array", JSON_SCHEMA_ITEMS,
-                  fieldOrElementPath);
-            } else if (!jsonSchemaType.equals(JSON_SCHEMA_OBJECT)) {
-              throw new ArtifactParseException("Expecting array or object, got " + jsonSchemaType, JSON_SCHEMA_ITEMS,
-                fieldOrElementPath);
-            }
+    if (jsonFieldOrElementSchemaArtifactNode != null && jsonFieldOrElementSchemaArtifactNode.isObject()
+      && jsonFieldOrElementSchemaArtifactNode.path(JSON_LD_TYPE).asText().equals(ELEMENT_SCHEMA_ARTIFACT_TYPE_IRI))
+      return Optional.of((ObjectNode)jsonFieldOrElementSchemaArtifactNode);
+    else
+      return Optional.empty();
+  }
 
-            List<URI> subSchemaArtifactJsonLdTypes = readUriArray((ObjectNode)jsonFieldOrElementSchemaArtifactNode,
-              fieldOrElementPath, JSON_LD_TYPE);
-
-            checkSchemaArtifactJsonLdType(subSchemaArtifactJsonLdTypes, fieldOrElementPath);
-
-            URI subSchemaArtifactJsonLdType = subSchemaArtifactJsonLdTypes.get(0);
-            Optional<URI> propertyUri = childPropertyUris.containsKey(childKey) ?
-              Optional.of(childPropertyUris.get(childKey)) :
-              Optional.empty();
-
-            switch (subSchemaArtifactJsonLdType.toString()) {
-            case TEMPLATE_SCHEMA_ARTIFACT_TYPE_IRI ->
-              throw new ArtifactParseException("Invalid nesting of template schema artifact", childKey,
-                fieldOrElementPath);
-            case ELEMENT_SCHEMA_ARTIFACT_TYPE_IRI -> {
-              ElementSchemaArtifact elementSchemaArtifact = readElementSchemaArtifact(
-                (ObjectNode)jsonFieldOrElementSchemaArtifactNode, fieldOrElementPath, childKey, isMultiInstance,
-                minItems, maxItems, propertyUri);
-              elementSchemas.put(childKey, elementSchemaArtifact);
-              childSchemaOrgNames.put(childKey, elementSchemaArtifact.name());
-            }
-            case FIELD_SCHEMA_ARTIFACT_TYPE_IRI, STATIC_FIELD_SCHEMA_ARTIFACT_TYPE_IRI -> {
-              FieldSchemaArtifact fieldSchemaArtifact = readFieldSchemaArtifact(
-                (ObjectNode)jsonFieldOrElementSchemaArtifactNode, fieldOrElementPath, childKey, isMultiInstance, false,
-                minItems, maxItems, propertyUri);
-              fieldSchemas.put(childKey, fieldSchemaArtifact);
-              childSchemaOrgNames.put(childKey, fieldSchemaArtifact.name());
-            }
-            default ->
-              throw new ArtifactParseException("Unknown JSON-LD @type " + subSchemaArtifactJsonLdType, childKey,
-                fieldOrElementPath);
-            }
+  private ChildSchemaArtifact readNestedFieldOrElementSchemaArtifact(JsonNode jsonFieldOrElementSchemaArtifactNode,
+    ArtifactPath path, String childKey, Map<String, URI> childPropertyUris)
+  {
+    boolean isMultiInstance = false;
+    Optional<Integer> minItems = Optional.empty();
+    Optional<Integer> maxItems = Optional.empty();
+    ArtifactPath fieldOrElementPath = path.child(JSON_SCHEMA_PROPERTIES).child(childKey);
 
-          } else {
-            throw new ArtifactParseException("Unknown non-object schema artifact", childKey, fieldOrElementPath);
-          }
-        }
+    if (!jsonFieldOrElementSchemaArtifactNode.isObject())
+      throw new ArtifactParseException("Unknown non-object schema artifact", childKey, fieldOrElementPath);
+
+    String jsonSchemaType = readRequiredString((ObjectNode)jsonFieldOrElementSchemaArtifactNode, fieldOrElementPath,
+      JSON_SCHEMA_TYPE);
+
+    if (jsonSchemaType.equals(JSON_SCHEMA_ARRAY)) {
+
+      isMultiInstance = true;
+
+      minItems = readInteger((ObjectNode)jsonFieldOrElementSchemaArtifactNode, fieldOrElementPath,
+        JSON_SCHEMA_MIN_ITEMS);
+
+      maxItems = readInteger((ObjectNode)jsonFieldOrElementSchemaArtifactNode, fieldOrElementPath,
+        JSON_SCHEMA_MAX_ITEMS);
+
+      jsonFieldOrElementSchemaArtifactNode = jsonFieldOrElementSchemaArtifactNode.get(JSON_SCHEMA_ITEMS);
+
+      if (jsonFieldOrElementSchemaArtifactNode == null)
+        throw new ArtifactParseException("No items field in array", JSON_SCHEMA_ITEMS, fieldOrElementPath);
+
+      fieldOrElementPath = fieldOrElementPath.child(JSON_SCHEMA_ITEMS);
+
+      if (!jsonFieldOrElementSchemaArtifactNode.isObject())
+        throw new ArtifactParseException("Non-object items content in array", JSON_SCHEMA_ITEMS, fieldOrElementPath);
+    } else if (!jsonSchemaType.equals(JSON_SCHEMA_OBJECT)) {
+      throw new ArtifactParseException("Expecting array or object, got " + jsonSchemaType, JSON_SCHEMA_ITEMS,
+        fieldOrElementPath);
+    }
+
+    List<URI> subSchemaArtifactJsonLdTypes = readUriArray((ObjectNode)jsonFieldOrElementSchemaArtifactNode,
+      fieldOrElementPath, JSON_LD_TYPE);
+
+    checkSchemaArtifactJsonLdType(subSchemaArtifactJsonLdTypes, fieldOrElementPath);
+
+    URI subSchemaArtifactJsonLdType = subSchemaArtifactJsonLdTypes.get(0);
+    Optional<URI> propertyUri = childPropertyUris.containsKey(childKey) ?
+      Optional.of(childPropertyUris.get(childKey)) :
+      Optional.empty();
+
+    return switch (subSchemaArtifactJsonLdType.toString()) {
+    case TEMPLATE_SCHEMA_ARTIFACT_TYPE_IRI ->
+      throw new ArtifactParseException("Invalid nesting of template schema artifact", childKey, fieldOrElementPath);
+    case ELEMENT_SCHEMA_ARTIFACT_TYPE_IRI ->
+      readElementSchemaArtifact((ObjectNode)jsonFieldOrElementSchemaArtifactNode, fieldOrElementPath, childKey,
+        isMultiInstance, minItems, maxItems, propertyUri);
+    case FIELD_SCHEMA_ARTIFACT_TYPE_IRI, STATIC_FIELD_SCHEMA_ARTIFACT_TYPE_IRI ->
+      readFieldSchemaArtifact((ObjectNode)jsonFieldOrElementSchemaArtifactNode, fieldOrElementPath, childKey,
+        isMultiInstance, false, minItems, maxItems, propertyUri);
+    default -> throw new ArtifactParseException("Unknown JSON-LD @type " + subSchemaArtifactJsonLdType, childKey,
+      fieldOrElementPath);
+    };
+  }
+
+  /**
+   * Read a schema artifact object from a token stream positioned at (or immediately before) its opening brace.
+   * <p></p>
+   * Each child schema artifact in the object's properties field is converted as soon as its entry has been read, so
+   * its JSON is dropped before the next child is read. A child's property URI is declared in the @context entry of
+   * the same properties field; CEDAR writes that entry first, but children that precede it in a document are held as
+   * JSON until the properties field is complete. The contents of an items field are read into a streamed node of
+   * their own and converted with the array entry that holds them. All other entries are read as trees, which are
+   * small for the keyword entries of a schema artifact.
+   */
+  private StreamedSchemaArtifactNode readStreamedSchemaArtifactNode(JsonParser parser, ArtifactPath path) throws IOException
+  {
+    JsonToken token = parser.currentToken() == null ? parser.nextToken() : parser.currentToken();
+
+    if (token != JsonToken.START_OBJECT)
+      throw new ArtifactParseException("Expecting JSON object, got " + token, "", path);
+
+    StreamedSchemaArtifactNode streamedNode = new StreamedSchemaArtifactNode(mapper.createObjectNode());
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = parser.getCurrentName();
+      JsonToken valueToken = parser.nextToken();
+
+      if (valueToken == JsonToken.START_OBJECT && fieldName.equals(JSON_SCHEMA_PROPERTIES))
+        readStreamedPropertiesNode(parser, path, streamedNode);
+      else if (valueToken == JsonToken.START_OBJECT && fieldName.equals(JSON_SCHEMA_ITEMS))
+        streamedNode.items = Optional.of(readStreamedSchemaArtifactNode(parser, path.child(JSON_SCHEMA_ITEMS)));
+      else
+        streamedNode.node.set(fieldName, mapper.readTree(parser));
+    }
+    return streamedNode;
+  }
+
+  private void readStreamedPropertiesNode(JsonParser parser, ArtifactPath path, StreamedSchemaArtifactNode parentNode)
+    throws IOException
+  {
+    ObjectNode propertiesNode = parentNode.node.putObject(JSON_SCHEMA_PROPERTIES);
+    Optional<LinkedHashMap<String, URI>> childPropertyUris = Optional.empty();
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String childKey = internKey(parser.getCurrentName());
+      JsonToken valueToken = parser.nextToken();
+
+      // Non-object children are left in the properties node and rejected when the parent is converted
+      if (valueToken == JsonToken.START_OBJECT && !TEMPLATE_INSTANCE_ARTIFACT_KEYWORDS.contains(childKey)
+        && !FIELD_INSTANCE_ARTIFACT_KEYWORDS.contains(childKey) && !ELEMENT_INSTANCE_ARTIFACT_KEYWORDS.contains(
+        childKey)) {
+        StreamedSchemaArtifactNode childNode = readStreamedSchemaArtifactNode(parser,
+          path.child(JSON_SCHEMA_PROPERTIES).child(childKey));
+
+        if (childPropertyUris.isPresent())
+          parentNode.children.put(childKey, new StreamedChildSchemaArtifact(
+            Optional.of(readStreamedFieldOrElementSchemaArtifact(childNode, path, childKey, childPropertyUris.get())),
+            Optional.empty()));
+        else
+          parentNode.children.put(childKey, new StreamedChildSchemaArtifact(Optional.empty(), Optional.of(childNode)));
+      } else {
+        propertiesNode.set(childKey, mapper.readTree(parser));
+
+        if (childKey.equals(JSON_LD_CONTEXT))
+          childPropertyUris = Optional.of(getChildPropertyUris(parentNode.node, path));
+      }
+    }
+  }
+
+  private ElementSchemaArtifact readStreamedElementSchemaArtifact(StreamedSchemaArtifactNode streamedNode, ArtifactPath path,
+    String childKey, boolean isMultiInstance, Optional<Integer> minItems, Optional<Integer> maxItems,
+    Optional<URI> propertyUri)
+  {
+    LinkedHashMap<String, FieldSchemaArtifact> fieldSchemas = new LinkedHashMap<>();
+    LinkedHashMap<String, ElementSchemaArtifact> elementSchemas = new LinkedHashMap<>();
+    Map<String, String> childSchemaOrgNames = readStreamedNestedFieldAndElementSchemaArtifacts(streamedNode, path,
+      fieldSchemas, elementSchemas);
+
+    return readElementSchemaArtifact(streamedNode.node, path, isMultiInstance, minItems, maxItems, propertyUri,
+      fieldSchemas, elementSchemas, childSchemaOrgNames);
+  }
+
+  private Map<String, String> readStreamedNestedFieldAndElementSchemaArtifacts(StreamedSchemaArtifactNode parentNode,
+    ArtifactPath path, Map<String, FieldSchemaArtifact> fieldSchemas, Map<String, ElementSchemaArtifact> elementSchemas)
+  {
+    JsonNode propertiesNode = parentNode.node.get(JSON_SCHEMA_PROPERTIES);
+    Map<String, String> childSchemaOrgNames = new HashMap<>();
+
+    if (propertiesNode == null || !propertiesNode.isObject())
+      throw new ArtifactParseException("Invalid JSON Schema properties node", JSON_SCHEMA_PROPERTIES, path);
+
+    Iterator<String> jsonChildKeys = propertiesNode.fieldNames();
+
+    while (jsonChildKeys.hasNext()) {
+      String childKey = jsonChildKeys.next();
+
+      if (!TEMPLATE_INSTANCE_ARTIFACT_KEYWORDS.contains(childKey) && !FIELD_INSTANCE_ARTIFACT_KEYWORDS.contains(
+        childKey) && !ELEMENT_INSTANCE_ARTIFACT_KEYWORDS.contains(childKey))
+        throw new ArtifactParseException("Unknown non-object schema artifact", childKey,
+          path + "/properties/" + childKey);
+    }
+
+    LinkedHashMap<String, URI> childPropertyUris = getChildPropertyUris(parentNode.node, path);
+
+    for (Map.Entry<String, StreamedChildSchemaArtifact> childEntry : parentNode.children.entrySet()) {
+      String childKey = childEntry.getKey();
+      StreamedChildSchemaArtifact streamedChild = childEntry.getValue();
+      ChildSchemaArtifact childSchemaArtifact = streamedChild.artifact().isPresent() ?
+        streamedChild.artifact().get() :
+        readStreamedFieldOrElementSchemaArtifact(streamedChild.node().get(), path, childKey, childPropertyUris);
+
+      if (childSchemaArtifact instanceof ElementSchemaArtifact elementSchemaArtifact)
+        elementSchemas.put(childKey, elementSchemaArtifact);
+      else
+        fieldSchemas.put(childKey, (FieldSchemaArtifact)childSchemaArtifact);
+
+      childSchemaOrgNames.put(childKey, childSchemaArtifact.name());
     }
     return childSchemaOrgNames;
   }
 
-  private TemplateInstanceArtifact readTemplateInstanceArtifact(ObjectNode sourceNode, String path)
+  private ChildSchemaArtifact readStreamedFieldOrElementSchemaArtifact(StreamedSchemaArtifactNode streamedFieldOrElementNode,
+    ArtifactPath path, String childKey, Map<String, URI> childPropertyUris)
+  {
+    ArtifactPath fieldOrElementPath = path.child(JSON_SCHEMA_PROPERTIES).child(childKey);
+    boolean isMultiInstance = false;
+    Optional<Integer> minItems = Optional.empty();
+    Optional<Integer> maxItems = Optional.empty();
+
+    String jsonSchemaType = readRequiredString(streamedFieldOrElementNode.node, fieldOrElementPath, JSON_SCHEMA_TYPE);
+
+    if (jsonSchemaType.equals(JSON_SCHEMA_ARRAY)) {
+
+      isMultiInstance = true;
+
+      minItems = readInteger(streamedFieldOrElementNode.node, fieldOrElementPath, JSON_SCHEMA_MIN_ITEMS);
+
+      maxItems = readInteger(streamedFieldOrElementNode.node, fieldOrElementPath, JSON_SCHEMA_MAX_ITEMS);
+
+      if (streamedFieldOrElementNode.items.isEmpty()) {
+        if (streamedFieldOrElementNode.node.get(JSON_SCHEMA_ITEMS) == null)
+          throw new ArtifactParseException("No items field in array", JSON_SCHEMA_ITEMS, fieldOrElementPath);
+        else
+          throw new ArtifactParseException("Non-object items content in array", JSON_SCHEMA_ITEMS,
+            fieldOrElementPath + "/items");
+      }
+
+      streamedFieldOrElementNode = streamedFieldOrElementNode.items.get();
+      fieldOrElementPath = fieldOrElementPath.child(JSON_SCHEMA_ITEMS);
+
+    } else if (!jsonSchemaType.equals(JSON_SCHEMA_OBJECT)) {
+      throw new ArtifactParseException("Expecting array or object, got " + jsonSchemaType, JSON_SCHEMA_ITEMS,
+        fieldOrElementPath);
+    }
+
+    List<URI> subSchemaArtifactJsonLdTypes = readUriArray(streamedFieldOrElementNode.node, fieldOrElementPath,
+      JSON_LD_TYPE);
+
+    checkSchemaArtifactJsonLdType(subSchemaArtifactJsonLdTypes, fieldOrElementPath);
+
+    URI subSchemaArtifactJsonLdType = subSchemaArtifactJsonLdTypes.get(0);
+    Optional<URI> propertyUri = childPropertyUris.containsKey(childKey) ?
+      Optional.of(childPropertyUris.get(childKey)) :
+      Optional.empty();
+
+    return switch (subSchemaArtifactJsonLdType.toString()) {
+    case TEMPLATE_SCHEMA_ARTIFACT_TYPE_IRI ->
+      throw new ArtifactParseException("Invalid nesting of template schema artifact", childKey, fieldOrElementPath);
+    case ELEMENT_SCHEMA_ARTIFACT_TYPE_IRI ->
+      readStreamedElementSchemaArtifact(streamedFieldOrElementNode, fieldOrElementPath, childKey, isMultiInstance,
+        minItems, maxItems, propertyUri);
+    case FIELD_SCHEMA_ARTIFACT_TYPE_IRI, STATIC_FIELD_SCHEMA_ARTIFACT_TYPE_IRI ->
+      readFieldSchemaArtifact(streamedFieldOrElementNode.node, fieldOrElementPath, childKey, isMultiInstance, false,
+        minItems, maxItems, propertyUri);
+    default -> throw new ArtifactParseException("Unknown JSON-LD @type " + subSchemaArtifactJsonLdType, childKey,
+      fieldOrElementPath);
+    };
+  }
+
+  private TemplateInstanceArtifact readTemplateInstanceArtifact(ObjectNode sourceNode, ArtifactPath path)
+  {
+    NestedInstanceArtifacts nestedInstanceArtifacts = new NestedInstanceArtifacts();
+
+    readNestedInstanceArtifacts(sourceNode, path, nestedInstanceArtifacts);
+
+    return readTemplateInstanceArtifact(sourceNode, path, nestedInstanceArtifacts);
+  }
+
+  private TemplateInstanceArtifact readTemplateInstanceArtifact(ObjectNode sourceNode, ArtifactPath path,
+    NestedInstanceArtifacts nestedInstanceArtifacts)
   {
     LinkedHashMap<String, URI> jsonLdContext = readString2UriMap(sourceNode, path, JSON_LD_CONTEXT);
     List<URI> jsonLdTypes = readUriArray(sourceNode, path, JSON_LD_TYPE);
@@ -539,24 +1034,26 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     Optional<URI> derivedFrom = readUri(sourceNode, path, PAV_DERIVED_FROM);
     Optional<String> name = readString(sourceNode, path, SCHEMA_ORG_NAME);
     Optional<String> description = readString(sourceNode, path, SCHEMA_ORG_DESCRIPTION);
-    List<String> childKeys = new ArrayList<>();
-    LinkedHashMap<String, FieldInstanceArtifact> singleInstanceFieldInstances = new LinkedHashMap<>();
-    LinkedHashMap<String, List<FieldInstanceArtifact>> multiInstanceFieldInstances = new LinkedHashMap<>();
-    LinkedHashMap<String, ElementInstanceArtifact> singleInstanceElementInstances = new LinkedHashMap<>();
-    LinkedHashMap<String, List<ElementInstanceArtifact>> multiInstanceElementInstances = new LinkedHashMap<>();
-    LinkedHashMap<String, Map<String, FieldInstanceArtifact>> attributeValueFieldInstances = new LinkedHashMap<>();
     Optional<Annotations> annotations = readAnnotations(sourceNode, path, ANNOTATIONS);
 
-    readNestedInstanceArtifacts(sourceNode, path, childKeys, singleInstanceFieldInstances, multiInstanceFieldInstances,
-      singleInstanceElementInstances, multiInstanceElementInstances, attributeValueFieldInstances);
-
     return TemplateInstanceArtifact.create(jsonLdContext, jsonLdTypes, jsonLdId, name, description, createdBy,
-      modifiedBy, createdOn, lastUpdatedOn, isBasedOn, derivedFrom, childKeys, singleInstanceFieldInstances,
-      multiInstanceFieldInstances, singleInstanceElementInstances, multiInstanceElementInstances,
-      attributeValueFieldInstances, annotations);
+      modifiedBy, createdOn, lastUpdatedOn, isBasedOn, derivedFrom, new ArrayList<>(nestedInstanceArtifacts.childKeys),
+      nestedInstanceArtifacts.singleInstanceFieldInstances, nestedInstanceArtifacts.multiInstanceFieldInstances,
+      nestedInstanceArtifacts.singleInstanceElementInstances, nestedInstanceArtifacts.multiInstanceElementInstances,
+      nestedInstanceArtifacts.attributeValueFieldInstanceGroups, annotations);
+  }
+
+  private ElementInstanceArtifact readElementInstanceArtifact(ObjectNode sourceNode, ArtifactPath path)
+  {
+    NestedInstanceArtifacts nestedInstanceArtifacts = new NestedInstanceArtifacts();
+
+    readNestedInstanceArtifacts(sourceNode, path, nestedInstanceArtifacts);
+
+    return readElementInstanceArtifact(sourceNode, path, nestedInstanceArtifacts);
   }
 
-  private ElementInstanceArtifact readElementInstanceArtifact(ObjectNode sourceNode, String path)
+  private ElementInstanceArtifact readElementInstanceArtifact(ObjectNode sourceNode, ArtifactPath path,
+    NestedInstanceArtifacts nestedInstanceArtifacts)
   {
     LinkedHashMap<String, URI> jsonLdContext = readString2UriMap(sourceNode, path, JSON_LD_CONTEXT);
     List<URI> jsonLdTypes = readUriArray(sourceNode, path, JSON_LD_TYPE);
@@ -567,22 +1064,15 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     Optional<OffsetDateTime> lastUpdatedOn = readOffsetDateTime(sourceNode, path, PAV_LAST_UPDATED_ON);
     Optional<String> name = readString(sourceNode, path, SCHEMA_ORG_NAME);
     Optional<String> description = readString(sourceNode, path, SCHEMA_ORG_DESCRIPTION);
-    List<String> childKeys = new ArrayList<>();
-    LinkedHashMap<String, FieldInstanceArtifact> singleInstanceFieldInstances = new LinkedHashMap<>();
-    LinkedHashMap<String, ElementInstanceArtifact> singleInstanceElementInstances = new LinkedHashMap<>();
-    LinkedHashMap<String, List<FieldInstanceArtifact>> multiInstanceFieldInstances = new LinkedHashMap<>();
-    LinkedHashMap<String, List<ElementInstanceArtifact>> multiInstanceElementInstances = new LinkedHashMap<>();
-    LinkedHashMap<String, Map<String, FieldInstanceArtifact>> attributeValueFieldInstances = new LinkedHashMap<>();
-
-    readNestedInstanceArtifacts(sourceNode, path, childKeys, singleInstanceFieldInstances, multiInstanceFieldInstances,
-      singleInstanceElementInstances, multiInstanceElementInstances, attributeValueFieldInstances);
 
     return ElementInstanceArtifact.create(jsonLdContext, jsonLdTypes, jsonLdId, name, description, createdBy,
-      modifiedBy, createdOn, lastUpdatedOn, childKeys, singleInstanceFieldInstances, multiInstanceFieldInstances,
-      singleInstanceElementInstances, multiInstanceElementInstances, attributeValueFieldInstances);
+      modifiedBy, createdOn, lastUpdatedOn, new ArrayList<>(nestedInstanceArtifacts.childKeys),
+      nestedInstanceArtifacts.singleInstanceFieldInstances, nestedInstanceArtifacts.multiInstanceFieldInstances,
+      nestedInstanceArtifacts.singleInstanceElementInstances, nestedInstanceArtifacts.multiInstanceElementInstances,
+      nestedInstanceArtifacts.attributeValueFieldInstanceGroups);
   }
 
-  private FieldInstanceArtifact readFieldInstanceArtifact(ObjectNode sourceNode, String path)
+  private FieldInstanceArtifact readFieldInstanceArtifact(ObjectNode sourceNode, ArtifactPath path)
   {
     List<URI> jsonLdTypes = readUriArray(sourceNode, path, JSON_LD_TYPE);
     Optional<URI> jsonLdId = readUri(sourceNode, path, JSON_LD_ID);
@@ -596,45 +1086,39 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
       language);
   }
 
-  private void readNestedInstanceArtifacts(ObjectNode parentNode, String path, List<String> childKeys,
-    LinkedHashMap<String, FieldInstanceArtifact> singleInstanceFieldInstances,
-    LinkedHashMap<String, List<FieldInstanceArtifact>> multiInstanceFieldInstances,
-    LinkedHashMap<String, ElementInstanceArtifact> singleInstanceElementInstances,
-    LinkedHashMap<String, List<ElementInstanceArtifact>> multiInstanceElementInstances,
-    LinkedHashMap<String, Map<String, FieldInstanceArtifact>> attributeValueFieldInstanceGroups)
+  private void readNestedInstanceArtifacts(ObjectNode parentNode, ArtifactPath path,
+    NestedInstanceArtifacts nestedInstanceArtifacts)
   {
-    LinkedHashMap<String, List<String>> attributeValueFieldGroupInstanceNames = new LinkedHashMap<>();
     Iterator<String> instanceArtifactFieldKeys = parentNode.fieldNames();
 
     while (instanceArtifactFieldKeys.hasNext()) {
-      String instanceArtifactFieldKey = instanceArtifactFieldKeys.next();
+      String instanceArtifactFieldKey = internKey(instanceArtifactFieldKeys.next());
 
       if (!INSTANCE_ARTIFACT_KEYWORDS.contains(instanceArtifactFieldKey)) {
         JsonNode nestedNode = parentNode.get(instanceArtifactFieldKey);
-        String nestedInstanceArtifactPath = path + "/" + instanceArtifactFieldKey;
+        ArtifactPath nestedInstanceArtifactPath = path.child(instanceArtifactFieldKey);
 
         if (nestedNode.isObject()) {
           ObjectNode nestedInstanceArtifactNode = (ObjectNode)nestedNode;
 
-          readNestedSingleInstanceArtifact(instanceArtifactFieldKey, nestedInstanceArtifactPath,
-            nestedInstanceArtifactNode, childKeys, singleInstanceFieldInstances, singleInstanceElementInstances);
+          addNestedSingleInstanceArtifactKey(instanceArtifactFieldKey, nestedInstanceArtifactPath,
+            nestedInstanceArtifacts);
+
+          addNestedSingleInstanceArtifact(instanceArtifactFieldKey,
+            readNestedInstanceArtifact(nestedInstanceArtifactNode, nestedInstanceArtifactPath),
+            nestedInstanceArtifacts);
 
         } else if (nestedNode.isArray()) {
           Iterator<JsonNode> nodeIterator = nestedNode.iterator();
 
-          if (childKeys.contains(instanceArtifactFieldKey))
-            throw new ArtifactParseException("Duplicate field " + instanceArtifactFieldKey, instanceArtifactFieldKey,
-              instanceArtifactFieldKey);
-          childKeys.add(instanceArtifactFieldKey);
+          addNestedMultiInstanceArtifactKey(instanceArtifactFieldKey, nestedInstanceArtifacts);
 
           if (!nodeIterator.hasNext()) { // Array is empty
-            // We do not know if this is (1) an empty attribute-value field array, (2) an empty multi-instance field
-            // array, or (3) an empty multi-instance element array. We'll arbitrarily pick (2).
-            multiInstanceFieldInstances.put(instanceArtifactFieldKey, Collections.emptyList());
+            addEmptyNestedMultiInstanceArtifact(instanceArtifactFieldKey, nestedInstanceArtifacts);
           } else {
             int arrayIndex = 0;
             while (nodeIterator.hasNext()) {
-              String arrayEnclosedInstanceArtifactPath = nestedInstanceArtifactPath + "[" + arrayIndex + "]";
+              ArtifactPath arrayEnclosedInstanceArtifactPath = nestedInstanceArtifactPath.index(arrayIndex);
               JsonNode instanceNode = nodeIterator.next();
               if (instanceNode == null || instanceNode.isNull()) {
                 throw new ArtifactParseException(
@@ -643,23 +1127,12 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
               } else {
                 if (instanceNode.isObject()) {
                   ObjectNode arrayEnclosedInstanceArtifactNode = (ObjectNode)instanceNode;
-                  readNestedMultiInstanceArtifact(instanceArtifactFieldKey, arrayEnclosedInstanceArtifactPath,
-                    arrayEnclosedInstanceArtifactNode, childKeys, multiInstanceFieldInstances,
-                    multiInstanceElementInstances);
+                  addNestedMultiInstanceArtifact(instanceArtifactFieldKey,
+                    readNestedInstanceArtifact(arrayEnclosedInstanceArtifactNode, arrayEnclosedInstanceArtifactPath),
+                    nestedInstanceArtifacts);
                 } else if (instanceNode.isTextual()) { // A list of attribute-value field names
-                  String attributeValueFieldName = instanceNode.asText();
-                  if (attributeValueFieldName.isEmpty())
-                    throw new ArtifactParseException("Empty attribute-value field name in array",
-                      instanceArtifactFieldKey, arrayEnclosedInstanceArtifactPath);
-
-                  if (attributeValueFieldGroupInstanceNames.containsKey(instanceArtifactFieldKey))
-                    attributeValueFieldGroupInstanceNames.get(instanceArtifactFieldKey).add(attributeValueFieldName);
-                  else {
-                    List<String> attributeValueFieldInstanceNames = new ArrayList<>();
-                    attributeValueFieldInstanceNames.add(attributeValueFieldName);
-                    attributeValueFieldGroupInstanceNames.put(instanceArtifactFieldKey,
-                      attributeValueFieldInstanceNames);
-                  }
+                  addAttributeValueFieldInstanceName(instanceArtifactFieldKey, arrayEnclosedInstanceArtifactPath,
+                    instanceNode.asText(), nestedInstanceArtifacts);
                 } else
                   throw new ArtifactParseException(
                     "Expecting field or element instance or attribute-value field name in array",
@@ -671,8 +1144,131 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
         }
       }
     }
-    processAttributeValueFields(path, singleInstanceFieldInstances, attributeValueFieldGroupInstanceNames,
-      attributeValueFieldInstanceGroups);
+    processAttributeValueFields(path, nestedInstanceArtifacts.singleInstanceFieldInstances,
+      nestedInstanceArtifacts.attributeValueFieldGroupInstanceNames,
+      nestedInstanceArtifacts.attributeValueFieldInstanceGroups);
+  }
+
+  private InstanceArtifact readNestedInstanceArtifact(ObjectNode instanceArtifactNode, ArtifactPath instanceArtifactPath)
+  {
+    if (hasJsonLdContextField(instanceArtifactNode)) // Element instance artifacts have @context fields
+      return readElementInstanceArtifact(instanceArtifactNode, instanceArtifactPath);
+    else // Field instance artifacts do not
+      return readFieldInstanceArtifact(instanceArtifactNode, instanceArtifactPath);
+  }
+
+  /**
+   * Read a template or element instance artifact object from a token stream positioned at (or immediately before)
+   * its opening brace.
+   * <p></p>
+   * Nested field and element instance artifacts are read recursively and built as soon as each is complete; all
+   * other entries are collected in the returned node, which is passed to the same field readers as the tree path.
+   * Since instance artifacts are distinguished by the presence of a @context field, which may appear anywhere in
+   * the object, nested artifacts of a field instance are also read but are discarded by the caller.
+   * <p></p>
+   * As in a JSON tree, the last value of a repeated key replaces the earlier ones while the key keeps the position of
+   * its first occurrence, so the streamed and tree reads of a document give the same artifact.
+   */
+  private ObjectNode readStreamedInstanceArtifactNode(JsonParser parser, ArtifactPath path,
+    NestedInstanceArtifacts nestedInstanceArtifacts) throws IOException
+  {
+    JsonToken token = parser.currentToken() == null ? parser.nextToken() : parser.currentToken();
+
+    if (token != JsonToken.START_OBJECT)
+      throw new ArtifactParseException("Expecting JSON object, got " + token, "", path);
+
+    ObjectNode sourceNode = mapper.createObjectNode();
+    LinkedHashSet<String> instanceArtifactFieldKeys = new LinkedHashSet<>();
+    boolean hasRepeatedKeys = false;
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String instanceArtifactFieldKey = internKey(parser.getCurrentName());
+      JsonToken valueToken = parser.nextToken();
+      ArtifactPath nestedInstanceArtifactPath = path.child(instanceArtifactFieldKey);
+      boolean isSourceNodeEntry = INSTANCE_ARTIFACT_KEYWORDS.contains(instanceArtifactFieldKey)
+        || (valueToken != JsonToken.START_OBJECT && valueToken != JsonToken.START_ARRAY);
+
+      if (!instanceArtifactFieldKeys.add(instanceArtifactFieldKey)) { // The last value of a repeated key wins
+        hasRepeatedKeys = true;
+        if (!isSourceNodeEntry)
+          sourceNode.remove(instanceArtifactFieldKey);
+        removeNestedInstanceArtifacts(instanceArtifactFieldKey, nestedInstanceArtifacts);
+      }
+
+      if (isSourceNodeEntry) {
+        sourceNode.set(instanceArtifactFieldKey, mapper.readTree(parser));
+      } else if (valueToken == JsonToken.START_OBJECT) {
+
+        addNestedSingleInstanceArtifactKey(instanceArtifactFieldKey, nestedInstanceArtifactPath,
+          nestedInstanceArtifacts);
+
+        addNestedSingleInstanceArtifact(instanceArtifactFieldKey,
+          readStreamedNestedInstanceArtifact(parser, nestedInstanceArtifactPath), nestedInstanceArtifacts);
+
+      } else {
+        int arrayIndex = 0;
+
+        addNestedMultiInstanceArtifactKey(instanceArtifactFieldKey, nestedInstanceArtifacts);
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+          ArtifactPath arrayEnclosedInstanceArtifactPath = nestedInstanceArtifactPath.index(arrayIndex);
+
+          if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            throw new ArtifactParseException(
+              "Expecting field or element instance or attribute-value field name in array, got null",
+              instanceArtifactFieldKey, arrayEnclosedInstanceArtifactPath);
+          } else if (parser.currentToken() == JsonToken.START_OBJECT) {
+            addNestedMultiInstanceArtifact(instanceArtifactFieldKey,
+              readStreamedNestedInstanceArtifact(parser, arrayEnclosedInstanceArtifactPath), nestedInstanceArtifacts);
+          } else if (parser.currentToken() == JsonToken.VALUE_STRING) { // A list of attribute-value field names
+            addAttributeValueFieldInstanceName(instanceArtifactFieldKey, arrayEnclosedInstanceArtifactPath,
+              parser.getText(), nestedInstanceArtifacts);
+          } else
+            throw new ArtifactParseException(
+              "Expecting field or element instance or attribute-value field name in array", instanceArtifactFieldKey,
+              arrayEnclosedInstanceArtifactPath);
+          arrayIndex++;
+        }
+
+        if (arrayIndex == 0) // Array is empty
+          addEmptyNestedMultiInstanceArtifact(instanceArtifactFieldKey, nestedInstanceArtifacts);
+      }
+    }
+
+    if (hasRepeatedKeys) { // Restore the order of first occurrence of keys whose entries were replaced
+      List<String> childKeys = new ArrayList<>(instanceArtifactFieldKeys);
+      childKeys.retainAll(nestedInstanceArtifacts.childKeys);
+      nestedInstanceArtifacts.childKeys.clear();
+      nestedInstanceArtifacts.childKeys.addAll(childKeys);
+    }
+    return sourceNode;
+  }
+
+  private void removeNestedInstanceArtifacts(String instanceArtifactFieldKey,
+    NestedInstanceArtifacts nestedInstanceArtifacts)
+  {
+    nestedInstanceArtifacts.childKeys.remove(instanceArtifactFieldKey);
+    nestedInstanceArtifacts.singleInstanceFieldInstances.remove(instanceArtifactFieldKey);
+    nestedInstanceArtifacts.multiInstanceFieldInstances.remove(instanceArtifactFieldKey);
+    nestedInstanceArtifacts.singleInstanceElementInstances.remove(instanceArtifactFieldKey);
+    nestedInstanceArtifacts.multiInstanceElementInstances.remove(instanceArtifactFieldKey);
+    nestedInstanceArtifacts.attributeValueFieldGroupInstanceNames.remove(instanceArtifactFieldKey);
+  }
+
+  private InstanceArtifact readStreamedNestedInstanceArtifact(JsonParser parser, ArtifactPath instanceArtifactPath)
+    throws IOException
+  {
+    NestedInstanceArtifacts nestedInstanceArtifacts = new NestedInstanceArtifacts();
+    ObjectNode instanceArtifactNode = readStreamedInstanceArtifactNode(parser, instanceArtifactPath,
+      nestedInstanceArtifacts);
+
+    if (hasJsonLdContextField(instanceArtifactNode)) { // Element instance artifacts have @context fields
+      processAttributeValueFields(instanceArtifactPath, nestedInstanceArtifacts.singleInstanceFieldInstances,
+        nestedInstanceArtifacts.attributeValueFieldGroupInstanceNames,
+        nestedInstanceArtifacts.attributeValueFieldInstanceGroups);
+      return readElementInstanceArtifact(instanceArtifactNode, instanceArtifactPath, nestedInstanceArtifacts);
+    } else // Field instance artifacts do not
+      return readFieldInstanceArtifact(instanceArtifactNode, instanceArtifactPath);
   }
 
   /**
@@ -692,7 +1288,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
    * parsing. We thus need to post-process and move these fields from the singleInstanceFieldInstances map to the
    * specialized attributeValueFieldInstances map.
    */
-  private void processAttributeValueFields(String path, Map<String, FieldInstanceArtifact> singleInstanceFieldInstances,
+  private void processAttributeValueFields(ArtifactPath path, Map<String, FieldInstanceArtifact> singleInstanceFieldInstances,
     Map<String, List<String>> attributeValueFieldGroupInstanceNames,
     Map<String, Map<String, FieldInstanceArtifact>> attributeValueFieldInstanceGroups)
   {
@@ -725,60 +1321,76 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     }
   }
 
-  private void readNestedSingleInstanceArtifact(String instanceArtifactFieldKey, String instanceArtifactPath,
-    ObjectNode instanceArtifactNode, List<String> childKeys,
-    Map<String, FieldInstanceArtifact> singleInstanceFieldInstances,
-    Map<String, ElementInstanceArtifact> singleInstanceElementInstances)
+  private void addNestedSingleInstanceArtifactKey(String instanceArtifactFieldKey, ArtifactPath instanceArtifactPath,
+    NestedInstanceArtifacts nestedInstanceArtifacts)
   {
-    if (childKeys.contains(instanceArtifactFieldKey))
+    if (!nestedInstanceArtifacts.childKeys.add(instanceArtifactFieldKey))
       throw new ArtifactParseException("duplicate field " + instanceArtifactFieldKey, instanceArtifactFieldKey,
         instanceArtifactPath);
+  }
 
-    childKeys.add(instanceArtifactFieldKey);
+  private void addNestedMultiInstanceArtifactKey(String instanceArtifactFieldKey,
+    NestedInstanceArtifacts nestedInstanceArtifacts)
+  {
+    if (!nestedInstanceArtifacts.childKeys.add(instanceArtifactFieldKey))
+      throw new ArtifactParseException("Duplicate field " + instanceArtifactFieldKey, instanceArtifactFieldKey,
+        instanceArtifactFieldKey);
+  }
 
-    if (hasJsonLdContextField(instanceArtifactNode)) { // Element instance artifacts have @context fields
-      ObjectNode elementInstanceArtifactNode = instanceArtifactNode;
-      ElementInstanceArtifact elementInstanceArtifact = readElementInstanceArtifact(elementInstanceArtifactNode,
-        instanceArtifactPath);
-      singleInstanceElementInstances.put(instanceArtifactFieldKey, elementInstanceArtifact);
-    } else { // Field instance artifacts do not
-      FieldInstanceArtifact fieldInstanceArtifact = readFieldInstanceArtifact(instanceArtifactNode,
-        instanceArtifactPath);
-      singleInstanceFieldInstances.put(instanceArtifactFieldKey, fieldInstanceArtifact);
-    }
+  private void addNestedSingleInstanceArtifact(String instanceArtifactFieldKey, InstanceArtifact instanceArtifact,
+    NestedInstanceArtifacts nestedInstanceArtifacts)
+  {
+    if (instanceArtifact instanceof ElementInstanceArtifact elementInstanceArtifact)
+      nestedInstanceArtifacts.singleInstanceElementInstances.put(instanceArtifactFieldKey, elementInstanceArtifact);
+    else
+      nestedInstanceArtifacts.singleInstanceFieldInstances.put(instanceArtifactFieldKey,
+        (FieldInstanceArtifact)instanceArtifact);
   }
 
-  private void readNestedMultiInstanceArtifact(String instanceArtifactFieldKey, String instanceArtifactPath,
-    ObjectNode instanceArtifactArrayNode, List<String> childKeys,
-    LinkedHashMap<String, List<FieldInstanceArtifact>> multiInstanceFieldInstances,
-    LinkedHashMap<String, List<ElementInstanceArtifact>> multiInstanceElementInstances)
+  private void addNestedMultiInstanceArtifact(String instanceArtifactFieldKey, InstanceArtifact instanceArtifact,
+    NestedInstanceArtifacts nestedInstanceArtifacts)
   {
+    if (instanceArtifact instanceof ElementInstanceArtifact elementInstanceArtifact) {
+      if (!nestedInstanceArtifacts.multiInstanceElementInstances.containsKey(instanceArtifactFieldKey))
+        nestedInstanceArtifacts.multiInstanceElementInstances.put(instanceArtifactFieldKey, new ArrayList<>());
 
-    if (instanceArtifactArrayNode == null || instanceArtifactArrayNode.isNull())
-      throw new ArtifactParseException("Value in instance array must not be null", instanceArtifactFieldKey,
-        instanceArtifactPath);
+      nestedInstanceArtifacts.multiInstanceElementInstances.get(instanceArtifactFieldKey).add(elementInstanceArtifact);
+    } else {
+      if (!nestedInstanceArtifacts.multiInstanceFieldInstances.containsKey(instanceArtifactFieldKey))
+        nestedInstanceArtifacts.multiInstanceFieldInstances.put(instanceArtifactFieldKey, new ArrayList<>());
 
-    if (hasJsonLdContextField(instanceArtifactArrayNode)) { // Element instance artifacts have @context fields
-      ObjectNode elementInstanceArtifactNode = instanceArtifactArrayNode;
-      ElementInstanceArtifact elementInstanceArtifact = readElementInstanceArtifact(elementInstanceArtifactNode,
-        instanceArtifactPath);
+      nestedInstanceArtifacts.multiInstanceFieldInstances.get(instanceArtifactFieldKey)
+        .add((FieldInstanceArtifact)instanceArtifact);
+    }
+  }
 
-      if (!multiInstanceElementInstances.containsKey(instanceArtifactFieldKey))
-        multiInstanceElementInstances.put(instanceArtifactFieldKey, new ArrayList<>());
+  private void addEmptyNestedMultiInstanceArtifact(String instanceArtifactFieldKey,
+    NestedInstanceArtifacts nestedInstanceArtifacts)
+  {
+    // We do not know if this is (1) an empty attribute-value field array, (2) an empty multi-instance field
+    // array, or (3) an empty multi-instance element array. We'll arbitrarily pick (2).
+    nestedInstanceArtifacts.multiInstanceFieldInstances.put(instanceArtifactFieldKey, Collections.emptyList());
+  }
 
-      multiInstanceElementInstances.get(instanceArtifactFieldKey).add(elementInstanceArtifact);
-    } else { // Field instance artifacts do not
-      FieldInstanceArtifact fieldInstanceArtifact = readFieldInstanceArtifact(instanceArtifactArrayNode,
+  private void addAttributeValueFieldInstanceName(String instanceArtifactFieldKey, ArtifactPath instanceArtifactPath,
+    String attributeValueFieldName, NestedInstanceArtifacts nestedInstanceArtifacts)
+  {
+    if (attributeValueFieldName.isEmpty())
+      throw new ArtifactParseException("Empty attribute-value field name in array", instanceArtifactFieldKey,
         instanceArtifactPath);
 
-      if (!multiInstanceFieldInstances.containsKey(instanceArtifactFieldKey))
-        multiInstanceFieldInstances.put(instanceArtifactFieldKey, new ArrayList<>());
-
-      multiInstanceFieldInstances.get(instanceArtifactFieldKey).add(fieldInstanceArtifact);
+    if (nestedInstanceArtifacts.attributeValueFieldGroupInstanceNames.containsKey(instanceArtifactFieldKey))
+      nestedInstanceArtifacts.attributeValueFieldGroupInstanceNames.get(instanceArtifactFieldKey)
+        .add(attributeValueFieldName);
+    else {
+      List<String> attributeValueFieldInstanceNames = new ArrayList<>();
+      attributeValueFieldInstanceNames.add(attributeValueFieldName);
+      nestedInstanceArtifacts.attributeValueFieldGroupInstanceNames.put(instanceArtifactFieldKey,
+        attributeValueFieldInstanceNames);
     }
   }
 
-  private void checkSchemaArtifactJsonLdType(List<URI> schemaArtifactJsonLdTypes, String path)
+  private void checkSchemaArtifactJsonLdType(List<URI> schemaArtifactJsonLdTypes, ArtifactPath path)
   {
     if (schemaArtifactJsonLdTypes.isEmpty())
       throw new ArtifactParseException("Unknown object - must be a JSON-LD type or array of types", JSON_LD_TYPE, path);
@@ -795,7 +1407,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
         JSON_LD_TYPE, path);
   }
 
-  private void checkTemplateSchemaArtifactJsonLdType(List<URI> schemaArtifactJsonLdTypes, String path)
+  private void checkTemplateSchemaArtifactJsonLdType(List<URI> schemaArtifactJsonLdTypes, ArtifactPath path)
   {
     checkSchemaArtifactJsonLdType(schemaArtifactJsonLdTypes, path);
 
@@ -806,7 +1418,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
         JSON_LD_TYPE, path);
   }
 
-  private void checkElementSchemaArtifactJsonLdType(List<URI> schemaArtifactJsonLdTypes, String path)
+  private void checkElementSchemaArtifactJsonLdType(List<URI> schemaArtifactJsonLdTypes, ArtifactPath path)
   {
     checkSchemaArtifactJsonLdType(schemaArtifactJsonLdTypes, path);
 
@@ -817,7 +1429,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
         JSON_LD_TYPE, path);
   }
 
-  private void checkFieldSchemaArtifactJsonLdType(List<URI> schemaArtifactJsonLdTypes, String path)
+  private void checkFieldSchemaArtifactJsonLdType(List<URI> schemaArtifactJsonLdTypes, ArtifactPath path)
   {
     checkSchemaArtifactJsonLdType(schemaArtifactJsonLdTypes, path);
 
@@ -843,7 +1455,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
   //          "Disease": { "enum": [ "http://semantic-dicom.org/dcm#Disease" ]
   //      }
   //    }
-  private LinkedHashMap<String, URI> getChildPropertyUris(ObjectNode sourceNode, String path)
+  private LinkedHashMap<String, URI> getChildPropertyUris(ObjectNode sourceNode, ArtifactPath path)
   {
     LinkedHashMap<String, URI> childKey2URI = new LinkedHashMap<>();
     String contextPath = "/" + JSON_SCHEMA_PROPERTIES + "/" + JSON_LD_CONTEXT + "/" + JSON_SCHEMA_PROPERTIES;
@@ -882,8 +1494,8 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
                 path + contextPath + childKey);
 
             try {
-              URI propertyUri = new URI(elementNode.asText());
-              childKey2URI.put(childKey, propertyUri);
+              URI propertyUri = createUri(elementNode.asText());
+              childKey2URI.put(internKey(childKey), propertyUri);
             } catch (URISyntaxException e) {
               throw new ArtifactParseException("Invalid URI " + elementNode.asText() + " for enum specification",
                 JSON_SCHEMA_ENUM, path + contextPath + childKey);
@@ -909,22 +1521,26 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
    *   }
    * </pre>
    */
-  private Optional<URI> readInstanceJsonLdType(ObjectNode sourceNode, String path)
+  private Optional<URI> readInstanceJsonLdType(ObjectNode sourceNode, ArtifactPath path)
   {
     String uriPath =
       "/" + JSON_SCHEMA_PROPERTIES + "/" + JSON_LD_TYPE + "/" + JSON_SCHEMA_ONE_OF + "/0/" + JSON_SCHEMA_ENUM + "/0";
     JsonNode uriNode = sourceNode.at(uriPath);
 
     if (uriNode != null && uriNode.isTextual()) {
-      return Optional.of(URI.create(uriNode.asText()));
+      try {
+        return Optional.of(createUri(uriNode.asText()));
+      } catch (URISyntaxException e) {
+        throw new IllegalArgumentException(e.getMessage(), e);
+      }
     } else
       return Optional.empty();
   }
 
-  private Optional<ValueConstraints> readValueConstraints(ObjectNode sourceNode, String path, String fieldName,
+  private Optional<ValueConstraints> readValueConstraints(ObjectNode sourceNode, ArtifactPath path, String fieldName,
     FieldInputType fieldInputType, boolean isMultiInstance, boolean isStandalone)
   {
-    String vcPath = path + "/" + fieldName;
+    ArtifactPath vcPath = path.child(fieldName);
     ObjectNode vcNode = readValueConstraintsNode(sourceNode, path, fieldName);
 
     if (vcNode != null) {
@@ -1002,7 +1618,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
       return Optional.empty();
   }
 
-  private Optional<DefaultValue> readDefaultValue(ObjectNode sourceNode, String path, String fieldName,
+  private Optional<DefaultValue> readDefaultValue(ObjectNode sourceNode, ArtifactPath path, String fieldName,
     FieldInputType fieldInputType)
   {
     JsonNode childNode = sourceNode.get(fieldName);
@@ -1010,7 +1626,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     if (childNode == null || childNode.isNull())
       return Optional.empty();
     else if (childNode.isObject()) {
-      String nestedPath = path + "/" + fieldName;
+      ArtifactPath nestedPath = path.child(fieldName);
       ObjectNode defaultValueNode = (ObjectNode)childNode;
       URI termUri = readRequiredUri(defaultValueNode, nestedPath, VALUE_CONSTRAINTS_DEFAULT_VALUE_TERM_URI);
       Optional<String> rdfsLabel = readString(defaultValueNode, nestedPath, RDFS_LABEL);
@@ -1034,7 +1650,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
         "default value must be a string, a number, or an object containing URI/string pair", fieldName, path);
   }
 
-  private List<OntologyValueConstraint> readOntologyValueConstraints(ObjectNode sourceNode, String path,
+  private List<OntologyValueConstraint> readOntologyValueConstraints(ObjectNode sourceNode, ArtifactPath path,
     String fieldName)
   {
     List<OntologyValueConstraint> ontologyValueConstraints = new ArrayList<>();
@@ -1049,7 +1665,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
           if (!valueConstraintNode.isObject())
             throw new ArtifactParseException("Value in array must be an object", fieldName, path);
           OntologyValueConstraint ontologyValueConstraint = readOntologyValueConstraint((ObjectNode)valueConstraintNode,
-            path + "/" + fieldName);
+            path.child(fieldName));
           ontologyValueConstraints.add(ontologyValueConstraint);
         }
       }
@@ -1057,7 +1673,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     return ontologyValueConstraints;
   }
 
-  private List<ClassValueConstraint> readClassValueConstraints(ObjectNode sourceNode, String path, String fieldName)
+  private List<ClassValueConstraint> readClassValueConstraints(ObjectNode sourceNode, ArtifactPath path, String fieldName)
   {
     List<ClassValueConstraint> classValueConstraints = new ArrayList<>();
 
@@ -1071,7 +1687,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
           if (!valueConstraintNode.isObject())
             throw new ArtifactParseException("Value in array must be an object", fieldName, path);
           ClassValueConstraint classValueConstraint = readClassValueConstraint((ObjectNode)valueConstraintNode,
-            path + "/" + fieldName);
+            path.child(fieldName));
           classValueConstraints.add(classValueConstraint);
         }
       }
@@ -1079,7 +1695,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     return classValueConstraints;
   }
 
-  private List<ValueSetValueConstraint> readValueSetValueConstraints(ObjectNode sourceNode, String path,
+  private List<ValueSetValueConstraint> readValueSetValueConstraints(ObjectNode sourceNode, ArtifactPath path,
     String fieldName)
   {
     List<ValueSetValueConstraint> valueSetValueConstraints = new ArrayList<>();
@@ -1093,7 +1709,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
           if (!valueConstraintNode.isObject())
             throw new ArtifactParseException("Value in array must be an object", fieldName, path);
           ValueSetValueConstraint valueSetValueConstraint = readValueSetValueConstraint((ObjectNode)valueConstraintNode,
-            path + "/" + fieldName);
+            path.child(fieldName));
           valueSetValueConstraints.add(valueSetValueConstraint);
         }
       }
@@ -1101,7 +1717,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     return valueSetValueConstraints;
   }
 
-  private List<BranchValueConstraint> readBranchValueConstraints(ObjectNode sourceNode, String path, String fieldName)
+  private List<BranchValueConstraint> readBranchValueConstraints(ObjectNode sourceNode, ArtifactPath path, String fieldName)
   {
     List<BranchValueConstraint> branchValueConstraints = new ArrayList<>();
 
@@ -1114,7 +1730,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
           if (!valueConstraintNode.isObject())
             throw new ArtifactParseException("Value in array must be an object", fieldName, path);
           BranchValueConstraint branchValueConstraint = readBranchValueConstraint((ObjectNode)valueConstraintNode,
-            path + "/" + fieldName);
+            path.child(fieldName));
           branchValueConstraints.add(branchValueConstraint);
         }
       }
@@ -1123,12 +1739,12 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     return branchValueConstraints;
   }
 
-  private List<LiteralValueConstraint> readLiteralValueConstraints(ObjectNode sourceNode, String path, String fieldName)
+  private List<LiteralValueConstraint> readLiteralValueConstraints(ObjectNode sourceNode, ArtifactPath path, String fieldName)
   {
     List<LiteralValueConstraint> literalValueConstraints = new ArrayList<>();
 
     JsonNode literValueConstraintArrayNode = sourceNode.get(fieldName);
-    String literalsPath = path + "/" + fieldName;
+    ArtifactPath literalsPath = path.child(fieldName);
 
     if (literValueConstraintArrayNode != null && literValueConstraintArrayNode.isArray()) {
 
@@ -1145,7 +1761,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     return literalValueConstraints;
   }
 
-  private List<ControlledTermValueConstraintsAction> readValueConstraintsActions(ObjectNode sourceNode, String path,
+  private List<ControlledTermValueConstraintsAction> readValueConstraintsActions(ObjectNode sourceNode, ArtifactPath path,
     String fieldName)
   {
     List<ControlledTermValueConstraintsAction> actions = new ArrayList<>();
@@ -1160,7 +1776,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
           if (!actionNode.isObject())
             throw new ArtifactParseException("Value in array must be an object", fieldName, path);
           ControlledTermValueConstraintsAction action = readValueConstraintsAction((ObjectNode)actionNode,
-            path + "/" + fieldName);
+            path.child(fieldName));
           actions.add(action);
         }
       }
@@ -1168,7 +1784,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     return actions;
   }
 
-  private ControlledTermValueConstraintsAction readValueConstraintsAction(ObjectNode sourceNode, String path)
+  private ControlledTermValueConstraintsAction readValueConstraintsAction(ObjectNode sourceNode, ArtifactPath path)
   {
     URI termUri = readRequiredUri(sourceNode, path, VALUE_CONSTRAINTS_TERM_URI);
     Optional<String> source = readString(sourceNode, path, VALUE_CONSTRAINTS_SOURCE);
@@ -1180,7 +1796,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     return new ControlledTermValueConstraintsAction(termUri, source.orElse(""), valueType, actionType, sourceUri, to);
   }
 
-  private Optional<XsdTemporalDatatype> readTemporalType(ObjectNode sourceNode, String path, String fieldName)
+  private Optional<XsdTemporalDatatype> readTemporalType(ObjectNode sourceNode, ArtifactPath path, String fieldName)
   {
     Optional<String> temporalTypeValue = readString(sourceNode, path, fieldName);
 
@@ -1190,7 +1806,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
       return Optional.empty();
   }
 
-  private Optional<XsdNumericDatatype> readNumberType(ObjectNode sourceNode, String path, String fieldName)
+  private Optional<XsdNumericDatatype> readNumberType(ObjectNode sourceNode, ArtifactPath path, String fieldName)
   {
     Optional<String> numberTypeValue = readString(sourceNode, path, fieldName);
 
@@ -1200,7 +1816,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
       return Optional.empty();
   }
 
-  private ValueConstraintsActionType readValueConstraintsActionType(ObjectNode sourceNode, String path,
+  private ValueConstraintsActionType readValueConstraintsActionType(ObjectNode sourceNode, ArtifactPath path,
     String fieldName)
   {
     String actionType = readRequiredString(sourceNode, path, fieldName);
@@ -1208,14 +1824,14 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     return ValueConstraintsActionType.fromString(actionType);
   }
 
-  private ValueType readValueType(ObjectNode sourceNode, String path, String fieldName)
+  private ValueType readValueType(ObjectNode sourceNode, ArtifactPath path, String fieldName)
   {
     String valueType = readRequiredString(sourceNode, path, fieldName);
 
     return ValueType.fromString(valueType);
   }
 
-  private OntologyValueConstraint readOntologyValueConstraint(ObjectNode sourceNode, String path)
+  private OntologyValueConstraint readOntologyValueConstraint(ObjectNode sourceNode, ArtifactPath path)
   {
     URI uri = readRequiredUri(sourceNode, path, VALUE_CONSTRAINTS_URI);
     String acronym = readRequiredString(sourceNode, path, VALUE_CONSTRAINTS_ACRONYM);
@@ -1225,7 +1841,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     return new OntologyValueConstraint(uri, acronym, name, numTerms);
   }
 
-  private ClassValueConstraint readClassValueConstraint(ObjectNode sourceNode, String path)
+  private ClassValueConstraint readClassValueConstraint(ObjectNode sourceNode, ArtifactPath path)
   {
     URI uri = readRequiredUri(sourceNode, path, VALUE_CONSTRAINTS_URI);
     String preferredLabel = readRequiredString(sourceNode, path, VALUE_CONSTRAINTS_PREFLABEL);
@@ -1236,7 +1852,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     return new ClassValueConstraint(uri, source, label, preferredLabel, valueType);
   }
 
-  private ValueSetValueConstraint readValueSetValueConstraint(ObjectNode sourceNode, String path)
+  private ValueSetValueConstraint readValueSetValueConstraint(ObjectNode sourceNode, ArtifactPath path)
   {
     URI uri = readRequiredUri(sourceNode, path, VALUE_CONSTRAINTS_URI);
     String name = readRequiredString(sourceNode, path, VALUE_CONSTRAINTS_NAME);
@@ -1246,7 +1862,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     return new ValueSetValueConstraint(uri, vsCollection, name, numTerms);
   }
 
-  private BranchValueConstraint readBranchValueConstraint(ObjectNode sourceNode, String path)
+  private BranchValueConstraint readBranchValueConstraint(ObjectNode sourceNode, ArtifactPath path)
   {
     URI uri = readRequiredUri(sourceNode, path, VALUE_CONSTRAINTS_URI);
     String source = readRequiredString(sourceNode, path, VALUE_CONSTRAINTS_SOURCE);
@@ -1257,7 +1873,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     return new BranchValueConstraint(uri, source, acronym, name, maxDepth);
   }
 
-  private LiteralValueConstraint readLiteralValueConstraint(ObjectNode sourceNode, String path)
+  private LiteralValueConstraint readLiteralValueConstraint(ObjectNode sourceNode, ArtifactPath path)
   {
     String label = readRequiredString(sourceNode, path, VALUE_CONSTRAINTS_LABEL);
     boolean selectedByDefault = readBoolean(sourceNode, path, VALUE_CONSTRAINTS_SELECTED_BY_DEFAULT, false);
@@ -1265,10 +1881,10 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     return new LiteralValueConstraint(label, selectedByDefault);
   }
 
-  private FieldUi readFieldUi(ObjectNode sourceNode, String path, String fieldName)
+  private FieldUi readFieldUi(ObjectNode sourceNode, ArtifactPath path, String fieldName)
   {
     ObjectNode uiNode = readChildNode(sourceNode, path, fieldName);
-    String uiPath = path + "/" + fieldName;
+    ArtifactPath uiPath = path.child(fieldName);
 
     FieldInputType fieldInputType = readFieldInputType(uiNode, uiPath, UI_FIELD_INPUT_TYPE);
     boolean valueRecommendationEnabled = readBoolean(uiNode, uiPath, UI_VALUE_RECOMMENDATION_ENABLED, false);
@@ -1293,11 +1909,11 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
       return FieldUi.create(fieldInputType, hidden, continuePreviousLine, valueRecommendationEnabled);
   }
 
-  private TemplateUi readTemplateUi(ObjectNode sourceNode, String path, String fieldName,
+  private TemplateUi readTemplateUi(ObjectNode sourceNode, ArtifactPath path, String fieldName,
     Map<String, String> childKey2Name)
   {
     ObjectNode uiNode = readChildNode(sourceNode, path, fieldName);
-    String uiPath = path + "/" + fieldName;
+    ArtifactPath uiPath = path.child(fieldName);
 
     List<String> order = readStringArray(uiNode, uiPath, UI_ORDER);
     LinkedHashMap<String, String> originalPropertyLabels = readString2StringMap(uiNode, uiPath, UI_PROPERTY_LABELS);
@@ -1328,11 +1944,11 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     return TemplateUi.create(order, reorderedPropertyLabels, reorderedPropertyDescriptions, header, footer);
   }
 
-  private ElementUi readElementUi(ObjectNode sourceNode, String path, String fieldName,
+  private ElementUi readElementUi(ObjectNode sourceNode, ArtifactPath path, String fieldName,
     Map<String, String> childKey2Name)
   {
     ObjectNode uiNode = readChildNode(sourceNode, path, fieldName);
-    String uiPath = path + "/" + fieldName;
+    ArtifactPath uiPath = path.child(fieldName);
 
     List<String> order = readStringArray(uiNode, uiPath, UI_ORDER);
     LinkedHashMap<String, String> originalPropertyLabels = readString2StringMap(uiNode, uiPath, UI_PROPERTY_LABELS);
@@ -1361,7 +1977,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     return ElementUi.create(order, reorderedPropertyLabels, reorderedPropertyDescriptions);
   }
 
-  private Optional<Annotations> readAnnotations(ObjectNode sourceNode, String path, String fieldName)
+  private Optional<Annotations> readAnnotations(ObjectNode sourceNode, ArtifactPath path, String fieldName)
   {
     LinkedHashMap<String, AnnotationValue> annotations = new LinkedHashMap<>();
     ObjectNode annotationNode = readAnnotationsNode(sourceNode, path, fieldName);
@@ -1369,7 +1985,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     if (annotationNode == null)
       return Optional.empty();
 
-    String annotationPath = path + "/" + fieldName;
+    ArtifactPath annotationPath = path.child(fieldName);
 
     Iterator<Map.Entry<String, JsonNode>> fieldEntries = annotationNode.fields();
 
@@ -1403,7 +2019,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
       return Optional.empty();
   }
 
-  private Optional<Integer> readInteger(ObjectNode sourceNode, String path, String fieldName)
+  private Optional<Integer> readInteger(ObjectNode sourceNode, ArtifactPath path, String fieldName)
   {
     JsonNode jsonNode = sourceNode.get(fieldName);
 
@@ -1416,7 +2032,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     return Optional.of(jsonNode.asInt());
   }
 
-  private Optional<Number> readNumber(ObjectNode sourceNode, String path, String fieldName)
+  private Optional<Number> readNumber(ObjectNode sourceNode, ArtifactPath path, String fieldName)
   {
     JsonNode jsonNode = sourceNode.get(fieldName);
 
@@ -1432,7 +2048,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
       return Optional.of(jsonNode.asDouble());
   }
 
-  private boolean readBoolean(ObjectNode sourceNode, String path, String fieldName, boolean defaultValue)
+  private boolean readBoolean(ObjectNode sourceNode, ArtifactPath path, String fieldName, boolean defaultValue)
   {
     JsonNode jsonNode = sourceNode.get(fieldName);
 
@@ -1445,7 +2061,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     return jsonNode.asBoolean();
   }
 
-  private Optional<Boolean> readOptionalBoolean(ObjectNode sourceNode, String path, String fieldName)
+  private Optional<Boolean> readOptionalBoolean(ObjectNode sourceNode, ArtifactPath path, String fieldName)
   {
     JsonNode jsonNode = sourceNode.get(fieldName);
 
@@ -1458,7 +2074,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     return Optional.of(jsonNode.asBoolean());
   }
 
-  private FieldInputType readFieldInputType(ObjectNode sourceNode, String path, String fieldName)
+  private FieldInputType readFieldInputType(ObjectNode sourceNode, ArtifactPath path, String fieldName)
   {
     String inputType = readRequiredString(sourceNode, path, fieldName);
 
@@ -1468,7 +2084,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     return FieldInputType.fromString(inputType);
   }
 
-  private TemporalGranularity readTemporalGranularity(ObjectNode sourceNode, String path, String fieldName)
+  private TemporalGranularity readTemporalGranularity(ObjectNode sourceNode, ArtifactPath path, String fieldName)
   {
     String granularityString = readRequiredString(sourceNode, path, fieldName);
 
@@ -1478,7 +2094,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     return TemporalGranularity.fromString(granularityString);
   }
 
-  private Optional<InputTimeFormat> readInputTimeFormat(ObjectNode sourceNode, String path, String fieldName)
+  private Optional<InputTimeFormat> readInputTimeFormat(ObjectNode sourceNode, ArtifactPath path, String fieldName)
   {
     Optional<String> timeFormatString = readString(sourceNode, path, fieldName);
 
@@ -1491,7 +2107,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     return Optional.of(InputTimeFormat.fromString(timeFormatString.get()));
   }
 
-  private ObjectNode readChildNode(ObjectNode parentNode, String path, String fieldName)
+  private ObjectNode readChildNode(ObjectNode parentNode, ArtifactPath path, String fieldName)
   {
     JsonNode childNode = parentNode.get(fieldName);
 
@@ -1505,7 +2121,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     return (ObjectNode)childNode;
   }
 
-  private ObjectNode readValueConstraintsNode(ObjectNode parentNode, String path, String fieldName)
+  private ObjectNode readValueConstraintsNode(ObjectNode parentNode, ArtifactPath path, String fieldName)
   {
     JsonNode childNode = parentNode.get(fieldName);
 
@@ -1519,7 +2135,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     return (ObjectNode)childNode;
   }
 
-  private ObjectNode readAnnotationsNode(ObjectNode parentNode, String path, String fieldName)
+  private ObjectNode readAnnotationsNode(ObjectNode parentNode, ArtifactPath path, String fieldName)
   {
     JsonNode childNode = parentNode.get(fieldName);
 
@@ -1533,7 +2149,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     return (ObjectNode)childNode;
   }
 
-  private LinkedHashMap<String, String> readString2StringMap(ObjectNode parentNode, String path, String fieldName)
+  private LinkedHashMap<String, String> readString2StringMap(ObjectNode parentNode, ArtifactPath path, String fieldName)
   {
     LinkedHashMap<String, String> string2StringMap = new LinkedHashMap<>();
 
@@ -1562,7 +2178,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     return string2StringMap;
   }
 
-  private LinkedHashMap<String, String> readSimpleContextEntries(ObjectNode parentNode, String path)
+  private LinkedHashMap<String, String> readSimpleContextEntries(ObjectNode parentNode, ArtifactPath path)
   {
     LinkedHashMap<String, String> string2StringMap = new LinkedHashMap<>();
 
@@ -1590,7 +2206,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     return string2StringMap;
   }
 
-  private LinkedHashMap<String, URI> readString2UriMap(ObjectNode parentNode, String path, String fieldName)
+  private LinkedHashMap<String, URI> readString2UriMap(ObjectNode parentNode, ArtifactPath path, String fieldName)
   {
     LinkedHashMap<String, URI> string2UriMap = new LinkedHashMap<>();
 
@@ -1607,11 +2223,11 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
         var fieldEntry = fieldEntries.next();
 
         if (fieldEntry.getValue().isTextual()) { // We only record simple term->term URI entries
-          String currentFieldName = fieldEntry.getKey();
+          String currentFieldName = internKey(fieldEntry.getKey());
           String currentFieldValue = fieldEntry.getValue().textValue();
 
           try {
-            URI currentFieldUriValue = new URI(currentFieldValue);
+            URI currentFieldUriValue = createUri(currentFieldValue);
             string2UriMap.put(currentFieldName, currentFieldUriValue);
           } catch (Exception e) {
             throw new ArtifactParseException("Object in field must contain URI values", fieldName, path);
@@ -1625,7 +2241,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
   /**
    * Attribute-value fields are defined inside the first element of an "items" array
    */
-  private ObjectNode getFieldNode(ObjectNode sourceNode, String path)
+  private ObjectNode getFieldNode(ObjectNode sourceNode, ArtifactPath path)
   {
     if (sourceNode.isArray()) {
       JsonNode itemsNode = sourceNode.get(JSON_SCHEMA_ITEMS);
@@ -1640,7 +2256,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
       return sourceNode;
   }
 
-  private Optional<Version> readVersion(ObjectNode sourceNode, String path, String fieldName)
+  private Optional<Version> readVersion(ObjectNode sourceNode, ArtifactPath path, String fieldName)
   {
     Optional<String> version = readString(sourceNode, path, fieldName);
 
@@ -1654,7 +2270,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     }
   }
 
-  private Optional<Status> readStatus(ObjectNode sourceNode, String path, String fieldName)
+  private Optional<Status> readStatus(ObjectNode sourceNode, ArtifactPath path, String fieldName)
   {
     Optional<String> status = readString(sourceNode, path, fieldName);
 
@@ -1664,7 +2280,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
       return Optional.empty();
   }
 
-  private Optional<OffsetDateTime> readOffsetDateTime(ObjectNode sourceNode, String path, String fieldName)
+  private Optional<OffsetDateTime> readOffsetDateTime(ObjectNode sourceNode, ArtifactPath path, String fieldName)
   {
     Optional<String> dateTimeValue = readString(sourceNode, path, fieldName);
     try {
@@ -1684,7 +2300,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     }
   }
 
-  private OffsetDateTime readRequiredOffsetDateTime(ObjectNode sourceNode, String path, String fieldName)
+  private OffsetDateTime readRequiredOffsetDateTime(ObjectNode sourceNode, ArtifactPath path, String fieldName)
   {
     String dateTimeValue = readRequiredString(sourceNode, path, fieldName);
 
@@ -1696,7 +2312,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     }
   }
 
-  private Optional<URI> readUri(ObjectNode sourceNode, String path, String fieldName)
+  private Optional<URI> readUri(ObjectNode sourceNode, ArtifactPath path, String fieldName)
   {
     JsonNode jsonNode = sourceNode.get(fieldName);
 
@@ -1712,17 +2328,35 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
       return Optional.empty();
 
     if (XsdDatatype.isKnownXsdDatatype(uriValue)) {
-      return Optional.of(XsdDatatype.fromString(uriValue).toUri());
+      return Optional.of(internUri(XsdDatatype.fromString(uriValue).toUri()));
     } else {
       try {
-        return Optional.of(new URI(uriValue));
+        return Optional.of(createUri(uriValue));
       } catch (Exception e) {
         throw new ArtifactParseException("Value " + uriValue + " in URI field must be a valid URI", fieldName, path);
       }
     }
   }
 
-  private Optional<String> readString(ObjectNode sourceNode, String path, String fieldName)
+  private URI createUri(String uriValue) throws URISyntaxException
+  {
+    if (interningPool.isPresent())
+      return interningPool.get().internUri(uriValue);
+    else
+      return new URI(uriValue);
+  }
+
+  private URI internUri(URI uri)
+  {
+    return interningPool.isPresent() ? interningPool.get().internUri(uri) : uri;
+  }
+
+  private String internKey(String key)
+  {
+    return interningPool.isPresent() ? interningPool.get().intern(key) : key;
+  }
+
+  private Optional<String> readString(ObjectNode sourceNode, ArtifactPath path, String fieldName)
   {
     JsonNode jsonNode = sourceNode.get(fieldName);
 
@@ -1734,7 +2368,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
       return Optional.of(jsonNode.asText());
   }
 
-  private Optional<String> readPossiblyNullString(ObjectNode sourceNode, String path, String fieldName)
+  private Optional<String> readPossiblyNullString(ObjectNode sourceNode, ArtifactPath path, String fieldName)
   {
     JsonNode jsonNode = sourceNode.get(fieldName);
 
@@ -1748,7 +2382,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
       return Optional.of(jsonNode.asText());
   }
 
-  private String readString(ObjectNode sourceNode, String path, String fieldName, String defaultValue)
+  private String readString(ObjectNode sourceNode, ArtifactPath path, String fieldName, String defaultValue)
   {
     JsonNode jsonNode = sourceNode.get(fieldName);
 
@@ -1760,7 +2394,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
       return jsonNode.asText();
   }
 
-  private String readRequiredString(ObjectNode sourceNode, String path, String fieldName)
+  private String readRequiredString(ObjectNode sourceNode, ArtifactPath path, String fieldName)
   {
     JsonNode jsonNode = sourceNode.get(fieldName);
 
@@ -1776,7 +2410,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     }
   }
 
-  private int readRequiredInt(ObjectNode sourceNode, String path, String fieldName)
+  private int readRequiredInt(ObjectNode sourceNode, ArtifactPath path, String fieldName)
   {
     JsonNode jsonNode = sourceNode.get(fieldName);
 
@@ -1792,7 +2426,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     }
   }
 
-  private URI readRequiredUri(ObjectNode sourceNode, String path, String fieldName)
+  private URI readRequiredUri(ObjectNode sourceNode, ArtifactPath path, String fieldName)
   {
     JsonNode jsonNode = sourceNode.get(fieldName);
 
@@ -1805,14 +2439,14 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
         throw new ArtifactParseException("Value must be a URI", fieldName, path);
 
       try {
-        return new URI(jsonNode.asText());
+        return createUri(jsonNode.asText());
       } catch (Exception e) {
         throw new ArtifactParseException("Value must be a valid URI", fieldName, path);
       }
     }
   }
 
-  private List<String> readStringArray(ObjectNode sourceNode, String path, String fieldName)
+  private List<String> readStringArray(ObjectNode sourceNode, ArtifactPath path, String fieldName)
   {
     JsonNode jsonNode = sourceNode.get(fieldName);
     List<String> stringValues = new ArrayList<>();
@@ -1843,7 +2477,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     return stringValues;
   }
 
-  private List<URI> readUriArray(ObjectNode sourceNode, String path, String fieldName)
+  private List<URI> readUriArray(ObjectNode sourceNode, ArtifactPath path, String fieldName)
   {
     JsonNode jsonNode = sourceNode.get(fieldName);
     List<URI> uriValues = new ArrayList<>();
@@ -1860,7 +2494,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
               throw new ArtifactParseException("Value in URI array at index " + arrayIndex + " must be textual",
                 fieldName, path);
             try {
-              URI uriValue = new URI(itemNode.asText());
+              URI uriValue = createUri(itemNode.asText());
               uriValues.add(uriValue);
             } catch (Exception e) {
               throw new ArtifactParseException("Value in URI array at index " + arrayIndex + " must a valid URI",
@@ -1878,7 +2512,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     return uriValues;
   }
 
-  private Version readModelVersion(ObjectNode sourceNode, String path)
+  private Version readModelVersion(ObjectNode sourceNode, ArtifactPath path)
   {
     Optional<String> versionString = readString(sourceNode, path, SCHEMA_ORG_SCHEMA_VERSION);
 
@@ -1888,7 +2522,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
       return Version.fromString("1.6.0"); // TODO Temporarily supply version
   }
 
-  private Optional<String> readLanguage(ObjectNode sourceNode, String path)
+  private Optional<String> readLanguage(ObjectNode sourceNode, ArtifactPath path)
   {
     Map<String, String> contextEntries = readSimpleContextEntries(sourceNode, path);
 
@@ -1903,7 +2537,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     return sourceNode.get(JSON_LD_CONTEXT) != null;
   }
 
-  private void checkArtifactJsonSchemaSchemaUri(ObjectNode sourceNode, String path)
+  private void checkArtifactJsonSchemaSchemaUri(ObjectNode sourceNode, ArtifactPath path)
   {
     String artifactJsonSchemaSchemaUri = readRequiredString(sourceNode, path, JSON_SCHEMA_SCHEMA);
 
@@ -1912,7 +2546,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
         JSON_SCHEMA_SCHEMA, path);
   }
 
-  private void checkArtifactJsonSchemaType(ObjectNode sourceNode, String path, String expectedJsonSchemaType)
+  private void checkArtifactJsonSchemaType(ObjectNode sourceNode, ArtifactPath path, String expectedJsonSchemaType)
   {
     String jsonSchemaType = readRequiredString(sourceNode, path, JSON_SCHEMA_TYPE);
 
@@ -1922,7 +2556,7 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
         path);
   }
 
-  private void checkSchemaArtifactModelVersion(ObjectNode sourceNode, String path)
+  private void checkSchemaArtifactModelVersion(ObjectNode sourceNode, ArtifactPath path)
   {
     Version artifactModelVersion = readModelVersion(sourceNode, path);
 
@@ -1932,4 +2566,54 @@ public class JsonArtifactReader implements ArtifactReader<ObjectNode>
     //        SCHEMA_ORG_SCHEMA_VERSION, path);
   }
 
+  private <T> T invokeInForkJoinPoolIfPresent(Supplier<T> reader)
+  {
+    if (forkJoinPool.isPresent() && !ForkJoinTask.inForkJoinPool())
+      return forkJoinPool.get().invoke(ForkJoinTask.adapt(reader::get));
+    else
+      return reader.get();
+  }
+
+  /**
+   * A schema artifact object read from a token stream. The node holds all entries of the object other than its
+   * nested child schema artifacts and the contents of an object-valued items field, which are held separately.
+   */
+  private static class StreamedSchemaArtifactNode
+  {
+    private final ObjectNode node;
+    private final LinkedHashMap<String, StreamedChildSchemaArtifact> children = new LinkedHashMap<>();
+    private Optional<StreamedSchemaArtifactNode> items = Optional.empty();
+
+    private StreamedSchemaArtifactNode(ObjectNode node)
+    {
+      this.node = node;
+    }
+  }
+
+  /**
+   * A child schema artifact read from a token stream: either the converted artifact or, for a child that precedes
+   * the property URIs of its siblings, its streamed node awaiting conversion
+   */
+  private record StreamedChildSchemaArtifact(Optional<ChildSchemaArtifact> artifact,
+                                             Optional<StreamedSchemaArtifactNode> node) {}
+
+  /**
+   * The nested instance artifacts of a template or element instance artifact, collected in document order. Child keys
+   * are held in an insertion-ordered set so that duplicate checks take constant time for instances with very many
+   * children. Names of attribute-value field instances are held until all nested artifacts have been read, when the
+   * named instances are moved from the single-instance fields to their attribute-value field group.
+   */
+  private static class NestedInstanceArtifacts
+  {
+    private final LinkedHashSet<String> childKeys = new LinkedHashSet<>();
+    private final LinkedHashMap<String, FieldInstanceArtifact> singleInstanceFieldInstances = new LinkedHashMap<>();
+    private final LinkedHashMap<String, List<FieldInstanceArtifact>> multiInstanceFieldInstances =
+      new LinkedHashMap<>();
+    private final LinkedHashMap<String, ElementInstanceArtifact> singleInstanceElementInstances = new LinkedHashMap<>();
+    private final LinkedHashMap<String, List<ElementInstanceArtifact>> multiInstanceElementInstances =
+      new LinkedHashMap<>();
+    private final LinkedHashMap<String, Map<String, FieldInstanceArtifact>> attributeValueFieldInstanceGroups =
+      new LinkedHashMap<>();
+    private final LinkedHashMap<String, List<String>> attributeValueFieldGroupInstanceNames = new LinkedHashMap<>();
+  }
 }
@@ -1,6 +1,10 @@
 package org.metadatacenter.artifacts.model.reader;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import org.metadatacenter.artifacts.model.core.Annotations;
+import org.metadatacenter.artifacts.model.core.ArtifactPath;
 import org.metadatacenter.artifacts.model.core.ElementSchemaArtifact;
 import org.metadatacenter.artifacts.model.core.FieldSchemaArtifact;
 import org.metadatacenter.artifacts.model.core.Status;
@@ -36,7 +40,11 @@ import org.metadatacenter.artifacts.model.core.ui.StaticFieldUi;
 import org.metadatacenter.artifacts.model.core.ui.TemplateUi;
 import org.metadatacenter.artifacts.model.core.ui.TemporalFieldUi;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
@@ -47,6 +55,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.metadatacenter.artifacts.model.yaml.YamlConstants.ALT_LABEL;
+import static org.metadatacenter.artifacts.model.yaml.YamlConstants.CHILDREN;
 import static org.metadatacenter.artifacts.model.yaml.YamlConstants.CONTENT;
 import static org.metadatacenter.artifacts.model.yaml.YamlConstants.CONTINUE_PREVIOUS_LINE;
 import static org.metadatacenter.artifacts.model.yaml.YamlConstants.CREATED_BY;
@@ -116,8 +125,22 @@ import static org.metadatacenter.model.ModelNodeValues.TIME_FORMATS;
 public class YamlArtifactReader implements ArtifactReader<LinkedHashMap<String, Object>>
 {
   private final Version modelVersion = Version.fromString("1.6.0");
+  private final Optional<ArtifactInterningPool> interningPool;
+  private final YAMLFactory yamlFactory = new YAMLFactory();
 
-  public YamlArtifactReader() {}
+  public YamlArtifactReader()
+  {
+    this.interningPool = Optional.empty();
+  }
+
+  /**
+   * Create a reader that shares URIs through the supplied interning pool, so that URIs that are repeated within and
+   * across the artifacts it reads are represented by a single instance.
+   */
+  public YamlArtifactReader(ArtifactInterningPool interningPool)
+  {
+    this.interningPool = Optional.of(interningPool);
+  }
 
   /**
    * Read a YAML specification of a template schema artifact
@@ -167,12 +190,39 @@ public class YamlArtifactReader implements ArtifactReader<LinkedHashMap<String,
    */
   @Override public TemplateSchemaArtifact readTemplateSchemaArtifact(LinkedHashMap<String, Object> sourceNode)
   {
-    String path = "/";
+    ArtifactPath path = ArtifactPath.root();
     String name = readRequiredString(sourceNode, path, TEMPLATE, false);
 
     return readTemplateSchemaArtifact(sourceNode, path, name);
   }
 
+  /**
+   * Read a YAML specification of a template schema artifact from a YAML token stream
+   * <p></p>
+   * The specification is read in a single pass over the stream instead of first being loaded into a generic map by a
+   * YAML mapper. Only the entries that this reader uses are retained: the children entry is skipped at the token
+   * level, so the child fields and elements of large templates are never materialized. Errors are reported with the
+   * same messages and paths as {@link #readTemplateSchemaArtifact(LinkedHashMap)}.
+   */
+  public TemplateSchemaArtifact readTemplateSchemaArtifact(JsonParser parser) throws IOException
+  {
+    return readTemplateSchemaArtifact(readStreamedSourceNode(parser, ArtifactPath.root()));
+  }
+
+  public TemplateSchemaArtifact readTemplateSchemaArtifact(InputStream inputStream) throws IOException
+  {
+    try (JsonParser parser = yamlFactory.createParser(inputStream)) {
+      return readTemplateSchemaArtifact(parser);
+    }
+  }
+
+  public TemplateSchemaArtifact readTemplateSchemaArtifact(Reader reader) throws IOException
+  {
+    try (JsonParser parser = yamlFactory.createParser(reader)) {
+      return readTemplateSchemaArtifact(parser);
+    }
+  }
+
   /**
    * Read a YAML specification of an element schema artifact
    * <p></p>
@@ -201,7 +251,7 @@ public class YamlArtifactReader implements ArtifactReader<LinkedHashMap<String,
    */
   @Override public ElementSchemaArtifact readElementSchemaArtifact(LinkedHashMap<String, Object> sourceNode)
   {
-    String path = "/";
+    ArtifactPath path = ArtifactPath.root();
     String name = readRequiredString(sourceNode, path, ELEMENT, false);
     boolean isMultiple = readBoolean(sourceNode, path, MULTIPLE, false);
     Optional<Integer> minItems = readInteger(sourceNode, path, MIN_ITEMS);
@@ -211,6 +261,16 @@ public class YamlArtifactReader implements ArtifactReader<LinkedHashMap<String,
     return readElementSchemaArtifact(sourceNode, path, name, isMultiple, minItems, maxItems, propertyUri);
   }
 
+  /**
+   * Read a YAML specification of an element schema artifact from a YAML token stream
+   * <p></p>
+   * See {@link #readTemplateSchemaArtifact(JsonParser)}.
+   */
+  public ElementSchemaArtifact readElementSchemaArtifact(JsonParser parser) throws IOException
+  {
+    return readElementSchemaArtifact(readStreamedSourceNode(parser, ArtifactPath.root()));
+  }
+
   /**
    * Read a YAML specification of a field schema artifact
    * <p>
@@ -235,7 +295,7 @@ public class YamlArtifactReader implements ArtifactReader<LinkedHashMap<String,
    */
   @Override public FieldSchemaArtifact readFieldSchemaArtifact(LinkedHashMap<String, Object> sourceNode)
   {
-    String path = "/";
+    ArtifactPath path = ArtifactPath.root();
     String name = readRequiredString(sourceNode, path, NAME, false);
     boolean isMultiple = readBoolean(sourceNode, path, MULTIPLE, false);
     Optional<Integer> minItems = readInteger(sourceNode, path, MIN_ITEMS);
@@ -245,19 +305,29 @@ public class YamlArtifactReader implements ArtifactReader<LinkedHashMap<String,
     return readFieldSchemaArtifact(sourceNode, path, name, isMultiple, minItems, maxItems, propertyUri);
   }
 
+  /**
+   * Read a YAML specification of a field schema artifact from a YAML token stream
+   * <p></p>
+   * See {@link #readTemplateSchemaArtifact(JsonParser)}.
+   */
+  public FieldSchemaArtifact readFieldSchemaArtifact(JsonParser parser) throws IOException
+  {
+    return readFieldSchemaArtifact(readStreamedSourceNode(parser, ArtifactPath.root()));
+  }
+
   @Override public TemplateInstanceArtifact readTemplateInstanceArtifact(LinkedHashMap<String, Object> sourceNode)
   {
     return null; // TODO Read template instance artifacts
   }
 
-  private TemplateSchemaArtifact readTemplateSchemaArtifact(LinkedHashMap<String, Object> sourceNode, String path,
+  private TemplateSchemaArtifact readTemplateSchemaArtifact(LinkedHashMap<String, Object> sourceNode, ArtifactPath path,
     String name)
   {
     String internalName = name + " template";
     String internalDescription = name + " template generated from YAML";
 
     LinkedHashMap<String, URI> jsonLdContext = new LinkedHashMap<>(PARENT_SCHEMA_ARTIFACT_CONTEXT_PREFIX_MAPPINGS);
-    List<URI> jsonLdTypes = List.of(URI.create(TEMPLATE_SCHEMA_ARTIFACT_TYPE_IRI));
+    List<URI> jsonLdTypes = List.of(internUri(URI.create(TEMPLATE_SCHEMA_ARTIFACT_TYPE_IRI)));
     Optional<URI> jsonLdId = readUri(sourceNode, path, ID);
     Optional<URI> instanceJsonLdType = Optional.empty(); // TODO Read instance JSON-LD type
     String description = readString(sourceNode, path, DESCRIPTION, "");
@@ -283,13 +353,13 @@ public class YamlArtifactReader implements ArtifactReader<LinkedHashMap<String,
       fieldSchemas, elementSchemas, language, templateUi, annotations, internalName, internalDescription);
   }
 
-  private ElementSchemaArtifact readElementSchemaArtifact(LinkedHashMap<String, Object> sourceNode, String path,
+  private ElementSchemaArtifact readElementSchemaArtifact(LinkedHashMap<String, Object> sourceNode, ArtifactPath path,
     String name, boolean isMultiple, Optional<Integer> minItems, Optional<Integer> maxItems, Optional<URI> propertyUri)
   {
     String internalName = name + " element";
     String internalDescription = name + " element generated from YAML";
     LinkedHashMap<String, URI> jsonLdContext = new LinkedHashMap<>(PARENT_SCHEMA_ARTIFACT_CONTEXT_PREFIX_MAPPINGS);
-    List<URI> jsonLdTypes = List.of(URI.create(ELEMENT_SCHEMA_ARTIFACT_TYPE_IRI));
+    List<URI> jsonLdTypes = List.of(internUri(URI.create(ELEMENT_SCHEMA_ARTIFACT_TYPE_IRI)));
     Optional<URI> jsonLdId = readUri(sourceNode, path, ID);
     Optional<URI> instanceJsonLdType = Optional.empty(); // TODO Read instance JSON-LD type
     String description = readString(sourceNode, path, DESCRIPTION, "");
@@ -316,14 +386,14 @@ public class YamlArtifactReader implements ArtifactReader<LinkedHashMap<String,
       language, elementUi, annotations);
   }
 
-  private FieldSchemaArtifact readFieldSchemaArtifact(LinkedHashMap<String, Object> sourceNode, String path,
+  private FieldSchemaArtifact readFieldSchemaArtifact(LinkedHashMap<String, Object> sourceNode, ArtifactPath path,
     String name, boolean isMultiple, Optional<Integer> minItems, Optional<Integer> maxItems, Optional<URI> propertyUri)
   {
     String internalName = name + " field";
     String internalDescription = name + " field generated from YAML";
 
     LinkedHashMap<String, URI> jsonLdContext = new LinkedHashMap<>(FIELD_SCHEMA_ARTIFACT_CONTEXT_PREFIX_MAPPINGS);
-    List<URI> jsonLdTypes = List.of(URI.create(FIELD_SCHEMA_ARTIFACT_TYPE_IRI));
+    List<URI> jsonLdTypes = List.of(internUri(URI.create(FIELD_SCHEMA_ARTIFACT_TYPE_IRI)));
     Optional<URI> jsonLdId = readUri(sourceNode, path, ID);
     String description = readString(sourceNode, path, DESCRIPTION, "");
     Optional<String> identifier = readString(sourceNode, path, IDENTIFIER, true);
@@ -351,7 +421,7 @@ public class YamlArtifactReader implements ArtifactReader<LinkedHashMap<String,
       valueConstraints, annotations);
   }
 
-  private TemplateUi readTemplateUi(LinkedHashMap<String, Object> sourceNode, String path)
+  private TemplateUi readTemplateUi(LinkedHashMap<String, Object> sourceNode, ArtifactPath path)
   {
     List<String> order = readStringArray(sourceNode, path, ORDER);
     LinkedHashMap<String, String> propertyLabels = readString2StringMap(sourceNode, path, PROPERTY_LABELS);
@@ -362,7 +432,7 @@ public class YamlArtifactReader implements ArtifactReader<LinkedHashMap<String,
     return TemplateUi.create(order, propertyLabels, propertyDescriptions, header, footer);
   }
 
-  private ElementUi readElementUi(LinkedHashMap<String, Object> sourceNode, String path)
+  private ElementUi readElementUi(LinkedHashMap<String, Object> sourceNode, ArtifactPath path)
   {
     List<String> order = readStringArray(sourceNode, path, ORDER);
     LinkedHashMap<String, String> propertyLabels = readString2StringMap(sourceNode, path, PROPERTY_LABELS);
@@ -371,12 +441,12 @@ public class YamlArtifactReader implements ArtifactReader<LinkedHashMap<String,
     return ElementUi.create(order, propertyLabels, propertyDescriptions);
   }
 
-  private Optional<Annotations> readAnnotations(LinkedHashMap<String, Object> sourceNode, String path)
+  private Optional<Annotations> readAnnotations(LinkedHashMap<String, Object> sourceNode, ArtifactPath path)
   {
     return Optional.empty(); // TODO Implement readAnnotations in YAML reader
   }
 
-  private FieldUi readFieldUi(LinkedHashMap<String, Object> sourceNode, String path)
+  private FieldUi readFieldUi(LinkedHashMap<String, Object> sourceNode, ArtifactPath path)
   {
     FieldInputType fieldInputType = readFieldInputType(sourceNode, path, TYPE);
     boolean valueRecommendationEnabled = readBoolean(sourceNode, path, VALUE_RECOMMENDATION, false);
@@ -402,10 +472,10 @@ public class YamlArtifactReader implements ArtifactReader<LinkedHashMap<String,
       return FieldUi.create(fieldInputType, hidden, continuePreviousLine, valueRecommendationEnabled);
   }
 
-  private Optional<ValueConstraints> readValueConstraints(LinkedHashMap<String, Object> sourceNode, String path,
+  private Optional<ValueConstraints> readValueConstraints(LinkedHashMap<String, Object> sourceNode, ArtifactPath path,
     String fieldName, FieldInputType fieldInputType)
   {
-    String vcPath = path + "/" + fieldName;
+    ArtifactPath vcPath = path.child(fieldName);
     LinkedHashMap<String, Object> vcNode = readChildNode(sourceNode, path, fieldName);
 
     if (vcNode != null) {
@@ -467,7 +537,7 @@ public class YamlArtifactReader implements ArtifactReader<LinkedHashMap<String,
       return Optional.empty();
   }
 
-  private String readRequiredString(LinkedHashMap<String, Object> sourceNode, String path, String fieldName,
+  private String readRequiredString(LinkedHashMap<String, Object> sourceNode, ArtifactPath path, String fieldName,
     boolean allowEmpty)
   {
     if (!sourceNode.containsKey(fieldName))
@@ -489,7 +559,7 @@ public class YamlArtifactReader implements ArtifactReader<LinkedHashMap<String,
     return value;
   }
 
-  private String readString(LinkedHashMap<String, Object> sourceNode, String path, String fieldName,
+  private String readString(LinkedHashMap<String, Object> sourceNode, ArtifactPath path, String fieldName,
     String defaultValue)
   {
     Optional<String> optionalString = readString(sourceNode, path, fieldName, true);
@@ -497,12 +567,12 @@ public class YamlArtifactReader implements ArtifactReader<LinkedHashMap<String,
     return optionalString.orElse(defaultValue);
   }
 
-  private Optional<String> readString(LinkedHashMap<String, Object> sourceNode, String path, String fieldName)
+  private Optional<String> readString(LinkedHashMap<String, Object> sourceNode, ArtifactPath path, String fieldName)
   {
     return readString(sourceNode, path, fieldName, true);
   }
 
-  private Optional<String> readString(LinkedHashMap<String, Object> sourceNode, String path, String fieldName,
+  private Optional<String> readString(LinkedHashMap<String, Object> sourceNode, ArtifactPath path, String fieldName,
     boolean allowEmpty)
   {
     if (!sourceNode.containsKey(fieldName))
@@ -524,7 +594,7 @@ public class YamlArtifactReader implements ArtifactReader<LinkedHashMap<String,
     return Optional.of(value);
   }
 
-  private Optional<Integer> readInteger(LinkedHashMap<String, Object> sourceNode, String path, String fieldName)
+  private Optional<Integer> readInteger(LinkedHashMap<String, Object> sourceNode, ArtifactPath path, String fieldName)
   {
     Object rawValue = sourceNode.get(fieldName);
 
@@ -537,7 +607,7 @@ public class YamlArtifactReader implements ArtifactReader<LinkedHashMap<String,
     return Optional.of((Integer)rawValue);
   }
 
-  private Optional<Number> readNumber(LinkedHashMap<String, Object> sourceNode, String path, String fieldName)
+  private Optional<Number> readNumber(LinkedHashMap<String, Object> sourceNode, ArtifactPath path, String fieldName)
   {
     Object rawValue = sourceNode.get(fieldName);
 
@@ -550,7 +620,7 @@ public class YamlArtifactReader implements ArtifactReader<LinkedHashMap<String,
     return Optional.of((Number)rawValue);
   }
 
-  private boolean readBoolean(LinkedHashMap<String, Object> sourceNode, String path, String fieldName,
+  private boolean readBoolean(LinkedHashMap<String, Object> sourceNode, ArtifactPath path, String fieldName,
     boolean defaultValue)
   {
     if (!sourceNode.containsKey(fieldName))
@@ -567,7 +637,7 @@ public class YamlArtifactReader implements ArtifactReader<LinkedHashMap<String,
     return (Boolean)rawValue;
   }
 
-  private Optional<Boolean> readBoolean(LinkedHashMap<String, Object> sourceNode, String path, String fieldName)
+  private Optional<Boolean> readBoolean(LinkedHashMap<String, Object> sourceNode, ArtifactPath path, String fieldName)
   {
     if (!sourceNode.containsKey(fieldName))
       return Optional.empty();
@@ -583,7 +653,7 @@ public class YamlArtifactReader implements ArtifactReader<LinkedHashMap<String,
     return Optional.of((Boolean)rawValue);
   }
 
-  private List<String> readStringArray(LinkedHashMap<String, Object> sourceNode, String path, String fieldName)
+  private List<String> readStringArray(LinkedHashMap<String, Object> sourceNode, ArtifactPath path, String fieldName)
   {
     Object rawValue = sourceNode.get(fieldName);
     List<String> stringValues = new ArrayList<>();
@@ -609,7 +679,7 @@ public class YamlArtifactReader implements ArtifactReader<LinkedHashMap<String,
     return stringValues;
   }
 
-  private TemporalGranularity readTemporalGranularity(LinkedHashMap<String, Object> sourceNode, String path,
+  private TemporalGranularity readTemporalGranularity(LinkedHashMap<String, Object> sourceNode, ArtifactPath path,
     String fieldName)
   {
     String granularityString = readRequiredString(sourceNode, path, fieldName, false);
@@ -620,7 +690,7 @@ public class YamlArtifactReader implements ArtifactReader<LinkedHashMap<String,
     return TemporalGranularity.fromString(granularityString);
   }
 
-  private Optional<InputTimeFormat> readInputTimeFormat(LinkedHashMap<String, Object> sourceNode, String path,
+  private Optional<InputTimeFormat> readInputTimeFormat(LinkedHashMap<String, Object> sourceNode, ArtifactPath path,
     String fieldName)
   {
     Optional<String> inputTimeFormatString = readString(sourceNode, path, fieldName);
@@ -634,7 +704,7 @@ public class YamlArtifactReader implements ArtifactReader<LinkedHashMap<String,
     return Optional.of(InputTimeFormat.fromString(inputTimeFormatString.get()));
   }
 
-  private FieldInputType readFieldInputType(LinkedHashMap<String, Object> sourceNode, String path, String fieldName)
+  private FieldInputType readFieldInputType(LinkedHashMap<String, Object> sourceNode, ArtifactPath path, String fieldName)
   {
     String inputTypeString = readRequiredString(sourceNode, path, fieldName, false);
 
@@ -644,7 +714,7 @@ public class YamlArtifactReader implements ArtifactReader<LinkedHashMap<String,
     return FieldInputType.fromString(inputTypeString);
   }
 
-  private Optional<Version> readVersion(LinkedHashMap<String, Object> sourceNode, String path, String fieldName)
+  private Optional<Version> readVersion(LinkedHashMap<String, Object> sourceNode, ArtifactPath path, String fieldName)
   {
     Optional<String> versionString = readString(sourceNode, path, fieldName, false);
 
@@ -657,7 +727,7 @@ public class YamlArtifactReader implements ArtifactReader<LinkedHashMap<String,
       throw new ArtifactParseException("Invalid version " + versionString.get(), fieldName, path);
   }
 
-  private Version readRequiredVersion(LinkedHashMap<String, Object> sourceNode, String path, String fieldName)
+  private Version readRequiredVersion(LinkedHashMap<String, Object> sourceNode, ArtifactPath path, String fieldName)
   {
     String versionString = readRequiredString(sourceNode, path, fieldName, false);
 
@@ -667,7 +737,7 @@ public class YamlArtifactReader implements ArtifactReader<LinkedHashMap<String,
       throw new ArtifactParseException("Invalid version " + versionString, fieldName, path);
   }
 
-  private Optional<XsdNumericDatatype> readNumberType(LinkedHashMap<String, Object> sourceNode, String path,
+  private Optional<XsdNumericDatatype> readNumberType(LinkedHashMap<String, Object> sourceNode, ArtifactPath path,
     String fieldName)
   {
     Optional<String> numberTypeValue = readString(sourceNode, path, fieldName);
@@ -678,7 +748,7 @@ public class YamlArtifactReader implements ArtifactReader<LinkedHashMap<String,
       return Optional.empty();
   }
 
-  private Optional<XsdTemporalDatatype> readTemporalType(LinkedHashMap<String, Object> sourceNode, String path,
+  private Optional<XsdTemporalDatatype> readTemporalType(LinkedHashMap<String, Object> sourceNode, ArtifactPath path,
     String fieldName)
   {
     Optional<String> temporalTypeValue = readString(sourceNode, path, fieldName);
@@ -689,7 +759,7 @@ public class YamlArtifactReader implements ArtifactReader<LinkedHashMap<String,
       return Optional.empty();
   }
 
-  private Status readRequiredStatus(LinkedHashMap<String, Object> sourceNode, String path, String fieldName)
+  private Status readRequiredStatus(LinkedHashMap<String, Object> sourceNode, ArtifactPath path, String fieldName)
   {
     String statusString = readRequiredString(sourceNode, path, fieldName, false);
 
@@ -699,7 +769,7 @@ public class YamlArtifactReader implements ArtifactReader<LinkedHashMap<String,
       throw new ArtifactParseException("Invalid status " + statusString, fieldName, path);
   }
 
-  private Optional<Status> readStatus(LinkedHashMap<String, Object> sourceNode, String path, String fieldName)
+  private Optional<Status> readStatus(LinkedHashMap<String, Object> sourceNode, ArtifactPath path, String fieldName)
   {
     Optional<String> statusString = readString(sourceNode, path, fieldName, false);
 
@@ -712,7 +782,7 @@ public class YamlArtifactReader implements ArtifactReader<LinkedHashMap<String,
       throw new ArtifactParseException("Invalid status " + statusString.get(), fieldName, path);
   }
 
-  private Optional<XsdDatatype> readXsdDatatype(LinkedHashMap<String, Object> sourceNode, String path, String fieldName)
+  private Optional<XsdDatatype> readXsdDatatype(LinkedHashMap<String, Object> sourceNode, ArtifactPath path, String fieldName)
   {
     Optional<String> xsdDatatypeString = readString(sourceNode, path, fieldName, false);
 
@@ -725,18 +795,18 @@ public class YamlArtifactReader implements ArtifactReader<LinkedHashMap<String,
       throw new ArtifactParseException("Invalid status " + xsdDatatypeString.get(), fieldName, path);
   }
 
-  private URI readRequiredUri(LinkedHashMap<String, Object> sourceNode, String path, String fieldName)
+  private URI readRequiredUri(LinkedHashMap<String, Object> sourceNode, ArtifactPath path, String fieldName)
   {
     String uriString = readRequiredString(sourceNode, path, fieldName, false);
 
     try {
-      return new URI(uriString);
+      return createUri(uriString);
     } catch (Exception e) {
       throw new ArtifactParseException("Invalid URI " + uriString, fieldName, path);
     }
   }
 
-  private Optional<URI> readUri(LinkedHashMap<String, Object> sourceNode, String path, String fieldName)
+  private Optional<URI> readUri(LinkedHashMap<String, Object> sourceNode, ArtifactPath path, String fieldName)
   {
     Optional<String> uriString = readString(sourceNode, path, fieldName, false);
 
@@ -744,13 +814,26 @@ public class YamlArtifactReader implements ArtifactReader<LinkedHashMap<String,
       return Optional.empty();
 
     try {
-      return Optional.of(new URI(uriString.get()));
+      return Optional.of(createUri(uriString.get()));
     } catch (Exception e) {
       throw new ArtifactParseException("Invalid URI " + uriString.get(), fieldName, path);
     }
   }
 
-  private Optional<OffsetDateTime> readOffsetDatetime(LinkedHashMap<String, Object> sourceNode, String path,
+  private URI createUri(String uriString) throws URISyntaxException
+  {
+    if (interningPool.isPresent())
+      return interningPool.get().internUri(uriString);
+    else
+      return new URI(uriString);
+  }
+
+  private URI internUri(URI uri)
+  {
+    return interningPool.isPresent() ? interningPool.get().internUri(uri) : uri;
+  }
+
+  private Optional<OffsetDateTime> readOffsetDatetime(LinkedHashMap<String, Object> sourceNode, ArtifactPath path,
     String fieldName)
   {
     Optional<String> dateTimeValue = readString(sourceNode, path, fieldName, false);
@@ -766,61 +849,120 @@ public class YamlArtifactReader implements ArtifactReader<LinkedHashMap<String,
     }
   }
 
-  private Optional<DefaultValue> readDefaultValue(LinkedHashMap<String, Object> sourceNode, String path,
+  private Optional<DefaultValue> readDefaultValue(LinkedHashMap<String, Object> sourceNode, ArtifactPath path,
     String fieldName)
   {
     return Optional.empty(); // TODO Implement read default value
   }
 
   private List<OntologyValueConstraint> readOntologyValueConstraints(LinkedHashMap<String, Object> sourceNode,
-    String path, String fieldName)
+    ArtifactPath path, String fieldName)
   {
     return Collections.emptyList(); // TODO Implement read ontology value constraints
   }
 
-  private List<ClassValueConstraint> readClassValueConstraints(LinkedHashMap<String, Object> sourceNode, String path,
+  private List<ClassValueConstraint> readClassValueConstraints(LinkedHashMap<String, Object> sourceNode, ArtifactPath path,
     String fieldName)
   {
     return Collections.emptyList(); // TODO Implement read class value constraints
   }
 
   private List<ValueSetValueConstraint> readValueSetValueConstraints(LinkedHashMap<String, Object> sourceNode,
-    String path, String fieldName)
+    ArtifactPath path, String fieldName)
   {
     return Collections.emptyList(); // TODO Implement read value set value constraints
   }
 
-  private List<BranchValueConstraint> readBranchValueConstraints(LinkedHashMap<String, Object> sourceNode, String path,
+  private List<BranchValueConstraint> readBranchValueConstraints(LinkedHashMap<String, Object> sourceNode, ArtifactPath path,
     String fieldName)
   {
     return Collections.emptyList(); // TODO Implement read branch value constraints
   }
 
   private List<LiteralValueConstraint> readLiteralValueConstraints(LinkedHashMap<String, Object> sourceNode,
-    String path, String fieldName)
+    ArtifactPath path, String fieldName)
   {
     return Collections.emptyList(); // TODO Implement read literal value constraints
   }
 
   private List<ControlledTermValueConstraintsAction> readValueConstraintsActions(
-    LinkedHashMap<String, Object> sourceNode, String path, String fieldName)
+    LinkedHashMap<String, Object> sourceNode, ArtifactPath path, String fieldName)
   {
     return Collections.emptyList(); // TODO Implement read actions value constraints
   }
 
-  private LinkedHashMap<String, String> readString2StringMap(LinkedHashMap<String, Object> sourceNode, String path,
+  private LinkedHashMap<String, String> readString2StringMap(LinkedHashMap<String, Object> sourceNode, ArtifactPath path,
     String fieldName)
   {
     return new LinkedHashMap<>(); // TODO Implement readString2StringMap
   }
 
-  private LinkedHashMap<String, Object> readChildNode(LinkedHashMap<String, Object> parentNode, String path,
+  private LinkedHashMap<String, Object> readChildNode(LinkedHashMap<String, Object> parentNode, ArtifactPath path,
     String fieldName)
   {
     return new LinkedHashMap<>(); // TODO Implement read child node
   }
 
-  private void checkSchemaArtifactModelVersion(LinkedHashMap<String, Object> sourceNode, String path)
+  /**
+   * Read the mapping at the current position of a YAML token stream into the same map that a generic YAML mapper would
+   * produce, except that the value of the children entry is skipped
+   */
+  private LinkedHashMap<String, Object> readStreamedSourceNode(JsonParser parser, ArtifactPath path) throws IOException
+  {
+    JsonToken token = parser.currentToken() == null ? parser.nextToken() : parser.currentToken();
+
+    if (token != JsonToken.START_OBJECT)
+      throw new ArtifactParseException("Expecting YAML mapping, got " + token, "", path);
+
+    LinkedHashMap<String, Object> sourceNode = new LinkedHashMap<>();
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = parser.getCurrentName();
+      JsonToken valueToken = parser.nextToken();
+
+      if (fieldName.equals(CHILDREN) && valueToken.isStructStart())
+        parser.skipChildren();
+      else
+        sourceNode.put(fieldName, readStreamedValue(parser, path, fieldName));
+    }
+    return sourceNode;
+  }
+
+  private Object readStreamedValue(JsonParser parser, ArtifactPath path, String fieldName) throws IOException
+  {
+    switch (parser.currentToken()) {
+    case START_OBJECT:
+      LinkedHashMap<String, Object> mapValue = new LinkedHashMap<>();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String key = parser.getCurrentName();
+        parser.nextToken();
+        mapValue.put(key, readStreamedValue(parser, path, fieldName));
+      }
+      return mapValue;
+    case START_ARRAY:
+      List<Object> listValue = new ArrayList<>();
+      while (parser.nextToken() != JsonToken.END_ARRAY)
+        listValue.add(readStreamedValue(parser, path, fieldName));
+      return listValue;
+    case VALUE_STRING:
+      return parser.getText();
+    case VALUE_NUMBER_INT:
+    case VALUE_NUMBER_FLOAT:
+      return parser.getNumberValue();
+    case VALUE_TRUE:
+      return Boolean.TRUE;
+    case VALUE_FALSE:
+      return Boolean.FALSE;
+    case VALUE_NULL:
+      return null;
+    case VALUE_EMBEDDED_OBJECT:
+      return parser.getEmbeddedObject();
+    default:
+      throw new ArtifactParseException("Unexpected YAML token " + parser.currentToken(), fieldName, path);
+    }
+  }
+
+  private void checkSchemaArtifactModelVersion(LinkedHashMap<String, Object> sourceNode, ArtifactPath path)
   {
     Version artifactModelVersion = readRequiredVersion(sourceNode, path, MODEL_VERSION);
 
@@ -18,6 +18,8 @@ import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.util.CellRangeAddressList;
 import org.apache.poi.ss.util.WorkbookUtil;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.metadatacenter.artifacts.model.core.ElementSchemaArtifact;
 import org.metadatacenter.artifacts.model.core.FieldSchemaArtifact;
 import org.metadatacenter.artifacts.model.core.TemplateSchemaArtifact;
@@ -40,16 +42,13 @@ import org.metadatacenter.artifacts.model.core.fields.constraints.ValueConstrain
 import org.metadatacenter.artifacts.model.core.ui.FieldUi;
 import org.metadatacenter.artifacts.model.core.ui.TemporalFieldUi;
 import org.metadatacenter.artifacts.ss.SpreadsheetFactory;
-import org.metadatacenter.artifacts.util.ConnectionUtil;
 import org.metadatacenter.artifacts.util.TerminologyServerClient;
 import org.metadatacenter.model.ModelNodeNames;
 
-import java.io.IOException;
-import java.io.OutputStream;
-import java.net.HttpURLConnection;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -61,6 +60,8 @@ import static org.metadatacenter.artifacts.ss.SpreadSheetUtil.setCellComment;
 public class ExcelArtifactRenderer
 {
   private final TerminologyServerClient terminologyServerClient;
+  private final int maximumConcurrentTerminologyRequests;
+  private final Map<ControlledTermValueConstraints, Map<String, String>> prefetchedValues = new HashMap<>();
   private final Workbook workbook;
   private final ObjectMapper mapper;
   private final ObjectWriter objectWriter;
@@ -77,9 +78,39 @@ public class ExcelArtifactRenderer
 
   public ExcelArtifactRenderer(TerminologyServerClient terminologyServerClient)
   {
+    this(terminologyServerClient, TerminologyServerClient.DEFAULT_MAXIMUM_CONCURRENT_SEARCH_REQUESTS);
+  }
+
+  /**
+   * The values of all controlled term fields in a template are looked up before the workbook is rendered, with at
+   * most maximumConcurrentTerminologyRequests lookups in flight
+   */
+  public ExcelArtifactRenderer(TerminologyServerClient terminologyServerClient,
+    int maximumConcurrentTerminologyRequests)
+  {
+    this(terminologyServerClient, maximumConcurrentTerminologyRequests, SpreadsheetFactory.createEmptyWorkbook());
+  }
+
+  /**
+   * Render into an empty workbook supplied by the caller, such as a streaming workbook created by
+   * {@link SpreadsheetFactory#createEmptyStreamingWorkbook(int)}
+   * <p></p>
+   * A streaming workbook keeps only a window of rows of each sheet in memory, so value sheets for large value sets
+   * are written without holding every row. The header and first data row of the template sheet are written
+   * together, so the window must hold at least two rows.
+   */
+  public ExcelArtifactRenderer(TerminologyServerClient terminologyServerClient,
+    int maximumConcurrentTerminologyRequests, Workbook workbook)
+  {
+    if (workbook instanceof SXSSFWorkbook streamingWorkbook && streamingWorkbook.getRandomAccessWindowSize() >= 0
+      && streamingWorkbook.getRandomAccessWindowSize() < SpreadsheetFactory.MINIMUM_ROW_ACCESS_WINDOW_SIZE)
+      throw new IllegalArgumentException("Streaming workbook row access window must hold at least two rows, got "
+        + streamingWorkbook.getRandomAccessWindowSize());
+
     this.terminologyServerClient = terminologyServerClient;
+    this.maximumConcurrentTerminologyRequests = maximumConcurrentTerminologyRequests;
 
-    this.workbook = SpreadsheetFactory.createEmptyWorkbook();
+    this.workbook = workbook;
 
     this.mapper = new ObjectMapper();
     mapper.registerModule(new Jdk8Module());
@@ -98,12 +129,18 @@ public class ExcelArtifactRenderer
     Row headerRow = sheet.createRow(headerRowNumber);
     Row firstDataRow = sheet.createRow(headerRowNumber + 1);
 
-    for (String fieldName : templateSchemaArtifact.getFieldKeys()) {
-      FieldSchemaArtifact fieldSchemaArtifact = templateSchemaArtifact.getFieldSchemaArtifact(fieldName);
+    prefetchPossibleValues(templateSchemaArtifact);
 
-      render(fieldSchemaArtifact, sheet, columnIndex, headerRow, firstDataRow);
+    try {
+      for (String fieldName : templateSchemaArtifact.getFieldKeys()) {
+        FieldSchemaArtifact fieldSchemaArtifact = templateSchemaArtifact.getFieldSchemaArtifact(fieldName);
 
-      columnIndex += 1;
+        render(fieldSchemaArtifact, sheet, columnIndex, headerRow, firstDataRow);
+
+        columnIndex += 1;
+      }
+    } finally {
+      prefetchedValues.clear(); // Prefetched values are only kept for the template being rendered
     }
 
     addMetadataSheet(templateSchemaArtifact);
@@ -116,6 +153,25 @@ public class ExcelArtifactRenderer
     throw new RuntimeException("element rendering not implemented");
   }
 
+  // Look up the values of every controlled term field concurrently so rendering does not wait on each in turn
+  private void prefetchPossibleValues(TemplateSchemaArtifact templateSchemaArtifact)
+  {
+    List<ControlledTermValueConstraints> controlledTermValueConstraints = new ArrayList<>();
+
+    for (String fieldName : templateSchemaArtifact.getFieldKeys()) {
+      FieldSchemaArtifact fieldSchemaArtifact = templateSchemaArtifact.getFieldSchemaArtifact(fieldName);
+
+      if (fieldSchemaArtifact.valueConstraints().isPresent()
+        && fieldSchemaArtifact.valueConstraints().get() instanceof ControlledTermValueConstraints fieldValueConstraints
+        && fieldValueConstraints.hasExplicitConstraints())
+        controlledTermValueConstraints.add(fieldValueConstraints);
+    }
+
+    prefetchedValues.clear();
+    prefetchedValues.putAll(terminologyServerClient.getValuesFromTerminologyServer(controlledTermValueConstraints,
+      maximumConcurrentTerminologyRequests));
+  }
+
   private Workbook render(FieldSchemaArtifact fieldSchemaArtifact, Sheet sheet, int columnIndex, Row headerRow, Row firstDataRow)
   {
     String fieldName = fieldSchemaArtifact.name();
@@ -141,7 +197,7 @@ public class ExcelArtifactRenderer
     setCellComment(columnNameHeaderCell, fieldDescription);
 
     sheet.setDefaultColumnStyle(columnIndex, cellStyle);
-    sheet.autoSizeColumn(columnIndex);
+    autoSizeColumn(sheet, columnIndex);
 
     setColumnDataValidationConstraintIfRequired(fieldSchemaArtifact, sheet, columnIndex, rowIndex);
 
@@ -449,7 +505,9 @@ public class ExcelArtifactRenderer
         ControlledTermValueConstraints controlledTermValueConstraints = (ControlledTermValueConstraints)valueConstraints.get();
 
         if (controlledTermValueConstraints.hasExplicitConstraints()) {
-          Map<String, String> ontologyBasedValues = terminologyServerClient.getValuesFromTerminologyServer(controlledTermValueConstraints);
+          Map<String, String> ontologyBasedValues = prefetchedValues.containsKey(controlledTermValueConstraints) ?
+            prefetchedValues.get(controlledTermValueConstraints) :
+            terminologyServerClient.getValuesFromTerminologyServer(controlledTermValueConstraints);
           possibleValues.putAll(ontologyBasedValues);
         }
       }
@@ -646,39 +704,6 @@ public class ExcelArtifactRenderer
       return headerCellStyle;
     }
 
-  private Map<String, Object> integratedSearch(Map<String, Object> valueConstraints,
-    Integer page, Integer pageSize, String integratedSearchEndpoint, String apiKey) throws IOException, RuntimeException
-  {
-    HttpURLConnection connection = null;
-    Map<String, Object> resultsMap;
-    try {
-      Map<String, Object> vcMap = new HashMap<>();
-      vcMap.put("valueConstraints", valueConstraints);
-      Map<String, Object> payloadMap = new HashMap<>();
-      payloadMap.put("parameterObject", vcMap);
-      payloadMap.put("page", page);
-      payloadMap.put("pageSize", pageSize);
-      String payload = mapper.writeValueAsString(payloadMap);
-      connection = ConnectionUtil.createAndOpenConnection("POST", integratedSearchEndpoint, apiKey);
-      OutputStream os = connection.getOutputStream();
-      os.write(payload.getBytes());
-      os.flush();
-      int responseCode = connection.getResponseCode();
-      if (responseCode >= HttpURLConnection.HTTP_BAD_REQUEST) {
-        String message = "Error running integrated search. Response code: " + responseCode + "; Payload: " + payload;
-        throw new RuntimeException(message);
-      } else {
-        String response = ConnectionUtil.readResponseMessage(connection.getInputStream());
-        resultsMap = mapper.readValue(response, HashMap.class);
-      }
-    } finally {
-      if (connection != null) {
-        connection.disconnect();
-      }
-    }
-    return resultsMap;
-  }
-
   private void addMetadataSheet(TemplateSchemaArtifact templateSchemaArtifact)
   {
     if (workbook.getSheetIndex(metadataSheetName) != -1)
@@ -715,10 +740,19 @@ public class ExcelArtifactRenderer
     } else
       throw new RuntimeException("template " + templateSchemaArtifact.name() + " has no field " + ModelNodeNames.JSON_LD_ID);
 
-    metadataSheet.autoSizeColumn(0);
-    metadataSheet.autoSizeColumn(1);
-    metadataSheet.autoSizeColumn(2);
-    metadataSheet.autoSizeColumn(3);
+    autoSizeColumn(metadataSheet, 0);
+    autoSizeColumn(metadataSheet, 1);
+    autoSizeColumn(metadataSheet, 2);
+    autoSizeColumn(metadataSheet, 3);
+  }
+
+  // Streaming sheets only size columns they have been asked to track; the rows still in memory are measured
+  private void autoSizeColumn(Sheet sheet, int columnIndex)
+  {
+    if (sheet instanceof SXSSFSheet streamingSheet)
+      streamingSheet.trackColumnForAutoSizing(columnIndex);
+
+    sheet.autoSizeColumn(columnIndex);
   }
 
   private Sheet createSheet(Workbook workbook, String proposedSheetName)
@@ -0,0 +1,147 @@
+package org.metadatacenter.artifacts.model.renderer;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.metadatacenter.artifacts.model.core.ChildSchemaArtifact;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of the JSON Schema renderings of field and element schema artifacts that can be shared by
+ * {@link JsonArtifactRenderer}s.
+ * <p></p>
+ * The same fields and elements are frequently reused by many templates. Renderings are keyed by artifact content, so
+ * equal artifacts read from different templates share a single cached rendering. Cached renderings are never exposed
+ * directly: renderers return a copy of a cached rendering, or only read it when writing to a generator. The cache is
+ * safe for concurrent use.
+ * <p></p>
+ * Hashing an element schema artifact hashes its entire subtree. A lookup therefore hashes an artifact once, uses the
+ * same hash to add a new rendering, and cached artifacts are also indexed by identity so that rendering the same
+ * artifact instances again does not hash them at all.
+ * <p></p>
+ * Once the cache holds its maximum number of renderings, further renderings are not cached.
+ */
+public final class JsonArtifactRenderCache
+{
+  public static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+
+  private final int maximumSize;
+  private final AtomicInteger size = new AtomicInteger();
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final ConcurrentHashMap<ArtifactKey, ObjectNode> renderings = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<IdentityKey, ObjectNode> renderingsByIdentity = new ConcurrentHashMap<>();
+
+  public JsonArtifactRenderCache()
+  {
+    this(DEFAULT_MAXIMUM_SIZE);
+  }
+
+  public JsonArtifactRenderCache(int maximumSize)
+  {
+    if (maximumSize < 0)
+      throw new IllegalArgumentException("Maximum size of render cache must not be negative, got " + maximumSize);
+
+    this.maximumSize = maximumSize;
+  }
+
+  public long hits()
+  {
+    return hits.get();
+  }
+
+  public long misses()
+  {
+    return misses.get();
+  }
+
+  public int size()
+  {
+    return size.get();
+  }
+
+  public int maximumSize()
+  {
+    return maximumSize;
+  }
+
+  public void clear()
+  {
+    renderings.clear();
+    renderingsByIdentity.clear();
+    size.set(0);
+  }
+
+  /**
+   * Return the cached rendering of an artifact, counting a hit if present. Otherwise count a miss, render the artifact
+   * with the supplied renderer, and cache the new rendering if the cache is not full. The renderer is not called while
+   * any lock is held, so it may itself use the cache. The returned rendering must not be modified.
+   */
+  ObjectNode getOrRender(ChildSchemaArtifact childSchemaArtifact, Function<ChildSchemaArtifact, ObjectNode> renderer)
+  {
+    ObjectNode rendering = renderingsByIdentity.get(new IdentityKey(childSchemaArtifact));
+
+    if (rendering != null) {
+      hits.incrementAndGet();
+      return rendering;
+    }
+
+    ArtifactKey artifactKey = new ArtifactKey(childSchemaArtifact, childSchemaArtifact.hashCode());
+
+    rendering = renderings.get(artifactKey);
+
+    if (rendering != null) {
+      hits.incrementAndGet();
+      return rendering;
+    }
+
+    misses.incrementAndGet();
+
+    rendering = renderer.apply(childSchemaArtifact);
+
+    if (size.incrementAndGet() > maximumSize || renderings.putIfAbsent(artifactKey, rendering) != null)
+      size.decrementAndGet();
+    else
+      renderingsByIdentity.put(new IdentityKey(childSchemaArtifact), rendering);
+
+    return rendering;
+  }
+
+  /**
+   * An artifact with its hash computed once
+   */
+  private record ArtifactKey(ChildSchemaArtifact artifact, int hash)
+  {
+    @Override public boolean equals(Object o)
+    {
+      if (this == o)
+        return true;
+      if (!(o instanceof ArtifactKey other) || hash != other.hash)
+        return false;
+      return artifact == other.artifact || artifact.equals(other.artifact);
+    }
+
+    @Override public int hashCode()
+    {
+      return hash;
+    }
+  }
+
+  /**
+   * An artifact compared by identity
+   */
+  private record IdentityKey(ChildSchemaArtifact artifact)
+  {
+    @Override public boolean equals(Object o)
+    {
+      return o instanceof IdentityKey other && artifact == other.artifact;
+    }
+
+    @Override public int hashCode()
+    {
+      return System.identityHashCode(artifact);
+    }
+  }
+}
@@ -1,6 +1,8 @@
 package org.metadatacenter.artifacts.model.renderer;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -13,6 +15,7 @@ import org.metadatacenter.artifacts.model.core.FieldInstanceArtifact;
 import org.metadatacenter.artifacts.model.core.FieldSchemaArtifact;
 import org.metadatacenter.artifacts.model.core.IriAnnotationValue;
 import org.metadatacenter.artifacts.model.core.IriFieldInstance;
+import org.metadatacenter.artifacts.model.core.JsonArtifactFormat;
 import org.metadatacenter.artifacts.model.core.JsonLdArtifact;
 import org.metadatacenter.artifacts.model.core.LiteralAnnotationValue;
 import org.metadatacenter.artifacts.model.core.LiteralFieldInstance;
@@ -25,14 +28,19 @@ import org.metadatacenter.artifacts.model.core.Version;
 import org.metadatacenter.artifacts.model.core.fields.XsdDatatype;
 import org.metadatacenter.artifacts.model.core.fields.constraints.ValueConstraints;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
 import static org.metadatacenter.model.ModelNodeNames.ANNOTATIONS;
 import static org.metadatacenter.model.ModelNodeNames.BIBO_STATUS;
@@ -109,13 +117,66 @@ public class JsonArtifactRenderer implements ArtifactRenderer<ObjectNode>
   private final Version modelVersion = Version.fromString("1.6.0");
 
   private final URI jsonSchemaSchemaUri = URI.create(JSON_SCHEMA_SCHEMA_IRI);
+  private final Optional<JsonArtifactRenderCache> renderCache;
+
+  // Invariant fragments are rendered once per renderer and a copy is placed in each rendering that needs them
+  private final ObjectNode parentSchemaArtifactContextJsonLdSpecification;
+  private final ObjectNode fieldSchemaArtifactContextPrefixesJsonLdSpecification;
+  private final ObjectNode staticFieldSchemaArtifactContextPrefixesJsonLdSpecification;
+  private final ObjectNode templateInstanceArtifactContextJsonLdSpecification;
+  private final ArrayNode templateSchemaArtifactStandardRequiredJsonSchemaSpecification;
+  private final ObjectNode templateSchemaArtifactStandardPropertiesJsonSchemaSpecification;
+  private final ObjectNode templateSchemaArtifactContextStandardPropertiesJsonSchemaSpecification;
+  private final ArrayNode templateSchemaArtifactContextStandardRequiredJsonSchemaSpecification;
+  private final ObjectNode literalFieldArtifactPropertiesJsonSchemaSpecification;
+  private final ObjectNode iriFieldArtifactPropertiesJsonSchemaSpecification;
+  private final ObjectNode additionalPropertiesForAttributeValueFieldJsonSchemaSpecification;
+  private final ObjectNode additionalPropertiesForAttributeValueFieldContextPropertiesJsonSchemaSpecification;
 
   public JsonArtifactRenderer()
+  {
+    this(Optional.empty());
+  }
+
+  /**
+   * Create a renderer that reuses the renderings of field and element schema artifacts held by the supplied cache
+   * and adds new renderings to it
+   */
+  public JsonArtifactRenderer(JsonArtifactRenderCache renderCache)
+  {
+    this(Optional.of(renderCache));
+  }
+
+  private JsonArtifactRenderer(Optional<JsonArtifactRenderCache> renderCache)
   {
     this.mapper = new ObjectMapper();
     this.mapper.registerModule(new Jdk8Module());
     this.mapper.setSerializationInclusion(JsonInclude.Include.NON_ABSENT);
     this.datetimeFormatter = DateTimeFormatter.ofPattern(datetimeFormat);
+    this.renderCache = renderCache;
+
+    this.parentSchemaArtifactContextJsonLdSpecification = renderParentSchemaArtifactContextJsonLdSpecification();
+    this.fieldSchemaArtifactContextPrefixesJsonLdSpecification =
+      renderFieldSchemaArtifactContextPrefixesJsonLdSpecification();
+    this.staticFieldSchemaArtifactContextPrefixesJsonLdSpecification =
+      renderStaticFieldSchemaArtifactContextPrefixesJsonLdSpecification();
+    this.templateInstanceArtifactContextJsonLdSpecification =
+      renderTemplateInstanceArtifactContextJsonLdSpecification();
+    this.templateSchemaArtifactStandardRequiredJsonSchemaSpecification =
+      renderTemplateSchemaArtifactStandardRequiredJsonSchemaSpecification();
+    this.templateSchemaArtifactStandardPropertiesJsonSchemaSpecification =
+      renderTemplateSchemaArtifactStandardPropertiesJsonSchemaSpecification();
+    this.templateSchemaArtifactContextStandardPropertiesJsonSchemaSpecification =
+      renderTemplateSchemaArtifactContextStandardPropertiesJsonSchemaSpecification();
+    this.templateSchemaArtifactContextStandardRequiredJsonSchemaSpecification =
+      renderTemplateSchemaArtifactContextStandardRequiredJsonSchemaSpecification();
+    this.literalFieldArtifactPropertiesJsonSchemaSpecification =
+      renderLiteralFieldArtifactPropertiesJsonSchemaSpecification();
+    this.iriFieldArtifactPropertiesJsonSchemaSpecification = renderIRIFieldArtifactPropertiesJsonSchemaSpecification();
+    this.additionalPropertiesForAttributeValueFieldJsonSchemaSpecification =
+      renderAdditionalPropertiesForAttributeValueFieldJsonSchemaSpecification();
+    this.additionalPropertiesForAttributeValueFieldContextPropertiesJsonSchemaSpecification =
+      renderAdditionalPropertiesForAttributeValueFieldContextPropertiesJsonSchemaSpecification();
   }
 
   /**
@@ -147,6 +208,43 @@ public class JsonArtifactRenderer implements ArtifactRenderer<ObjectNode>
    * </pre>
    */
   public ObjectNode renderTemplateSchemaArtifact(TemplateSchemaArtifact templateSchemaArtifact)
+  {
+    return renderTemplateSchemaArtifact(templateSchemaArtifact, this::renderElementSchemaArtifact);
+  }
+
+  /**
+   * Write the JSON Schema specification for a template schema artifact directly to a generator. The output is
+   * identical to serializing the result of {@link #renderTemplateSchemaArtifact(TemplateSchemaArtifact)} with the
+   * same generator, but nested element schema artifacts are rendered and written one at a time, so the complete
+   * specification is never held in memory.
+   */
+  public void renderTemplateSchemaArtifact(TemplateSchemaArtifact templateSchemaArtifact, JsonGenerator generator)
+    throws IOException
+  {
+    DeferredRenderings deferredRenderings = new DeferredRenderings();
+
+    ObjectNode rendering = renderTemplateSchemaArtifact(templateSchemaArtifact, childElementSchemaArtifact ->
+      deferredRenderings.defer(
+        childGenerator -> renderElementSchemaArtifact(childElementSchemaArtifact, childGenerator)));
+
+    writeRendering(rendering, deferredRenderings, generator);
+  }
+
+  /**
+   * Write the JSON Schema specification for a template schema artifact to a stream in the supplied format. Reading
+   * the written specification in the same format produces the same artifact as reading its JSON text. The stream is
+   * closed when the specification has been written.
+   */
+  public void renderTemplateSchemaArtifact(TemplateSchemaArtifact templateSchemaArtifact, OutputStream outputStream,
+    JsonArtifactFormat format) throws IOException
+  {
+    try (JsonGenerator generator = format.createGenerator(outputStream)) {
+      renderTemplateSchemaArtifact(templateSchemaArtifact, generator);
+    }
+  }
+
+  private ObjectNode renderTemplateSchemaArtifact(TemplateSchemaArtifact templateSchemaArtifact,
+    Function<ElementSchemaArtifact, ObjectNode> childElementSchemaArtifactRenderer)
   {
     ObjectNode rendering = renderJsonLdArtifact(templateSchemaArtifact);
 
@@ -156,27 +254,19 @@ public class JsonArtifactRenderer implements ArtifactRenderer<ObjectNode>
     addCoreJsonSchemaRendering(templateSchemaArtifact, rendering);
     rendering.put(UI, mapper.valueToTree(templateSchemaArtifact.templateUi()));
 
-    rendering.put(JSON_SCHEMA_PROPERTIES,
-      renderTemplateSchemaArtifactPropertiesJsonSchemaSpecification(templateSchemaArtifact));
+    ObjectNode propertiesRendering =
+      renderTemplateSchemaArtifactPropertiesJsonSchemaSpecification(templateSchemaArtifact);
+    rendering.put(JSON_SCHEMA_PROPERTIES, propertiesRendering);
 
-    // TODO Put this list in ModelNodeNames
-    rendering.put(JSON_SCHEMA_REQUIRED, mapper.createArrayNode());
-    rendering.withArray(JSON_SCHEMA_REQUIRED).add(JSON_LD_CONTEXT);
-    rendering.withArray(JSON_SCHEMA_REQUIRED).add(JSON_LD_ID);
-    rendering.withArray(JSON_SCHEMA_REQUIRED).add(SCHEMA_IS_BASED_ON);
-    rendering.withArray(JSON_SCHEMA_REQUIRED).add(SCHEMA_ORG_NAME);
-    rendering.withArray(JSON_SCHEMA_REQUIRED).add(SCHEMA_ORG_DESCRIPTION);
-    rendering.withArray(JSON_SCHEMA_REQUIRED).add(PAV_CREATED_ON);
-    rendering.withArray(JSON_SCHEMA_REQUIRED).add(PAV_CREATED_BY);
-    rendering.withArray(JSON_SCHEMA_REQUIRED).add(PAV_LAST_UPDATED_ON);
-    rendering.withArray(JSON_SCHEMA_REQUIRED).add(OSLC_MODIFIED_BY);
+    ArrayNode requiredRendering = templateSchemaArtifactStandardRequiredJsonSchemaSpecification.deepCopy();
+    rendering.put(JSON_SCHEMA_REQUIRED, requiredRendering);
 
     for (String childKey : templateSchemaArtifact.getNonStaticNonAttributeValueChildKeys())
-      rendering.withArray(JSON_SCHEMA_REQUIRED).add(childKey);
+      requiredRendering.add(childKey);
 
     if (templateSchemaArtifact.hasAttributeValueField())
       rendering.put(JSON_SCHEMA_ADDITIONAL_PROPERTIES,
-        renderAdditionalPropertiesForAttributeValueFieldJsonSchemaSpecification());
+        additionalPropertiesForAttributeValueFieldJsonSchemaSpecification.deepCopy());
     else
       rendering.put(JSON_SCHEMA_ADDITIONAL_PROPERTIES, false);
 
@@ -189,23 +279,22 @@ public class JsonArtifactRenderer implements ArtifactRenderer<ObjectNode>
         FieldSchemaArtifact childFieldSchemaArtifact = templateSchemaArtifact.getFieldSchemaArtifact(childKey);
 
         if (childFieldSchemaArtifact.isMultiple() && !childFieldSchemaArtifact.isAttributeValue())
-          rendering.withObject("/" + JSON_SCHEMA_PROPERTIES).put(childKey, renderJsonSchemaArrayWrapperSpecification(
+          propertiesRendering.put(childKey, renderJsonSchemaArrayWrapperSpecification(
             renderFieldSchemaArtifact(childFieldSchemaArtifact.name(), childFieldSchemaArtifact),
             childFieldSchemaArtifact.minItems(), childFieldSchemaArtifact.maxItems()));
         else
-          rendering.withObject("/" + JSON_SCHEMA_PROPERTIES)
-            .put(childKey, renderFieldSchemaArtifact(childFieldSchemaArtifact.name(), childFieldSchemaArtifact));
+          propertiesRendering.put(childKey,
+            renderFieldSchemaArtifact(childFieldSchemaArtifact.name(), childFieldSchemaArtifact));
 
       } else if (templateSchemaArtifact.isElement(childKey)) {
         ElementSchemaArtifact childElementSchemaArtifact = templateSchemaArtifact.getElementSchemaArtifact(childKey);
 
         if (childElementSchemaArtifact.isMultiple())
-          rendering.withObject("/" + JSON_SCHEMA_PROPERTIES).put(childKey,
-            renderJsonSchemaArrayWrapperSpecification(renderElementSchemaArtifact(childElementSchemaArtifact),
-              childElementSchemaArtifact.minItems(), childElementSchemaArtifact.maxItems()));
+          propertiesRendering.put(childKey, renderJsonSchemaArrayWrapperSpecification(
+            childElementSchemaArtifactRenderer.apply(childElementSchemaArtifact), childElementSchemaArtifact.minItems(),
+            childElementSchemaArtifact.maxItems()));
         else
-          rendering.withObject("/" + JSON_SCHEMA_PROPERTIES)
-            .put(childKey, renderElementSchemaArtifact(childElementSchemaArtifact));
+          propertiesRendering.put(childKey, childElementSchemaArtifactRenderer.apply(childElementSchemaArtifact));
 
       } // TODO Use typesafe switch on ChildSchemaArtifact when available
     }
@@ -253,6 +342,47 @@ public class JsonArtifactRenderer implements ArtifactRenderer<ObjectNode>
    * </pre>
    */
   public ObjectNode renderElementSchemaArtifact(String elementKey, ElementSchemaArtifact elementSchemaArtifact)
+  {
+    if (renderCache.isPresent())
+      return getCachedElementSchemaArtifactRendering(elementSchemaArtifact).deepCopy();
+    else
+      return renderElementSchemaArtifact(elementSchemaArtifact, this::renderElementSchemaArtifact);
+  }
+
+  /**
+   * Write the JSON Schema specification for an element schema artifact directly to a generator, rendering nested
+   * element schema artifacts one at a time
+   * <p></p>
+   * If this renderer has a render cache, the element's rendering is instead taken from the cache, or built in full and
+   * added to it, so streamed renderings fill the cache in the same way as tree renderings.
+   *
+   * @see #renderTemplateSchemaArtifact(TemplateSchemaArtifact, JsonGenerator)
+   */
+  public void renderElementSchemaArtifact(ElementSchemaArtifact elementSchemaArtifact, JsonGenerator generator)
+    throws IOException
+  {
+    DeferredRenderings deferredRenderings = new DeferredRenderings();
+
+    if (renderCache.isPresent()) { // The cached rendering is only read, so it is written without being copied
+      writeRendering(getCachedElementSchemaArtifactRendering(elementSchemaArtifact), deferredRenderings, generator);
+      return;
+    }
+
+    ObjectNode rendering = renderElementSchemaArtifact(elementSchemaArtifact, childElementSchemaArtifact ->
+      deferredRenderings.defer(
+        childGenerator -> renderElementSchemaArtifact(childElementSchemaArtifact, childGenerator)));
+
+    writeRendering(rendering, deferredRenderings, generator);
+  }
+
+  private ObjectNode getCachedElementSchemaArtifactRendering(ElementSchemaArtifact elementSchemaArtifact)
+  {
+    return renderCache.get().getOrRender(elementSchemaArtifact, artifact ->
+      renderElementSchemaArtifact((ElementSchemaArtifact)artifact, this::renderElementSchemaArtifact));
+  }
+
+  private ObjectNode renderElementSchemaArtifact(ElementSchemaArtifact elementSchemaArtifact,
+    Function<ElementSchemaArtifact, ObjectNode> childElementSchemaArtifactRenderer)
   {
     ObjectNode rendering = renderJsonLdArtifact(elementSchemaArtifact);
 
@@ -263,16 +393,17 @@ public class JsonArtifactRenderer implements ArtifactRenderer<ObjectNode>
 
     rendering.put(UI, mapper.valueToTree(elementSchemaArtifact.elementUi()));
 
-    rendering.put(JSON_SCHEMA_PROPERTIES,
-      renderElementSchemaArtifactPropertiesJsonSchemaSpecification(elementSchemaArtifact));
+    ObjectNode propertiesRendering =
+      renderElementSchemaArtifactPropertiesJsonSchemaSpecification(elementSchemaArtifact);
+    rendering.put(JSON_SCHEMA_PROPERTIES, propertiesRendering);
 
     // TODO Put this list in ModelNodeNames
-    rendering.put(JSON_SCHEMA_REQUIRED, mapper.createArrayNode());
-    rendering.withArray(JSON_SCHEMA_REQUIRED).add(JSON_LD_CONTEXT);
-    rendering.withArray(JSON_SCHEMA_REQUIRED).add(JSON_LD_ID);
+    ArrayNode requiredRendering = rendering.putArray(JSON_SCHEMA_REQUIRED);
+    requiredRendering.add(JSON_LD_CONTEXT);
+    requiredRendering.add(JSON_LD_ID);
 
     for (String childKey : elementSchemaArtifact.getNonStaticNonAttributeValueChildKeys())
-      rendering.withArray(JSON_SCHEMA_REQUIRED).add(childKey);
+      requiredRendering.add(childKey);
 
     if (elementSchemaArtifact.annotations().isPresent())
       rendering.put(ANNOTATIONS, renderAnnotations(elementSchemaArtifact.annotations().get()));
@@ -282,23 +413,22 @@ public class JsonArtifactRenderer implements ArtifactRenderer<ObjectNode>
         FieldSchemaArtifact childFieldSchemaArtifact = elementSchemaArtifact.getFieldSchemaArtifact(childKey);
 
         if (childFieldSchemaArtifact.isMultiple() && !childFieldSchemaArtifact.isAttributeValue())
-          rendering.withObject("/" + JSON_SCHEMA_PROPERTIES).put(childKey, renderJsonSchemaArrayWrapperSpecification(
+          propertiesRendering.put(childKey, renderJsonSchemaArrayWrapperSpecification(
             renderFieldSchemaArtifact(childFieldSchemaArtifact.name(), childFieldSchemaArtifact),
             childFieldSchemaArtifact.minItems(), childFieldSchemaArtifact.maxItems()));
         else
-          rendering.withObject("/" + JSON_SCHEMA_PROPERTIES)
-            .put(childKey, renderFieldSchemaArtifact(childFieldSchemaArtifact.name(), childFieldSchemaArtifact));
+          propertiesRendering.put(childKey,
+            renderFieldSchemaArtifact(childFieldSchemaArtifact.name(), childFieldSchemaArtifact));
 
       } else if (elementSchemaArtifact.isElement(childKey)) {
         ElementSchemaArtifact childElementSchemaArtifact = elementSchemaArtifact.getElementSchemaArtifact(childKey);
 
         if (childElementSchemaArtifact.isMultiple())
-          rendering.withObject("/" + JSON_SCHEMA_PROPERTIES).put(childKey,
-            renderJsonSchemaArrayWrapperSpecification(renderElementSchemaArtifact(childElementSchemaArtifact),
-              childElementSchemaArtifact.minItems(), childElementSchemaArtifact.maxItems()));
+          propertiesRendering.put(childKey, renderJsonSchemaArrayWrapperSpecification(
+            childElementSchemaArtifactRenderer.apply(childElementSchemaArtifact), childElementSchemaArtifact.minItems(),
+            childElementSchemaArtifact.maxItems()));
         else
-          rendering.withObject("/" + JSON_SCHEMA_PROPERTIES)
-            .put(childKey, renderElementSchemaArtifact(childElementSchemaArtifact));
+          propertiesRendering.put(childKey, childElementSchemaArtifactRenderer.apply(childElementSchemaArtifact));
 
       }  // TODO Use typesafe switch on ChildSchemaArtifact when available
     }
@@ -312,7 +442,7 @@ public class JsonArtifactRenderer implements ArtifactRenderer<ObjectNode>
 
     if (elementSchemaArtifact.hasAttributeValueField())
       rendering.put(JSON_SCHEMA_ADDITIONAL_PROPERTIES,
-        renderAdditionalPropertiesForAttributeValueFieldJsonSchemaSpecification());
+        additionalPropertiesForAttributeValueFieldJsonSchemaSpecification.deepCopy());
     else
       rendering.put(JSON_SCHEMA_ADDITIONAL_PROPERTIES, false);
 
@@ -356,14 +486,26 @@ public class JsonArtifactRenderer implements ArtifactRenderer<ObjectNode>
    * </pre>
    */
   public ObjectNode renderFieldSchemaArtifact(String fieldKey, FieldSchemaArtifact fieldSchemaArtifact)
+  {
+    if (renderCache.isPresent())
+      return renderCache.get().getOrRender(fieldSchemaArtifact,
+        artifact -> renderUncachedFieldSchemaArtifact((FieldSchemaArtifact)artifact)).deepCopy();
+    else
+      return renderUncachedFieldSchemaArtifact(fieldSchemaArtifact);
+  }
+
+  private ObjectNode renderUncachedFieldSchemaArtifact(FieldSchemaArtifact fieldSchemaArtifact)
   {
     ObjectNode rendering = renderJsonLdArtifact(fieldSchemaArtifact);
 
     if (fieldSchemaArtifact.isStatic())
       rendering.put(JSON_LD_CONTEXT,
-        renderStaticFieldSchemaArtifactContextPrefixesJsonLdSpecification(fieldSchemaArtifact));
+        renderLanguageTaggedContextJsonLdSpecification(staticFieldSchemaArtifactContextPrefixesJsonLdSpecification,
+          fieldSchemaArtifact));
     else
-      rendering.put(JSON_LD_CONTEXT, renderFieldSchemaArtifactContextPrefixesJsonLdSpecification(fieldSchemaArtifact));
+      rendering.put(JSON_LD_CONTEXT,
+        renderLanguageTaggedContextJsonLdSpecification(fieldSchemaArtifactContextPrefixesJsonLdSpecification,
+          fieldSchemaArtifact));
 
     if (fieldSchemaArtifact.isAttributeValue())
       rendering.put(JSON_SCHEMA_TYPE, JSON_SCHEMA_STRING);
@@ -395,9 +537,9 @@ public class JsonArtifactRenderer implements ArtifactRenderer<ObjectNode>
       }
 
       if (fieldSchemaArtifact.hasIRIValue()) {
-        rendering.put(JSON_SCHEMA_PROPERTIES, renderIRIFieldArtifactPropertiesJsonSchemaSpecification());
+        rendering.put(JSON_SCHEMA_PROPERTIES, iriFieldArtifactPropertiesJsonSchemaSpecification.deepCopy());
       } else {
-        rendering.put(JSON_SCHEMA_PROPERTIES, renderLiteralFieldArtifactPropertiesJsonSchemaSpecification());
+        rendering.put(JSON_SCHEMA_PROPERTIES, literalFieldArtifactPropertiesJsonSchemaSpecification.deepCopy());
         rendering.put(JSON_SCHEMA_REQUIRED, mapper.createArrayNode());
         rendering.withArray(JSON_SCHEMA_REQUIRED).add(JSON_LD_VALUE);
 
@@ -475,9 +617,47 @@ public class JsonArtifactRenderer implements ArtifactRenderer<ObjectNode>
    */
   public ObjectNode renderTemplateInstanceArtifact(TemplateInstanceArtifact templateInstanceArtifact)
   {
-    ObjectNode rendering = renderParentInstanceArtifact(templateInstanceArtifact);
+    return renderTemplateInstanceArtifact(templateInstanceArtifact, this::renderElementInstanceArtifact);
+  }
+
+  /**
+   * Write a template instance artifact directly to a generator, rendering nested element instance artifacts one at a
+   * time
+   *
+   * @see #renderTemplateSchemaArtifact(TemplateSchemaArtifact, JsonGenerator)
+   */
+  public void renderTemplateInstanceArtifact(TemplateInstanceArtifact templateInstanceArtifact,
+    JsonGenerator generator) throws IOException
+  {
+    DeferredRenderings deferredRenderings = new DeferredRenderings();
+
+    ObjectNode rendering = renderTemplateInstanceArtifact(templateInstanceArtifact,
+      deferredElementInstanceArtifactRenderer(deferredRenderings));
+
+    writeRendering(rendering, deferredRenderings, generator);
+  }
+
+  /**
+   * Write a template instance artifact to a stream in the supplied format. The stream is closed when the artifact has
+   * been written.
+   *
+   * @see #renderTemplateSchemaArtifact(TemplateSchemaArtifact, OutputStream, JsonArtifactFormat)
+   */
+  public void renderTemplateInstanceArtifact(TemplateInstanceArtifact templateInstanceArtifact,
+    OutputStream outputStream, JsonArtifactFormat format) throws IOException
+  {
+    try (JsonGenerator generator = format.createGenerator(outputStream)) {
+      renderTemplateInstanceArtifact(templateInstanceArtifact, generator);
+    }
+  }
+
+  private ObjectNode renderTemplateInstanceArtifact(TemplateInstanceArtifact templateInstanceArtifact,
+    Function<ElementInstanceArtifact, ObjectNode> childElementInstanceArtifactRenderer)
+  {
+    ObjectNode rendering = renderParentInstanceArtifact(templateInstanceArtifact, childElementInstanceArtifactRenderer);
 
-    rendering.put(JSON_LD_CONTEXT, renderTemplateInstanceArtifactContextJsonLdSpecification());
+    ObjectNode contextRendering = templateInstanceArtifactContextJsonLdSpecification.deepCopy();
+    rendering.put(JSON_LD_CONTEXT, contextRendering);
 
     if (templateInstanceArtifact.annotations().isPresent())
       rendering.put(ANNOTATIONS, renderAnnotations(templateInstanceArtifact.annotations().get()));
@@ -485,7 +665,7 @@ public class JsonArtifactRenderer implements ArtifactRenderer<ObjectNode>
     for (var propertyMapping : templateInstanceArtifact.jsonLdContext().entrySet()) {
       String fieldKey = propertyMapping.getKey();
       URI propertyUri = propertyMapping.getValue();
-      rendering.withObject("/" + JSON_LD_CONTEXT).put(fieldKey, renderUri(propertyUri));
+      contextRendering.put(fieldKey, renderUri(propertyUri));
     }
 
     rendering.put(SCHEMA_IS_BASED_ON, renderUri(templateInstanceArtifact.isBasedOn()));
@@ -526,15 +706,38 @@ public class JsonArtifactRenderer implements ArtifactRenderer<ObjectNode>
 
   public ObjectNode renderElementInstanceArtifact(ElementInstanceArtifact elementInstanceArtifact)
   {
-    ObjectNode rendering = renderParentInstanceArtifact(elementInstanceArtifact);
+    return renderElementInstanceArtifact(elementInstanceArtifact, this::renderElementInstanceArtifact);
+  }
+
+  /**
+   * Write an element instance artifact directly to a generator, rendering nested element instance artifacts one at a
+   * time
+   *
+   * @see #renderTemplateSchemaArtifact(TemplateSchemaArtifact, JsonGenerator)
+   */
+  public void renderElementInstanceArtifact(ElementInstanceArtifact elementInstanceArtifact, JsonGenerator generator)
+    throws IOException
+  {
+    DeferredRenderings deferredRenderings = new DeferredRenderings();
+
+    ObjectNode rendering = renderElementInstanceArtifact(elementInstanceArtifact,
+      deferredElementInstanceArtifactRenderer(deferredRenderings));
+
+    writeRendering(rendering, deferredRenderings, generator);
+  }
+
+  private ObjectNode renderElementInstanceArtifact(ElementInstanceArtifact elementInstanceArtifact,
+    Function<ElementInstanceArtifact, ObjectNode> childElementInstanceArtifactRenderer)
+  {
+    ObjectNode rendering = renderParentInstanceArtifact(elementInstanceArtifact, childElementInstanceArtifactRenderer);
 
     if (!elementInstanceArtifact.jsonLdContext().isEmpty()) {
-      rendering.put(JSON_LD_CONTEXT, mapper.createObjectNode());
+      ObjectNode contextRendering = rendering.putObject(JSON_LD_CONTEXT);
 
       for (var propertyMapping : elementInstanceArtifact.jsonLdContext().entrySet()) {
         String fieldKey = propertyMapping.getKey();
         URI propertyUri = propertyMapping.getValue();
-        rendering.withObject("/" + JSON_LD_CONTEXT).put(fieldKey, renderUri(propertyUri));
+        contextRendering.put(fieldKey, renderUri(propertyUri));
       }
     }
 
@@ -603,7 +806,8 @@ public class JsonArtifactRenderer implements ArtifactRenderer<ObjectNode>
     return objectNode;
   }
 
-  private ObjectNode renderParentInstanceArtifact(ParentInstanceArtifact parentInstanceArtifact)
+  private ObjectNode renderParentInstanceArtifact(ParentInstanceArtifact parentInstanceArtifact,
+    Function<ElementInstanceArtifact, ObjectNode> childElementInstanceArtifactRenderer)
   {
     ObjectNode rendering = mapper.createObjectNode();
 
@@ -635,12 +839,13 @@ public class JsonArtifactRenderer implements ArtifactRenderer<ObjectNode>
         ElementInstanceArtifact elementInstanceArtifact = parentInstanceArtifact.singleInstanceElementInstances()
           .get(childKey);
 
-        rendering.put(childKey, renderElementInstanceArtifact(elementInstanceArtifact));
+        rendering.put(childKey, childElementInstanceArtifactRenderer.apply(elementInstanceArtifact));
       } else if (parentInstanceArtifact.multiInstanceElementInstances().containsKey(childKey)) {
         List<ElementInstanceArtifact> elementInstanceArtifacts = parentInstanceArtifact.multiInstanceElementInstances()
           .get(childKey);
 
-        rendering.put(childKey, renderElementInstanceArtifacts(elementInstanceArtifacts));
+        rendering.put(childKey,
+          renderElementInstanceArtifacts(elementInstanceArtifacts, childElementInstanceArtifactRenderer));
       } else if (parentInstanceArtifact.attributeValueFieldInstanceGroups().containsKey(childKey)) {
         Map<String, FieldInstanceArtifact> attributeValueFieldInstances = parentInstanceArtifact.attributeValueFieldInstanceGroups()
           .get(childKey);
@@ -680,16 +885,97 @@ public class JsonArtifactRenderer implements ArtifactRenderer<ObjectNode>
     return arrayNode;
   }
 
-  private ArrayNode renderElementInstanceArtifacts(List<ElementInstanceArtifact> elementInstanceArtifacts)
+  private ArrayNode renderElementInstanceArtifacts(List<ElementInstanceArtifact> elementInstanceArtifacts,
+    Function<ElementInstanceArtifact, ObjectNode> childElementInstanceArtifactRenderer)
   {
     ArrayNode arrayNode = mapper.createArrayNode();
 
     for (ElementInstanceArtifact elementInstanceArtifact : elementInstanceArtifacts)
-      arrayNode.add(renderElementInstanceArtifact(elementInstanceArtifact));
+      arrayNode.add(childElementInstanceArtifactRenderer.apply(elementInstanceArtifact));
 
     return arrayNode;
   }
 
+  private Function<ElementInstanceArtifact, ObjectNode> deferredElementInstanceArtifactRenderer(
+    DeferredRenderings deferredRenderings)
+  {
+    return childElementInstanceArtifact -> deferredRenderings.defer(
+      childGenerator -> renderElementInstanceArtifact(childElementInstanceArtifact, childGenerator));
+  }
+
+  /**
+   * Write a rendering to a generator, writing each deferred rendering in place of its placeholder node. Nodes are
+   * written with the same generator calls that Jackson uses to serialize a tree, so the output, including any pretty
+   * printing configured on the generator, is identical to serializing the fully rendered tree.
+   */
+  private void writeRendering(JsonNode rendering, DeferredRenderings deferredRenderings, JsonGenerator generator)
+    throws IOException
+  {
+    DeferredRendering deferredRendering = deferredRenderings.get(rendering);
+
+    if (deferredRendering != null)
+      deferredRendering.write(generator);
+    else if (rendering.isObject()) {
+      generator.writeStartObject(rendering, rendering.size());
+      for (Iterator<Map.Entry<String, JsonNode>> fields = rendering.fields(); fields.hasNext(); ) {
+        Map.Entry<String, JsonNode> field = fields.next();
+        generator.writeFieldName(field.getKey());
+        writeRendering(field.getValue(), deferredRenderings, generator);
+      }
+      generator.writeEndObject();
+    } else if (rendering.isArray()) {
+      generator.writeStartArray(rendering, rendering.size());
+      for (JsonNode element : rendering)
+        writeRendering(element, deferredRenderings, generator);
+      generator.writeEndArray();
+    } else if (rendering.isTextual())
+      generator.writeString(rendering.textValue());
+    else if (rendering.isBoolean())
+      generator.writeBoolean(rendering.booleanValue());
+    else if (rendering.isNull())
+      generator.writeNull();
+    else if (rendering.isNumber()) {
+      switch (rendering.numberType()) {
+        case INT -> generator.writeNumber(rendering.intValue());
+        case LONG -> generator.writeNumber(rendering.longValue());
+        case BIG_INTEGER -> generator.writeNumber(rendering.bigIntegerValue());
+        case FLOAT -> generator.writeNumber(rendering.floatValue());
+        case DOUBLE -> generator.writeNumber(rendering.doubleValue());
+        case BIG_DECIMAL -> generator.writeNumber(rendering.decimalValue());
+      }
+    } else
+      mapper.writeTree(generator, rendering);
+  }
+
+  /**
+   * Renderings of nested artifacts whose writing is deferred until their position in the enclosing rendering is
+   * reached. Each deferred rendering is represented in the enclosing rendering by a distinct placeholder node.
+   */
+  private final class DeferredRenderings
+  {
+    private final Map<JsonNode, DeferredRendering> deferredRenderings = new IdentityHashMap<>();
+
+    ObjectNode defer(DeferredRendering deferredRendering)
+    {
+      ObjectNode placeholder = mapper.createObjectNode();
+
+      deferredRenderings.put(placeholder, deferredRendering);
+
+      return placeholder;
+    }
+
+    DeferredRendering get(JsonNode rendering)
+    {
+      return deferredRenderings.isEmpty() ? null : deferredRenderings.get(rendering);
+    }
+  }
+
+  @FunctionalInterface
+  private interface DeferredRendering
+  {
+    void write(JsonGenerator generator) throws IOException;
+  }
+
   /**
    * Generate a base schema artifact rendering. In addition to core artifact fields (@type, @id, pav:createdOn,
    * pav:createdBy, pav:lastUpdatedOn, and oslc:modifiedBy), it will have JSON Schema fields (@schema, type,
@@ -988,6 +1274,21 @@ public class JsonArtifactRenderer implements ArtifactRenderer<ObjectNode>
       rendering.put(JSON_LD_TYPE, renderUriOrUriArrayJsonSchemaTypeEnumSpecification(1, true, instanceJsonLdType));
     }
 
+    rendering.setAll(templateSchemaArtifactStandardPropertiesJsonSchemaSpecification.deepCopy());
+
+    return rendering;
+  }
+
+  /**
+   * Generate the JSON Schema specifications for the standard properties of a template instance, which follow the
+   * @context, @id, and @type specifications in a template schema artifact's properties specification
+   *
+   * @see #renderTemplateSchemaArtifactPropertiesJsonSchemaSpecification(TemplateSchemaArtifact)
+   */
+  private ObjectNode renderTemplateSchemaArtifactStandardPropertiesJsonSchemaSpecification()
+  {
+    ObjectNode rendering = mapper.createObjectNode();
+
     rendering.put(SCHEMA_IS_BASED_ON, renderUriJsonSchemaTypeSpecification());
     rendering.put(SCHEMA_ORG_NAME, renderStringJsonSchemaTypeSpecification(1));
     rendering.put(SCHEMA_ORG_DESCRIPTION, renderStringJsonSchemaTypeSpecification(0));
@@ -1000,6 +1301,28 @@ public class JsonArtifactRenderer implements ArtifactRenderer<ObjectNode>
     return rendering;
   }
 
+  /**
+   * Generate the JSON Schema required specification for the standard properties of a template instance, to which
+   * the keys of a template schema artifact's children are appended
+   */
+  private ArrayNode renderTemplateSchemaArtifactStandardRequiredJsonSchemaSpecification()
+  {
+    ArrayNode rendering = mapper.createArrayNode();
+
+    // TODO Put this list in ModelNodeNames
+    rendering.add(JSON_LD_CONTEXT);
+    rendering.add(JSON_LD_ID);
+    rendering.add(SCHEMA_IS_BASED_ON);
+    rendering.add(SCHEMA_ORG_NAME);
+    rendering.add(SCHEMA_ORG_DESCRIPTION);
+    rendering.add(PAV_CREATED_ON);
+    rendering.add(PAV_CREATED_BY);
+    rendering.add(PAV_LAST_UPDATED_ON);
+    rendering.add(OSLC_MODIFIED_BY);
+
+    return rendering;
+  }
+
   /**
    * Render a JSON Schema properties specification in an element schema artifact. First, this specification defines
    * the top-level fields that should be present in an element instance.
@@ -1129,69 +1452,84 @@ public class JsonArtifactRenderer implements ArtifactRenderer<ObjectNode>
 
     rendering.put(JSON_SCHEMA_TYPE, JSON_SCHEMA_OBJECT);
 
-    rendering.put(JSON_SCHEMA_PROPERTIES, mapper.createObjectNode());
-
-    rendering.withObject("/" + JSON_SCHEMA_PROPERTIES).put(RDFS, renderJsonSchemaTypeUriEnumSpecification(RDFS_IRI));
-    rendering.withObject("/" + JSON_SCHEMA_PROPERTIES).put(XSD, renderJsonSchemaTypeUriEnumSpecification(XSD_IRI));
-    rendering.withObject("/" + JSON_SCHEMA_PROPERTIES).put(PAV, renderJsonSchemaTypeUriEnumSpecification(PAV_IRI));
-    rendering.withObject("/" + JSON_SCHEMA_PROPERTIES)
-      .put(SCHEMA, renderJsonSchemaTypeUriEnumSpecification(SCHEMA_IRI));
-    rendering.withObject("/" + JSON_SCHEMA_PROPERTIES).put(OSLC, renderJsonSchemaTypeUriEnumSpecification(OSLC_IRI));
-    rendering.withObject("/" + JSON_SCHEMA_PROPERTIES).put(SKOS, renderJsonSchemaTypeUriEnumSpecification(SKOS_IRI));
-
-    rendering.withObject("/" + JSON_SCHEMA_PROPERTIES)
-      .put(RDFS_LABEL, renderJsonSchemaJsonLdDatatypeSpecification("xsd:string"));
-    rendering.withObject("/" + JSON_SCHEMA_PROPERTIES)
-      .put(SCHEMA_IS_BASED_ON, renderJsonSchemaJsonLdDatatypeSpecification(JSON_LD_ID));
-    rendering.withObject("/" + JSON_SCHEMA_PROPERTIES)
-      .put(SCHEMA_ORG_NAME, renderJsonSchemaJsonLdDatatypeSpecification("xsd:string"));
-    rendering.withObject("/" + JSON_SCHEMA_PROPERTIES)
-      .put(SCHEMA_ORG_DESCRIPTION, renderJsonSchemaJsonLdDatatypeSpecification("xsd:string"));
-    rendering.withObject("/" + JSON_SCHEMA_PROPERTIES)
-      .put(PAV_DERIVED_FROM, renderJsonSchemaJsonLdDatatypeSpecification(JSON_LD_ID));
-    rendering.withObject("/" + JSON_SCHEMA_PROPERTIES)
-      .put(PAV_CREATED_ON, renderJsonSchemaJsonLdDatatypeSpecification("xsd:dateTime"));
-    rendering.withObject("/" + JSON_SCHEMA_PROPERTIES)
-      .put(PAV_CREATED_BY, renderJsonSchemaJsonLdDatatypeSpecification(JSON_LD_ID));
-    rendering.withObject("/" + JSON_SCHEMA_PROPERTIES)
-      .put(PAV_LAST_UPDATED_ON, renderJsonSchemaJsonLdDatatypeSpecification("xsd:dateTime"));
-    rendering.withObject("/" + JSON_SCHEMA_PROPERTIES)
-      .put(OSLC_MODIFIED_BY, renderJsonSchemaJsonLdDatatypeSpecification(JSON_LD_ID));
-    rendering.withObject("/" + JSON_SCHEMA_PROPERTIES)
-      .put(SKOS_NOTATION, renderJsonSchemaJsonLdDatatypeSpecification("xsd:string"));
+    ObjectNode propertiesRendering = templateSchemaArtifactContextStandardPropertiesJsonSchemaSpecification.deepCopy();
+    rendering.put(JSON_SCHEMA_PROPERTIES, propertiesRendering);
 
     for (var entry : templateSchemaArtifact.getChildPropertyUris().entrySet()) {
       String childKey = entry.getKey();
       URI propertyUri = entry.getValue();
-      rendering.withObject("/" + JSON_SCHEMA_PROPERTIES)
-        .put(childKey, renderJsonSchemaEnumSpecification(renderUri(propertyUri)));
+      propertiesRendering.put(childKey, renderJsonSchemaEnumSpecification(renderUri(propertyUri)));
     }
 
-    rendering.put(JSON_SCHEMA_REQUIRED, mapper.createArrayNode());
-    rendering.withArray(JSON_SCHEMA_REQUIRED).add(XSD);
-    rendering.withArray(JSON_SCHEMA_REQUIRED).add(PAV);
-    rendering.withArray(JSON_SCHEMA_REQUIRED).add(SCHEMA);
-    rendering.withArray(JSON_SCHEMA_REQUIRED).add(OSLC);
-    rendering.withArray(JSON_SCHEMA_REQUIRED).add(SCHEMA_IS_BASED_ON);
-    rendering.withArray(JSON_SCHEMA_REQUIRED).add(SCHEMA_ORG_NAME);
-    rendering.withArray(JSON_SCHEMA_REQUIRED).add(SCHEMA_ORG_DESCRIPTION);
-    rendering.withArray(JSON_SCHEMA_REQUIRED).add(PAV_CREATED_ON);
-    rendering.withArray(JSON_SCHEMA_REQUIRED).add(PAV_CREATED_BY);
-    rendering.withArray(JSON_SCHEMA_REQUIRED).add(PAV_LAST_UPDATED_ON);
-    rendering.withArray(JSON_SCHEMA_REQUIRED).add(OSLC_MODIFIED_BY);
+    ArrayNode requiredRendering = templateSchemaArtifactContextStandardRequiredJsonSchemaSpecification.deepCopy();
+    rendering.put(JSON_SCHEMA_REQUIRED, requiredRendering);
 
     for (String childKey : templateSchemaArtifact.getChildPropertyUris().keySet())
-      rendering.withArray(JSON_SCHEMA_REQUIRED).add(childKey);
+      requiredRendering.add(childKey);
 
     if (templateSchemaArtifact.hasAttributeValueField())
       rendering.put(JSON_SCHEMA_ADDITIONAL_PROPERTIES,
-        renderAdditionalPropertiesForAttributeValueFieldContextPropertiesJsonSchemaSpecification());
+        additionalPropertiesForAttributeValueFieldContextPropertiesJsonSchemaSpecification.deepCopy());
     else
       rendering.put(JSON_SCHEMA_ADDITIONAL_PROPERTIES, false);
 
     return rendering;
   }
 
+  /**
+   * Generate the JSON Schema specifications for the prefixes and standard properties in the @context of a template
+   * instance, to which the specifications for the property URIs of a template schema artifact's children are appended
+   *
+   * @see #renderTemplateSchemaArtifactContextPropertiesJsonSchemaSpecification(TemplateSchemaArtifact)
+   */
+  private ObjectNode renderTemplateSchemaArtifactContextStandardPropertiesJsonSchemaSpecification()
+  {
+    ObjectNode rendering = mapper.createObjectNode();
+
+    rendering.put(RDFS, renderJsonSchemaTypeUriEnumSpecification(RDFS_IRI));
+    rendering.put(XSD, renderJsonSchemaTypeUriEnumSpecification(XSD_IRI));
+    rendering.put(PAV, renderJsonSchemaTypeUriEnumSpecification(PAV_IRI));
+    rendering.put(SCHEMA, renderJsonSchemaTypeUriEnumSpecification(SCHEMA_IRI));
+    rendering.put(OSLC, renderJsonSchemaTypeUriEnumSpecification(OSLC_IRI));
+    rendering.put(SKOS, renderJsonSchemaTypeUriEnumSpecification(SKOS_IRI));
+
+    rendering.put(RDFS_LABEL, renderJsonSchemaJsonLdDatatypeSpecification("xsd:string"));
+    rendering.put(SCHEMA_IS_BASED_ON, renderJsonSchemaJsonLdDatatypeSpecification(JSON_LD_ID));
+    rendering.put(SCHEMA_ORG_NAME, renderJsonSchemaJsonLdDatatypeSpecification("xsd:string"));
+    rendering.put(SCHEMA_ORG_DESCRIPTION, renderJsonSchemaJsonLdDatatypeSpecification("xsd:string"));
+    rendering.put(PAV_DERIVED_FROM, renderJsonSchemaJsonLdDatatypeSpecification(JSON_LD_ID));
+    rendering.put(PAV_CREATED_ON, renderJsonSchemaJsonLdDatatypeSpecification("xsd:dateTime"));
+    rendering.put(PAV_CREATED_BY, renderJsonSchemaJsonLdDatatypeSpecification(JSON_LD_ID));
+    rendering.put(PAV_LAST_UPDATED_ON, renderJsonSchemaJsonLdDatatypeSpecification("xsd:dateTime"));
+    rendering.put(OSLC_MODIFIED_BY, renderJsonSchemaJsonLdDatatypeSpecification(JSON_LD_ID));
+    rendering.put(SKOS_NOTATION, renderJsonSchemaJsonLdDatatypeSpecification("xsd:string"));
+
+    return rendering;
+  }
+
+  /**
+   * Generate the JSON Schema required specification for the prefixes and standard properties in the @context of a
+   * template instance, to which the keys of a template schema artifact's children are appended
+   */
+  private ArrayNode renderTemplateSchemaArtifactContextStandardRequiredJsonSchemaSpecification()
+  {
+    ArrayNode rendering = mapper.createArrayNode();
+
+    rendering.add(XSD);
+    rendering.add(PAV);
+    rendering.add(SCHEMA);
+    rendering.add(OSLC);
+    rendering.add(SCHEMA_IS_BASED_ON);
+    rendering.add(SCHEMA_ORG_NAME);
+    rendering.add(SCHEMA_ORG_DESCRIPTION);
+    rendering.add(PAV_CREATED_ON);
+    rendering.add(PAV_CREATED_BY);
+    rendering.add(PAV_LAST_UPDATED_ON);
+    rendering.add(OSLC_MODIFIED_BY);
+
+    return rendering;
+  }
+
   /**
    * Generate a JSON Schema specification for a @context properties specification in an element schema artifact
    * <p></p>
@@ -1225,24 +1563,23 @@ public class JsonArtifactRenderer implements ArtifactRenderer<ObjectNode>
 
     rendering.put(JSON_SCHEMA_TYPE, JSON_SCHEMA_OBJECT);
 
-    rendering.put(JSON_SCHEMA_PROPERTIES, mapper.createObjectNode());
+    ObjectNode propertiesRendering = rendering.putObject(JSON_SCHEMA_PROPERTIES);
 
     for (var entry : elementSchemaArtifact.getChildPropertyUris().entrySet()) {
       String childKey = entry.getKey();
       URI propertyUri = entry.getValue();
-      rendering.withObject("/" + JSON_SCHEMA_PROPERTIES)
-        .put(childKey, renderJsonSchemaEnumSpecification(renderUri(propertyUri)));
+      propertiesRendering.put(childKey, renderJsonSchemaEnumSpecification(renderUri(propertyUri)));
     }
 
     if (!elementSchemaArtifact.getChildPropertyUris().isEmpty()) {
-      rendering.put(JSON_SCHEMA_REQUIRED, mapper.createArrayNode());
+      ArrayNode requiredRendering = rendering.putArray(JSON_SCHEMA_REQUIRED);
       for (String childKey : elementSchemaArtifact.getChildPropertyUris().keySet())
-        rendering.withArray(JSON_SCHEMA_REQUIRED).add(childKey);
+        requiredRendering.add(childKey);
     }
 
     if (elementSchemaArtifact.hasAttributeValueField())
       rendering.put(JSON_SCHEMA_ADDITIONAL_PROPERTIES,
-        renderAdditionalPropertiesForAttributeValueFieldContextPropertiesJsonSchemaSpecification());
+        additionalPropertiesForAttributeValueFieldContextPropertiesJsonSchemaSpecification.deepCopy());
     else
       rendering.put(JSON_SCHEMA_ADDITIONAL_PROPERTIES, false);
 
@@ -1344,6 +1681,12 @@ public class JsonArtifactRenderer implements ArtifactRenderer<ObjectNode>
    * </pre>
    */
   private ObjectNode renderParentSchemaArtifactContextJsonLdSpecification(SchemaArtifact schemaArtifact)
+  {
+    return renderLanguageTaggedContextJsonLdSpecification(parentSchemaArtifactContextJsonLdSpecification,
+      schemaArtifact);
+  }
+
+  private ObjectNode renderParentSchemaArtifactContextJsonLdSpecification()
   {
     ObjectNode rendering = renderParentSchemaArtifactContextPrefixesJsonLdSpecification();
 
@@ -1354,6 +1697,18 @@ public class JsonArtifactRenderer implements ArtifactRenderer<ObjectNode>
     rendering.put(PAV_LAST_UPDATED_ON, renderXsdDateTimeJsonLdSpecification());
     rendering.put(OSLC_MODIFIED_BY, renderIriJsonLdSpecification());
 
+    return rendering;
+  }
+
+  /**
+   * Copy a precomputed JSON-LD @context specification, adding a @language entry if the schema artifact has a
+   * non-empty language
+   */
+  private ObjectNode renderLanguageTaggedContextJsonLdSpecification(ObjectNode contextJsonLdSpecification,
+    SchemaArtifact schemaArtifact)
+  {
+    ObjectNode rendering = contextJsonLdSpecification.deepCopy();
+
     if (schemaArtifact.language().isPresent()) {
       String language = schemaArtifact.language().get();
       if (!language.isEmpty())
@@ -1455,8 +1810,7 @@ public class JsonArtifactRenderer implements ArtifactRenderer<ObjectNode>
    *   }
    * </pre>
    */
-  private ObjectNode renderFieldSchemaArtifactContextPrefixesJsonLdSpecification(
-    FieldSchemaArtifact fieldSchemaArtifact)
+  private ObjectNode renderFieldSchemaArtifactContextPrefixesJsonLdSpecification()
   {
     ObjectNode rendering = mapper.createObjectNode();
 
@@ -1472,12 +1826,6 @@ public class JsonArtifactRenderer implements ArtifactRenderer<ObjectNode>
     rendering.put(PAV_LAST_UPDATED_ON, renderXsdDateTimeJsonLdSpecification());
     rendering.put(OSLC_MODIFIED_BY, renderIriJsonLdSpecification());
 
-    if (fieldSchemaArtifact.language().isPresent()) {
-      String language = fieldSchemaArtifact.language().get();
-      if (!language.isEmpty())
-        rendering.put(JSON_LD_LANGUAGE, language);
-    }
-
     return rendering;
   }
 
@@ -1494,20 +1842,13 @@ public class JsonArtifactRenderer implements ArtifactRenderer<ObjectNode>
    *   }
    * </pre>
    */
-  private ObjectNode renderStaticFieldSchemaArtifactContextPrefixesJsonLdSpecification(
-    FieldSchemaArtifact fieldSchemaArtifact)
+  private ObjectNode renderStaticFieldSchemaArtifactContextPrefixesJsonLdSpecification()
   {
     ObjectNode rendering = mapper.createObjectNode();
 
     for (var entry : STATIC_FIELD_SCHEMA_ARTIFACT_CONTEXT_PREFIX_MAPPINGS.entrySet())
       rendering.put(entry.getKey(), entry.getValue().toString());
 
-    if (fieldSchemaArtifact.language().isPresent()) {
-      String language = fieldSchemaArtifact.language().get();
-      if (!language.isEmpty())
-        rendering.put(JSON_LD_LANGUAGE, language);
-    }
-
     return rendering;
   }
 
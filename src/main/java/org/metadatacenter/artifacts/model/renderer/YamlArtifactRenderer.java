@@ -1,5 +1,6 @@
 package org.metadatacenter.artifacts.model.renderer;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import org.metadatacenter.artifacts.model.core.*;
 import org.metadatacenter.artifacts.model.core.fields.*;
 import org.metadatacenter.artifacts.model.core.fields.constraints.*;
@@ -8,10 +9,12 @@ import org.metadatacenter.artifacts.model.core.ui.StaticFieldUi;
 import org.metadatacenter.artifacts.model.core.ui.TemporalFieldUi;
 import org.metadatacenter.artifacts.util.TerminologyServerClient;
 
+import java.io.IOException;
 import java.net.URI;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.function.BiFunction;
 
 import static org.metadatacenter.artifacts.model.yaml.YamlConstants.*;
 
@@ -82,6 +85,24 @@ public class YamlArtifactRenderer implements ArtifactRenderer<LinkedHashMap<Stri
    * </pre>
    */
   public LinkedHashMap<String, Object> renderTemplateSchemaArtifact(TemplateSchemaArtifact templateSchemaArtifact)
+  {
+    return renderTemplateSchemaArtifact(templateSchemaArtifact, this::renderChildSchemas);
+  }
+
+  /**
+   * Write the YAML rendering of a template schema artifact directly to a generator. The output is identical to
+   * serializing the result of {@link #renderTemplateSchemaArtifact(TemplateSchemaArtifact)} with the generator's codec,
+   * but child schema artifacts are rendered and written one at a time, so the complete rendering is never held in
+   * memory. The generator must have a codec, as generators created by an ObjectMapper do.
+   */
+  public void renderTemplateSchemaArtifact(TemplateSchemaArtifact templateSchemaArtifact, JsonGenerator generator)
+    throws IOException
+  {
+    writeRendering(renderTemplateSchemaArtifact(templateSchemaArtifact, this::deferChildSchemas), generator);
+  }
+
+  private LinkedHashMap<String, Object> renderTemplateSchemaArtifact(TemplateSchemaArtifact templateSchemaArtifact,
+    BiFunction<ParentSchemaArtifact, LinkedHashMap<String, ChildSchemaArtifact>, Object> childSchemasRenderer)
   {
     LinkedHashMap<String, Object> rendering = renderTopLevelSchemaArtifactBase(templateSchemaArtifact, TEMPLATE);
 
@@ -97,7 +118,8 @@ public class YamlArtifactRenderer implements ArtifactRenderer<LinkedHashMap<Stri
       rendering.put(ANNOTATIONS, renderAnnotations(templateSchemaArtifact.annotations().get()));
 
     if (templateSchemaArtifact.hasChildren())
-      rendering.put(CHILDREN, renderChildSchemas(templateSchemaArtifact, templateSchemaArtifact.getChildSchemas()));
+      rendering.put(CHILDREN, childSchemasRenderer.apply(templateSchemaArtifact,
+        templateSchemaArtifact.getChildSchemas()));
 
     return rendering;
   }
@@ -129,19 +151,45 @@ public class YamlArtifactRenderer implements ArtifactRenderer<LinkedHashMap<Stri
    * </pre>
    */
   public LinkedHashMap<String, Object> renderElementSchemaArtifact(ElementSchemaArtifact elementSchemaArtifact)
+  {
+    return renderElementSchemaArtifact(elementSchemaArtifact, this::renderChildSchemas);
+  }
+
+  /**
+   * Write the YAML rendering of an element schema artifact directly to a generator, rendering child schema artifacts
+   * one at a time
+   *
+   * @see #renderTemplateSchemaArtifact(TemplateSchemaArtifact, JsonGenerator)
+   */
+  public void renderElementSchemaArtifact(ElementSchemaArtifact elementSchemaArtifact, JsonGenerator generator)
+    throws IOException
+  {
+    writeRendering(renderElementSchemaArtifact(elementSchemaArtifact, this::deferChildSchemas), generator);
+  }
+
+  private LinkedHashMap<String, Object> renderElementSchemaArtifact(ElementSchemaArtifact elementSchemaArtifact,
+    BiFunction<ParentSchemaArtifact, LinkedHashMap<String, ChildSchemaArtifact>, Object> childSchemasRenderer)
   {
     LinkedHashMap<String, Object> rendering = renderTopLevelSchemaArtifactBase(elementSchemaArtifact, ELEMENT);
 
     addArtifactProvenanceRendering(elementSchemaArtifact, rendering);
 
     if (elementSchemaArtifact.hasChildren())
-      rendering.put(CHILDREN, renderChildSchemas(elementSchemaArtifact, elementSchemaArtifact.getChildSchemas()));
+      rendering.put(CHILDREN, childSchemasRenderer.apply(elementSchemaArtifact,
+        elementSchemaArtifact.getChildSchemas()));
 
     return rendering;
   }
 
   public LinkedHashMap<String, Object> renderElementSchemaArtifact(String elementKey,
     ElementSchemaArtifact elementSchemaArtifact)
+  {
+    return renderElementSchemaArtifact(elementKey, elementSchemaArtifact, this::renderChildSchemas);
+  }
+
+  private LinkedHashMap<String, Object> renderElementSchemaArtifact(String elementKey,
+    ElementSchemaArtifact elementSchemaArtifact,
+    BiFunction<ParentSchemaArtifact, LinkedHashMap<String, ChildSchemaArtifact>, Object> childSchemasRenderer)
   {
     LinkedHashMap<String, Object> rendering = renderNestedSchemaArtifactBase(elementKey, elementSchemaArtifact,
       ELEMENT);
@@ -152,7 +200,8 @@ public class YamlArtifactRenderer implements ArtifactRenderer<LinkedHashMap<Stri
       rendering.put(ANNOTATIONS, renderAnnotations(elementSchemaArtifact.annotations().get()));
 
     if (elementSchemaArtifact.hasChildren())
-      rendering.put(CHILDREN, renderChildSchemas(elementSchemaArtifact, elementSchemaArtifact.getChildSchemas()));
+      rendering.put(CHILDREN, childSchemasRenderer.apply(elementSchemaArtifact,
+        elementSchemaArtifact.getChildSchemas()));
 
     return rendering;
   }
@@ -196,6 +245,17 @@ public class YamlArtifactRenderer implements ArtifactRenderer<LinkedHashMap<Stri
     return rendering;
   }
 
+  /**
+   * Write the YAML rendering of a field schema artifact directly to a generator
+   *
+   * @see #renderTemplateSchemaArtifact(TemplateSchemaArtifact, JsonGenerator)
+   */
+  public void renderFieldSchemaArtifact(FieldSchemaArtifact fieldSchemaArtifact, JsonGenerator generator)
+    throws IOException
+  {
+    writeRendering(renderFieldSchemaArtifact(fieldSchemaArtifact), generator);
+  }
+
   /**
    * Generate YAML rendering of a nested field schema artifact. Nested fields with have a key field
    * <p>
@@ -332,10 +392,7 @@ public class YamlArtifactRenderer implements ArtifactRenderer<LinkedHashMap<Stri
     if (!isCompact && templateInstanceArtifact.modifiedBy().isPresent())
       rendering.put(MODIFIED_BY, templateInstanceArtifact.modifiedBy().get().toString());
 
-    LinkedHashMap<String, Object> childInstanceArtifactsRendering = renderChildInstanceArtifacts(
-      templateInstanceArtifact);
-    if (!childInstanceArtifactsRendering.isEmpty())
-      rendering.put(CHILDREN, childInstanceArtifactsRendering);
+    addChildInstanceArtifactsRendering(templateInstanceArtifact, rendering);
 
     for (Map.Entry<String, Map<String, FieldInstanceArtifact>> attributeValueFieldInstanceGroup : templateInstanceArtifact.attributeValueFieldInstanceGroups()
       .entrySet()) {
@@ -361,10 +418,7 @@ public class YamlArtifactRenderer implements ArtifactRenderer<LinkedHashMap<Stri
     if (!isCompact && elementInstanceArtifact.jsonLdId().isPresent())
       rendering.put(ID, elementInstanceArtifact.jsonLdId().get().toString());
 
-    LinkedHashMap<String, Object> childInstanceArtifactsRendering = renderChildInstanceArtifacts(
-      elementInstanceArtifact);
-    if (!childInstanceArtifactsRendering.isEmpty())
-      rendering.put(CHILDREN, childInstanceArtifactsRendering);
+    addChildInstanceArtifactsRendering(elementInstanceArtifact, rendering);
 
     for (Map.Entry<String, Map<String, FieldInstanceArtifact>> attributeValueFieldInstanceGroup : elementInstanceArtifact.attributeValueFieldInstanceGroups()
       .entrySet()) {
@@ -380,46 +434,55 @@ public class YamlArtifactRenderer implements ArtifactRenderer<LinkedHashMap<Stri
     return rendering;
   }
 
-  private LinkedHashMap<String, Object> renderChildInstanceArtifacts(ParentInstanceArtifact parentInstanceArtifact)
+  private void addChildInstanceArtifactsRendering(ParentInstanceArtifact parentInstanceArtifact,
+    LinkedHashMap<String, Object> rendering)
   {
     LinkedHashMap<String, Object> childInstanceArtifactsRendering = new LinkedHashMap<>();
 
     for (String childKey : parentInstanceArtifact.childKeys()) {
-      if (parentInstanceArtifact.singleInstanceFieldInstances().containsKey(childKey)) {
-        FieldInstanceArtifact fieldInstanceArtifact = parentInstanceArtifact.singleInstanceFieldInstances()
-          .get(childKey);
-        LinkedHashMap<String, Object> fieldInstanceArtifactRendering = renderFieldInstanceArtifact(
-          fieldInstanceArtifact);
-        if (!fieldInstanceArtifactRendering.isEmpty())
-          childInstanceArtifactsRendering.put(childKey, fieldInstanceArtifactRendering);
-      } else if (parentInstanceArtifact.singleInstanceElementInstances().containsKey(childKey)) {
-        if (parentInstanceArtifact.singleInstanceElementInstances().containsKey(childKey)) {
-          ElementInstanceArtifact elementInstanceArtifact = parentInstanceArtifact.singleInstanceElementInstances()
-            .get(childKey);
-          LinkedHashMap<String, Object> elementInstanceArtifactRendering = renderElementInstanceArtifact(
-            elementInstanceArtifact);
-
-          if (!elementInstanceArtifactRendering.isEmpty())
-            childInstanceArtifactsRendering.put(childKey, elementInstanceArtifactRendering);
-        }
-      } else if (parentInstanceArtifact.multiInstanceFieldInstances().containsKey(childKey)) {
-        List<LinkedHashMap<String, Object>> fieldInstanceArtifactsRendering = renderFieldInstanceArtifacts(
-          parentInstanceArtifact.multiInstanceFieldInstances().get(childKey));
+      Object childInstanceArtifactRendering = renderChildInstanceArtifact(parentInstanceArtifact, childKey);
 
-        if (!fieldInstanceArtifactsRendering.isEmpty()) {
-          childInstanceArtifactsRendering.put(childKey, fieldInstanceArtifactsRendering);
-        }
-      } else if (parentInstanceArtifact.multiInstanceElementInstances().containsKey(childKey)) {
-        List<LinkedHashMap<String, Object>> elementInstanceArtifactsRendering = renderElementInstanceArtifacts(
-          parentInstanceArtifact.multiInstanceElementInstances().get(childKey));
-
-        if (!elementInstanceArtifactsRendering.isEmpty()) {
-          childInstanceArtifactsRendering.put(childKey, elementInstanceArtifactsRendering);
-        }
-      }
+      if (childInstanceArtifactRendering != null)
+        childInstanceArtifactsRendering.put(childKey, childInstanceArtifactRendering);
     }
 
-    return childInstanceArtifactsRendering;
+    if (!childInstanceArtifactsRendering.isEmpty())
+      rendering.put(CHILDREN, childInstanceArtifactsRendering);
+  }
+
+  /**
+   * Return the rendering of a child instance artifact, or null if its rendering is empty
+   */
+  private Object renderChildInstanceArtifact(ParentInstanceArtifact parentInstanceArtifact, String childKey)
+  {
+    if (parentInstanceArtifact.singleInstanceFieldInstances().containsKey(childKey)) {
+      FieldInstanceArtifact fieldInstanceArtifact = parentInstanceArtifact.singleInstanceFieldInstances().get(childKey);
+      LinkedHashMap<String, Object> fieldInstanceArtifactRendering = renderFieldInstanceArtifact(fieldInstanceArtifact);
+
+      if (!fieldInstanceArtifactRendering.isEmpty())
+        return fieldInstanceArtifactRendering;
+    } else if (parentInstanceArtifact.singleInstanceElementInstances().containsKey(childKey)) {
+      ElementInstanceArtifact elementInstanceArtifact = parentInstanceArtifact.singleInstanceElementInstances()
+        .get(childKey);
+      LinkedHashMap<String, Object> elementInstanceArtifactRendering = renderElementInstanceArtifact(
+        elementInstanceArtifact);
+
+      if (!elementInstanceArtifactRendering.isEmpty())
+        return elementInstanceArtifactRendering;
+    } else if (parentInstanceArtifact.multiInstanceFieldInstances().containsKey(childKey)) {
+      List<LinkedHashMap<String, Object>> fieldInstanceArtifactsRendering = renderFieldInstanceArtifacts(
+        parentInstanceArtifact.multiInstanceFieldInstances().get(childKey));
+
+      if (!fieldInstanceArtifactsRendering.isEmpty())
+        return fieldInstanceArtifactsRendering;
+    } else if (parentInstanceArtifact.multiInstanceElementInstances().containsKey(childKey)) {
+      List<LinkedHashMap<String, Object>> elementInstanceArtifactsRendering = renderElementInstanceArtifacts(
+        parentInstanceArtifact.multiInstanceElementInstances().get(childKey));
+
+      if (!elementInstanceArtifactsRendering.isEmpty())
+        return elementInstanceArtifactsRendering;
+    }
+    return null;
   }
 
   private List<LinkedHashMap<String, Object>> renderElementInstanceArtifacts(
@@ -484,6 +547,239 @@ public class YamlArtifactRenderer implements ArtifactRenderer<LinkedHashMap<Stri
     return fieldInstanceArtifactRendering;
   }
 
+  /**
+   * Write the YAML rendering of a template instance artifact directly to a generator. The output is identical to
+   * serializing the result of {@link #renderTemplateInstanceArtifact(TemplateInstanceArtifact)} with an ObjectMapper,
+   * but every entry and value is written with a direct generator call as it is reached, so no intermediate rendering
+   * is built for the instance or any of its child instance artifacts.
+   */
+  public void renderTemplateInstanceArtifact(TemplateInstanceArtifact templateInstanceArtifact,
+    JsonGenerator generator) throws IOException
+  {
+    if (templateInstanceArtifact.name().isEmpty())
+      throw new RuntimeException("template instance must have a name");
+
+    generator.writeStartObject();
+    generator.writeStringField(TYPE, INSTANCE);
+    generator.writeStringField(NAME, templateInstanceArtifact.name().get());
+
+    if (templateInstanceArtifact.description().isPresent() && !templateInstanceArtifact.description().get().isEmpty())
+      generator.writeStringField(DESCRIPTION, templateInstanceArtifact.description().get());
+
+    if (!isCompact && templateInstanceArtifact.jsonLdId().isPresent())
+      generator.writeStringField(ID, templateInstanceArtifact.jsonLdId().get().toString());
+
+    generator.writeStringField(IS_BASED_ON, templateInstanceArtifact.isBasedOn().toString());
+
+    if (!isCompact && templateInstanceArtifact.createdOn().isPresent())
+      generator.writeStringField(CREATED_ON, renderOffsetDateTime(templateInstanceArtifact.createdOn().get()));
+
+    if (!isCompact && templateInstanceArtifact.createdBy().isPresent())
+      generator.writeStringField(CREATED_BY, templateInstanceArtifact.createdBy().get().toString());
+
+    if (!isCompact && templateInstanceArtifact.lastUpdatedOn().isPresent())
+      generator.writeStringField(MODIFIED_ON, renderOffsetDateTime(templateInstanceArtifact.lastUpdatedOn().get()));
+
+    if (!isCompact && templateInstanceArtifact.modifiedBy().isPresent())
+      generator.writeStringField(MODIFIED_BY, templateInstanceArtifact.modifiedBy().get().toString());
+
+    writeChildInstanceArtifacts(templateInstanceArtifact, generator);
+    writeAttributeValueFieldInstanceGroups(templateInstanceArtifact, generator);
+
+    if (templateInstanceArtifact.annotations().isPresent()) {
+      generator.writeFieldName(ANNOTATIONS);
+      writeAnnotations(templateInstanceArtifact.annotations().get(), generator);
+    }
+    generator.writeEndObject();
+  }
+
+  private void writeElementInstanceArtifact(ElementInstanceArtifact elementInstanceArtifact, JsonGenerator generator)
+    throws IOException
+  {
+    generator.writeStartObject();
+
+    if (!isCompact && elementInstanceArtifact.jsonLdId().isPresent())
+      generator.writeStringField(ID, elementInstanceArtifact.jsonLdId().get().toString());
+
+    writeChildInstanceArtifacts(elementInstanceArtifact, generator);
+    writeAttributeValueFieldInstanceGroups(elementInstanceArtifact, generator);
+
+    generator.writeEndObject();
+  }
+
+  /**
+   * Write the child instance artifacts of a parent, omitting those whose rendering would be empty. The children key
+   * is only written once the first child with a non-empty rendering is reached.
+   */
+  private void writeChildInstanceArtifacts(ParentInstanceArtifact parentInstanceArtifact, JsonGenerator generator)
+    throws IOException
+  {
+    boolean hasChildInstanceArtifactRenderings = false;
+
+    for (String childKey : parentInstanceArtifact.childKeys()) {
+      if (!hasChildInstanceArtifactRendering(parentInstanceArtifact, childKey))
+        continue;
+
+      if (!hasChildInstanceArtifactRenderings) {
+        generator.writeFieldName(CHILDREN);
+        generator.writeStartObject();
+        hasChildInstanceArtifactRenderings = true;
+      }
+      generator.writeFieldName(childKey);
+
+      if (parentInstanceArtifact.singleInstanceFieldInstances().containsKey(childKey))
+        writeFieldInstanceArtifact(parentInstanceArtifact.singleInstanceFieldInstances().get(childKey), generator);
+      else if (parentInstanceArtifact.singleInstanceElementInstances().containsKey(childKey))
+        writeElementInstanceArtifact(parentInstanceArtifact.singleInstanceElementInstances().get(childKey), generator);
+      else if (parentInstanceArtifact.multiInstanceFieldInstances().containsKey(childKey)) {
+        generator.writeStartArray();
+        for (FieldInstanceArtifact fieldInstanceArtifact : parentInstanceArtifact.multiInstanceFieldInstances()
+          .get(childKey)) {
+          if (hasFieldInstanceArtifactRendering(fieldInstanceArtifact))
+            writeFieldInstanceArtifact(fieldInstanceArtifact, generator);
+        }
+        generator.writeEndArray();
+      } else {
+        generator.writeStartArray();
+        for (ElementInstanceArtifact elementInstanceArtifact : parentInstanceArtifact.multiInstanceElementInstances()
+          .get(childKey)) {
+          if (hasElementInstanceArtifactRendering(elementInstanceArtifact))
+            writeElementInstanceArtifact(elementInstanceArtifact, generator);
+        }
+        generator.writeEndArray();
+      }
+    }
+
+    if (hasChildInstanceArtifactRenderings)
+      generator.writeEndObject();
+  }
+
+  private void writeAttributeValueFieldInstanceGroups(ParentInstanceArtifact parentInstanceArtifact,
+    JsonGenerator generator) throws IOException
+  {
+    for (Map.Entry<String, Map<String, FieldInstanceArtifact>> attributeValueFieldInstanceGroup : parentInstanceArtifact.attributeValueFieldInstanceGroups()
+      .entrySet()) {
+      Map<String, FieldInstanceArtifact> attributeValueFieldInstanceGroupFields = attributeValueFieldInstanceGroup.getValue();
+
+      if (!attributeValueFieldInstanceGroupFields.isEmpty()) {
+        generator.writeFieldName(attributeValueFieldInstanceGroup.getKey());
+        generator.writeStartObject();
+        for (Map.Entry<String, FieldInstanceArtifact> attributeValueFieldInstanceGroupField : attributeValueFieldInstanceGroupFields.entrySet()) {
+          generator.writeFieldName(attributeValueFieldInstanceGroupField.getKey());
+          writeFieldInstanceArtifact(attributeValueFieldInstanceGroupField.getValue(), generator);
+        }
+        generator.writeEndObject();
+      }
+    }
+  }
+
+  private void writeFieldInstanceArtifact(FieldInstanceArtifact fieldInstanceArtifact, JsonGenerator generator)
+    throws IOException
+  {
+    generator.writeStartObject();
+
+    if (!fieldInstanceArtifact.jsonLdTypes().isEmpty())
+      generator.writeStringField(DATATYPE, renderPossiblyXsdPrefixedUri(fieldInstanceArtifact.jsonLdTypes().get(0)));
+
+    if (fieldInstanceArtifact.jsonLdId().isPresent())
+      generator.writeStringField(ID, fieldInstanceArtifact.jsonLdId().get().toString());
+
+    if (fieldInstanceArtifact.jsonLdValue() == null)
+      generator.writeNullField(VALUE);
+    else if (fieldInstanceArtifact.jsonLdValue().isPresent())
+      generator.writeStringField(VALUE, fieldInstanceArtifact.jsonLdValue().get());
+
+    if (fieldInstanceArtifact.label().isPresent())
+      generator.writeStringField(LABEL, fieldInstanceArtifact.label().get());
+
+    if (fieldInstanceArtifact.notation().isPresent())
+      generator.writeStringField(NOTATION, fieldInstanceArtifact.notation().get());
+
+    if (fieldInstanceArtifact.preferredLabel().isPresent())
+      generator.writeStringField(PREF_LABEL, fieldInstanceArtifact.preferredLabel().get());
+
+    if (fieldInstanceArtifact.language().isPresent())
+      generator.writeStringField(LANGUAGE, fieldInstanceArtifact.language().get());
+
+    generator.writeEndObject();
+  }
+
+  private void writeAnnotations(Annotations annotations, JsonGenerator generator) throws IOException
+  {
+    generator.writeStartObject();
+    for (Map.Entry<String, AnnotationValue> annotationValueEntry : annotations.annotations().entrySet()) {
+      AnnotationValue annotationValue = annotationValueEntry.getValue();
+
+      generator.writeFieldName(annotationValueEntry.getKey());
+      generator.writeStartObject();
+      // TODO Use typesafe switch when available
+      if (annotationValue instanceof LiteralAnnotationValue) {
+        LiteralAnnotationValue literalAnnotationValue = (LiteralAnnotationValue)annotationValue;
+        generator.writeStringField(VALUE, literalAnnotationValue.getValue());
+      } else if (annotationValue instanceof IriAnnotationValue) {
+        IriAnnotationValue iriAnnotationValue = (IriAnnotationValue)annotationValue;
+        generator.writeStringField(ID, iriAnnotationValue.getValue().toString());
+      }
+      generator.writeEndObject();
+    }
+    generator.writeEndObject();
+  }
+
+  /**
+   * Report whether a child instance artifact has a non-empty rendering without rendering it, so that a child can be
+   * omitted before any of it is written
+   */
+  private boolean hasChildInstanceArtifactRendering(ParentInstanceArtifact parentInstanceArtifact, String childKey)
+  {
+    if (parentInstanceArtifact.singleInstanceFieldInstances().containsKey(childKey))
+      return hasFieldInstanceArtifactRendering(parentInstanceArtifact.singleInstanceFieldInstances().get(childKey));
+    else if (parentInstanceArtifact.singleInstanceElementInstances().containsKey(childKey))
+      return hasElementInstanceArtifactRendering(
+        parentInstanceArtifact.singleInstanceElementInstances().get(childKey));
+    else if (parentInstanceArtifact.multiInstanceFieldInstances().containsKey(childKey)) {
+      for (FieldInstanceArtifact fieldInstanceArtifact : parentInstanceArtifact.multiInstanceFieldInstances()
+        .get(childKey)) {
+        if (hasFieldInstanceArtifactRendering(fieldInstanceArtifact))
+          return true;
+      }
+      return false;
+    } else if (parentInstanceArtifact.multiInstanceElementInstances().containsKey(childKey)) {
+      for (ElementInstanceArtifact elementInstanceArtifact : parentInstanceArtifact.multiInstanceElementInstances()
+        .get(childKey)) {
+        if (hasElementInstanceArtifactRendering(elementInstanceArtifact))
+          return true;
+      }
+      return false;
+    } else
+      return false;
+  }
+
+  private boolean hasElementInstanceArtifactRendering(ElementInstanceArtifact elementInstanceArtifact)
+  {
+    if (!isCompact && elementInstanceArtifact.jsonLdId().isPresent())
+      return true;
+
+    for (String childKey : elementInstanceArtifact.childKeys()) {
+      if (hasChildInstanceArtifactRendering(elementInstanceArtifact, childKey))
+        return true;
+    }
+
+    for (Map<String, FieldInstanceArtifact> attributeValueFieldInstanceGroupFields : elementInstanceArtifact
+      .attributeValueFieldInstanceGroups().values()) {
+      if (!attributeValueFieldInstanceGroupFields.isEmpty())
+        return true;
+    }
+    return false;
+  }
+
+  private boolean hasFieldInstanceArtifactRendering(FieldInstanceArtifact fieldInstanceArtifact)
+  {
+    return !fieldInstanceArtifact.jsonLdTypes().isEmpty() || fieldInstanceArtifact.jsonLdId().isPresent()
+      || fieldInstanceArtifact.jsonLdValue() == null || fieldInstanceArtifact.jsonLdValue().isPresent()
+      || fieldInstanceArtifact.label().isPresent() || fieldInstanceArtifact.notation().isPresent()
+      || fieldInstanceArtifact.preferredLabel().isPresent() || fieldInstanceArtifact.language().isPresent();
+  }
+
   /**
    * Generate YAML rendering for core fields in a field schema artifact.
    * <p>
@@ -923,37 +1219,58 @@ public class YamlArtifactRenderer implements ArtifactRenderer<LinkedHashMap<Stri
   {
     List<LinkedHashMap<String, Object>> childSchemasRendering = new ArrayList<>();
 
-    for (Map.Entry<String, ChildSchemaArtifact> childSchemaArtifactEntry : childSchemaArtifacts.entrySet()) {
-      String childKey = childSchemaArtifactEntry.getKey();
-      ChildSchemaArtifact childSchemaArtifact = childSchemaArtifactEntry.getValue();
-
-      // TODO Use typesafe switch when available
-      if (childSchemaArtifact instanceof FieldSchemaArtifact) {
-        FieldSchemaArtifact fieldSchemaArtifact = (FieldSchemaArtifact)childSchemaArtifact;
-        LinkedHashMap<String, Object> fieldSchemaRendering = renderFieldSchemaArtifact(childKey, fieldSchemaArtifact);
-
-        LinkedHashMap<String, Object> fieldConfigurationRendering = renderFieldConfiguration(parentSchemaArtifact,
-          childKey, fieldSchemaArtifact);
-        if (!fieldConfigurationRendering.isEmpty())
-          fieldSchemaRendering.put(CONFIGURATION, fieldConfigurationRendering);
-
-        childSchemasRendering.add(fieldSchemaRendering);
-      } else if (childSchemaArtifact instanceof ElementSchemaArtifact) {
-        ElementSchemaArtifact elementSchemaArtifact = (ElementSchemaArtifact)childSchemaArtifact;
-        LinkedHashMap<String, Object> elementSchemaRendering = renderElementSchemaArtifact(childKey,
-          elementSchemaArtifact);
-        LinkedHashMap<String, Object> elementConfigurationRendering = renderElementConfiguration(parentSchemaArtifact,
-          childKey, elementSchemaArtifact);
-        if (!elementConfigurationRendering.isEmpty())
-          elementSchemaRendering.put(CONFIGURATION, elementConfigurationRendering);
-
-        childSchemasRendering.add(elementSchemaRendering);
-      }
-    }
+    for (Map.Entry<String, ChildSchemaArtifact> childSchemaArtifactEntry : childSchemaArtifacts.entrySet())
+      childSchemasRendering.add(renderChildSchema(parentSchemaArtifact, childSchemaArtifactEntry.getKey(),
+        childSchemaArtifactEntry.getValue(), this::renderChildSchemas));
 
     return childSchemasRendering;
   }
 
+  /**
+   * Child schema artifacts are rendered and written one at a time, deferring the children of nested elements in turn
+   */
+  private DeferredRendering deferChildSchemas(ParentSchemaArtifact parentSchemaArtifact,
+    LinkedHashMap<String, ChildSchemaArtifact> childSchemaArtifacts)
+  {
+    return (key, generator) -> {
+      generator.writeFieldName(key);
+      generator.writeStartArray();
+      for (Map.Entry<String, ChildSchemaArtifact> childSchemaArtifactEntry : childSchemaArtifacts.entrySet())
+        writeRendering(renderChildSchema(parentSchemaArtifact, childSchemaArtifactEntry.getKey(),
+          childSchemaArtifactEntry.getValue(), this::deferChildSchemas), generator);
+      generator.writeEndArray();
+    };
+  }
+
+  private LinkedHashMap<String, Object> renderChildSchema(ParentSchemaArtifact parentSchemaArtifact, String childKey,
+    ChildSchemaArtifact childSchemaArtifact,
+    BiFunction<ParentSchemaArtifact, LinkedHashMap<String, ChildSchemaArtifact>, Object> childSchemasRenderer)
+  {
+    // TODO Use typesafe switch when available
+    if (childSchemaArtifact instanceof FieldSchemaArtifact) {
+      FieldSchemaArtifact fieldSchemaArtifact = (FieldSchemaArtifact)childSchemaArtifact;
+      LinkedHashMap<String, Object> fieldSchemaRendering = renderFieldSchemaArtifact(childKey, fieldSchemaArtifact);
+
+      LinkedHashMap<String, Object> fieldConfigurationRendering = renderFieldConfiguration(parentSchemaArtifact,
+        childKey, fieldSchemaArtifact);
+      if (!fieldConfigurationRendering.isEmpty())
+        fieldSchemaRendering.put(CONFIGURATION, fieldConfigurationRendering);
+
+      return fieldSchemaRendering;
+    } else if (childSchemaArtifact instanceof ElementSchemaArtifact) {
+      ElementSchemaArtifact elementSchemaArtifact = (ElementSchemaArtifact)childSchemaArtifact;
+      LinkedHashMap<String, Object> elementSchemaRendering = renderElementSchemaArtifact(childKey,
+        elementSchemaArtifact, childSchemasRenderer);
+      LinkedHashMap<String, Object> elementConfigurationRendering = renderElementConfiguration(parentSchemaArtifact,
+        childKey, elementSchemaArtifact);
+      if (!elementConfigurationRendering.isEmpty())
+        elementSchemaRendering.put(CONFIGURATION, elementConfigurationRendering);
+
+      return elementSchemaRendering;
+    } else
+      throw new RuntimeException("Unknown child schema artifact type " + childSchemaArtifact.getClass().getName());
+  }
+
   private LinkedHashMap<String, Object> renderElementConfiguration(ParentSchemaArtifact parentSchemaArtifact,
     String elementKey, ElementSchemaArtifact elementSchemaArtifact)
   {
@@ -1371,5 +1688,32 @@ public class YamlArtifactRenderer implements ArtifactRenderer<LinkedHashMap<Stri
     else
       return uri.toString();
   }
-}
 
+  /**
+   * Write a rendering to a generator, serializing its values with the generator's codec and writing its deferred
+   * renderings as they are reached
+   */
+  private void writeRendering(LinkedHashMap<String, Object> rendering, JsonGenerator generator) throws IOException
+  {
+    generator.writeStartObject();
+    for (Map.Entry<String, Object> renderingEntry : rendering.entrySet()) {
+      if (renderingEntry.getValue() instanceof DeferredRendering deferredRendering)
+        deferredRendering.write(renderingEntry.getKey(), generator);
+      else {
+        generator.writeFieldName(renderingEntry.getKey());
+        generator.writeObject(renderingEntry.getValue());
+      }
+    }
+    generator.writeEndObject();
+  }
+
+  /**
+   * A part of a rendering that is rendered and written when it is reached. It writes its own key, so it can omit
+   * itself if it turns out to be empty.
+   */
+  @FunctionalInterface
+  private interface DeferredRendering
+  {
+    void write(String key, JsonGenerator generator) throws IOException;
+  }
+}
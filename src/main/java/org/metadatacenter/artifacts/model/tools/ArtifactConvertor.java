@@ -1,5 +1,8 @@
 package org.metadatacenter.artifacts.model.tools;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -14,10 +17,10 @@ import org.metadatacenter.artifacts.model.renderer.JsonArtifactRenderer;
 import org.metadatacenter.artifacts.util.ConnectionUtil;
 import org.metadatacenter.artifacts.util.TerminologyServerClient;
 
-import java.io.File;
 import java.io.IOException;
-import java.net.HttpURLConnection;
+import java.io.InputStream;
 import java.net.URLEncoder;
+import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -26,6 +29,7 @@ import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 
 public class ArtifactConvertor {
@@ -39,12 +43,17 @@ public class ArtifactConvertor {
   private static final String TEMPLATE_INSTANCE_IRI_OPTION = "tii";
   private static final String YAML_FORMAT_OPTION = "yf";
   private static final String JSON_FORMAT_OPTION = "jf";
+  private static final String SMILE_FORMAT_OPTION = "sf";
+  private static final String CBOR_FORMAT_OPTION = "cf";
+  private static final String INPUT_FORMAT_OPTION = "if";
   private static final String COMPACT_YAML_OPTION = "cy";
   private static final String YAML_FULL_QUOTES = "yq";
   private static final String OUTPUT_FILE_OPTION = "f";
   private static final String CEDAR_RESOURCE_REST_API_BASE_OPTION = "r";
   private static final String CEDAR_TERMINOLOGY_INTEGRATED_SEARCH_REST_API = "t";
   private static final String CEDAR_APIKEY_OPTION = "k";
+  private static final String TERMINOLOGY_CACHE_FILE_OPTION = "tc";
+  private static final String TERMINOLOGY_SNAPSHOT_FILE_OPTION = "ts";
 
   private static final String TEMPLATE_SCHEMA_RESOURCE_PATH_EXTENSION = "templates";
   private static final String ELEMENT_SCHEMA_RESOURCE_PATH_EXTENSION = "template-elements";
@@ -77,7 +86,7 @@ public class ArtifactConvertor {
   )));
 
   private static final Set<String> FORMAT_OPTIONS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
-      YAML_FORMAT_OPTION, JSON_FORMAT_OPTION
+      YAML_FORMAT_OPTION, JSON_FORMAT_OPTION, SMILE_FORMAT_OPTION, CBOR_FORMAT_OPTION
   )));
 
   private static ObjectWriter PRETTY_OBJECT_WRITER;
@@ -102,44 +111,50 @@ public class ArtifactConvertor {
 
       JsonArtifactReader artifactReader = new JsonArtifactReader();
       JsonArtifactRenderer jsonArtifactRenderer = new JsonArtifactRenderer();
-      ObjectNode jsonRendering = null;
+      JsonArtifactFormat inputFormat = getInputFormat(command);
+      Optional<JsonArtifactFormat> outputFormat = getJsonOutputFormat(command);
+      JsonRendering jsonRendering = null;
 
       if (command.hasOption(TEMPLATE_SCHEMA_FILE_OPTION)) {
-        ObjectNode templateObjectNode = readArtifactJsonFromFile(command, TEMPLATE_SCHEMA_FILE_OPTION);
+        ObjectNode templateObjectNode = readArtifactJsonFromFile(command, TEMPLATE_SCHEMA_FILE_OPTION, inputFormat);
         TemplateSchemaArtifact templateSchemaArtifact = artifactReader.readTemplateSchemaArtifact(templateObjectNode);
 
         if (command.hasOption(YAML_FORMAT_OPTION)) {
           renderYaml(templateSchemaArtifact, command);
-        } else if (command.hasOption(JSON_FORMAT_OPTION)) {
-          jsonRendering = jsonArtifactRenderer.renderTemplateSchemaArtifact(templateSchemaArtifact);
+        } else if (outputFormat.isPresent()) {
+          jsonRendering = generator -> jsonArtifactRenderer.renderTemplateSchemaArtifact(templateSchemaArtifact,
+              generator);
         }
       } else if (command.hasOption(ELEMENT_SCHEMA_FILE_OPTION)) {
-        ObjectNode elementObjectNode = readArtifactJsonFromFile(command, ELEMENT_SCHEMA_FILE_OPTION);
+        ObjectNode elementObjectNode = readArtifactJsonFromFile(command, ELEMENT_SCHEMA_FILE_OPTION, inputFormat);
         ElementSchemaArtifact elementSchemaArtifact = artifactReader.readElementSchemaArtifact(elementObjectNode);
 
         if (command.hasOption(YAML_FORMAT_OPTION)) {
           renderYaml(elementSchemaArtifact, command);
-        } else if (command.hasOption(JSON_FORMAT_OPTION)) {
-          jsonRendering = jsonArtifactRenderer.renderElementSchemaArtifact(elementSchemaArtifact);
+        } else if (outputFormat.isPresent()) {
+          jsonRendering = generator -> jsonArtifactRenderer.renderElementSchemaArtifact(elementSchemaArtifact,
+              generator);
         }
       } else if (command.hasOption(FIELD_SCHEMA_FILE_OPTION)) {
-        ObjectNode fieldObjectNode = readArtifactJsonFromFile(command, FIELD_SCHEMA_FILE_OPTION);
+        ObjectNode fieldObjectNode = readArtifactJsonFromFile(command, FIELD_SCHEMA_FILE_OPTION, inputFormat);
         FieldSchemaArtifact fieldSchemaArtifact = artifactReader.readFieldSchemaArtifact(fieldObjectNode);
 
         if (command.hasOption(YAML_FORMAT_OPTION)) {
           renderYaml(fieldSchemaArtifact, command);
-        } else if (command.hasOption(JSON_FORMAT_OPTION)) {
-          jsonRendering = jsonArtifactRenderer.renderFieldSchemaArtifact(fieldSchemaArtifact);
+        } else if (outputFormat.isPresent()) {
+          jsonRendering = generator -> PRETTY_OBJECT_WRITER.writeValue(generator,
+              jsonArtifactRenderer.renderFieldSchemaArtifact(fieldSchemaArtifact));
         }
       } else if (command.hasOption(TEMPLATE_INSTANCE_FILE_OPTION)) {
-        ObjectNode fieldObjectNode = readArtifactJsonFromFile(command, TEMPLATE_INSTANCE_FILE_OPTION);
+        ObjectNode fieldObjectNode = readArtifactJsonFromFile(command, TEMPLATE_INSTANCE_FILE_OPTION, inputFormat);
         TemplateInstanceArtifact templateInstanceArtifact = artifactReader.readTemplateInstanceArtifact(
             fieldObjectNode);
 
         if (command.hasOption(YAML_FORMAT_OPTION)) {
           renderYaml(templateInstanceArtifact, command);
-        } else if (command.hasOption(JSON_FORMAT_OPTION)) {
-          jsonRendering = jsonArtifactRenderer.renderTemplateInstanceArtifact(templateInstanceArtifact);
+        } else if (outputFormat.isPresent()) {
+          jsonRendering = generator -> jsonArtifactRenderer.renderTemplateInstanceArtifact(templateInstanceArtifact,
+              generator);
         }
       } else if (command.hasOption(TEMPLATE_SCHEMA_IRI_OPTION)) {
         ObjectNode templateObjectNode = readArtifactJsonFromRestApi(command, TEMPLATE_SCHEMA_IRI_OPTION,
@@ -148,8 +163,9 @@ public class ArtifactConvertor {
 
         if (command.hasOption(YAML_FORMAT_OPTION)) {
           renderYaml(templateSchemaArtifact, command);
-        } else if (command.hasOption(JSON_FORMAT_OPTION)) {
-          jsonRendering = jsonArtifactRenderer.renderTemplateSchemaArtifact(templateSchemaArtifact);
+        } else if (outputFormat.isPresent()) {
+          jsonRendering = generator -> jsonArtifactRenderer.renderTemplateSchemaArtifact(templateSchemaArtifact,
+              generator);
         }
       } else if (command.hasOption(ELEMENT_SCHEMA_IRI_OPTION)) {
         ObjectNode elementObjectNode = readArtifactJsonFromRestApi(command, ELEMENT_SCHEMA_IRI_OPTION,
@@ -158,8 +174,9 @@ public class ArtifactConvertor {
 
         if (command.hasOption(YAML_FORMAT_OPTION)) {
           renderYaml(elementSchemaArtifact, command);
-        } else if (command.hasOption(JSON_FORMAT_OPTION)) {
-          jsonRendering = jsonArtifactRenderer.renderElementSchemaArtifact(elementSchemaArtifact);
+        } else if (outputFormat.isPresent()) {
+          jsonRendering = generator -> jsonArtifactRenderer.renderElementSchemaArtifact(elementSchemaArtifact,
+              generator);
         }
       } else if (command.hasOption(FIELD_SCHEMA_IRI_OPTION)) {
         ObjectNode fieldObjectNode = readArtifactJsonFromRestApi(command, FIELD_SCHEMA_IRI_OPTION,
@@ -168,8 +185,9 @@ public class ArtifactConvertor {
 
         if (command.hasOption(YAML_FORMAT_OPTION)) {
           renderYaml(fieldSchemaArtifact, command);
-        } else if (command.hasOption(JSON_FORMAT_OPTION)) {
-          jsonRendering = jsonArtifactRenderer.renderFieldSchemaArtifact(fieldSchemaArtifact);
+        } else if (outputFormat.isPresent()) {
+          jsonRendering = generator -> PRETTY_OBJECT_WRITER.writeValue(generator,
+              jsonArtifactRenderer.renderFieldSchemaArtifact(fieldSchemaArtifact));
         }
       } else if (command.hasOption(TEMPLATE_INSTANCE_IRI_OPTION)) {
         ObjectNode fieldObjectNode = readArtifactJsonFromRestApi(command, TEMPLATE_INSTANCE_IRI_OPTION,
@@ -179,24 +197,39 @@ public class ArtifactConvertor {
 
         if (command.hasOption(YAML_FORMAT_OPTION)) {
           renderYaml(templateInstanceArtifact, command);
-        } else if (command.hasOption(JSON_FORMAT_OPTION)) {
-          jsonRendering = jsonArtifactRenderer.renderTemplateInstanceArtifact(templateInstanceArtifact);
+        } else if (outputFormat.isPresent()) {
+          jsonRendering = generator -> jsonArtifactRenderer.renderTemplateInstanceArtifact(templateInstanceArtifact,
+              generator);
         }
       } else {
         Usage(options, "No artifact file or artifact IRI option specified");
       }
 
       try {
-        if (command.hasOption(JSON_FORMAT_OPTION)) {
-
-          if (command.hasOption(OUTPUT_FILE_OPTION)) {
+        if (outputFormat.isPresent()) {
+
+          if (outputFormat.get().isBinary()) {
+            Path binaryOutputFilePath = Paths.get(command.getOptionValue(OUTPUT_FILE_OPTION));
+            try (JsonGenerator generator = outputFormat.get().createGenerator(
+                Files.newOutputStream(binaryOutputFilePath))) {
+              jsonRendering.render(generator);
+            }
+            System.out.println("Successfully generated " + outputFormat.get() + " file at: "
+                + binaryOutputFilePath.toAbsolutePath());
+          } else if (command.hasOption(OUTPUT_FILE_OPTION)) {
             String jsonOutputFileName = command.getOptionValue(OUTPUT_FILE_OPTION);
             Path jsonOutputFilePath = Paths.get(jsonOutputFileName);
-            PRETTY_OBJECT_WRITER.writeValue(jsonOutputFilePath.toFile(), jsonRendering);
+            try (JsonGenerator generator = PRETTY_OBJECT_WRITER.createGenerator(jsonOutputFilePath.toFile(),
+                JsonEncoding.UTF8)) {
+              jsonRendering.render(generator);
+            }
             Files.write(jsonOutputFilePath, "\n".getBytes(), StandardOpenOption.APPEND);
             System.out.println("Successfully generated JSON file at: " + jsonOutputFilePath.toAbsolutePath());
           } else {
-            PRETTY_OBJECT_WRITER.writeValue(System.out, jsonRendering);
+            try (JsonGenerator generator = PRETTY_OBJECT_WRITER.createGenerator(System.out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+              jsonRendering.render(generator);
+            }
             System.out.println();
           }
         }
@@ -208,9 +241,20 @@ public class ArtifactConvertor {
     }
   }
 
-  private static void renderYaml(Artifact artifact, CommandLine command) {
+  /**
+   * A JSON rendering of an artifact that is written directly to a generator rather than built as a tree first. The
+   * generator may write JSON text or one of its binary encodings.
+   */
+  @FunctionalInterface
+  private interface JsonRendering {
+    void render(JsonGenerator generator) throws IOException;
+  }
+
+  private static void renderYaml(Artifact artifact, CommandLine command) throws IOException {
     boolean compactYaml = command.hasOption(COMPACT_YAML_OPTION);
-    TerminologyServerClient terminologyServerClient = createTerminologyServerClientIfPossible(command);
+    TerminologyServerClientSetup terminologyServerClientSetup = createTerminologyServerClientSetup(command);
+    TerminologyServerClient terminologyServerClient = terminologyServerClientSetup.getTerminologyServerClient()
+        .orElse(null);
 
     boolean yamlFullQuotes = command.hasOption(YAML_FULL_QUOTES);
 
@@ -222,6 +266,8 @@ public class ArtifactConvertor {
     } else {
       YamlSerializer.outputYAML(artifact, compactYaml, yamlFullQuotes, terminologyServerClient);
     }
+
+    terminologyServerClientSetup.saveCache();
   }
 
   private static ObjectNode readArtifactJsonFromRestApi(CommandLine command, String artifactCommandOption,
@@ -230,21 +276,24 @@ public class ArtifactConvertor {
     String artifactIri = command.getOptionValue(artifactCommandOption);
     String resourceServerBase = command.getOptionValue(CEDAR_RESOURCE_REST_API_BASE_OPTION);
     String requestURL = resourceServerBase + "/" + artifactResourcePathExtension + "/" + URLEncoder.encode(artifactIri, StandardCharsets.UTF_8);
-    HttpURLConnection connection = ConnectionUtil.createAndOpenConnection("GET", requestURL, cedarApiKey);
-    int responseCode = connection.getResponseCode();
+    HttpResponse<InputStream> response = ConnectionUtil.sendGetRequest(requestURL, cedarApiKey);
 
-    if (responseCode >= HttpURLConnection.HTTP_BAD_REQUEST) {
-      throw new RuntimeException("Error retrieving artifact at " + requestURL + ": " + responseCode);
+    if (ConnectionUtil.isErrorResponse(response)) {
+      ConnectionUtil.discardResponseMessage(response);
+      throw new RuntimeException("Error retrieving artifact at " + requestURL + ": " + response.statusCode());
     }
 
-    return ConnectionUtil.readJsonResponseMessage(connection.getInputStream());
+    return ConnectionUtil.readJsonResponseMessage(response);
   }
 
-  private static ObjectNode readArtifactJsonFromFile(CommandLine command, String artifactCommandOption) throws IOException {
+  private static ObjectNode readArtifactJsonFromFile(CommandLine command, String artifactCommandOption,
+                                                     JsonArtifactFormat inputFormat) throws IOException {
     String artifactFileName = command.getOptionValue(artifactCommandOption);
-    File artifactFile = new File(artifactFileName);
-    ObjectMapper mapper = new ObjectMapper();
-    JsonNode artifactJsonNode = mapper.readTree(artifactFile);
+    JsonNode artifactJsonNode;
+
+    try (JsonParser parser = inputFormat.createParser(Files.newInputStream(Path.of(artifactFileName)))) {
+      artifactJsonNode = parser.readValueAsTree();
+    }
 
     if (!artifactJsonNode.isObject()) {
       throw new RuntimeException("Expecting JSON object");
@@ -253,23 +302,40 @@ public class ArtifactConvertor {
     return (ObjectNode) artifactJsonNode;
   }
 
-  private static TerminologyServerClient createTerminologyServerClientIfPossible(CommandLine command) {
-    if (command.hasOption(CEDAR_TERMINOLOGY_INTEGRATED_SEARCH_REST_API)) {
-      String terminologyServerIntegratedSearchEndpoint = command.getOptionValue(
-          CEDAR_TERMINOLOGY_INTEGRATED_SEARCH_REST_API);
-
-      if (!command.hasOption(CEDAR_APIKEY_OPTION)) {
-        throw new RuntimeException("no CEDAR API key provided for terminology server");
-      }
-
-      String terminologyServerApiKey = command.getOptionValue(CEDAR_APIKEY_OPTION);
+  private static JsonArtifactFormat getInputFormat(CommandLine command) {
+    if (command.hasOption(INPUT_FORMAT_OPTION)) {
+      return JsonArtifactFormat.fromString(command.getOptionValue(INPUT_FORMAT_OPTION));
+    } else {
+      return JsonArtifactFormat.JSON;
+    }
+  }
 
-      return new TerminologyServerClient(terminologyServerIntegratedSearchEndpoint, terminologyServerApiKey);
+  private static Optional<JsonArtifactFormat> getJsonOutputFormat(CommandLine command) {
+    if (command.hasOption(JSON_FORMAT_OPTION)) {
+      return Optional.of(JsonArtifactFormat.JSON);
+    } else if (command.hasOption(SMILE_FORMAT_OPTION)) {
+      return Optional.of(JsonArtifactFormat.SMILE);
+    } else if (command.hasOption(CBOR_FORMAT_OPTION)) {
+      return Optional.of(JsonArtifactFormat.CBOR);
     } else {
-      return null;
+      return Optional.empty();
     }
   }
 
+  private static TerminologyServerClientSetup createTerminologyServerClientSetup(CommandLine command)
+      throws IOException {
+    if (!command.hasOption(TERMINOLOGY_SNAPSHOT_FILE_OPTION)
+        && command.hasOption(CEDAR_TERMINOLOGY_INTEGRATED_SEARCH_REST_API) && !command.hasOption(CEDAR_APIKEY_OPTION)) {
+      throw new RuntimeException("no CEDAR API key provided for terminology server");
+    }
+
+    return TerminologyServerClientSetup.create(
+        Optional.ofNullable(command.getOptionValue(TERMINOLOGY_SNAPSHOT_FILE_OPTION)).map(Path::of),
+        Optional.ofNullable(command.getOptionValue(TERMINOLOGY_CACHE_FILE_OPTION)).map(Path::of),
+        Optional.ofNullable(command.getOptionValue(CEDAR_TERMINOLOGY_INTEGRATED_SEARCH_REST_API)),
+        command.getOptionValue(CEDAR_APIKEY_OPTION));
+  }
+
   private static Options buildCommandLineOptions() {
     Options options = new Options();
 
@@ -337,6 +403,22 @@ public class ArtifactConvertor {
         .desc("JSON format")
         .build();
 
+    Option smileFormatOption = Option.builder(SMILE_FORMAT_OPTION)
+        .argName("smile-format")
+        .desc("Smile binary JSON format (requires an output file)")
+        .build();
+
+    Option cborFormatOption = Option.builder(CBOR_FORMAT_OPTION)
+        .argName("cbor-format")
+        .desc("CBOR binary JSON format (requires an output file)")
+        .build();
+
+    Option inputFormatOption = Option.builder(INPUT_FORMAT_OPTION)
+        .argName("input-format")
+        .hasArg()
+        .desc("Format of artifact files: json (default), smile, or cbor")
+        .build();
+
     Option compactYamlOption = Option.builder(COMPACT_YAML_OPTION)
         .argName("compact-yaml")
         .desc("Compact YAML")
@@ -365,6 +447,18 @@ public class ArtifactConvertor {
         .desc("CEDAR API key")
         .build();
 
+    Option terminologyCacheFileOption = Option.builder(TERMINOLOGY_CACHE_FILE_OPTION)
+        .argName("terminology-cache-file")
+        .hasArg()
+        .desc("File in which terminology server values are cached between runs")
+        .build();
+
+    Option terminologySnapshotFileOption = Option.builder(TERMINOLOGY_SNAPSHOT_FILE_OPTION)
+        .argName("terminology-snapshot-file")
+        .hasArg()
+        .desc("Terminology snapshot file to take values from instead of the terminology server")
+        .build();
+
     OptionGroup artifactGroup = new OptionGroup();
     artifactGroup.addOption(templateSchemaFileOption);
     artifactGroup.addOption(elementSchemaFileOption);
@@ -381,15 +475,20 @@ public class ArtifactConvertor {
     OptionGroup formatGroup = new OptionGroup();
     formatGroup.addOption(yamlFormatOption);
     formatGroup.addOption(jsonFormatOption);
+    formatGroup.addOption(smileFormatOption);
+    formatGroup.addOption(cborFormatOption);
 
     options.addOptionGroup(formatGroup);
 
     options.addOption(outputFileOption);
+    options.addOption(inputFormatOption);
     options.addOption(compactYamlOption);
     options.addOption(yamlFullquotesOption);
     options.addOption(resourceOption);
     options.addOption(terminologySearchOption);
     options.addOption(keyOption);
+    options.addOption(terminologyCacheFileOption);
+    options.addOption(terminologySnapshotFileOption);
 
     return options;
   }
@@ -403,6 +502,19 @@ public class ArtifactConvertor {
       Usage(options, "One output format should be specified");
     }
 
+    if ((command.hasOption(SMILE_FORMAT_OPTION) || command.hasOption(CBOR_FORMAT_OPTION))
+        && !command.hasOption(OUTPUT_FILE_OPTION)) {
+      Usage(options, "An output file must be specified for a binary output format");
+    }
+
+    if (command.hasOption(INPUT_FORMAT_OPTION)) {
+      try {
+        JsonArtifactFormat.fromString(command.getOptionValue(INPUT_FORMAT_OPTION));
+      } catch (IllegalArgumentException e) {
+        Usage(options, e.getMessage());
+      }
+    }
+
     if (ARTIFACT_FILE_OPTIONS.stream().anyMatch(o -> command.hasOption(o))) {
     } else if (ARTIFACT_IRI_OPTIONS.stream().anyMatch(o -> command.hasOption(o))) {
       if (!command.hasOption(CEDAR_RESOURCE_REST_API_BASE_OPTION) || !command.hasOption(CEDAR_APIKEY_OPTION)) {
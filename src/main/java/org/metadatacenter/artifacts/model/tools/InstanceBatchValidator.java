@@ -0,0 +1,186 @@
+package org.metadatacenter.artifacts.model.tools;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.CommandLineParser;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.OptionGroup;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+import org.metadatacenter.artifacts.model.core.TemplateSchemaArtifact;
+import org.metadatacenter.artifacts.model.reader.JsonArtifactReader;
+import org.metadatacenter.artifacts.model.validation.InstanceValidationPipeline;
+import org.metadatacenter.artifacts.model.validation.InstanceValidationSummary;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Validates a directory of JSON template instances or a newline-delimited JSON file of instances against one or more
+ * templates, writing a newline-delimited JSON report with one line per instance.
+ */
+public class InstanceBatchValidator
+{
+  private static final String TEMPLATE_FILE_OPTION = "t";
+  private static final String TEMPLATE_DIRECTORY_OPTION = "td";
+  private static final String INSTANCE_DIRECTORY_OPTION = "d";
+  private static final String INSTANCE_NDJSON_FILE_OPTION = "n";
+  private static final String REPORT_FILE_OPTION = "o";
+  private static final String NUMBER_OF_WORKERS_OPTION = "w";
+  private static final String JSON_FILE_EXTENSION = ".json";
+
+  public static void main(String[] args) throws IOException
+  {
+    CommandLineParser parser = new DefaultParser();
+    Options options = buildCommandLineOptions();
+
+    try {
+      CommandLine command = parser.parse(options, args);
+
+      checkCommandLine(command, options);
+
+      JsonArtifactReader artifactReader = new JsonArtifactReader();
+      List<TemplateSchemaArtifact> templateSchemaArtifacts = new ArrayList<>();
+
+      for (File templateFile : getTemplateFiles(command))
+        templateSchemaArtifacts.add(artifactReader.readTemplateSchemaArtifact(readJsonFromFile(templateFile)));
+
+      int numberOfWorkers = command.hasOption(NUMBER_OF_WORKERS_OPTION) ?
+        Integer.parseInt(command.getOptionValue(NUMBER_OF_WORKERS_OPTION)) :
+        Runtime.getRuntime().availableProcessors();
+
+      InstanceValidationPipeline pipeline = new InstanceValidationPipeline(templateSchemaArtifacts, numberOfWorkers);
+      Path reportFile = Path.of(command.getOptionValue(REPORT_FILE_OPTION));
+      InstanceValidationSummary summary;
+
+      try (Writer reportWriter = Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8)) {
+        if (command.hasOption(INSTANCE_DIRECTORY_OPTION))
+          summary = pipeline.validateDirectory(Path.of(command.getOptionValue(INSTANCE_DIRECTORY_OPTION)),
+            reportWriter);
+        else
+          summary = pipeline.validateNdjson(Path.of(command.getOptionValue(INSTANCE_NDJSON_FILE_OPTION)),
+            reportWriter);
+      }
+
+      System.out.println("Validated " + summary + "; report written to " + reportFile.toAbsolutePath());
+    } catch (ParseException | NumberFormatException e) {
+      Usage(options, e.getMessage());
+    }
+  }
+
+  private static List<File> getTemplateFiles(CommandLine command)
+  {
+    List<File> templateFiles = new ArrayList<>();
+
+    if (command.hasOption(TEMPLATE_FILE_OPTION)) {
+      for (String templateFileName : command.getOptionValues(TEMPLATE_FILE_OPTION))
+        templateFiles.add(new File(templateFileName));
+    } else {
+      File templateDirectory = new File(command.getOptionValue(TEMPLATE_DIRECTORY_OPTION));
+      File[] files = templateDirectory.listFiles((dir, name) -> name.endsWith(JSON_FILE_EXTENSION));
+
+      if (files == null)
+        throw new RuntimeException("Error reading template directory " + templateDirectory);
+
+      templateFiles.addAll(List.of(files));
+    }
+    return templateFiles;
+  }
+
+  private static ObjectNode readJsonFromFile(File file) throws IOException
+  {
+    ObjectMapper mapper = new ObjectMapper();
+    JsonNode jsonNode = mapper.readTree(file);
+
+    if (!jsonNode.isObject())
+      throw new RuntimeException("Expecting JSON object in file " + file);
+
+    return (ObjectNode)jsonNode;
+  }
+
+  private static Options buildCommandLineOptions()
+  {
+    Options options = new Options();
+
+    Option templateFileOption = Option.builder(TEMPLATE_FILE_OPTION)
+      .argName("template-file")
+      .hasArgs()
+      .desc("Template file(s)")
+      .build();
+
+    Option templateDirectoryOption = Option.builder(TEMPLATE_DIRECTORY_OPTION)
+      .argName("template-directory")
+      .hasArg()
+      .desc("Directory of template files")
+      .build();
+
+    Option instanceDirectoryOption = Option.builder(INSTANCE_DIRECTORY_OPTION)
+      .argName("instance-directory")
+      .hasArg()
+      .desc("Directory of instance files")
+      .build();
+
+    Option instanceNdjsonFileOption = Option.builder(INSTANCE_NDJSON_FILE_OPTION)
+      .argName("instance-ndjson-file")
+      .hasArg()
+      .desc("Newline-delimited JSON file of instances")
+      .build();
+
+    Option reportFileOption = Option.builder(REPORT_FILE_OPTION)
+      .argName("report-file")
+      .hasArg()
+      .desc("Newline-delimited JSON validation report file")
+      .required()
+      .build();
+
+    Option numberOfWorkersOption = Option.builder(NUMBER_OF_WORKERS_OPTION)
+      .argName("number-of-workers")
+      .hasArg()
+      .desc("Number of validation worker threads (default: number of processors)")
+      .build();
+
+    OptionGroup templateGroup = new OptionGroup();
+    templateGroup.addOption(templateFileOption);
+    templateGroup.addOption(templateDirectoryOption);
+    templateGroup.setRequired(true);
+
+    OptionGroup instanceGroup = new OptionGroup();
+    instanceGroup.addOption(instanceDirectoryOption);
+    instanceGroup.addOption(instanceNdjsonFileOption);
+    instanceGroup.setRequired(true);
+
+    options.addOptionGroup(templateGroup);
+    options.addOptionGroup(instanceGroup);
+    options.addOption(reportFileOption);
+    options.addOption(numberOfWorkersOption);
+
+    return options;
+  }
+
+  private static void checkCommandLine(CommandLine command, Options options)
+  {
+    if (command.hasOption(NUMBER_OF_WORKERS_OPTION)
+      && Integer.parseInt(command.getOptionValue(NUMBER_OF_WORKERS_OPTION)) < 1)
+      Usage(options, "Number of workers must be at least 1");
+  }
+
+  private static void Usage(Options options, String errorMessage)
+  {
+    String header = "CEDAR Bulk Template Instance Validation Tool";
+
+    HelpFormatter formatter = new HelpFormatter();
+    formatter.printHelp(InstanceBatchValidator.class.getName(), header, options, errorMessage, true);
+
+    System.exit(-1);
+  }
+}
@@ -12,6 +12,7 @@ import org.apache.commons.cli.OptionGroup;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.metadatacenter.artifacts.model.core.TemplateSchemaArtifact;
 import org.metadatacenter.artifacts.model.reader.JsonArtifactReader;
 import org.metadatacenter.artifacts.model.renderer.ExcelArtifactRenderer;
@@ -20,9 +21,12 @@ import org.metadatacenter.artifacts.util.ConnectionUtil;
 import org.metadatacenter.artifacts.util.TerminologyServerClient;
 
 import java.io.File;
-import java.net.HttpURLConnection;
+import java.io.InputStream;
 import java.net.URLEncoder;
+import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Optional;
 
 public class Template2Excel
 {
@@ -32,6 +36,9 @@ public class Template2Excel
   private static final String CEDAR_SEARCH_ENDPOINT_OPTION = "s";
   private static final String CEDAR_RESOURCE_BASE_OPTION = "r";
   private static final String CEDAR_APIKEY_OPTION = "k";
+  private static final String TERMINOLOGY_CACHE_FILE_OPTION = "c";
+  private static final String TERMINOLOGY_SNAPSHOT_FILE_OPTION = "n";
+  private static final String STREAMING_ROW_WINDOW_OPTION = "w";
 
   public static void main(String[] args) throws Exception
   {
@@ -65,29 +72,48 @@ public class Template2Excel
         String templateIRI = command.getOptionValue(TEMPLATE_IRI_OPTION);
         String resourceServerBase = command.getOptionValue(CEDAR_RESOURCE_BASE_OPTION);
         String requestURL = resourceServerBase + URLEncoder.encode(templateIRI, StandardCharsets.UTF_8);
-        HttpURLConnection connection = ConnectionUtil.createAndOpenConnection("GET", requestURL, cedarAPIKey);
-        int responseCode = connection.getResponseCode();
+        HttpResponse<InputStream> response = ConnectionUtil.sendGetRequest(requestURL, cedarAPIKey);
 
-        if (responseCode >= HttpURLConnection.HTTP_BAD_REQUEST)
-          throw new RuntimeException("Error retrieving template at " + requestURL + ": " + responseCode);
+        if (ConnectionUtil.isErrorResponse(response)) {
+          ConnectionUtil.discardResponseMessage(response);
+          throw new RuntimeException("Error retrieving template at " + requestURL + ": " + response.statusCode());
+        }
 
-        templateObjectNode = ConnectionUtil.readJsonResponseMessage(connection.getInputStream());
+        templateObjectNode = ConnectionUtil.readJsonResponseMessage(response);
       } else
         Usage(options, "Both a template file path and a template IRI cannot be specified together");
 
       JsonArtifactReader artifactReader = new JsonArtifactReader();
-      TemplateSchemaArtifact templateSchemaArtifact = artifactReader.readTemplateSchemaArtifact(templateObjectNode);
+      TemplateSchemaArtifact templateSchemaArtifact = artifactReader.readLazyTemplateSchemaArtifact(templateObjectNode);
 
-      TerminologyServerClient terminologyServerClient = new TerminologyServerClient(
-        terminologyServerIntegratedSearchEndpoint, cedarAPIKey);
-      ExcelArtifactRenderer renderer = new ExcelArtifactRenderer(terminologyServerClient);
+      TerminologyServerClientSetup terminologyServerClientSetup = TerminologyServerClientSetup.create(
+        Optional.ofNullable(command.getOptionValue(TERMINOLOGY_SNAPSHOT_FILE_OPTION)).map(Path::of),
+        Optional.ofNullable(command.getOptionValue(TERMINOLOGY_CACHE_FILE_OPTION)).map(Path::of),
+        Optional.ofNullable(terminologyServerIntegratedSearchEndpoint), cedarAPIKey);
+      TerminologyServerClient terminologyServerClient = terminologyServerClientSetup.getTerminologyServerClient()
+        .orElseThrow(() -> new RuntimeException("No terminology server endpoint or terminology snapshot provided"));
 
-      Workbook workbook = renderer.render(templateSchemaArtifact, 0, 0);
+      Workbook emptyWorkbook = command.hasOption(STREAMING_ROW_WINDOW_OPTION) ?
+        SpreadsheetFactory.createEmptyStreamingWorkbook(
+          Integer.parseInt(command.getOptionValue(STREAMING_ROW_WINDOW_OPTION))) :
+        SpreadsheetFactory.createEmptyWorkbook();
 
-      if (workbook.getNumberOfSheets() == 0)
-        throw new RuntimeException("No sheets in generated workbook");
+      try {
+        ExcelArtifactRenderer renderer = new ExcelArtifactRenderer(terminologyServerClient,
+          TerminologyServerClient.DEFAULT_MAXIMUM_CONCURRENT_SEARCH_REQUESTS, emptyWorkbook);
 
-      SpreadsheetFactory.writeWorkbook(workbook, excelFile);
+        Workbook workbook = renderer.render(templateSchemaArtifact, 0, 0);
+
+        if (workbook.getNumberOfSheets() == 0)
+          throw new RuntimeException("No sheets in generated workbook");
+
+        terminologyServerClientSetup.saveCache();
+
+        SpreadsheetFactory.writeWorkbook(workbook, excelFile);
+      } finally {
+        if (emptyWorkbook instanceof SXSSFWorkbook streamingWorkbook) // Remove temporary files if rendering failed
+          streamingWorkbook.dispose();
+      }
 
       System.out.println("Successfully generated Excel file " + excelFile.getAbsolutePath());
     } catch (ParseException e) {
@@ -122,7 +148,6 @@ public class Template2Excel
       .argName("cedar-search-endpoint")
       .hasArg()
       .desc("CEDAR Terminology Server search endpoint")
-      .required()
       .build();
 
     Option resourceOption = Option.builder(CEDAR_RESOURCE_BASE_OPTION)
@@ -135,7 +160,24 @@ public class Template2Excel
       .argName("cedar-api-key")
       .hasArg()
       .desc("CEDAR API key")
-      .required()
+      .build();
+
+    Option terminologyCacheFileOption = Option.builder(TERMINOLOGY_CACHE_FILE_OPTION)
+      .argName("terminology-cache-file")
+      .hasArg()
+      .desc("File in which terminology server values are cached between runs")
+      .build();
+
+    Option terminologySnapshotFileOption = Option.builder(TERMINOLOGY_SNAPSHOT_FILE_OPTION)
+      .argName("terminology-snapshot-file")
+      .hasArg()
+      .desc("Terminology snapshot file to take values from instead of the terminology server")
+      .build();
+
+    Option streamingRowWindowOption = Option.builder(STREAMING_ROW_WINDOW_OPTION)
+      .argName("streaming-row-window")
+      .hasArg()
+      .desc("Stream the workbook to disk, keeping at most this many rows (at least 2) of each sheet in memory")
       .build();
 
     OptionGroup templateGroup = new OptionGroup();
@@ -148,6 +190,9 @@ public class Template2Excel
     options.addOption(searchOption);
     options.addOption(resourceOption);
     options.addOption(keyOption);
+    options.addOption(terminologyCacheFileOption);
+    options.addOption(terminologySnapshotFileOption);
+    options.addOption(streamingRowWindowOption);
 
     return options;
   }
@@ -157,16 +202,24 @@ public class Template2Excel
     if (command.hasOption(TEMPLATE_FILE_OPTION) && command.hasOption(TEMPLATE_IRI_OPTION))
       Usage(options, "Both a template file path and a template IRI cannot be specified together");
 
+    boolean hasTerminologySnapshot = command.hasOption(TERMINOLOGY_SNAPSHOT_FILE_OPTION);
+
     if (command.hasOption(TEMPLATE_FILE_OPTION)) {
-      if (!command.hasOption(EXCEL_FILE_OPTION) || !command.hasOption(CEDAR_SEARCH_ENDPOINT_OPTION) || !command.hasOption(
-        CEDAR_APIKEY_OPTION))
-        Usage(options, "Excel file path, Terminology Server search endpoint, and CEDAR API key must be provided when template file option is selected");
+      if (!command.hasOption(EXCEL_FILE_OPTION) || !hasTerminologySnapshot && (!command.hasOption(CEDAR_SEARCH_ENDPOINT_OPTION)
+        || !command.hasOption(CEDAR_APIKEY_OPTION)))
+        Usage(options, "Excel file path, and a terminology snapshot or Terminology Server search endpoint and CEDAR API key must be provided when template file option is selected");
     } else if (command.hasOption(TEMPLATE_IRI_OPTION)) {
-      if (!command.hasOption(EXCEL_FILE_OPTION) || !command.hasOption(CEDAR_SEARCH_ENDPOINT_OPTION) || !command.hasOption(
-        CEDAR_RESOURCE_BASE_OPTION) || !command.hasOption(CEDAR_APIKEY_OPTION))
-        Usage(options, "Excel file path, Terminology Server search endpoint, Resource Server REST base, and CEDAR API key must be provided when template IRI option is selected");
+      if (!command.hasOption(EXCEL_FILE_OPTION) || !hasTerminologySnapshot && !command.hasOption(CEDAR_SEARCH_ENDPOINT_OPTION)
+        || !command.hasOption(CEDAR_RESOURCE_BASE_OPTION) || !command.hasOption(CEDAR_APIKEY_OPTION))
+        Usage(options, "Excel file path, a terminology snapshot or Terminology Server search endpoint, Resource Server REST base, and CEDAR API key must be provided when template IRI option is selected");
     } else
       Usage(options, "Please specify a template file path or a template IRI");
+
+    if (command.hasOption(STREAMING_ROW_WINDOW_OPTION)
+      && (!command.getOptionValue(STREAMING_ROW_WINDOW_OPTION).matches("\\d{1,9}")
+      || Integer.parseInt(command.getOptionValue(STREAMING_ROW_WINDOW_OPTION))
+      < SpreadsheetFactory.MINIMUM_ROW_ACCESS_WINDOW_SIZE))
+      Usage(options, "Streaming row window must be a number of rows of at least 2");
   }
 
   private static void Usage(Options options, String errorMessage) {
@@ -23,9 +23,12 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
-import java.net.HttpURLConnection;
+import java.io.InputStream;
 import java.net.URLEncoder;
+import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Optional;
 
 public class Template2Tsv
 {
@@ -35,6 +38,8 @@ public class Template2Tsv
   private static final String CEDAR_SEARCH_ENDPOINT_OPTION = "s";
   private static final String CEDAR_RESOURCE_BASE_OPTION = "r";
   private static final String CEDAR_APIKEY_OPTION = "k";
+  private static final String TERMINOLOGY_CACHE_FILE_OPTION = "c";
+  private static final String TERMINOLOGY_SNAPSHOT_FILE_OPTION = "n";
 
   public static void main(String[] args) throws IOException
   {
@@ -67,20 +72,27 @@ public class Template2Tsv
         String templateIRI = command.getOptionValue(TEMPLATE_IRI_OPTION);
         String resourceServerBase = command.getOptionValue(CEDAR_RESOURCE_BASE_OPTION);
         String requestURL = resourceServerBase + URLEncoder.encode(templateIRI, StandardCharsets.UTF_8);
-        HttpURLConnection connection = ConnectionUtil.createAndOpenConnection("GET", requestURL, cedarAPIKey);
-        int responseCode = connection.getResponseCode();
+        HttpResponse<InputStream> response = ConnectionUtil.sendGetRequest(requestURL, cedarAPIKey);
 
-        if (responseCode >= HttpURLConnection.HTTP_BAD_REQUEST)
-          throw new RuntimeException("Error retrieving template at " + requestURL + ": " + responseCode);
+        if (ConnectionUtil.isErrorResponse(response)) {
+          ConnectionUtil.discardResponseMessage(response);
+          throw new RuntimeException("Error retrieving template at " + requestURL + ": " + response.statusCode());
+        }
 
-        templateObjectNode = ConnectionUtil.readJsonResponseMessage(connection.getInputStream());
+        templateObjectNode = ConnectionUtil.readJsonResponseMessage(response);
       } else
         Usage(options, "Both a template file path and a template IRI cannot be specified together");
 
       JsonArtifactReader artifactReader = new JsonArtifactReader();
-      TemplateSchemaArtifact templateSchemaArtifact = artifactReader.readTemplateSchemaArtifact(templateObjectNode);
+      TemplateSchemaArtifact templateSchemaArtifact = artifactReader.readLazyTemplateSchemaArtifact(templateObjectNode);
+
+      TerminologyServerClientSetup terminologyServerClientSetup = TerminologyServerClientSetup.create(
+        Optional.ofNullable(command.getOptionValue(TERMINOLOGY_SNAPSHOT_FILE_OPTION)).map(Path::of),
+        Optional.ofNullable(command.getOptionValue(TERMINOLOGY_CACHE_FILE_OPTION)).map(Path::of),
+        Optional.ofNullable(terminologyServerIntegratedSearchEndpoint), cedarAPIKey);
+      TerminologyServerClient terminologyServerClient = terminologyServerClientSetup.getTerminologyServerClient()
+        .orElseThrow(() -> new RuntimeException("No terminology server endpoint or terminology snapshot provided"));
 
-      TerminologyServerClient terminologyServerClient = new TerminologyServerClient(terminologyServerIntegratedSearchEndpoint, cedarAPIKey);
       ExcelArtifactRenderer renderer = new ExcelArtifactRenderer(terminologyServerClient);
 
       Workbook workbook = renderer.render(templateSchemaArtifact, 0, 0);
@@ -88,6 +100,8 @@ public class Template2Tsv
       if (workbook.getNumberOfSheets() == 0)
         throw new RuntimeException("No sheets in generated workbook");
 
+      terminologyServerClientSetup.saveCache();
+
       StringBuffer tsvBuffer = SpreadSheetUtil.convertSheetToTsv(workbook.getSheetAt(0));
 
       try (BufferedWriter writer = new BufferedWriter(new FileWriter(tsvFile))) {
@@ -128,7 +142,6 @@ public class Template2Tsv
       .argName("cedar-search-endpoint")
       .hasArg()
       .desc("CEDAR Terminology Server search endpoint")
-      .required()
       .build();
 
     Option resourceOption = Option.builder(CEDAR_RESOURCE_BASE_OPTION)
@@ -141,7 +154,18 @@ public class Template2Tsv
       .argName("cedar-api-key")
       .hasArg()
       .desc("CEDAR API key")
-      .required()
+      .build();
+
+    Option terminologyCacheFileOption = Option.builder(TERMINOLOGY_CACHE_FILE_OPTION)
+      .argName("terminology-cache-file")
+      .hasArg()
+      .desc("File in which terminology server values are cached between runs")
+      .build();
+
+    Option terminologySnapshotFileOption = Option.builder(TERMINOLOGY_SNAPSHOT_FILE_OPTION)
+      .argName("terminology-snapshot-file")
+      .hasArg()
+      .desc("Terminology snapshot file to take values from instead of the terminology server")
       .build();
 
     OptionGroup templateGroup = new OptionGroup();
@@ -154,6 +178,8 @@ public class Template2Tsv
     options.addOption(searchOption);
     options.addOption(resourceOption);
     options.addOption(keyOption);
+    options.addOption(terminologyCacheFileOption);
+    options.addOption(terminologySnapshotFileOption);
 
     return options;
   }
@@ -163,14 +189,16 @@ public class Template2Tsv
     if (command.hasOption(TEMPLATE_FILE_OPTION) && command.hasOption(TEMPLATE_IRI_OPTION))
       Usage(options, "Both a template file path and a template IRI cannot be specified together");
 
+    boolean hasTerminologySnapshot = command.hasOption(TERMINOLOGY_SNAPSHOT_FILE_OPTION);
+
     if (command.hasOption(TEMPLATE_FILE_OPTION)) {
-      if (!command.hasOption(TSV_FILE_OPTION) || !command.hasOption(CEDAR_SEARCH_ENDPOINT_OPTION) || !command.hasOption(
-        CEDAR_APIKEY_OPTION))
-        Usage(options, "Excel file path, Terminology Server search endpoint, and CEDAR API key must be provided when template file option is selected");
+      if (!command.hasOption(TSV_FILE_OPTION) || !hasTerminologySnapshot && (!command.hasOption(CEDAR_SEARCH_ENDPOINT_OPTION)
+        || !command.hasOption(CEDAR_APIKEY_OPTION)))
+        Usage(options, "TSV file path, and a terminology snapshot or Terminology Server search endpoint and CEDAR API key must be provided when template file option is selected");
     } else if (command.hasOption(TEMPLATE_IRI_OPTION)) {
-      if (!command.hasOption(TSV_FILE_OPTION) || !command.hasOption(CEDAR_SEARCH_ENDPOINT_OPTION) || !command.hasOption(
-        CEDAR_RESOURCE_BASE_OPTION) || !command.hasOption(CEDAR_APIKEY_OPTION))
-        Usage(options, "TSV file path, Terminology Server search endpoint, Resource Server REST base, and CEDAR API key must be provided when template IRI option is selected");
+      if (!command.hasOption(TSV_FILE_OPTION) || !hasTerminologySnapshot && !command.hasOption(CEDAR_SEARCH_ENDPOINT_OPTION)
+        || !command.hasOption(CEDAR_RESOURCE_BASE_OPTION) || !command.hasOption(CEDAR_APIKEY_OPTION))
+        Usage(options, "TSV file path, a terminology snapshot or Terminology Server search endpoint, Resource Server REST base, and CEDAR API key must be provided when template IRI option is selected");
     } else
       Usage(options, "Please specify a template file path or a template IRI");
   }
@@ -0,0 +1,169 @@
+package org.metadatacenter.artifacts.model.tools;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.CommandLineParser;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.OptionGroup;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+import org.metadatacenter.artifacts.model.core.TemplateSchemaArtifact;
+import org.metadatacenter.artifacts.model.core.fields.constraints.ControlledTermValueConstraints;
+import org.metadatacenter.artifacts.model.reader.JsonArtifactReader;
+import org.metadatacenter.artifacts.model.visitors.ControlledTermValueConstraintsCollector;
+import org.metadatacenter.artifacts.util.TerminologyServerClient;
+import org.metadatacenter.artifacts.util.TerminologySnapshot;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Retrieves the values of every controlled term field in a set of templates from the terminology server and saves
+ * them in a {@link TerminologySnapshot}, so that the templates can later be exported without a terminology server
+ */
+public class Templates2TerminologySnapshot
+{
+  private static final String TEMPLATE_DIRECTORY_OPTION = "d";
+  private static final String TEMPLATE_FILE_OPTION = "f";
+  private static final String SNAPSHOT_FILE_OPTION = "o";
+  private static final String CEDAR_SEARCH_ENDPOINT_OPTION = "s";
+  private static final String CEDAR_APIKEY_OPTION = "k";
+
+  public static void main(String[] args) throws IOException
+  {
+    CommandLineParser parser = new DefaultParser();
+    Options options = buildCommandLineOptions();
+
+    try {
+      CommandLine command = parser.parse(options, args);
+
+      checkCommandLine(command, options);
+
+      String terminologyServerIntegratedSearchEndpoint = command.getOptionValue(CEDAR_SEARCH_ENDPOINT_OPTION);
+      String cedarAPIKey = command.getOptionValue(CEDAR_APIKEY_OPTION);
+      Path snapshotFile = Path.of(command.getOptionValue(SNAPSHOT_FILE_OPTION));
+
+      List<ObjectNode> templateObjectNodes = new ArrayList<>();
+
+      if (command.hasOption(TEMPLATE_DIRECTORY_OPTION)) {
+        String templateDirectoryPath = command.getOptionValue(TEMPLATE_DIRECTORY_OPTION);
+        templateObjectNodes.addAll(Templates2Ubkg.readJsonFromFilesInDirectory(templateDirectoryPath));
+      } else {
+        String templateFilePath = command.getOptionValue(TEMPLATE_FILE_OPTION);
+        templateObjectNodes.add(readJsonFromFile(templateFilePath));
+      }
+
+      JsonArtifactReader artifactReader = new JsonArtifactReader();
+      ControlledTermValueConstraintsCollector collector = new ControlledTermValueConstraintsCollector();
+
+      for (ObjectNode templateObjectNode : templateObjectNodes) {
+        TemplateSchemaArtifact templateSchemaArtifact = artifactReader.readTemplateSchemaArtifact(templateObjectNode);
+        templateSchemaArtifact.accept(collector);
+      }
+
+      TerminologyServerClient terminologyServerClient = new TerminologyServerClient(
+        terminologyServerIntegratedSearchEndpoint, cedarAPIKey);
+      Map<String, Map<String, String>> valuesByKey = new LinkedHashMap<>();
+
+      for (ControlledTermValueConstraints controlledTermValueConstraints : collector.getControlledTermValueConstraints())
+        valuesByKey.computeIfAbsent(
+          TerminologyServerClient.controlledTermValueConstraints2CacheKey(terminologyServerIntegratedSearchEndpoint,
+            controlledTermValueConstraints),
+          key -> terminologyServerClient.getValuesFromTerminologyServer(controlledTermValueConstraints));
+
+      TerminologySnapshot.write(terminologyServerIntegratedSearchEndpoint, valuesByKey, snapshotFile);
+
+      System.out.println("Successfully saved values of " + valuesByKey.size() + " value constraints from "
+        + templateObjectNodes.size() + " templates to terminology snapshot " + snapshotFile.toAbsolutePath());
+    } catch (ParseException e) {
+      Usage(options, e.getMessage());
+    }
+  }
+
+  private static ObjectNode readJsonFromFile(String filePath) throws IOException
+  {
+    File templateFile = new File(filePath);
+    ObjectMapper mapper = new ObjectMapper();
+    JsonNode jsonNode = mapper.readTree(templateFile);
+
+    if (!jsonNode.isObject())
+      throw new RuntimeException("Expecting JSON object in file " + filePath);
+
+    return (ObjectNode)jsonNode;
+  }
+
+  private static Options buildCommandLineOptions()
+  {
+    Options options = new Options();
+
+    Option templateFileOption = Option.builder(TEMPLATE_FILE_OPTION)
+      .argName("template-file")
+      .hasArg()
+      .desc("Template file")
+      .build();
+
+    Option templateDirectoryOption = Option.builder(TEMPLATE_DIRECTORY_OPTION)
+      .argName("template-dir")
+      .hasArg()
+      .desc("Template directory")
+      .build();
+
+    Option snapshotFileOption = Option.builder(SNAPSHOT_FILE_OPTION)
+      .argName("terminology-snapshot-file")
+      .hasArg()
+      .desc("Terminology snapshot output file")
+      .required()
+      .build();
+
+    Option searchOption = Option.builder(CEDAR_SEARCH_ENDPOINT_OPTION)
+      .argName("cedar-search-endpoint")
+      .hasArg()
+      .desc("CEDAR Terminology Server search endpoint")
+      .required()
+      .build();
+
+    Option keyOption = Option.builder(CEDAR_APIKEY_OPTION)
+      .argName("cedar-api-key")
+      .hasArg()
+      .desc("CEDAR API key")
+      .required()
+      .build();
+
+    OptionGroup templateGroup = new OptionGroup();
+    templateGroup.addOption(templateDirectoryOption);
+    templateGroup.addOption(templateFileOption);
+
+    options.addOptionGroup(templateGroup);
+
+    options.addOption(snapshotFileOption);
+    options.addOption(searchOption);
+    options.addOption(keyOption);
+
+    return options;
+  }
+
+  private static void checkCommandLine(CommandLine command, Options options)
+  {
+    if (!command.hasOption(TEMPLATE_DIRECTORY_OPTION) && !command.hasOption(TEMPLATE_FILE_OPTION))
+      Usage(options, "Please specify a template directory path or a template file path");
+  }
+
+  private static void Usage(Options options, String errorMessage)
+  {
+    String header = "CEDAR Template Terminology Snapshot Tool";
+
+    HelpFormatter formatter = new HelpFormatter();
+    formatter.printHelp(Templates2TerminologySnapshot.class.getName(), header, options, errorMessage, true);
+
+    System.exit(-1);
+  }
+}
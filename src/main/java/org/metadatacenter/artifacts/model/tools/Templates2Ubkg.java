@@ -21,8 +21,9 @@ import org.metadatacenter.artifacts.util.ConnectionUtil;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
-import java.net.HttpURLConnection;
+import java.io.InputStream;
 import java.net.URLEncoder;
+import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
@@ -76,7 +77,8 @@ public class Templates2Ubkg
       UbkgArtifactRenderer ubkgRenderer = new UbkgArtifactRenderer(ubkgRenderingBuilder);
 
       for (ObjectNode templateObjectNode : templateObjectNodes) {
-        TemplateSchemaArtifact templateSchemaArtifact = jsonArtifactReader.readTemplateSchemaArtifact(templateObjectNode);
+        TemplateSchemaArtifact templateSchemaArtifact = jsonArtifactReader.readLazyTemplateSchemaArtifact(
+          templateObjectNode);
         ubkgRenderingBuilder = ubkgRenderer.renderTemplateSchemaArtifact(templateSchemaArtifact);
       }
 
@@ -102,13 +104,14 @@ public class Templates2Ubkg
   private static ObjectNode readJsonFromApi(String resourceServerBase, String templateIri, String cedarAPIKey) throws IOException
   {
     String requestUrl = resourceServerBase + URLEncoder.encode(templateIri, StandardCharsets.UTF_8);
-    HttpURLConnection connection = ConnectionUtil.createAndOpenConnection("GET", requestUrl, cedarAPIKey);
-    int responseCode = connection.getResponseCode();
+    HttpResponse<InputStream> response = ConnectionUtil.sendGetRequest(requestUrl, cedarAPIKey);
 
-    if (responseCode >= HttpURLConnection.HTTP_BAD_REQUEST)
-      throw new RuntimeException("Error retrieving JSON from " + requestUrl + ": " + responseCode);
+    if (ConnectionUtil.isErrorResponse(response)) {
+      ConnectionUtil.discardResponseMessage(response);
+      throw new RuntimeException("Error retrieving JSON from " + requestUrl + ": " + response.statusCode());
+    }
 
-    return ConnectionUtil.readJsonResponseMessage(connection.getInputStream());
+    return ConnectionUtil.readJsonResponseMessage(response);
   }
 
   private static ObjectNode readJsonFromFile(String filePath) throws IOException
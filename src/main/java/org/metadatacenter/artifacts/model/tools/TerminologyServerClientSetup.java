@@ -0,0 +1,76 @@
+package org.metadatacenter.artifacts.model.tools;
+
+import org.metadatacenter.artifacts.util.InMemoryTerminologyValueCache;
+import org.metadatacenter.artifacts.util.OfflineTerminologyServerClient;
+import org.metadatacenter.artifacts.util.TerminologyServerClient;
+import org.metadatacenter.artifacts.util.TerminologySnapshot;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * The terminology server client of a command-line tool, together with the cache file its values are kept in
+ * <p></p>
+ * A terminology snapshot, if given, serves every lookup and the cache file is not used. Otherwise lookups go to the
+ * terminology server through an in-memory cache that is loaded from the cache file, if one is given and exists, and
+ * saved back to it by {@link #saveCache()}. A cache file that cannot be used, such as one written in an older format,
+ * is reported and ignored, and is overwritten when the cache is saved.
+ */
+final class TerminologyServerClientSetup
+{
+  private final Optional<TerminologyServerClient> terminologyServerClient;
+  private final InMemoryTerminologyValueCache terminologyValueCache;
+  private final Optional<Path> terminologyCacheFile;
+
+  private TerminologyServerClientSetup(Optional<TerminologyServerClient> terminologyServerClient,
+    InMemoryTerminologyValueCache terminologyValueCache, Optional<Path> terminologyCacheFile)
+  {
+    this.terminologyServerClient = terminologyServerClient;
+    this.terminologyValueCache = terminologyValueCache;
+    this.terminologyCacheFile = terminologyCacheFile;
+  }
+
+  /**
+   * Create the client for the given options. There is no client if neither a snapshot nor a terminology server
+   * integrated search endpoint is given.
+   */
+  static TerminologyServerClientSetup create(Optional<Path> terminologySnapshotFile,
+    Optional<Path> terminologyCacheFile, Optional<String> terminologyServerIntegratedSearchEndpoint,
+    String terminologyServerApiKey) throws IOException
+  {
+    InMemoryTerminologyValueCache terminologyValueCache = new InMemoryTerminologyValueCache();
+
+    if (terminologySnapshotFile.isPresent())
+      return new TerminologyServerClientSetup(
+        Optional.of(new OfflineTerminologyServerClient(TerminologySnapshot.open(terminologySnapshotFile.get()))),
+        terminologyValueCache, Optional.empty());
+
+    if (terminologyCacheFile.isPresent() && Files.exists(terminologyCacheFile.get())) {
+      try {
+        terminologyValueCache.load(terminologyCacheFile.get());
+      } catch (IllegalArgumentException e) {
+        System.err.println("Ignoring terminology cache file " + terminologyCacheFile.get() + ": " + e.getMessage());
+      }
+    }
+
+    return new TerminologyServerClientSetup(terminologyServerIntegratedSearchEndpoint.map(
+      endpoint -> new TerminologyServerClient(endpoint, terminologyServerApiKey, terminologyValueCache)),
+      terminologyValueCache, terminologyCacheFile);
+  }
+
+  Optional<TerminologyServerClient> getTerminologyServerClient()
+  {
+    return terminologyServerClient;
+  }
+
+  /**
+   * Save the values looked up so far to the cache file, if there is one
+   */
+  void saveCache() throws IOException
+  {
+    if (terminologyCacheFile.isPresent())
+      terminologyValueCache.save(terminologyCacheFile.get());
+  }
+}
@@ -0,0 +1,85 @@
+package org.metadatacenter.artifacts.model.tools;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Replaces the escapes a YAML generator writes for C1 control characters (\x80 to \x9f), next line (\N) and
+ * non-breaking space (\_) with the characters themselves in a single pass over the generated YAML. An escape may be
+ * split across writes, so a partially-matched escape is held back until it is complete or cannot match.
+ */
+class UnescapingWriter extends FilterWriter {
+  private final StringBuilder pendingEscape = new StringBuilder(4);
+
+  UnescapingWriter(Writer writer) {
+    super(writer);
+  }
+
+  @Override
+  public void write(int c) throws IOException {
+    if (pendingEscape.length() == 0) {
+      if (c == '\\') {
+        pendingEscape.append('\\');
+      } else {
+        out.write(c);
+      }
+    } else if (pendingEscape.length() == 1) {
+      if (c == 'N') {
+        pendingEscape.setLength(0);
+        out.write(0x85);
+      } else if (c == '_') {
+        pendingEscape.setLength(0);
+        out.write(0xa0);
+      } else if (c == 'x') {
+        pendingEscape.append('x');
+      } else {
+        writePendingEscape();
+        write(c);
+      }
+    } else if (pendingEscape.length() == 2) {
+      if (c == '8' || c == '9') {
+        pendingEscape.append((char) c);
+      } else {
+        writePendingEscape();
+        write(c);
+      }
+    } else {
+      if ((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f')) {
+        int highDigit = pendingEscape.charAt(2) - '0';
+        pendingEscape.setLength(0);
+        out.write(highDigit * 16 + Character.digit(c, 16));
+      } else {
+        writePendingEscape();
+        write(c);
+      }
+    }
+  }
+
+  @Override
+  public void write(char[] cbuf, int off, int len) throws IOException {
+    for (int i = off; i < off + len; i++) {
+      write(cbuf[i]);
+    }
+  }
+
+  @Override
+  public void write(String str, int off, int len) throws IOException {
+    for (int i = off; i < off + len; i++) {
+      write(str.charAt(i));
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (pendingEscape.length() > 0) {
+      writePendingEscape();
+    }
+    super.close();
+  }
+
+  private void writePendingEscape() throws IOException {
+    out.write(pendingEscape.toString());
+    pendingEscape.setLength(0);
+  }
+}
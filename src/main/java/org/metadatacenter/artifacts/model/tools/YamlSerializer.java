@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
@@ -14,11 +15,13 @@ import org.metadatacenter.artifacts.model.renderer.YamlArtifactRenderer;
 import org.metadatacenter.artifacts.util.TerminologyServerClient;
 
 import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.math.BigDecimal;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
-import java.util.LinkedHashMap;
+import java.nio.file.StandardCopyOption;
 
 public class YamlSerializer {
 
@@ -38,13 +41,16 @@ public class YamlSerializer {
         .disable(YAMLGenerator.Feature.SPLIT_LINES) //enable this
         .disable(YAMLGenerator.Feature.LITERAL_BLOCK_STYLE);
 
+    // Renderings are written one value at a time, so do not flush the output after each one
     YAML_OBJECT_MAPPER = new ObjectMapper(yamlFactory);
     YAML_OBJECT_MAPPER.registerModule(new Jdk8Module());
     YAML_OBJECT_MAPPER.configure(JsonParser.Feature.ALLOW_SINGLE_QUOTES, false);
+    YAML_OBJECT_MAPPER.disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
 
     YAML_OBJECT_MAPPER_FULL_QUOTES = new ObjectMapper(yamlFactoryFullQuotes);
     YAML_OBJECT_MAPPER_FULL_QUOTES.registerModule(new Jdk8Module());
     YAML_OBJECT_MAPPER_FULL_QUOTES.configure(JsonParser.Feature.ALLOW_SINGLE_QUOTES, false);
+    YAML_OBJECT_MAPPER_FULL_QUOTES.disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
 
     // Register custom serializer module
     SimpleModule module = new SimpleModule();
@@ -87,53 +93,67 @@ public class YamlSerializer {
   }
 
   public static String getYAML(Artifact artifact, boolean compactYaml, boolean fullQuotes, TerminologyServerClient terminologyServerClient) {
-    LinkedHashMap<String, Object> yamlSerialized = getSerializedYaml(artifact, compactYaml, terminologyServerClient);
+    StringWriter stringWriter = new StringWriter();
     try {
-      String v = null;
-      if (fullQuotes) {
-        v = YAML_OBJECT_MAPPER_FULL_QUOTES.writeValueAsString(yamlSerialized);
-      } else {
-        v = YAML_OBJECT_MAPPER.writeValueAsString(yamlSerialized);
-      }
-      for (int i = 0x80; i <= 0x9f; i++) {
-        String hexString = String.format("\\\\x%02x", i);
-        String unicodeString = Character.toString(i);
-        v = v.replaceAll(hexString, unicodeString);
-      }
-      v = v.replaceAll("\\\\N", Character.toString(0x85));
-      v = v.replaceAll("\\\\_", "\u00a0");
-      return v;
+      saveYAML(artifact, compactYaml, fullQuotes, terminologyServerClient, stringWriter);
+      return stringWriter.toString();
     } catch (IOException e) {
       e.printStackTrace();
       return null;
     }
   }
 
-  public static void saveYAML(Artifact artifact, boolean compactYaml, boolean fullQuotes, TerminologyServerClient terminologyServerClient, Path outputFilePath) {
-    String content = getYAML(artifact, compactYaml, fullQuotes, terminologyServerClient);
-    try {
-      Files.writeString(outputFilePath, content, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
-    } catch (IOException e) {
-      e.printStackTrace();
-    }
-  }
-
-  private static LinkedHashMap<String, Object> getSerializedYaml(Artifact artifact, boolean compactYaml, TerminologyServerClient terminologyServerClient) {
+  /**
+   * Write the YAML rendering of an artifact to a writer, which is closed when done. The artifact is walked and written
+   * to a YAML generator one child at a time and is unescaped as it is written, so the rendering is never held in
+   * memory as a whole.
+   */
+  public static void saveYAML(Artifact artifact, boolean compactYaml, boolean fullQuotes, TerminologyServerClient terminologyServerClient, Writer writer) throws IOException {
     YamlArtifactRenderer yamlArtifactRenderer = terminologyServerClient == null ?
         new YamlArtifactRenderer(compactYaml) :
         new YamlArtifactRenderer(compactYaml, terminologyServerClient);
+    ObjectMapper yamlObjectMapper = fullQuotes ? YAML_OBJECT_MAPPER_FULL_QUOTES : YAML_OBJECT_MAPPER;
+
+    try (JsonGenerator generator = yamlObjectMapper.createGenerator(new UnescapingWriter(writer))) {
+      if (artifact instanceof FieldSchemaArtifact) {
+        yamlArtifactRenderer.renderFieldSchemaArtifact((FieldSchemaArtifact) artifact, generator);
+      } else if (artifact instanceof ElementSchemaArtifact) {
+        yamlArtifactRenderer.renderElementSchemaArtifact((ElementSchemaArtifact) artifact, generator);
+      } else if (artifact instanceof TemplateSchemaArtifact) {
+        yamlArtifactRenderer.renderTemplateSchemaArtifact((TemplateSchemaArtifact) artifact, generator);
+      } else if (artifact instanceof TemplateInstanceArtifact) {
+        yamlArtifactRenderer.renderTemplateInstanceArtifact((TemplateInstanceArtifact) artifact, generator);
+      } else {
+        generator.writeNull();
+      }
+    }
+  }
 
-    LinkedHashMap<String, Object> yamlSerialized = null;
-    if (artifact instanceof FieldSchemaArtifact) {
-      yamlSerialized = yamlArtifactRenderer.renderFieldSchemaArtifact((FieldSchemaArtifact) artifact);
-    } else if (artifact instanceof ElementSchemaArtifact) {
-      yamlSerialized = yamlArtifactRenderer.renderElementSchemaArtifact((ElementSchemaArtifact) artifact);
-    } else if (artifact instanceof TemplateSchemaArtifact) {
-      yamlSerialized = yamlArtifactRenderer.renderTemplateSchemaArtifact((TemplateSchemaArtifact) artifact);
-    } else if (artifact instanceof TemplateInstanceArtifact) {
-      yamlSerialized = yamlArtifactRenderer.renderTemplateInstanceArtifact((TemplateInstanceArtifact) artifact);
+  /**
+   * Write the YAML rendering of an artifact to a file. The rendering is written to a temporary file next to the output
+   * file, which then replaces the output file, so an existing file is left unchanged if rendering fails.
+   */
+  public static void saveYAML(Artifact artifact, boolean compactYaml, boolean fullQuotes, TerminologyServerClient terminologyServerClient, Path outputFilePath) {
+    Path temporaryFilePath = outputFilePath.resolveSibling(outputFilePath.getFileName() + ".tmp");
+    try {
+      try (Writer writer = Files.newBufferedWriter(temporaryFilePath)) {
+        saveYAML(artifact, compactYaml, fullQuotes, terminologyServerClient, writer);
+      }
+      try {
+        Files.move(temporaryFilePath, outputFilePath, StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temporaryFilePath, outputFilePath, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } catch (IOException e) {
+      e.printStackTrace();
+    } finally {
+      try {
+        Files.deleteIfExists(temporaryFilePath);
+      } catch (IOException e) {
+        e.printStackTrace();
+      }
     }
-    return yamlSerialized;
   }
 
   public static void outputYAML(Artifact artifact, boolean isCompact, boolean fullQuotes, TerminologyServerClient terminologyServerClient) {
@@ -0,0 +1,15 @@
+package org.metadatacenter.artifacts.model.validation;
+
+import org.metadatacenter.artifacts.model.core.ArtifactPath;
+import org.metadatacenter.artifacts.model.core.FieldInstanceArtifact;
+
+import java.util.List;
+
+/**
+ * Checks the value of a single field instance against constraints that were compiled from a field schema artifact
+ */
+@FunctionalInterface
+interface FieldValueChecker
+{
+  void check(FieldInstanceArtifact fieldInstanceArtifact, ArtifactPath path, List<InstanceViolation> violations);
+}
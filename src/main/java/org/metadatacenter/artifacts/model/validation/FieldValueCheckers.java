@@ -0,0 +1,284 @@
+package org.metadatacenter.artifacts.model.validation;
+
+import org.metadatacenter.artifacts.model.core.ArtifactPath;
+import org.metadatacenter.artifacts.model.core.FieldInstanceArtifact;
+import org.metadatacenter.artifacts.model.core.FieldSchemaArtifact;
+import org.metadatacenter.artifacts.model.core.fields.XsdNumericDatatype;
+import org.metadatacenter.artifacts.model.core.fields.XsdTemporalDatatype;
+import org.metadatacenter.artifacts.model.core.fields.constraints.ClassValueConstraint;
+import org.metadatacenter.artifacts.model.core.fields.constraints.ControlledTermValueConstraints;
+import org.metadatacenter.artifacts.model.core.fields.constraints.LiteralValueConstraint;
+import org.metadatacenter.artifacts.model.core.fields.constraints.NumericValueConstraints;
+import org.metadatacenter.artifacts.model.core.fields.constraints.TemporalValueConstraints;
+import org.metadatacenter.artifacts.model.core.fields.constraints.TextValueConstraints;
+import org.metadatacenter.artifacts.model.core.fields.constraints.ValueConstraints;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static org.metadatacenter.artifacts.model.validation.InstanceViolationType.CONTROLLED_TERM;
+import static org.metadatacenter.artifacts.model.validation.InstanceViolationType.DECIMAL_PLACES;
+import static org.metadatacenter.artifacts.model.validation.InstanceViolationType.LINK;
+import static org.metadatacenter.artifacts.model.validation.InstanceViolationType.LITERAL;
+import static org.metadatacenter.artifacts.model.validation.InstanceViolationType.MAX_LENGTH;
+import static org.metadatacenter.artifacts.model.validation.InstanceViolationType.MAX_VALUE;
+import static org.metadatacenter.artifacts.model.validation.InstanceViolationType.MIN_LENGTH;
+import static org.metadatacenter.artifacts.model.validation.InstanceViolationType.MIN_VALUE;
+import static org.metadatacenter.artifacts.model.validation.InstanceViolationType.NUMERIC_FORMAT;
+import static org.metadatacenter.artifacts.model.validation.InstanceViolationType.REGEX;
+import static org.metadatacenter.artifacts.model.validation.InstanceViolationType.REQUIRED_VALUE;
+import static org.metadatacenter.artifacts.model.validation.InstanceViolationType.TEMPORAL_FORMAT;
+
+/**
+ * Compiles the value constraints of a field schema artifact into a single {@link FieldValueChecker}.
+ * <p></p>
+ * All interpretation of the constraints happens during compilation: regular expressions are compiled, numeric bounds
+ * are converted to {@link BigDecimal}, temporal formatters are selected and the permitted literals and classes are
+ * collected into sets. The resulting checkers only examine field instance values.
+ */
+final class FieldValueCheckers
+{
+  private static final FieldValueChecker NO_CHECKS = (fieldInstanceArtifact, path, violations) -> {};
+
+  private FieldValueCheckers()
+  {
+  }
+
+  static FieldValueChecker compile(FieldSchemaArtifact fieldSchemaArtifact)
+  {
+    List<FieldValueChecker> checkers = new ArrayList<>();
+    boolean valueIsIri = fieldSchemaArtifact.fieldUi().isLink();
+
+    if (fieldSchemaArtifact.valueConstraints().isPresent()) {
+      ValueConstraints valueConstraints = fieldSchemaArtifact.valueConstraints().get();
+
+      if (valueConstraints.isControlledTermValueConstraint())
+        valueIsIri = true;
+
+      if (valueConstraints.requiredValue())
+        checkers.add(requiredValueChecker(valueIsIri));
+
+      if (valueConstraints.isTextValueConstraint())
+        addTextCheckers(valueConstraints.asTextValueConstraints(), checkers);
+      else if (valueConstraints.isNumericValueConstraint())
+        addNumericCheckers(valueConstraints.asNumericValueConstraints(), checkers);
+      else if (valueConstraints.isTemporalValueConstraint())
+        checkers.add(temporalChecker(valueConstraints.asTemporalValueConstraints()));
+      else if (valueConstraints.isControlledTermValueConstraint())
+        addControlledTermCheckers(valueConstraints.asControlledTermValueConstraints(), checkers);
+    }
+
+    if (valueIsIri)
+      checkers.add(linkChecker());
+
+    if (checkers.isEmpty())
+      return NO_CHECKS;
+    else if (checkers.size() == 1)
+      return checkers.get(0);
+    else {
+      FieldValueChecker[] checkerArray = checkers.toArray(new FieldValueChecker[0]);
+
+      return (fieldInstanceArtifact, path, violations) -> {
+        for (FieldValueChecker checker : checkerArray)
+          checker.check(fieldInstanceArtifact, path, violations);
+      };
+    }
+  }
+
+  private static FieldValueChecker requiredValueChecker(boolean valueIsIri)
+  {
+    if (valueIsIri)
+      return (fieldInstanceArtifact, path, violations) -> {
+        if (fieldInstanceArtifact.jsonLdId().isEmpty())
+          violations.add(violation(REQUIRED_VALUE, path, "required value is missing"));
+      };
+    else
+      return (fieldInstanceArtifact, path, violations) -> {
+        if (fieldInstanceArtifact.jsonLdValue().isEmpty() || fieldInstanceArtifact.jsonLdValue().get().isEmpty())
+          violations.add(violation(REQUIRED_VALUE, path, "required value is missing"));
+      };
+  }
+
+  private static void addTextCheckers(TextValueConstraints textValueConstraints, List<FieldValueChecker> checkers)
+  {
+    if (textValueConstraints.minLength().isPresent()) {
+      int minLength = textValueConstraints.minLength().get();
+
+      checkers.add((fieldInstanceArtifact, path, violations) -> {
+        Optional<String> value = fieldInstanceArtifact.jsonLdValue();
+        if (value.isPresent() && value.get().length() < minLength)
+          violations.add(violation(MIN_LENGTH, path,
+            "value has length " + value.get().length() + ", which is less than the minimum length " + minLength));
+      });
+    }
+
+    if (textValueConstraints.maxLength().isPresent()) {
+      int maxLength = textValueConstraints.maxLength().get();
+
+      checkers.add((fieldInstanceArtifact, path, violations) -> {
+        Optional<String> value = fieldInstanceArtifact.jsonLdValue();
+        if (value.isPresent() && value.get().length() > maxLength)
+          violations.add(violation(MAX_LENGTH, path,
+            "value has length " + value.get().length() + ", which is greater than the maximum length " + maxLength));
+      });
+    }
+
+    if (textValueConstraints.regex().isPresent()) {
+      Optional<Pattern> pattern = compileRegex(textValueConstraints.regex().get());
+
+      if (pattern.isPresent()) {
+        Pattern regex = pattern.get();
+
+        checkers.add((fieldInstanceArtifact, path, violations) -> {
+          Optional<String> value = fieldInstanceArtifact.jsonLdValue();
+          if (value.isPresent() && !value.get().isEmpty() && !regex.matcher(value.get()).matches())
+            violations.add(violation(REGEX, path,
+              "value '" + value.get() + "' does not match the regular expression '" + regex.pattern() + "'"));
+        });
+      }
+    }
+
+    if (!textValueConstraints.literals().isEmpty()) {
+      Set<String> literals = new HashSet<>();
+
+      for (LiteralValueConstraint literal : textValueConstraints.literals())
+        literals.add(literal.label());
+
+      checkers.add((fieldInstanceArtifact, path, violations) -> {
+        Optional<String> value = fieldInstanceArtifact.jsonLdValue();
+        if (value.isPresent() && !literals.contains(value.get()))
+          violations.add(violation(LITERAL, path, "value '" + value.get() + "' is not one of the permitted literals"));
+      });
+    }
+  }
+
+  private static void addNumericCheckers(NumericValueConstraints numericValueConstraints,
+    List<FieldValueChecker> checkers)
+  {
+    XsdNumericDatatype numberType = numericValueConstraints.numberType();
+    boolean integral = isIntegral(numberType);
+    BigDecimal minValue = numericValueConstraints.minValue().map(FieldValueCheckers::toBigDecimal).orElse(null);
+    BigDecimal maxValue = numericValueConstraints.maxValue().map(FieldValueCheckers::toBigDecimal).orElse(null);
+    int decimalPlace = integral ? -1 : numericValueConstraints.decimalPlace().orElse(-1);
+
+    checkers.add((fieldInstanceArtifact, path, violations) -> {
+      Optional<String> value = fieldInstanceArtifact.jsonLdValue();
+
+      if (value.isEmpty() || value.get().isEmpty())
+        return;
+
+      BigDecimal number;
+      try {
+        number = new BigDecimal(value.get().trim());
+      } catch (NumberFormatException e) {
+        violations.add(violation(NUMERIC_FORMAT, path, "value '" + value.get() + "' is not a valid " + numberType));
+        return;
+      }
+
+      if (integral && number.stripTrailingZeros().scale() > 0)
+        violations.add(violation(NUMERIC_FORMAT, path, "value '" + value.get() + "' is not a valid " + numberType));
+      if (minValue != null && number.compareTo(minValue) < 0)
+        violations.add(violation(MIN_VALUE, path, "value " + value.get() + " is less than the minimum " + minValue));
+      if (maxValue != null && number.compareTo(maxValue) > 0)
+        violations.add(violation(MAX_VALUE, path, "value " + value.get() + " is greater than the maximum " + maxValue));
+      if (decimalPlace >= 0 && number.stripTrailingZeros().scale() > decimalPlace)
+        violations.add(violation(DECIMAL_PLACES, path,
+          "value " + value.get() + " has more than " + decimalPlace + " decimal places"));
+    });
+  }
+
+  private static FieldValueChecker temporalChecker(TemporalValueConstraints temporalValueConstraints)
+  {
+    XsdTemporalDatatype temporalType = temporalValueConstraints.temporalType();
+    DateTimeFormatter formatter = switch (temporalType) {
+      case DATE -> DateTimeFormatter.ISO_DATE;
+      case TIME -> DateTimeFormatter.ISO_TIME;
+      case DATETIME -> DateTimeFormatter.ISO_DATE_TIME;
+    };
+
+    return (fieldInstanceArtifact, path, violations) -> {
+      Optional<String> value = fieldInstanceArtifact.jsonLdValue();
+
+      if (value.isPresent() && !value.get().isEmpty()) {
+        try {
+          formatter.parse(value.get());
+        } catch (DateTimeParseException e) {
+          violations.add(violation(TEMPORAL_FORMAT, path, "value '" + value.get() + "' is not a valid " + temporalType));
+        }
+      }
+    };
+  }
+
+  private static FieldValueChecker linkChecker()
+  {
+    return (fieldInstanceArtifact, path, violations) -> {
+      Optional<URI> value = fieldInstanceArtifact.jsonLdId();
+      if (value.isPresent() && !value.get().isAbsolute())
+        violations.add(violation(LINK, path, "value '" + value.get() + "' is not an absolute IRI"));
+    };
+  }
+
+  /**
+   * Membership can only be checked locally when a field is restricted to an explicit list of classes; values from
+   * ontologies, branches and value sets require a terminology server and are not checked.
+   */
+  private static void addControlledTermCheckers(ControlledTermValueConstraints controlledTermValueConstraints,
+    List<FieldValueChecker> checkers)
+  {
+    if (controlledTermValueConstraints.classes().isEmpty() || !controlledTermValueConstraints.ontologies().isEmpty()
+      || !controlledTermValueConstraints.branches().isEmpty() || !controlledTermValueConstraints.valueSets().isEmpty())
+      return;
+
+    Set<URI> classUris = new HashSet<>();
+
+    for (ClassValueConstraint classValueConstraint : controlledTermValueConstraints.classes())
+      classUris.add(classValueConstraint.uri());
+
+    checkers.add((fieldInstanceArtifact, path, violations) -> {
+      Optional<URI> value = fieldInstanceArtifact.jsonLdId();
+      if (value.isPresent() && !classUris.contains(value.get()))
+        violations.add(violation(CONTROLLED_TERM, path, "term '" + value.get() + "' is not one of the permitted classes"));
+    });
+  }
+
+  private static Optional<Pattern> compileRegex(String regex)
+  {
+    try {
+      return Optional.of(Pattern.compile(regex));
+    } catch (PatternSyntaxException e) {
+      return Optional.empty(); // Templates created by other tools may contain invalid expressions; they are not checked
+    }
+  }
+
+  private static boolean isIntegral(XsdNumericDatatype numberType)
+  {
+    return switch (numberType) {
+      case INTEGER, LONG, BYTE, SHORT, INT -> true;
+      case DECIMAL, FLOAT, DOUBLE -> false;
+    };
+  }
+
+  private static BigDecimal toBigDecimal(Number number)
+  {
+    if (number instanceof BigDecimal)
+      return (BigDecimal)number;
+    else if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte)
+      return BigDecimal.valueOf(number.longValue());
+    else
+      return new BigDecimal(number.toString());
+  }
+
+  static InstanceViolation violation(InstanceViolationType type, ArtifactPath path, String message)
+  {
+    return new InstanceViolation(type, path.toString(), message);
+  }
+}
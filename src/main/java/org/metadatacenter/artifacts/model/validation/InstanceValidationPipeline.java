@@ -0,0 +1,279 @@
+package org.metadatacenter.artifacts.model.validation;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.metadatacenter.artifacts.model.core.TemplateInstanceArtifact;
+import org.metadatacenter.artifacts.model.core.TemplateSchemaArtifact;
+import org.metadatacenter.artifacts.model.reader.JsonArtifactReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Validates batches of template instances against a set of templates.
+ * <p></p>
+ * Instances are read from a directory of JSON files or from a newline-delimited JSON stream and are parsed and
+ * validated on a fixed pool of worker threads. Each instance is validated by the compiled {@link InstanceValidator}
+ * of the template it is based on. Results are streamed to a report as each instance completes, one JSON object per
+ * line, so no results are retained by the pipeline.
+ * <p></p>
+ * The number of instances that have been read but not yet reported is bounded; once the bound is reached, reading
+ * blocks until a worker completes an instance. Memory use therefore depends on the bound and not on the size of the
+ * batch.
+ */
+public final class InstanceValidationPipeline
+{
+  public static final int DEFAULT_MAXIMUM_PENDING_INSTANCES_PER_WORKER = 4;
+
+  private static final String JSON_FILE_GLOB = "*.json";
+
+  private final Map<URI, InstanceValidator> instanceValidators;
+  private final int numberOfWorkers;
+  private final int maximumPendingInstances;
+  private final JsonArtifactReader artifactReader;
+  private final ObjectMapper mapper = new ObjectMapper();
+  private final ObjectWriter reportLineWriter = mapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+  public InstanceValidationPipeline(Collection<TemplateSchemaArtifact> templateSchemaArtifacts, int numberOfWorkers)
+  {
+    this(templateSchemaArtifacts, numberOfWorkers, numberOfWorkers * DEFAULT_MAXIMUM_PENDING_INSTANCES_PER_WORKER,
+      new JsonArtifactReader());
+  }
+
+  public InstanceValidationPipeline(Collection<TemplateSchemaArtifact> templateSchemaArtifacts, int numberOfWorkers,
+    int maximumPendingInstances, JsonArtifactReader artifactReader)
+  {
+    if (numberOfWorkers < 1)
+      throw new IllegalArgumentException("Number of workers must be at least 1, got " + numberOfWorkers);
+
+    if (maximumPendingInstances < numberOfWorkers)
+      throw new IllegalArgumentException("Maximum number of pending instances must be at least the number of workers "
+        + numberOfWorkers + ", got " + maximumPendingInstances);
+
+    this.instanceValidators = new HashMap<>();
+    this.numberOfWorkers = numberOfWorkers;
+    this.maximumPendingInstances = maximumPendingInstances;
+    this.artifactReader = artifactReader;
+
+    for (TemplateSchemaArtifact templateSchemaArtifact : templateSchemaArtifacts) {
+      URI templateUri = templateSchemaArtifact.jsonLdId()
+        .orElseThrow(() -> new IllegalArgumentException("Template " + templateSchemaArtifact.name() + " has no @id"));
+
+      if (instanceValidators.put(templateUri, InstanceValidator.compile(templateSchemaArtifact)) != null)
+        throw new IllegalArgumentException("Template " + templateUri + " was supplied more than once");
+    }
+  }
+
+  /**
+   * Validate every JSON file in a directory, writing one report line per file
+   */
+  public InstanceValidationSummary validateDirectory(Path instanceDirectory, Writer reportWriter) throws IOException
+  {
+    try (DirectoryStream<Path> instanceFiles = Files.newDirectoryStream(instanceDirectory, JSON_FILE_GLOB);
+         Batch batch = new Batch(reportWriter)) {
+      for (Path instanceFile : instanceFiles) {
+        if (Files.isRegularFile(instanceFile))
+          batch.submit(instanceFile.toString(), () -> Files.readString(instanceFile, StandardCharsets.UTF_8));
+      }
+      return batch.complete();
+    }
+  }
+
+  /**
+   * Validate a stream of newline-delimited JSON instances, writing one report line per non-blank input line. Each
+   * instance is identified in the report by the supplied source name and its line number.
+   */
+  public InstanceValidationSummary validateNdjson(String sourceName, Reader instanceReader, Writer reportWriter)
+    throws IOException
+  {
+    BufferedReader bufferedReader = new BufferedReader(instanceReader);
+
+    try (Batch batch = new Batch(reportWriter)) {
+      String line;
+      long lineNumber = 0;
+
+      while ((line = bufferedReader.readLine()) != null) {
+        lineNumber++;
+
+        if (!line.isBlank()) {
+          String instanceJson = line;
+          batch.submit(sourceName + ":" + lineNumber, () -> instanceJson);
+        }
+      }
+      return batch.complete();
+    }
+  }
+
+  public InstanceValidationSummary validateNdjson(Path ndjsonFile, Writer reportWriter) throws IOException
+  {
+    try (Reader instanceReader = Files.newBufferedReader(ndjsonFile, StandardCharsets.UTF_8)) {
+      return validateNdjson(ndjsonFile.toString(), instanceReader, reportWriter);
+    }
+  }
+
+  @FunctionalInterface
+  private interface InstanceSource
+  {
+    String read() throws IOException;
+  }
+
+  /**
+   * A single run of the pipeline. Submitting an instance blocks while the maximum number of instances are pending.
+   * Report lines are written by the workers under a lock, in completion order.
+   */
+  private final class Batch implements AutoCloseable
+  {
+    private final ExecutorService workers = Executors.newFixedThreadPool(numberOfWorkers);
+    private final Semaphore pendingInstances = new Semaphore(maximumPendingInstances);
+    private final Writer reportWriter;
+    private final AtomicLong numberOfInstances = new AtomicLong();
+    private final AtomicLong numberOfValidInstances = new AtomicLong();
+    private final AtomicLong numberOfInvalidInstances = new AtomicLong();
+    private final AtomicLong numberOfFailedInstances = new AtomicLong();
+    private IOException reportException;
+
+    Batch(Writer reportWriter)
+    {
+      this.reportWriter = reportWriter;
+    }
+
+    void submit(String source, InstanceSource instanceSource) throws IOException
+    {
+      checkReportException();
+
+      try {
+        pendingInstances.acquire();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException("Interrupted while waiting to submit instance " + source, e);
+      }
+
+      try {
+        workers.execute(() -> {
+          try {
+            process(source, instanceSource);
+          } finally {
+            pendingInstances.release();
+          }
+        });
+      } catch (RuntimeException e) {
+        pendingInstances.release();
+        throw e;
+      }
+    }
+
+    InstanceValidationSummary complete() throws IOException
+    {
+      workers.shutdown();
+      awaitWorkers();
+      checkReportException();
+      reportWriter.flush();
+
+      return new InstanceValidationSummary(numberOfInstances.get(), numberOfValidInstances.get(),
+        numberOfInvalidInstances.get(), numberOfFailedInstances.get());
+    }
+
+    @Override public void close()
+    {
+      workers.shutdownNow();
+    }
+
+    private void process(String source, InstanceSource instanceSource)
+    {
+      ObjectNode reportNode = mapper.createObjectNode();
+      reportNode.put("source", source);
+
+      try {
+        JsonNode instanceNode = mapper.readTree(instanceSource.read());
+
+        if (instanceNode == null || !instanceNode.isObject())
+          throw new IllegalArgumentException("instance is not a JSON object");
+
+        TemplateInstanceArtifact templateInstanceArtifact = artifactReader.readTemplateInstanceArtifact(
+          (ObjectNode)instanceNode);
+        URI templateUri = templateInstanceArtifact.isBasedOn();
+        InstanceValidator instanceValidator = instanceValidators.get(templateUri);
+
+        reportNode.put("isBasedOn", templateUri.toString());
+
+        if (instanceValidator == null)
+          throw new IllegalArgumentException("no template with IRI " + templateUri);
+
+        List<InstanceViolation> violations = instanceValidator.validate(templateInstanceArtifact);
+
+        reportNode.put("status", violations.isEmpty() ? "valid" : "invalid");
+        reportNode.set("violations", mapper.valueToTree(violations));
+        (violations.isEmpty() ? numberOfValidInstances : numberOfInvalidInstances).incrementAndGet();
+      } catch (IOException | RuntimeException e) {
+        recordFailure(reportNode, e);
+      } catch (Throwable e) {
+        // Report the instance before the error ends the worker, so every submitted instance is counted and reported
+        recordFailure(reportNode, e);
+        numberOfInstances.incrementAndGet();
+        writeReportLine(reportNode);
+        throw e;
+      }
+      numberOfInstances.incrementAndGet();
+      writeReportLine(reportNode);
+    }
+
+    private void recordFailure(ObjectNode reportNode, Throwable failure)
+    {
+      reportNode.put("status", "failed");
+      reportNode.put("error", failure.getMessage() != null ? failure.getMessage() : failure.toString());
+      numberOfFailedInstances.incrementAndGet();
+    }
+
+    private void writeReportLine(ObjectNode reportNode)
+    {
+      synchronized (reportWriter) {
+        if (reportException != null)
+          return;
+
+        try {
+          reportLineWriter.writeValue(reportWriter, reportNode);
+          reportWriter.write('\n');
+        } catch (IOException e) {
+          reportException = e;
+        }
+      }
+    }
+
+    private void checkReportException() throws IOException
+    {
+      synchronized (reportWriter) {
+        if (reportException != null)
+          throw new IOException("Error writing validation report: " + reportException.getMessage(), reportException);
+      }
+    }
+
+    private void awaitWorkers() throws IOException
+    {
+      try {
+        workers.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException("Interrupted while waiting for instance validation to complete", e);
+      }
+    }
+  }
+}
@@ -0,0 +1,15 @@
+package org.metadatacenter.artifacts.model.validation;
+
+/**
+ * Counts of the instances processed by an {@link InstanceValidationPipeline}. Failed instances are those that could
+ * not be read or whose template is unknown.
+ */
+public record InstanceValidationSummary(long numberOfInstances, long numberOfValidInstances,
+                                        long numberOfInvalidInstances, long numberOfFailedInstances)
+{
+  @Override public String toString()
+  {
+    return numberOfInstances + " instances: " + numberOfValidInstances + " valid, " + numberOfInvalidInstances
+      + " invalid, " + numberOfFailedInstances + " failed";
+  }
+}
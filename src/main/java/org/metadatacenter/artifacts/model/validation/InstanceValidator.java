@@ -0,0 +1,270 @@
+package org.metadatacenter.artifacts.model.validation;
+
+import org.metadatacenter.artifacts.model.core.ArtifactPath;
+import org.metadatacenter.artifacts.model.core.ChildSchemaArtifact;
+import org.metadatacenter.artifacts.model.core.ElementInstanceArtifact;
+import org.metadatacenter.artifacts.model.core.ElementSchemaArtifact;
+import org.metadatacenter.artifacts.model.core.FieldInstanceArtifact;
+import org.metadatacenter.artifacts.model.core.FieldSchemaArtifact;
+import org.metadatacenter.artifacts.model.core.ParentInstanceArtifact;
+import org.metadatacenter.artifacts.model.core.ParentSchemaArtifact;
+import org.metadatacenter.artifacts.model.core.TemplateInstanceArtifact;
+import org.metadatacenter.artifacts.model.core.TemplateSchemaArtifact;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.metadatacenter.artifacts.model.validation.FieldValueCheckers.violation;
+import static org.metadatacenter.artifacts.model.validation.InstanceViolationType.CARDINALITY;
+import static org.metadatacenter.artifacts.model.validation.InstanceViolationType.MAX_ITEMS;
+import static org.metadatacenter.artifacts.model.validation.InstanceViolationType.MIN_ITEMS;
+import static org.metadatacenter.artifacts.model.validation.InstanceViolationType.MISSING_CHILD;
+import static org.metadatacenter.artifacts.model.validation.InstanceViolationType.TEMPLATE_MISMATCH;
+import static org.metadatacenter.artifacts.model.validation.InstanceViolationType.UNKNOWN_CHILD;
+
+/**
+ * Validates template instances against a template schema artifact that is compiled once into a tree of checkers.
+ * <p></p>
+ * Compilation interprets the template's children and value constraints a single time, producing for each child key a
+ * checker that holds its cardinality and a {@link FieldValueChecker} for its field values. Validating an instance then
+ * walks the instance alongside the compiled tree without consulting the template, and instance paths are only
+ * rendered when a violation is reported.
+ * <p></p>
+ * A compiled validator is immutable and can be shared by threads validating different instances.
+ */
+public final class InstanceValidator
+{
+  private final Optional<URI> templateUri;
+  private final ParentChecker templateChecker;
+
+  private InstanceValidator(Optional<URI> templateUri, ParentChecker templateChecker)
+  {
+    this.templateUri = templateUri;
+    this.templateChecker = templateChecker;
+  }
+
+  public static InstanceValidator compile(TemplateSchemaArtifact templateSchemaArtifact)
+  {
+    return new InstanceValidator(templateSchemaArtifact.jsonLdId(), compileParent(templateSchemaArtifact));
+  }
+
+  /**
+   * Validate a template instance, returning its violations in the order in which they were found
+   */
+  public List<InstanceViolation> validate(TemplateInstanceArtifact templateInstanceArtifact)
+  {
+    List<InstanceViolation> violations = new ArrayList<>();
+    ArtifactPath path = ArtifactPath.root();
+
+    if (templateUri.isPresent() && !templateUri.get().equals(templateInstanceArtifact.isBasedOn()))
+      violations.add(violation(TEMPLATE_MISMATCH, path,
+        "instance is based on " + templateInstanceArtifact.isBasedOn() + " but the template is " + templateUri.get()));
+
+    templateChecker.check(templateInstanceArtifact, path, violations);
+
+    return violations;
+  }
+
+  public boolean isValid(TemplateInstanceArtifact templateInstanceArtifact)
+  {
+    return validate(templateInstanceArtifact).isEmpty();
+  }
+
+  private static ParentChecker compileParent(ParentSchemaArtifact parentSchemaArtifact)
+  {
+    List<ChildChecker> childCheckers = new ArrayList<>();
+    Set<String> staticFieldKeys = new HashSet<>();
+
+    for (Map.Entry<String, FieldSchemaArtifact> entry : parentSchemaArtifact.fieldSchemas().entrySet()) {
+      FieldSchemaArtifact fieldSchemaArtifact = entry.getValue();
+
+      if (fieldSchemaArtifact.isStatic())
+        staticFieldKeys.add(entry.getKey());
+      else {
+        boolean multipleChoice = fieldSchemaArtifact.valueConstraints().isPresent()
+          && fieldSchemaArtifact.valueConstraints().get().multipleChoice();
+
+        childCheckers.add(new ChildChecker(entry.getKey(), fieldSchemaArtifact, multipleChoice,
+          fieldSchemaArtifact.isAttributeValue(), FieldValueCheckers.compile(fieldSchemaArtifact), null));
+      }
+    }
+
+    for (Map.Entry<String, ElementSchemaArtifact> entry : parentSchemaArtifact.elementSchemas().entrySet())
+      childCheckers.add(new ChildChecker(entry.getKey(), entry.getValue(), false, false, null,
+        compileParent(entry.getValue())));
+
+    return new ParentChecker(childCheckers.toArray(new ChildChecker[0]), staticFieldKeys);
+  }
+
+  /**
+   * The compiled checks of a template or element: one checker per non-static child
+   */
+  private static final class ParentChecker
+  {
+    private final ChildChecker[] childCheckers;
+    private final Set<String> knownChildKeys;
+
+    ParentChecker(ChildChecker[] childCheckers, Set<String> staticFieldKeys)
+    {
+      Set<String> knownChildKeys = new HashSet<>(staticFieldKeys);
+
+      for (ChildChecker childChecker : childCheckers)
+        knownChildKeys.add(childChecker.key);
+
+      this.childCheckers = childCheckers;
+      this.knownChildKeys = Collections.unmodifiableSet(knownChildKeys);
+    }
+
+    void check(ParentInstanceArtifact parentInstanceArtifact, ArtifactPath path, List<InstanceViolation> violations)
+    {
+      for (ChildChecker childChecker : childCheckers)
+        childChecker.check(parentInstanceArtifact, path, violations);
+
+      checkUnknownChildren(parentInstanceArtifact.singleInstanceFieldInstances().keySet(), path, violations);
+      checkUnknownChildren(parentInstanceArtifact.multiInstanceFieldInstances().keySet(), path, violations);
+      checkUnknownChildren(parentInstanceArtifact.singleInstanceElementInstances().keySet(), path, violations);
+      checkUnknownChildren(parentInstanceArtifact.multiInstanceElementInstances().keySet(), path, violations);
+      checkUnknownChildren(parentInstanceArtifact.attributeValueFieldInstanceGroups().keySet(), path, violations);
+    }
+
+    private void checkUnknownChildren(Set<String> childKeys, ArtifactPath path, List<InstanceViolation> violations)
+    {
+      for (String childKey : childKeys) {
+        if (!knownChildKeys.contains(childKey))
+          violations.add(violation(UNKNOWN_CHILD, path.child(childKey), "child is not present in the template"));
+      }
+    }
+  }
+
+  /**
+   * The compiled checks of a single child of a template or element. Field children hold a value checker; element
+   * children hold the compiled checks of the element.
+   */
+  private static final class ChildChecker
+  {
+    private final String key;
+    private final boolean isMultiple;
+    private final boolean allowsArray;
+    private final boolean isAttributeValue;
+    private final int minItems;
+    private final int maxItems;
+    private final FieldValueChecker fieldValueChecker;
+    private final ParentChecker elementChecker;
+
+    ChildChecker(String key, ChildSchemaArtifact childSchemaArtifact, boolean multipleChoice, boolean isAttributeValue,
+      FieldValueChecker fieldValueChecker, ParentChecker elementChecker)
+    {
+      this.key = key;
+      this.isMultiple = childSchemaArtifact.isMultiple();
+      this.allowsArray = childSchemaArtifact.isMultiple() || multipleChoice;
+      this.isAttributeValue = isAttributeValue;
+      this.minItems = childSchemaArtifact.isMultiple() ? childSchemaArtifact.minItems().orElse(-1) : -1;
+      this.maxItems = childSchemaArtifact.isMultiple() ? childSchemaArtifact.maxItems().orElse(-1) : -1;
+      this.fieldValueChecker = fieldValueChecker;
+      this.elementChecker = elementChecker;
+    }
+
+    void check(ParentInstanceArtifact parentInstanceArtifact, ArtifactPath parentPath,
+      List<InstanceViolation> violations)
+    {
+      if (isAttributeValue)
+        checkAttributeValueField(parentInstanceArtifact, parentPath, violations);
+      else if (elementChecker == null)
+        checkField(parentInstanceArtifact, parentPath, violations);
+      else
+        checkElement(parentInstanceArtifact, parentPath, violations);
+    }
+
+    /**
+     * The values of attribute-value fields are named by the instance, so only their presence is checked
+     */
+    private void checkAttributeValueField(ParentInstanceArtifact parentInstanceArtifact, ArtifactPath parentPath,
+      List<InstanceViolation> violations)
+    {
+      if (!parentInstanceArtifact.attributeValueFieldInstanceGroups().containsKey(key)
+        && !parentInstanceArtifact.multiInstanceFieldInstances().containsKey(key))
+        violations.add(violation(MISSING_CHILD, parentPath.child(key), "attribute-value field is missing"));
+    }
+
+    private void checkField(ParentInstanceArtifact parentInstanceArtifact, ArtifactPath parentPath,
+      List<InstanceViolation> violations)
+    {
+      FieldInstanceArtifact fieldInstanceArtifact = parentInstanceArtifact.singleInstanceFieldInstances().get(key);
+
+      if (fieldInstanceArtifact != null) {
+        ArtifactPath path = parentPath.child(key);
+
+        if (isMultiple)
+          violations.add(violation(CARDINALITY, path, "multi-instance field has a single value"));
+        fieldValueChecker.check(fieldInstanceArtifact, path, violations);
+      } else {
+        List<FieldInstanceArtifact> fieldInstanceArtifacts = parentInstanceArtifact.multiInstanceFieldInstances()
+          .get(key);
+
+        if (fieldInstanceArtifacts == null)
+          violations.add(violation(MISSING_CHILD, parentPath.child(key), "field is missing"));
+        else {
+          ArtifactPath basePath = parentPath.child(key);
+
+          checkArray(fieldInstanceArtifacts.size(), basePath, violations);
+
+          for (int i = 0; i < fieldInstanceArtifacts.size(); i++)
+            fieldValueChecker.check(fieldInstanceArtifacts.get(i), basePath.index(i), violations);
+        }
+      }
+    }
+
+    private void checkElement(ParentInstanceArtifact parentInstanceArtifact, ArtifactPath parentPath,
+      List<InstanceViolation> violations)
+    {
+      ElementInstanceArtifact elementInstanceArtifact = parentInstanceArtifact.singleInstanceElementInstances()
+        .get(key);
+
+      if (elementInstanceArtifact != null) {
+        ArtifactPath path = parentPath.child(key);
+
+        if (isMultiple)
+          violations.add(violation(CARDINALITY, path, "multi-instance element has a single value"));
+        elementChecker.check(elementInstanceArtifact, path, violations);
+      } else {
+        List<ElementInstanceArtifact> elementInstanceArtifacts = parentInstanceArtifact
+          .multiInstanceElementInstances().get(key);
+
+        if (elementInstanceArtifacts == null) {
+          // Empty arrays are read as multi-instance fields because their type cannot be determined
+          List<FieldInstanceArtifact> emptyArray = parentInstanceArtifact.multiInstanceFieldInstances().get(key);
+
+          if (emptyArray != null && emptyArray.isEmpty())
+            checkArray(0, parentPath.child(key), violations);
+          else
+            violations.add(violation(MISSING_CHILD, parentPath.child(key), "element is missing"));
+        } else {
+          ArtifactPath basePath = parentPath.child(key);
+
+          checkArray(elementInstanceArtifacts.size(), basePath, violations);
+
+          for (int i = 0; i < elementInstanceArtifacts.size(); i++)
+            elementChecker.check(elementInstanceArtifacts.get(i), basePath.index(i), violations);
+        }
+      }
+    }
+
+    private void checkArray(int numberOfItems, ArtifactPath path, List<InstanceViolation> violations)
+    {
+      if (!allowsArray)
+        violations.add(violation(CARDINALITY, path, "single-instance child has an array of values"));
+      if (minItems != -1 && numberOfItems < minItems)
+        violations.add(violation(MIN_ITEMS, path,
+          "child has " + numberOfItems + " items, which is less than the minimum " + minItems));
+      if (maxItems != -1 && numberOfItems > maxItems)
+        violations.add(violation(MAX_ITEMS, path,
+          "child has " + numberOfItems + " items, which is more than the maximum " + maxItems));
+    }
+  }
+}
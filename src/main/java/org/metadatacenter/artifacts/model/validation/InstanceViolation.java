@@ -0,0 +1,13 @@
+package org.metadatacenter.artifacts.model.validation;
+
+/**
+ * A violation of a template's constraints by an instance, reported at the path of the offending instance artifact;
+ * e.g., /Study/Address[2]/Zip
+ */
+public record InstanceViolation(InstanceViolationType type, String path, String message)
+{
+  @Override public String toString()
+  {
+    return type + " at " + path + ": " + message;
+  }
+}
@@ -0,0 +1,23 @@
+package org.metadatacenter.artifacts.model.validation;
+
+public enum InstanceViolationType
+{
+  TEMPLATE_MISMATCH,
+  MISSING_CHILD,
+  UNKNOWN_CHILD,
+  CARDINALITY,
+  MIN_ITEMS,
+  MAX_ITEMS,
+  REQUIRED_VALUE,
+  MIN_LENGTH,
+  MAX_LENGTH,
+  REGEX,
+  LITERAL,
+  NUMERIC_FORMAT,
+  MIN_VALUE,
+  MAX_VALUE,
+  DECIMAL_PLACES,
+  TEMPORAL_FORMAT,
+  LINK,
+  CONTROLLED_TERM
+}
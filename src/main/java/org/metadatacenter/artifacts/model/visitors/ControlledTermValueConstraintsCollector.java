@@ -0,0 +1,59 @@
+package org.metadatacenter.artifacts.model.visitors;
+
+import org.metadatacenter.artifacts.model.core.ArtifactPath;
+import org.metadatacenter.artifacts.model.core.FieldSchemaArtifact;
+import org.metadatacenter.artifacts.model.core.SchemaArtifactVisitor;
+import org.metadatacenter.artifacts.model.core.TemplateSchemaArtifact;
+import org.metadatacenter.artifacts.model.core.fields.constraints.BranchValueConstraint;
+import org.metadatacenter.artifacts.model.core.fields.constraints.ControlledTermValueConstraints;
+import org.metadatacenter.artifacts.model.core.fields.constraints.OntologyValueConstraint;
+import org.metadatacenter.artifacts.model.core.fields.constraints.ValueSetValueConstraint;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Collects the controlled term value constraints whose values a renderer looks up on the terminology server
+ * <p></p>
+ * The Excel renderer looks up the values of the complete constraints of each controlled term field, while the YAML
+ * renderer looks up each of its ontologies, branches, and value sets separately, so both forms are collected. The
+ * collected constraints are built in the same way as the renderers build them, so their lookups resolve to the same
+ * terminology server cache keys.
+ */
+public class ControlledTermValueConstraintsCollector implements SchemaArtifactVisitor
+{
+  private final Set<ControlledTermValueConstraints> controlledTermValueConstraints = new LinkedHashSet<>();
+
+  public List<ControlledTermValueConstraints> getControlledTermValueConstraints()
+  {
+    return new ArrayList<>(controlledTermValueConstraints);
+  }
+
+  @Override public void visitTemplateSchemaArtifact(TemplateSchemaArtifact templateSchemaArtifact)
+  {
+  }
+
+  @Override public void visitFieldSchemaArtifact(FieldSchemaArtifact fieldSchemaArtifact, ArtifactPath path)
+  {
+    if (fieldSchemaArtifact.valueConstraints().isPresent()
+      && fieldSchemaArtifact.valueConstraints().get() instanceof ControlledTermValueConstraints fieldValueConstraints
+      && fieldValueConstraints.hasExplicitConstraints()) {
+
+      controlledTermValueConstraints.add(fieldValueConstraints);
+
+      for (OntologyValueConstraint ontologyValueConstraint : fieldValueConstraints.ontologies())
+        controlledTermValueConstraints.add(ControlledTermValueConstraints.builder()
+          .withOntologyValueConstraint(ontologyValueConstraint).build());
+
+      for (BranchValueConstraint branchValueConstraint : fieldValueConstraints.branches())
+        controlledTermValueConstraints.add(ControlledTermValueConstraints.builder()
+          .withBranchValueConstraint(branchValueConstraint).build());
+
+      for (ValueSetValueConstraint valueSetValueConstraint : fieldValueConstraints.valueSets())
+        controlledTermValueConstraints.add(ControlledTermValueConstraints.builder()
+          .withValueSetValueConstraint(valueSetValueConstraint).build());
+    }
+  }
+}
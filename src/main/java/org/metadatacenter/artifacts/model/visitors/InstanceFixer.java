@@ -1,5 +1,6 @@
 package org.metadatacenter.artifacts.model.visitors;
 
+import org.metadatacenter.artifacts.model.core.ArtifactPath;
 import org.metadatacenter.artifacts.model.core.ElementInstanceArtifact;
 import org.metadatacenter.artifacts.model.core.FieldInstanceArtifact;
 import org.metadatacenter.artifacts.model.core.FieldSchemaArtifact;
@@ -9,6 +10,8 @@ import org.metadatacenter.artifacts.model.core.TemplateSchemaArtifact;
 import org.metadatacenter.artifacts.model.core.fields.constraints.ValueConstraints;
 import org.metadatacenter.model.ModelNodeNames;
 
+import java.util.Optional;
+
 public class InstanceFixer implements InstanceArtifactVisitor
 {
   private final TemplateSchemaArtifact templateSchemaArtifact;
@@ -37,22 +40,24 @@ public class InstanceFixer implements InstanceArtifactVisitor
 
   }
 
-  @Override public void visitElementInstanceArtifact(ElementInstanceArtifact elementInstanceArtifact, String path)
+  @Override public void visitElementInstanceArtifact(ElementInstanceArtifact elementInstanceArtifact, ArtifactPath path)
   {
 
   }
 
-  @Override public void visitFieldInstanceArtifact(FieldInstanceArtifact fieldInstanceArtifact, String path)
+  @Override public void visitFieldInstanceArtifact(FieldInstanceArtifact fieldInstanceArtifact, ArtifactPath path)
   {
-    if (templateReporter.getFieldSchema(path).isEmpty())
+    Optional<FieldSchemaArtifact> fieldSchemaArtifactAtPath = templateReporter.getFieldSchema(path);
+
+    if (fieldSchemaArtifactAtPath.isEmpty())
       throw new RuntimeException(
         "no field schema specification for at path " + path + " when processing template" + templateName());
 
-    FieldSchemaArtifact fieldSchemaArtifact = templateReporter.getFieldSchema(path).get();
+    FieldSchemaArtifact fieldSchemaArtifact = fieldSchemaArtifactAtPath.get();
     String fieldName = fieldSchemaArtifact.name();
 
-    if (templateReporter.getValueConstraints(path).isPresent()) {
-      ValueConstraints valueConstraints = templateReporter.getValueConstraints(path).get();
+    if (fieldSchemaArtifact.valueConstraints().isPresent()) {
+      ValueConstraints valueConstraints = fieldSchemaArtifact.valueConstraints().get();
 
       if (valueConstraints.isTextValueConstraint()) { // TODO Use typesafe switch when available
 
@@ -72,7 +77,7 @@ public class InstanceFixer implements InstanceArtifactVisitor
   }
 
   @Override public void visitAttributeValueFieldInstanceArtifact(FieldInstanceArtifact fieldInstanceArtifact,
-    String path, String specificationPath)
+    ArtifactPath path, ArtifactPath specificationPath)
   {
     // TOD
   }
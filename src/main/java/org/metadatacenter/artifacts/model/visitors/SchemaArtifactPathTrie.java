@@ -0,0 +1,250 @@
+package org.metadatacenter.artifacts.model.visitors;
+
+import org.metadatacenter.artifacts.model.core.ArtifactPath;
+import org.metadatacenter.artifacts.model.core.ElementSchemaArtifact;
+import org.metadatacenter.artifacts.model.core.FieldSchemaArtifact;
+
+/**
+ * A trie of the field and element schema artifacts of a template, keyed by the child keys on their paths.
+ * <p></p>
+ * Instance paths such as /Study[0]/Address[2]/Zip are resolved by scanning the path in place: each segment is hashed
+ * and compared directly against the keys stored at the current node, and any trailing array indexes of a segment are
+ * skipped. No regular expressions are evaluated and no substrings are created during a lookup. An {@link ArtifactPath}
+ * is resolved segment by segment without being rendered: each key segment is looked up directly at the node of its
+ * parent and index segments are skipped.
+ */
+final class SchemaArtifactPathTrie
+{
+  private final Node root = new Node();
+
+  /**
+   * Add a field schema artifact at the supplied schema path, which must not contain array indexes
+   *
+   * @return false if a field schema artifact is already present at the path
+   */
+  boolean putFieldSchema(String path, FieldSchemaArtifact fieldSchemaArtifact)
+  {
+    Node node = getOrCreateNode(path);
+
+    if (node.fieldSchemaArtifact != null)
+      return false;
+
+    node.fieldSchemaArtifact = fieldSchemaArtifact;
+    return true;
+  }
+
+  /**
+   * Add an element schema artifact at the supplied schema path, which must not contain array indexes
+   *
+   * @return false if an element schema artifact is already present at the path
+   */
+  boolean putElementSchema(String path, ElementSchemaArtifact elementSchemaArtifact)
+  {
+    Node node = getOrCreateNode(path);
+
+    if (node.elementSchemaArtifact != null)
+      return false;
+
+    node.elementSchemaArtifact = elementSchemaArtifact;
+    return true;
+  }
+
+  FieldSchemaArtifact getFieldSchema(String path)
+  {
+    Node node = findNode(path);
+
+    return node == null ? null : node.fieldSchemaArtifact;
+  }
+
+  ElementSchemaArtifact getElementSchema(String path)
+  {
+    Node node = findNode(path);
+
+    return node == null ? null : node.elementSchemaArtifact;
+  }
+
+  FieldSchemaArtifact getFieldSchema(ArtifactPath path)
+  {
+    Node node = findNode(path);
+
+    return node == null ? null : node.fieldSchemaArtifact;
+  }
+
+  ElementSchemaArtifact getElementSchema(ArtifactPath path)
+  {
+    Node node = findNode(path);
+
+    return node == null ? null : node.elementSchemaArtifact;
+  }
+
+  private Node getOrCreateNode(String path)
+  {
+    Node node = root;
+    int segmentStart = skipSeparator(path, 0);
+
+    while (segmentStart < path.length()) {
+      int segmentEnd = segmentEnd(path, segmentStart);
+      int keyEnd = keyEnd(path, segmentStart, segmentEnd);
+      int hash = hash(path, segmentStart, keyEnd);
+      Node child = node.get(path, segmentStart, keyEnd, hash);
+
+      if (child == null) {
+        child = new Node();
+        node.put(path.substring(segmentStart, keyEnd), hash, child);
+      }
+      node = child;
+      segmentStart = skipSeparator(path, segmentEnd);
+    }
+    return node;
+  }
+
+  private Node findNode(String path)
+  {
+    Node node = root;
+    int segmentStart = skipSeparator(path, 0);
+
+    while (node != null && segmentStart < path.length()) {
+      int segmentEnd = segmentEnd(path, segmentStart);
+      int keyEnd = keyEnd(path, segmentStart, segmentEnd);
+
+      node = node.get(path, segmentStart, keyEnd, hash(path, segmentStart, keyEnd));
+      segmentStart = skipSeparator(path, segmentEnd);
+    }
+    return node;
+  }
+
+  private Node findNode(ArtifactPath path)
+  {
+    if (path.isRoot())
+      return root;
+    else if (path.isIndex())
+      return findNode(path.parent());
+    else if (path.parent() == null)
+      return findNode(path.key());
+    else {
+      Node parentNode = findNode(path.parent());
+      String key = path.key();
+
+      return parentNode == null ? null : parentNode.get(key, 0, key.length(), key.hashCode());
+    }
+  }
+
+  private static int skipSeparator(String path, int position)
+  {
+    return position < path.length() && path.charAt(position) == '/' ? position + 1 : position;
+  }
+
+  private static int segmentEnd(String path, int segmentStart)
+  {
+    int separatorPosition = path.indexOf('/', segmentStart);
+
+    return separatorPosition == -1 ? path.length() : separatorPosition;
+  }
+
+  /**
+   * Return the end of the key of a segment, which excludes any trailing array indexes of the form [n]
+   */
+  private static int keyEnd(String path, int segmentStart, int segmentEnd)
+  {
+    int keyEnd = segmentEnd;
+
+    while (keyEnd > segmentStart && path.charAt(keyEnd - 1) == ']') {
+      int position = keyEnd - 2;
+
+      while (position >= segmentStart && Character.isDigit(path.charAt(position)))
+        position--;
+
+      if (position < segmentStart || position == keyEnd - 2 || path.charAt(position) != '[')
+        break;
+
+      keyEnd = position;
+    }
+    return keyEnd;
+  }
+
+  /**
+   * Compute the same hash as {@link String#hashCode()} for a region of a string
+   */
+  private static int hash(String path, int start, int end)
+  {
+    int hash = 0;
+
+    for (int i = start; i < end; i++)
+      hash = 31 * hash + path.charAt(i);
+
+    return hash;
+  }
+
+  /**
+   * A trie node whose children are held in an open-addressing table keyed by child key, so that a child can be
+   * looked up using a region of a path
+   */
+  private static final class Node
+  {
+    private static final int INITIAL_CAPACITY = 4;
+
+    private FieldSchemaArtifact fieldSchemaArtifact;
+    private ElementSchemaArtifact elementSchemaArtifact;
+    private String[] childKeys = new String[INITIAL_CAPACITY];
+    private int[] childHashes = new int[INITIAL_CAPACITY];
+    private Node[] children = new Node[INITIAL_CAPACITY];
+    private int numberOfChildren;
+
+    Node get(String path, int start, int end, int hash)
+    {
+      int mask = children.length - 1;
+      int length = end - start;
+
+      for (int slot = spread(hash) & mask; children[slot] != null; slot = (slot + 1) & mask) {
+        String childKey = childKeys[slot];
+
+        if (childHashes[slot] == hash && childKey.length() == length && path.regionMatches(start, childKey, 0, length))
+          return children[slot];
+      }
+      return null;
+    }
+
+    void put(String childKey, int hash, Node child)
+    {
+      if (2 * (numberOfChildren + 1) > children.length)
+        resize();
+
+      insert(childKey, hash, child);
+      numberOfChildren++;
+    }
+
+    private void insert(String childKey, int hash, Node child)
+    {
+      int mask = children.length - 1;
+      int slot = spread(hash) & mask;
+
+      while (children[slot] != null)
+        slot = (slot + 1) & mask;
+
+      childKeys[slot] = childKey;
+      childHashes[slot] = hash;
+      children[slot] = child;
+    }
+
+    private void resize()
+    {
+      String[] oldChildKeys = childKeys;
+      int[] oldChildHashes = childHashes;
+      Node[] oldChildren = children;
+
+      childKeys = new String[oldChildren.length * 2];
+      childHashes = new int[oldChildren.length * 2];
+      children = new Node[oldChildren.length * 2];
+
+      for (int slot = 0; slot < oldChildren.length; slot++) {
+        if (oldChildren[slot] != null)
+          insert(oldChildKeys[slot], oldChildHashes[slot], oldChildren[slot]);
+      }
+    }
+
+    private static int spread(int hash)
+    {
+      return hash ^ (hash >>> 16);
+    }
+  }
+}
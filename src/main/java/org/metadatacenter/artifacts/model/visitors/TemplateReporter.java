@@ -1,21 +1,18 @@
 package org.metadatacenter.artifacts.model.visitors;
 
+import org.metadatacenter.artifacts.model.core.ArtifactPath;
 import org.metadatacenter.artifacts.model.core.ElementSchemaArtifact;
 import org.metadatacenter.artifacts.model.core.FieldSchemaArtifact;
 import org.metadatacenter.artifacts.model.core.SchemaArtifactVisitor;
 import org.metadatacenter.artifacts.model.core.TemplateSchemaArtifact;
 import org.metadatacenter.artifacts.model.core.fields.constraints.ValueConstraints;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 
 public class TemplateReporter
 {
   private final TemplateSchemaArtifact templateSchema;
-  private final Map<String, FieldSchemaArtifact> fieldSchemas;
-  private final Map<String, ElementSchemaArtifact> elementSchemas;
-  private final Map<String, ValueConstraints> valueConstraints;
+  private final SchemaArtifactPathTrie schemaArtifactPaths;
 
   public TemplateReporter(TemplateSchemaArtifact templateSchema)
   {
@@ -24,9 +21,7 @@ public class TemplateReporter
     templateSchema.accept(reporterVisitor);
 
     this.templateSchema = templateSchema;
-    fieldSchemas = Map.copyOf(reporterVisitor.getFieldSchemas());
-    elementSchemas = Map.copyOf(reporterVisitor.getElementSchemas());
-    valueConstraints = Map.copyOf(reporterVisitor.getValueConstraints());
+    this.schemaArtifactPaths = reporterVisitor.getSchemaArtifactPaths();
   }
 
   public TemplateSchemaArtifact getTemplateSchema()
@@ -34,55 +29,66 @@ public class TemplateReporter
     return templateSchema;
   }
 
+  /**
+   * Find the field schema artifact for a path, which may contain array indexes; e.g., /Study[0]/Address[2]/Zip
+   */
   public Optional<FieldSchemaArtifact> getFieldSchema(String path)
   {
-    String normalizedPath = path.replaceAll("\\[\\d+\\]", "");
+    return Optional.ofNullable(schemaArtifactPaths.getFieldSchema(path));
+  }
 
-    return Optional.ofNullable(this.fieldSchemas.get(normalizedPath));
+  /**
+   * Find the field schema artifact for a path without rendering it, skipping any index segments
+   */
+  public Optional<FieldSchemaArtifact> getFieldSchema(ArtifactPath path)
+  {
+    return Optional.ofNullable(schemaArtifactPaths.getFieldSchema(path));
   }
 
+  /**
+   * Find the element schema artifact for a path, which may contain array indexes; e.g., /Study[0]/Address[2]
+   */
   public Optional<ElementSchemaArtifact> getElementSchema(String path)
   {
-    String normalizedPath = path.replaceAll("\\[\\d+\\]", "");
+    return Optional.ofNullable(schemaArtifactPaths.getElementSchema(path));
+  }
 
-    return Optional.ofNullable(this.elementSchemas.get(normalizedPath));
+  public Optional<ElementSchemaArtifact> getElementSchema(ArtifactPath path)
+  {
+    return Optional.ofNullable(schemaArtifactPaths.getElementSchema(path));
   }
 
+  /**
+   * Find the value constraints of the field schema artifact for a path, which may contain array indexes
+   */
   public Optional<ValueConstraints> getValueConstraints(String path)
   {
-    String normalizedPath = path.replaceAll("\\[\\d+\\]", "");
+    FieldSchemaArtifact fieldSchemaArtifact = schemaArtifactPaths.getFieldSchema(path);
 
-    return Optional.ofNullable(this.valueConstraints.get(normalizedPath));
+    return fieldSchemaArtifact == null ? Optional.empty() : fieldSchemaArtifact.valueConstraints();
+  }
+
+  public Optional<ValueConstraints> getValueConstraints(ArtifactPath path)
+  {
+    FieldSchemaArtifact fieldSchemaArtifact = schemaArtifactPaths.getFieldSchema(path);
+
+    return fieldSchemaArtifact == null ? Optional.empty() : fieldSchemaArtifact.valueConstraints();
   }
 
   private static class ReporterVisitor implements SchemaArtifactVisitor
   {
     private final TemplateSchemaArtifact templateSchemaArtifact;
-    private final Map<String, FieldSchemaArtifact> fieldSchemas;
-    private final Map<String, ElementSchemaArtifact> elementSchemas;
-    private final Map<String, ValueConstraints> valueConstraints;
+    private final SchemaArtifactPathTrie schemaArtifactPaths;
 
     public ReporterVisitor(TemplateSchemaArtifact templateSchemaArtifact)
     {
       this.templateSchemaArtifact = templateSchemaArtifact;
-      this.fieldSchemas = new HashMap<>();
-      this.elementSchemas = new HashMap<>();
-      this.valueConstraints = new HashMap<>();
-    }
-
-    public Map<String, FieldSchemaArtifact> getFieldSchemas()
-    {
-      return this.fieldSchemas;
-    }
-
-    public Map<String, ElementSchemaArtifact> getElementSchemas()
-    {
-      return this.elementSchemas;
+      this.schemaArtifactPaths = new SchemaArtifactPathTrie();
     }
 
-    public Map<String, ValueConstraints> getValueConstraints()
+    public SchemaArtifactPathTrie getSchemaArtifactPaths()
     {
-      return this.valueConstraints;
+      return this.schemaArtifactPaths;
     }
 
     @Override public void visitTemplateSchemaArtifact(TemplateSchemaArtifact templateSchemaArtifact)
@@ -91,25 +97,14 @@ public class TemplateReporter
 
     @Override public void visitElementSchemaArtifact(ElementSchemaArtifact elementSchemaArtifact, String path)
     {
-      if (elementSchemas.containsKey(path))
+      if (!schemaArtifactPaths.putElementSchema(path, elementSchemaArtifact))
         throw new RuntimeException("duplicate element schema path " + path + " when processing template " + templateSchemaArtifact.name());
-
-      elementSchemas.put(path, elementSchemaArtifact);
     }
 
     @Override public void visitFieldSchemaArtifact(FieldSchemaArtifact fieldSchemaArtifact, String path)
     {
-      if (fieldSchemaArtifact.valueConstraints().isPresent()) {
-        if (valueConstraints.containsKey(path))
-          throw new RuntimeException("duplicate value constraints path " + path + " when processing template " + templateSchemaArtifact.name());
-
-        valueConstraints.put(path, fieldSchemaArtifact.valueConstraints().get());
-      }
-
-      if (fieldSchemas.containsKey(path))
+      if (!schemaArtifactPaths.putFieldSchema(path, fieldSchemaArtifact))
         throw new RuntimeException("duplicate field schema path " + path + " when processing template " + templateSchemaArtifact.name());
-
-      fieldSchemas.put(path, fieldSchemaArtifact);
     }
   }
 }
@@ -1,6 +1,7 @@
 package org.metadatacenter.artifacts.ss;
 
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
 import java.io.File;
@@ -12,20 +13,45 @@ import java.io.OutputStream;
 
 public class SpreadsheetFactory
 {
+  // Renderers write a header row and the first data row together, so a streaming window must hold both
+  public static final int MINIMUM_ROW_ACCESS_WINDOW_SIZE = 2;
+
   public static Workbook createEmptyWorkbook()
   {
     return new XSSFWorkbook(); // An empty workbook
   }
 
+  /**
+   * Create an empty workbook that keeps at most rowAccessWindowSize rows of each sheet in memory. The window must
+   * hold at least {@link #MINIMUM_ROW_ACCESS_WINDOW_SIZE} rows.
+   * <p></p>
+   * Older rows are flushed to compressed temporary files as new rows are created and can no longer be read or
+   * modified. The temporary files are removed when the workbook is written with
+   * {@link #writeWorkbook(Workbook, File)}.
+   */
+  public static Workbook createEmptyStreamingWorkbook(int rowAccessWindowSize)
+  {
+    if (rowAccessWindowSize < MINIMUM_ROW_ACCESS_WINDOW_SIZE)
+      throw new IllegalArgumentException("Streaming workbook row access window must hold at least two rows, got "
+        + rowAccessWindowSize);
+
+    SXSSFWorkbook workbook = new SXSSFWorkbook(rowAccessWindowSize);
+    workbook.setCompressTempFiles(true);
+
+    return workbook;
+  }
+
   public static void writeWorkbook(Workbook workbook, File file)
   {
-    try {
-      OutputStream outputStream = new FileOutputStream(file);
+    try (OutputStream outputStream = new FileOutputStream(file)) {
       workbook.write(outputStream);
     } catch (FileNotFoundException e) {
       throw new RuntimeException("error " + e.getMessage() + " opening file " + file.getAbsolutePath());
     } catch (IOException e) {
       throw new RuntimeException("error " + e.getMessage() + " writing file " + file.getAbsolutePath());
+    } finally {
+      if (workbook instanceof SXSSFWorkbook streamingWorkbook)
+        streamingWorkbook.dispose();
     }
   }
 
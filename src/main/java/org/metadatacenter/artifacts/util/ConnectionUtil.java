@@ -1,34 +1,57 @@
 package org.metadatacenter.artifacts.util;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import javax.net.ssl.HttpsURLConnection;
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
 import javax.net.ssl.TrustManager;
-import javax.net.ssl.X509TrustManager;
+import javax.net.ssl.X509ExtendedTrustManager;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
+import java.net.Socket;
+import java.net.URI;
 import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.X509Certificate;
+import java.time.Duration;
 
+/**
+ * Shared HTTP transport for the CEDAR resource and terminology servers
+ * <p></p>
+ * Requests are sent through a single {@link HttpClient} that keeps connections alive between requests and
+ * negotiates HTTP/2 where the server supports it, so repeated calls to the same server reuse one connection instead
+ * of opening a new one per request. Response bodies are returned as streams so that they can be parsed by Jackson
+ * without first being copied into a string. As before, any server certificate is accepted.
+ */
 public class ConnectionUtil {
 
+  public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(30);
+  public static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofMinutes(5);
+
   //@formatter:off
   private static final TrustManager[] trustAllCerts = new TrustManager[1];
   static {
-    trustAllCerts[0] = new X509TrustManager() {
-      public java.security.cert.X509Certificate[] getAcceptedIssuers() { return null; }
+    trustAllCerts[0] = new X509ExtendedTrustManager() {
+      public X509Certificate[] getAcceptedIssuers() { return new X509Certificate[0]; }
       public void checkClientTrusted(X509Certificate[] certs, String authType) {}
       public void checkServerTrusted(X509Certificate[] certs, String authType) {}
+      public void checkClientTrusted(X509Certificate[] certs, String authType, Socket socket) {}
+      public void checkServerTrusted(X509Certificate[] certs, String authType, Socket socket) {}
+      public void checkClientTrusted(X509Certificate[] certs, String authType, SSLEngine engine) {}
+      public void checkServerTrusted(X509Certificate[] certs, String authType, SSLEngine engine) {}
     };
   }
 
@@ -36,22 +59,85 @@ public class ConnectionUtil {
 
   //@formatter:on
 
-  public static ObjectNode readJsonResponseMessage(InputStream is) {
+  private static SSLContext trustAllSslContext;
+  private static boolean sslCheckingDisabled = false;
+  private static HttpClient httpClient;
+  private static Duration connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+  private static Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
+
+  /**
+   * Set the timeouts used for subsequent requests. The connect timeout bounds the opening of a new connection and
+   * the request timeout bounds the wait for the response headers of each request.
+   */
+  public static synchronized void setTimeouts(Duration connectTimeout, Duration requestTimeout) {
+    if (connectTimeout.isNegative() || connectTimeout.isZero() || requestTimeout.isNegative()
+        || requestTimeout.isZero())
+      throw new IllegalArgumentException("Timeouts must be positive");
+
+    ConnectionUtil.connectTimeout = connectTimeout;
+    ConnectionUtil.requestTimeout = requestTimeout;
+    httpClient = null;
+  }
+
+  public static synchronized HttpClient getHttpClient() {
+    if (httpClient == null) {
+      httpClient = HttpClient.newBuilder()
+          .version(HttpClient.Version.HTTP_2)
+          .followRedirects(HttpClient.Redirect.NORMAL)
+          .connectTimeout(connectTimeout)
+          .sslContext(getTrustAllSslContext())
+          .build();
+    }
+    return httpClient;
+  }
+
+  public static HttpResponse<InputStream> sendGetRequest(String endpoint, String apiKey) throws IOException {
+    return sendRequest(createRequestBuilder(endpoint, apiKey).GET().build());
+  }
+
+  public static HttpResponse<InputStream> sendPostRequest(String endpoint, String apiKey, byte[] payload)
+      throws IOException {
+    return sendRequest(createRequestBuilder(endpoint, apiKey)
+        .POST(HttpRequest.BodyPublishers.ofByteArray(payload)).build());
+  }
 
+  public static HttpResponse<InputStream> sendRequest(HttpRequest request) throws IOException {
     try {
-      JsonNode jsonNode = mapper.readTree(readResponseMessage(is));
+      return getHttpClient().send(request, HttpResponse.BodyHandlers.ofInputStream());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for response from " + request.uri());
+    }
+  }
+
+  public static boolean isErrorResponse(HttpResponse<?> response) {
+    return response.statusCode() >= HttpURLConnection.HTTP_BAD_REQUEST;
+  }
+
+  /**
+   * Read the body of a response as a JSON object. The body is parsed directly from the response stream, which is
+   * closed afterwards so that the underlying connection can be reused.
+   */
+  public static ObjectNode readJsonResponseMessage(HttpResponse<InputStream> response) {
+    return readJsonResponseMessage(response.body());
+  }
 
-      if (!jsonNode.isObject())
+  public static ObjectNode readJsonResponseMessage(InputStream is) {
+
+    try (is) {
+      JsonNode jsonNode = mapper.readTree(is);
+
+      if (jsonNode == null || !jsonNode.isObject())
         throw new RuntimeException("Expecting JSON object");
 
       return (ObjectNode)jsonNode;
-    } catch (JsonProcessingException e) {
+    } catch (IOException e) {
       throw new RuntimeException("Error reading JSON object: " + e.getMessage());
     }
   }
 
   public static String readResponseMessage(InputStream is) {
-    StringBuffer sb = new StringBuffer();
+    StringBuilder sb = new StringBuilder();
     try (BufferedReader br = new BufferedReader(new InputStreamReader(is))) {
       String messageLine;
       while ((messageLine = br.readLine()) != null) {
@@ -63,6 +149,17 @@ public class ConnectionUtil {
     return sb.toString();
   }
 
+  /**
+   * Discard the unread body of a response so that its connection is released back to the pool
+   */
+  public static void discardResponseMessage(HttpResponse<InputStream> response) {
+    try (InputStream is = response.body()) {
+      is.transferTo(OutputStream.nullOutputStream());
+    } catch (IOException e) {
+      // The connection is simply not reused
+    }
+  }
+
   public static HttpURLConnection createAndOpenConnection(String requestMethod, String endpoint, String apiKey) throws IOException {
     ignoreSSLCheckingByAcceptingAnyCertificates();
     try {
@@ -78,14 +175,39 @@ public class ConnectionUtil {
     }
   }
 
-  private static void ignoreSSLCheckingByAcceptingAnyCertificates() {
+  private static HttpRequest.Builder createRequestBuilder(String endpoint, String apiKey) {
     try {
-      SSLContext sc = SSLContext.getInstance("SSL");
-      sc.init(null, trustAllCerts, new java.security.SecureRandom());
-      HttpsURLConnection.setDefaultSSLSocketFactory(sc.getSocketFactory());
+      return HttpRequest.newBuilder(URI.create(endpoint))
+          .timeout(getRequestTimeout())
+          .header("Content-Type", "application/json")
+          .header("Authorization", "apiKey " + apiKey);
+    } catch (IllegalArgumentException e) {
+      throw new RuntimeException("Invalid endpoint " + endpoint + ": " + e.getMessage());
+    }
+  }
+
+  private static synchronized Duration getRequestTimeout() {
+    return requestTimeout;
+  }
+
+  private static synchronized SSLContext getTrustAllSslContext() {
+    if (trustAllSslContext == null) {
+      try {
+        SSLContext sc = SSLContext.getInstance("TLS");
+        sc.init(null, trustAllCerts, new java.security.SecureRandom());
+        trustAllSslContext = sc;
+      } catch (KeyManagementException | NoSuchAlgorithmException e) {
+        throw new RuntimeException(e.getMessage());
+      }
+    }
+    return trustAllSslContext;
+  }
+
+  private static synchronized void ignoreSSLCheckingByAcceptingAnyCertificates() {
+    if (!sslCheckingDisabled) {
+      HttpsURLConnection.setDefaultSSLSocketFactory(getTrustAllSslContext().getSocketFactory());
       HttpsURLConnection.setDefaultHostnameVerifier((hostname, session) -> 1 == 1);
-    } catch (KeyManagementException | NoSuchAlgorithmException e) {
-      throw new RuntimeException(e.getMessage());
+      sslCheckingDisabled = true;
     }
   }
 
@@ -0,0 +1,175 @@
+package org.metadatacenter.artifacts.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A {@link TerminologyValueCache} held in memory with least-recently-used eviction once it reaches its maximum size
+ * and a fixed time to live for each entry
+ * <p></p>
+ * The cache can be saved to and loaded from a JSON file so that values retrieved in one run of a command line tool
+ * can be reused by the next. Entry expiry is based on the time at which the values were retrieved, so entries that
+ * have expired since they were saved are not loaded. Cache files record the version of their format, and files with a
+ * different version, including those written before the format was versioned, are rejected; the format version is
+ * changed whenever the entries or the cache keys they are stored under change meaning.
+ */
+public class InMemoryTerminologyValueCache implements TerminologyValueCache
+{
+  public static final int DEFAULT_MAXIMUM_SIZE = 10000;
+  public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofDays(1);
+  public static final int FORMAT_VERSION = 2;
+
+  private static final ObjectMapper mapper = new ObjectMapper();
+
+  private final int maximumSize;
+  private final long timeToLiveMillis;
+  private final Clock clock;
+  private final LinkedHashMap<String, CacheEntry> entries;
+
+  private long hitCount = 0;
+  private long missCount = 0;
+  private long evictionCount = 0;
+
+  public InMemoryTerminologyValueCache()
+  {
+    this(DEFAULT_MAXIMUM_SIZE, DEFAULT_TIME_TO_LIVE);
+  }
+
+  public InMemoryTerminologyValueCache(int maximumSize, Duration timeToLive)
+  {
+    this(maximumSize, timeToLive, Clock.systemUTC());
+  }
+
+  InMemoryTerminologyValueCache(int maximumSize, Duration timeToLive, Clock clock)
+  {
+    if (maximumSize < 1)
+      throw new IllegalArgumentException("Maximum cache size must be positive, got " + maximumSize);
+
+    if (timeToLive.isNegative() || timeToLive.isZero())
+      throw new IllegalArgumentException("Cache time to live must be positive, got " + timeToLive);
+
+    this.maximumSize = maximumSize;
+    this.timeToLiveMillis = timeToLive.toMillis();
+    this.clock = clock;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true)
+    {
+      @Override protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest)
+      {
+        if (size() > InMemoryTerminologyValueCache.this.maximumSize) {
+          evictionCount++;
+          return true;
+        } else
+          return false;
+      }
+    };
+  }
+
+  @Override public synchronized Optional<Map<String, String>> get(String key)
+  {
+    CacheEntry entry = entries.get(key);
+
+    if (entry != null && isExpired(entry)) {
+      entries.remove(key);
+      evictionCount++;
+      entry = null;
+    }
+
+    if (entry == null) {
+      missCount++;
+      return Optional.empty();
+    } else {
+      hitCount++;
+      return Optional.of(entry.values());
+    }
+  }
+
+  @Override public synchronized void put(String key, Map<String, String> values)
+  {
+    entries.put(key, new CacheEntry(clock.millis(), Collections.unmodifiableMap(new LinkedHashMap<>(values))));
+  }
+
+  @Override public synchronized TerminologyValueCacheStatistics getStatistics()
+  {
+    return new TerminologyValueCacheStatistics(hitCount, missCount, evictionCount, entries.size());
+  }
+
+  /**
+   * Add the unexpired entries saved in a cache file to this cache. Entries already in the cache are replaced.
+   *
+   * @throws IllegalArgumentException if the file is not a cache file of the current format version
+   */
+  public void load(Path cacheFile) throws IOException
+  {
+    JsonNode cacheFileNode = mapper.readTree(cacheFile.toFile());
+
+    if (cacheFileNode == null || !cacheFileNode.isObject() || !cacheFileNode.path("version").isInt())
+      throw new IllegalArgumentException("Not a terminology cache file of format version " + FORMAT_VERSION);
+
+    if (cacheFileNode.get("version").intValue() != FORMAT_VERSION)
+      throw new IllegalArgumentException(
+        "Unsupported terminology cache file format version " + cacheFileNode.get("version").intValue());
+
+    PersistedCache persistedCache = mapper.treeToValue(cacheFileNode, PersistedCache.class);
+
+    synchronized (this) {
+      for (PersistedCacheEntry persistedEntry : persistedCache.entries()) {
+        CacheEntry entry = new CacheEntry(persistedEntry.retrievedAt(),
+          Collections.unmodifiableMap(new LinkedHashMap<>(persistedEntry.values())));
+
+        if (!isExpired(entry))
+          entries.put(persistedEntry.key(), entry);
+      }
+    }
+  }
+
+  /**
+   * Save the unexpired entries of this cache to a file. The file is written in full and then moved into place so that
+   * an interrupted save does not leave a truncated cache file behind.
+   */
+  public void save(Path cacheFile) throws IOException
+  {
+    List<PersistedCacheEntry> persistedEntries = new ArrayList<>();
+
+    synchronized (this) {
+      for (Map.Entry<String, CacheEntry> entry : entries.entrySet()) {
+        if (!isExpired(entry.getValue()))
+          persistedEntries.add(new PersistedCacheEntry(entry.getKey(), entry.getValue().retrievedAt(),
+            entry.getValue().values()));
+      }
+    }
+
+    Path directory = cacheFile.toAbsolutePath().getParent();
+    Path temporaryFile = Files.createTempFile(directory, cacheFile.getFileName().toString(), ".tmp");
+
+    try {
+      mapper.writeValue(temporaryFile.toFile(), new PersistedCache(FORMAT_VERSION, persistedEntries));
+      Files.move(temporaryFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(temporaryFile);
+    }
+  }
+
+  private boolean isExpired(CacheEntry entry)
+  {
+    return clock.millis() - entry.retrievedAt() >= timeToLiveMillis;
+  }
+
+  private record CacheEntry(long retrievedAt, Map<String, String> values) {}
+
+  private record PersistedCache(int version, List<PersistedCacheEntry> entries) {}
+
+  private record PersistedCacheEntry(String key, long retrievedAt, Map<String, String> values) {}
+}
@@ -0,0 +1,41 @@
+package org.metadatacenter.artifacts.util;
+
+import org.metadatacenter.artifacts.model.core.fields.constraints.ControlledTermValueConstraints;
+
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * A terminology server client that serves every lookup from a {@link TerminologySnapshot} and never uses the network
+ * <p></p>
+ * It can be passed to the Excel and YAML renderers in place of a live client. Looking up value constraints that are
+ * not in the snapshot is an error, so an export either reproduces the values captured in the snapshot exactly or
+ * fails. Streamed retrieval returns the same values as a lookup.
+ */
+public class OfflineTerminologyServerClient extends TerminologyServerClient
+{
+  private final String terminologyServerIntegratedSearchEndpoint;
+
+  public OfflineTerminologyServerClient(TerminologySnapshot terminologySnapshot)
+  {
+    super(terminologySnapshot.getTerminologyServerIntegratedSearchEndpoint().orElse(null), terminologySnapshot);
+
+    this.terminologyServerIntegratedSearchEndpoint =
+      terminologySnapshot.getTerminologyServerIntegratedSearchEndpoint().orElse(null);
+  }
+
+  @Override public void streamValuesFromTerminologyServer(
+    ControlledTermValueConstraints controlledTermValueConstraints, int pageSize, int maximumConcurrentRequests,
+    BiConsumer<String, String> valueConsumer)
+  {
+    getValuesFromTerminologyServer(controlledTermValueConstraints).forEach(valueConsumer);
+  }
+
+  @Override protected Map<String, String> searchValuesFromTerminologyServer(
+    ControlledTermValueConstraints controlledTermValueConstraints)
+  {
+    throw new RuntimeException("No values in terminology snapshot for value constraints "
+      + controlledTermValueConstraints2CacheKey(terminologyServerIntegratedSearchEndpoint,
+      controlledTermValueConstraints));
+  }
+}
@@ -2,32 +2,111 @@ package org.metadatacenter.artifacts.util;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import org.metadatacenter.artifacts.model.core.fields.constraints.ControlledTermValueConstraints;
 
 import java.io.IOException;
-import java.io.OutputStream;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.net.HttpURLConnection;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
 
 public class TerminologyServerClient
 {
+  public static final int DEFAULT_RETRIEVE_PAGE_SIZE = 1000;
+  public static final int DEFAULT_MAXIMUM_CONCURRENT_RETRIEVE_REQUESTS = 4;
+  public static final int DEFAULT_MAXIMUM_CONCURRENT_SEARCH_REQUESTS = 8;
+  public static final int SEARCH_PAGE_SIZE = 4000;
+
+  private static final int HTTP_TOO_MANY_REQUESTS = 429;
+
+  private static final ObjectMapper cacheKeyMapper = JsonMapper.builder()
+    .addModule(new Jdk8Module())
+    .serializationInclusion(JsonInclude.Include.NON_ABSENT)
+    .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+    .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+    .build();
+
+  private static final String INTEGRATED_SEARCH_PATH = "integrated-search";
+  private static final String INTEGRATED_RETRIEVE_PATH = "integrated-retrieve";
+
   private final String terminologyServerIntegratedSearchEndpoint;
+  private final Optional<String> terminologyServerIntegratedRetrieveEndpoint;
   private final String terminologyServerApiKey;
   private final ObjectMapper mapper;
   private final ObjectWriter objectWriter;
+  private final TerminologyValueCache terminologyValueCache;
+  private final TerminologyServerRequestPolicy requestPolicy;
+  private final TokenBucketRateLimiter rateLimiter;
+  private final ConcurrentHashMap<String, CompletableFuture<Map<String, String>>> lookupsInFlight =
+    new ConcurrentHashMap<>();
+  private final LongAdder requestCount = new LongAdder();
+  private final LongAdder throttledRequestCount = new LongAdder();
+  private final LongAdder retriedRequestCount = new LongAdder();
+  private final LongAdder coalescedRequestCount = new LongAdder();
 
   public TerminologyServerClient(String terminologyServerIntegratedSearchEndpoint, String terminologyServerApiKey)
+  {
+    this(terminologyServerIntegratedSearchEndpoint, terminologyServerApiKey, new InMemoryTerminologyValueCache());
+  }
+
+  public TerminologyServerClient(String terminologyServerIntegratedSearchEndpoint, String terminologyServerApiKey,
+    TerminologyValueCache terminologyValueCache)
+  {
+    this(terminologyServerIntegratedSearchEndpoint,
+      integratedSearchEndpoint2IntegratedRetrieveEndpoint(terminologyServerIntegratedSearchEndpoint),
+      terminologyServerApiKey, terminologyValueCache);
+  }
+
+  public TerminologyServerClient(String terminologyServerIntegratedSearchEndpoint,
+    Optional<String> terminologyServerIntegratedRetrieveEndpoint, String terminologyServerApiKey,
+    TerminologyValueCache terminologyValueCache)
+  {
+    this(terminologyServerIntegratedSearchEndpoint, terminologyServerIntegratedRetrieveEndpoint,
+      terminologyServerApiKey, terminologyValueCache, TerminologyServerRequestPolicy.DEFAULT);
+  }
+
+  public TerminologyServerClient(String terminologyServerIntegratedSearchEndpoint,
+    Optional<String> terminologyServerIntegratedRetrieveEndpoint, String terminologyServerApiKey,
+    TerminologyValueCache terminologyValueCache, TerminologyServerRequestPolicy requestPolicy)
   {
     this.terminologyServerIntegratedSearchEndpoint = terminologyServerIntegratedSearchEndpoint;
+    this.terminologyServerIntegratedRetrieveEndpoint = terminologyServerIntegratedRetrieveEndpoint;
     this.terminologyServerApiKey = terminologyServerApiKey;
+    this.terminologyValueCache = terminologyValueCache;
+    this.requestPolicy = requestPolicy;
+    this.rateLimiter = new TokenBucketRateLimiter(requestPolicy.requestsPerSecond(), requestPolicy.burstSize());
 
     this.mapper = new ObjectMapper();
     mapper.registerModule(new Jdk8Module());
@@ -36,102 +115,364 @@ public class TerminologyServerClient
     this.objectWriter = mapper.writer().withDefaultPrettyPrinter();
   }
 
+  /**
+   * Create a client that sends no requests of its own, for subclasses that serve every lookup from their cache. Cache
+   * keys name the given integrated search endpoint, which may be null.
+   */
+  protected TerminologyServerClient(String terminologyServerIntegratedSearchEndpoint,
+    TerminologyValueCache terminologyValueCache)
+  {
+    this(terminologyServerIntegratedSearchEndpoint, Optional.empty(), null, terminologyValueCache,
+      TerminologyServerRequestPolicy.DEFAULT);
+  }
+
+  public TerminologyValueCacheStatistics getCacheStatistics()
+  {
+    return terminologyValueCache.getStatistics();
+  }
+
+  public TerminologyServerRequestStatistics getRequestStatistics()
+  {
+    return new TerminologyServerRequestStatistics(requestCount.sum(), throttledRequestCount.sum(),
+      retriedRequestCount.sum(), coalescedRequestCount.sum());
+  }
+
   // Return prefLabel->URI
-  // TODO Replace this with call to integrated-retrieve endpoint so that more than 4000 values can be retrieved
-  // TODO Think about sleep to avoid BioPortal limit of 15 calls per second limit
+  // Values are served from the cache when the same constraints have been looked up before. Concurrent lookups of
+  // the same constraints share a single request.
   public Map<String, String> getValuesFromTerminologyServer(ControlledTermValueConstraints controlledTermValueConstraints)
   {
-    Map<String, String> values = new HashMap<>();
+    String cacheKey = controlledTermValueConstraints2CacheKey(terminologyServerIntegratedSearchEndpoint,
+      controlledTermValueConstraints);
+    Optional<Map<String, String>> cachedValues = terminologyValueCache.get(cacheKey);
+
+    if (cachedValues.isPresent())
+      return new HashMap<>(cachedValues.get());
+
+    CompletableFuture<Map<String, String>> lookup = new CompletableFuture<>();
+    CompletableFuture<Map<String, String>> lookupInFlight = lookupsInFlight.putIfAbsent(cacheKey, lookup);
+
+    if (lookupInFlight != null) {
+      coalescedRequestCount.increment();
+      try {
+        return new HashMap<>(lookupInFlight.join());
+      } catch (CompletionException e) {
+        throw new RuntimeException(e.getCause().getMessage());
+      }
+    }
 
     try {
-      String vc = controlledTermValueConstraints2Json(controlledTermValueConstraints);
-      Map<String, Object> vcMap = mapper.readValue(vc, Map.class);
+      Map<String, String> values = searchValuesFromTerminologyServer(controlledTermValueConstraints);
 
-      List<Map<String, String>> valueDescriptions;
-      // TODO Replace arbitrary 4000 BioPortal terms; show error if more
-      Map<String, Object> searchResult = integratedSearch(vcMap, 1, 4000,
-        terminologyServerIntegratedSearchEndpoint, terminologyServerApiKey);
-      valueDescriptions = searchResult.containsKey("collection") ?
-        (List<Map<String, String>>)searchResult.get("collection") :
-        new ArrayList<>();
-      if (valueDescriptions.size() > 0) {
-        for (int valueDescriptionsIndex = 0; valueDescriptionsIndex < valueDescriptions.size(); valueDescriptionsIndex++) {
-          String uri = valueDescriptions.get(valueDescriptionsIndex).get("@id");
-          String preferredLabel = valueDescriptions.get(valueDescriptionsIndex).get("prefLabel");
-          values.put(preferredLabel, uri);
+      terminologyValueCache.put(cacheKey, values);
+      lookup.complete(Collections.unmodifiableMap(new HashMap<>(values)));
+
+      return values;
+    } catch (RuntimeException e) {
+      lookup.completeExceptionally(e);
+      throw e;
+    } finally {
+      lookupsInFlight.remove(cacheKey, lookup);
+    }
+  }
+
+  /**
+   * Look up the values of several sets of controlled term value constraints concurrently, with at most
+   * maximumConcurrentRequests lookups in flight
+   * <p></p>
+   * Each lookup goes through {@link #getValuesFromTerminologyServer(ControlledTermValueConstraints)}, so cached values
+   * are not requested again and requests remain subject to the client's rate limit and retry policy. The returned
+   * map has an entry for each distinct set of constraints in the order given. As soon as a lookup fails the lookups
+   * still in progress are cancelled, no further lookups are started, and that failure is rethrown, so the failure
+   * reported is the first to occur whatever the order of the constraints.
+   * <p></p>
+   * Lookups run on threads shared by all clients, so repeated calls do not each start their own threads.
+   */
+  public Map<ControlledTermValueConstraints, Map<String, String>> getValuesFromTerminologyServer(
+    Collection<ControlledTermValueConstraints> controlledTermValueConstraints, int maximumConcurrentRequests)
+  {
+    if (maximumConcurrentRequests < 1)
+      throw new IllegalArgumentException(
+        "Maximum number of concurrent requests must be positive, got " + maximumConcurrentRequests);
+
+    List<ControlledTermValueConstraints> distinctValueConstraints =
+      new ArrayList<>(new LinkedHashSet<>(controlledTermValueConstraints));
+    Map<ControlledTermValueConstraints, Map<String, String>> valuesByValueConstraints = new LinkedHashMap<>();
+
+    if (distinctValueConstraints.size() < 2 || maximumConcurrentRequests == 1) {
+      for (ControlledTermValueConstraints valueConstraints : distinctValueConstraints)
+        valuesByValueConstraints.put(valueConstraints, getValuesFromTerminologyServer(valueConstraints));
+      return valuesByValueConstraints;
+    }
+
+    CompletionService<Map<String, String>> lookupCompletions = new ExecutorCompletionService<>(RequestExecutor.EXECUTOR);
+    Map<Future<Map<String, String>>, ControlledTermValueConstraints> lookupsInProgress = new HashMap<>();
+    Map<ControlledTermValueConstraints, Map<String, String>> valuesFound = new HashMap<>();
+    int nextLookupIndex = 0;
+
+    try {
+      while (nextLookupIndex < distinctValueConstraints.size() || !lookupsInProgress.isEmpty()) {
+        while (nextLookupIndex < distinctValueConstraints.size()
+          && lookupsInProgress.size() < maximumConcurrentRequests) {
+          ControlledTermValueConstraints valueConstraints = distinctValueConstraints.get(nextLookupIndex++);
+          lookupsInProgress.put(lookupCompletions.submit(() -> getValuesFromTerminologyServer(valueConstraints)),
+            valueConstraints);
         }
+        Future<Map<String, String>> completedLookup = lookupCompletions.take();
+        valuesFound.put(lookupsInProgress.remove(completedLookup), completedLookup.get());
       }
-    } catch (IOException | RuntimeException e) {
-      throw new RuntimeException("Error retrieving values from terminology server " + e.getMessage());
+
+      for (ControlledTermValueConstraints valueConstraints : distinctValueConstraints)
+        valuesByValueConstraints.put(valueConstraints, valuesFound.get(valueConstraints));
+
+      return valuesByValueConstraints;
+    } catch (ExecutionException e) {
+      throw new RuntimeException(e.getCause().getMessage());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while retrieving values from terminology server");
+    } finally {
+      for (Future<Map<String, String>> lookupInProgress : lookupsInProgress.keySet())
+        lookupInProgress.cancel(true);
     }
-    return values;
   }
 
-  private Map<String, Object> integratedSearch(java.util.Map<String, Object> valueConstraints,
-    Integer page, Integer pageSize, String integratedSearchEndpoint, String apiKey) throws IOException, RuntimeException
+  /**
+   * Pass every (prefLabel, @id) pair of the values satisfying a set of controlled term value constraints to a
+   * consumer, with the default page size and concurrency. See
+   * {@link #streamValuesFromTerminologyServer(ControlledTermValueConstraints, int, int, BiConsumer)}.
+   */
+  public void streamValuesFromTerminologyServer(ControlledTermValueConstraints controlledTermValueConstraints,
+    BiConsumer<String, String> valueConsumer)
   {
-    HttpURLConnection connection = null;
-    Map<String, Object> resultsMap;
+    streamValuesFromTerminologyServer(controlledTermValueConstraints, DEFAULT_RETRIEVE_PAGE_SIZE,
+      DEFAULT_MAXIMUM_CONCURRENT_RETRIEVE_REQUESTS, valueConsumer);
+  }
+
+  /**
+   * Pass every (prefLabel, @id) pair of the values satisfying a set of controlled term value constraints to a
+   * consumer
+   * <p></p>
+   * Unlike {@link #getValuesFromTerminologyServer(ControlledTermValueConstraints)}, which collects all values in one
+   * map, this pages through the complete result set of the integrated retrieve endpoint. The first page is
+   * retrieved to learn the number of pages and the remaining pages are then retrieved concurrently, with at most
+   * maximumConcurrentRequests requests in flight. Pages are passed to the consumer in order on the calling thread as
+   * they arrive, so only the pages in flight are held in memory and the consumer need not be thread-safe. Streamed
+   * values are not cached.
+   */
+  public void streamValuesFromTerminologyServer(ControlledTermValueConstraints controlledTermValueConstraints,
+    int pageSize, int maximumConcurrentRequests, BiConsumer<String, String> valueConsumer)
+  {
+    if (pageSize < 1)
+      throw new IllegalArgumentException("Page size must be positive, got " + pageSize);
+
+    if (maximumConcurrentRequests < 1)
+      throw new IllegalArgumentException(
+        "Maximum number of concurrent requests must be positive, got " + maximumConcurrentRequests);
+
+    String integratedRetrieveEndpoint = terminologyServerIntegratedRetrieveEndpoint.orElseThrow(
+      () -> new RuntimeException("No terminology server integrated retrieve endpoint configured"));
+    ArrayDeque<Future<Map<String, Object>>> pagesInFlight = new ArrayDeque<>();
 
     try {
-      java.util.Map<String, Object> vcMap = new HashMap<>();
-      vcMap.put("valueConstraints", valueConstraints);
-      Map<String, Object> payloadMap = new HashMap<>();
-      payloadMap.put("parameterObject", vcMap);
-      payloadMap.put("page", page);
-      payloadMap.put("pageSize", pageSize);
-      String payload = mapper.writeValueAsString(payloadMap);
-      connection = ConnectionUtil.createAndOpenConnection("POST", integratedSearchEndpoint, apiKey);
-      OutputStream os = connection.getOutputStream();
-      os.write(payload.getBytes());
-      os.flush();
-      int responseCode = connection.getResponseCode();
-      if (responseCode >= HttpURLConnection.HTTP_BAD_REQUEST) {
-        String message = "Error running integrated search. Response code: " + responseCode + "; Payload: " + payload;
-        throw new RuntimeException(message);
-      } else {
-        String response = ConnectionUtil.readResponseMessage(connection.getInputStream());
-        resultsMap = mapper.readValue(response, HashMap.class);
+      Map<String, Object> vcMap = controlledTermValueConstraints2Map(controlledTermValueConstraints);
+      Map<String, Object> firstPage = integratedRetrieve(vcMap, 1, pageSize, integratedRetrieveEndpoint,
+        terminologyServerApiKey);
+      int pageCount = getPageCount(firstPage, pageSize);
+
+      acceptValues(firstPage, valueConsumer);
+
+      if (pageCount > 1) {
+        int nextPage = 2;
+
+        while (nextPage <= pageCount || !pagesInFlight.isEmpty()) {
+          while (nextPage <= pageCount && pagesInFlight.size() < maximumConcurrentRequests) {
+            int page = nextPage++;
+            pagesInFlight.add(RequestExecutor.EXECUTOR.submit(
+              () -> integratedRetrieve(vcMap, page, pageSize, integratedRetrieveEndpoint, terminologyServerApiKey)));
+          }
+          acceptValues(pagesInFlight.remove().get(), valueConsumer);
+        }
       }
+    } catch (ExecutionException e) {
+      throw new RuntimeException("Error retrieving values from terminology server " + e.getCause().getMessage());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while retrieving values from terminology server");
+    } catch (IOException | RuntimeException e) {
+      throw new RuntimeException("Error retrieving values from terminology server " + e.getMessage());
     } finally {
-      if (connection != null) {
-        connection.disconnect();
+      for (Future<Map<String, Object>> pageInFlight : pagesInFlight)
+        pageInFlight.cancel(true);
+    }
+  }
+
+  /**
+   * Look up the values satisfying a set of controlled term value constraints with the integrated search endpoint
+   * <p></p>
+   * Search results are returned in pages of at most {@link #SEARCH_PAGE_SIZE} values. When the first page shows that
+   * there are more values, the complete set is retrieved from the integrated retrieve endpoint if one is configured,
+   * or else the remaining search pages are requested in turn, so large value sets are never truncated.
+   */
+  protected Map<String, String> searchValuesFromTerminologyServer(
+    ControlledTermValueConstraints controlledTermValueConstraints)
+  {
+    Map<String, String> values = new HashMap<>();
+    int pageCount;
+
+    try {
+      Map<String, Object> vcMap = controlledTermValueConstraints2Map(controlledTermValueConstraints);
+      Map<String, Object> searchResult = integratedSearch(vcMap, 1, SEARCH_PAGE_SIZE,
+        terminologyServerIntegratedSearchEndpoint, terminologyServerApiKey);
+      pageCount = getPageCount(searchResult, SEARCH_PAGE_SIZE);
+
+      if (pageCount == 1 || terminologyServerIntegratedRetrieveEndpoint.isEmpty()) {
+        acceptValues(searchResult, values::put);
+
+        for (int page = 2; page <= pageCount; page++)
+          acceptValues(integratedSearch(vcMap, page, SEARCH_PAGE_SIZE, terminologyServerIntegratedSearchEndpoint,
+            terminologyServerApiKey), values::put);
+
+        return values;
       }
+    } catch (IOException | RuntimeException e) {
+      throw new RuntimeException("Error retrieving values from terminology server " + e.getMessage());
     }
-    return resultsMap;
+
+    streamValuesFromTerminologyServer(controlledTermValueConstraints, values::put);
+
+    return values;
+  }
+
+  private Map<String, Object> integratedSearch(java.util.Map<String, Object> valueConstraints,
+    Integer page, Integer pageSize, String integratedSearchEndpoint, String apiKey) throws IOException, RuntimeException
+  {
+    return postValueConstraints(valueConstraints, page, pageSize, integratedSearchEndpoint, apiKey,
+      "integrated search");
   }
 
   private java.util.Map<String, Object> integratedRetrieve(java.util.Map<String, Object> valueConstraints,
     Integer page, Integer pageSize, String integratedRetrieveEndpoint, String apiKey) throws IOException, RuntimeException
   {
-    HttpURLConnection connection = null;
-    java.util.Map<String, Object> resultsMap;
+    return postValueConstraints(valueConstraints, page, pageSize, integratedRetrieveEndpoint, apiKey,
+      "integrated retrieve");
+  }
+
+  private Map<String, Object> postValueConstraints(Map<String, Object> valueConstraints, Integer page,
+    Integer pageSize, String endpoint, String apiKey, String operation) throws IOException, RuntimeException
+  {
+    Map<String, Object> vcMap = new HashMap<>();
+    vcMap.put("valueConstraints", valueConstraints);
+    Map<String, Object> payloadMap = new HashMap<>();
+    payloadMap.put("parameterObject", vcMap);
+    payloadMap.put("page", page);
+    payloadMap.put("pageSize", pageSize);
+    byte[] payload = mapper.writeValueAsBytes(payloadMap);
+
+    HttpResponse<InputStream> response = sendRateLimitedPostRequest(endpoint, apiKey, payload);
+
+    for (int retry = 1; isRetryableResponse(response) && retry <= requestPolicy.maximumRetries(); retry++) {
+      ConnectionUtil.discardResponseMessage(response);
+      sleep(getRetryDelay(response, retry));
+      retriedRequestCount.increment();
+      response = sendRateLimitedPostRequest(endpoint, apiKey, payload);
+    }
+
+    if (ConnectionUtil.isErrorResponse(response)) {
+      ConnectionUtil.discardResponseMessage(response);
+      String message = "Error running " + operation + ". Response code: " + response.statusCode() + "; Payload: "
+        + new String(payload, StandardCharsets.UTF_8);
+      throw new RuntimeException(message);
+    }
+
+    try (InputStream is = response.body()) {
+      return mapper.readValue(is, HashMap.class);
+    }
+  }
+
+  private HttpResponse<InputStream> sendRateLimitedPostRequest(String endpoint, String apiKey, byte[] payload)
+    throws IOException
+  {
     try {
-      java.util.Map<String, Object> vcMap = new HashMap<>();
-      vcMap.put("valueConstraints", valueConstraints);
-      Map<String, Object> payloadMap = new HashMap<>();
-      payloadMap.put("parameterObject", vcMap);
-      payloadMap.put("page", page);
-      payloadMap.put("pageSize", pageSize);
-      String payload = mapper.writeValueAsString(payloadMap);
-      connection = ConnectionUtil.createAndOpenConnection("POST", integratedRetrieveEndpoint, apiKey);
-      OutputStream os = connection.getOutputStream();
-      os.write(payload.getBytes());
-      os.flush();
-      int responseCode = connection.getResponseCode();
-      if (responseCode >= HttpURLConnection.HTTP_BAD_REQUEST) {
-        String message = "Error running integrated retrieve. Response code: " + responseCode + "; Payload: " + payload;
-        throw new RuntimeException(message);
-      } else {
-        String response = ConnectionUtil.readResponseMessage(connection.getInputStream());
-        resultsMap = mapper.readValue(response, HashMap.class);
-      }
-    } finally {
-      if (connection != null) {
-        connection.disconnect();
+      if (rateLimiter.acquire())
+        throttledRequestCount.increment();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting to send request to " + endpoint);
+    }
+
+    requestCount.increment();
+
+    return ConnectionUtil.sendPostRequest(endpoint, apiKey, payload);
+  }
+
+  private boolean isRetryableResponse(HttpResponse<InputStream> response)
+  {
+    return response.statusCode() == HTTP_TOO_MANY_REQUESTS
+      || response.statusCode() >= HttpURLConnection.HTTP_INTERNAL_ERROR;
+  }
+
+  // Use the server's Retry-After delay in seconds if it sends one; otherwise back off exponentially with jitter
+  private Duration getRetryDelay(HttpResponse<InputStream> response, int retry)
+  {
+    Optional<String> retryAfter = response.headers().firstValue("Retry-After");
+
+    if (retryAfter.isPresent() && retryAfter.get().trim().matches("\\d{1,9}")) {
+      Duration serverDelay = Duration.ofSeconds(Long.parseLong(retryAfter.get().trim()));
+      return serverDelay.compareTo(requestPolicy.maximumBackoff()) < 0 ? serverDelay : requestPolicy.maximumBackoff();
+    }
+
+    long maximumBackoffMillis = requestPolicy.maximumBackoff().toMillis();
+    long backoffMillis = Math.min(maximumBackoffMillis,
+      requestPolicy.initialBackoff().toMillis() << Math.min(retry - 1, 30));
+
+    return Duration.ofMillis(backoffMillis / 2 + ThreadLocalRandom.current().nextLong(backoffMillis / 2 + 1));
+  }
+
+  private void sleep(Duration delay) throws InterruptedIOException
+  {
+    try {
+      Thread.sleep(delay.toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting to retry terminology server request");
+    }
+  }
+
+  private Map<String, Object> controlledTermValueConstraints2Map(
+    ControlledTermValueConstraints controlledTermValueConstraints) throws IOException
+  {
+    return mapper.readValue(controlledTermValueConstraints2Json(controlledTermValueConstraints), Map.class);
+  }
+
+  private int getPageCount(Map<String, Object> pageResult, int pageSize)
+  {
+    if (pageResult.get("pageCount") instanceof Number pageCount)
+      return pageCount.intValue();
+    else if (pageResult.get("totalCount") instanceof Number totalCount)
+      return (int)((totalCount.longValue() + pageSize - 1) / pageSize);
+    else
+      return 1;
+  }
+
+  private void acceptValues(Map<String, Object> pageResult, BiConsumer<String, String> valueConsumer)
+  {
+    if (pageResult.get("collection") instanceof List<?> valueDescriptions) {
+      for (Object valueDescription : valueDescriptions) {
+        Map<String, Object> valueDescriptionMap = (Map<String, Object>)valueDescription;
+        valueConsumer.accept((String)valueDescriptionMap.get("prefLabel"), (String)valueDescriptionMap.get("@id"));
       }
     }
-    return resultsMap;
+  }
+
+  private static Optional<String> integratedSearchEndpoint2IntegratedRetrieveEndpoint(
+    String integratedSearchEndpoint)
+  {
+    if (integratedSearchEndpoint.endsWith(INTEGRATED_SEARCH_PATH))
+      return Optional.of(integratedSearchEndpoint.substring(0,
+        integratedSearchEndpoint.length() - INTEGRATED_SEARCH_PATH.length()) + INTEGRATED_RETRIEVE_PATH);
+    else
+      return Optional.empty();
   }
 
   /**
@@ -181,4 +522,56 @@ public class TerminologyServerClient
       throw new RuntimeException("Error generation value constraints object for terminology server " + e.getMessage());
     }
   }
+
+  /**
+   * The cache key is a compact JSON serialization of the ontologies, branches, value sets, classes, and actions of the
+   * constraints with object properties in alphabetical order, so constraints that select the same values always
+   * produce the same key whatever their other settings. The order of the entries within each list is kept because it
+   * determines which URI wins when two values share a preferred label.
+   * <p></p>
+   * This key does not name a terminology server and is the one snapshots of values from no particular server are
+   * keyed by.
+   */
+  public static String controlledTermValueConstraints2CacheKey(
+    ControlledTermValueConstraints controlledTermValueConstraints)
+  {
+    return controlledTermValueConstraints2CacheKey(null, controlledTermValueConstraints);
+  }
+
+  /**
+   * The cache key of constraints whose values were retrieved from the terminology server with the given integrated
+   * search endpoint, so values from different servers are never mixed up in a shared or saved cache. A null endpoint
+   * gives the same key as {@link #controlledTermValueConstraints2CacheKey(ControlledTermValueConstraints)}.
+   */
+  public static String controlledTermValueConstraints2CacheKey(String terminologyServerIntegratedSearchEndpoint,
+    ControlledTermValueConstraints controlledTermValueConstraints)
+  {
+    Map<String, Object> selectingConstraints = new HashMap<>();
+    if (terminologyServerIntegratedSearchEndpoint != null)
+      selectingConstraints.put("endpoint", terminologyServerIntegratedSearchEndpoint);
+    selectingConstraints.put("ontologies", controlledTermValueConstraints.ontologies());
+    selectingConstraints.put("branches", controlledTermValueConstraints.branches());
+    selectingConstraints.put("valueSets", controlledTermValueConstraints.valueSets());
+    selectingConstraints.put("classes", controlledTermValueConstraints.classes());
+    selectingConstraints.put("actions", controlledTermValueConstraints.actions());
+
+    try {
+      return cacheKeyMapper.writeValueAsString(selectingConstraints);
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException("Error generating value constraints cache key " + e.getMessage());
+    }
+  }
+
+  /**
+   * The threads that concurrent lookups and page retrievals run on, created when first needed and shared by all
+   * clients. Idle threads are discarded, and callers bound how many of their own requests are in flight.
+   */
+  private static final class RequestExecutor
+  {
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+      Thread thread = new Thread(runnable, "terminology-server-request");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
 }
@@ -0,0 +1,36 @@
+package org.metadatacenter.artifacts.util;
+
+import java.time.Duration;
+
+/**
+ * How a {@link TerminologyServerClient} paces and retries its requests
+ * <p></p>
+ * Requests are limited to requestsPerSecond with bursts of up to burstSize requests. A request that is answered with
+ * status 429 or a 5xx status is retried up to maximumRetries times. The wait before a retry is the server's
+ * Retry-After delay if it sends one and otherwise doubles from initialBackoff up to maximumBackoff, with random jitter.
+ * The default policy keeps to BioPortal's limit of 15 calls per second. Its burst size is 1, so requests are spaced
+ * at least 1/15 s apart and no one-second window ever holds more than 15 of them; a larger burst size lets a full
+ * bucket be spent on top of the refill rate, allowing up to requestsPerSecond + burstSize requests in the first second.
+ */
+public record TerminologyServerRequestPolicy(double requestsPerSecond, int burstSize, int maximumRetries,
+                                             Duration initialBackoff, Duration maximumBackoff)
+{
+  public static final TerminologyServerRequestPolicy DEFAULT = new TerminologyServerRequestPolicy(15.0, 1, 3,
+    Duration.ofMillis(500), Duration.ofSeconds(30));
+
+  public TerminologyServerRequestPolicy
+  {
+    if (!(requestsPerSecond > 0.0))
+      throw new IllegalArgumentException("Requests per second must be positive, got " + requestsPerSecond);
+
+    if (burstSize < 1)
+      throw new IllegalArgumentException("Burst size must be positive, got " + burstSize);
+
+    if (maximumRetries < 0)
+      throw new IllegalArgumentException("Maximum retries must not be negative, got " + maximumRetries);
+
+    if (initialBackoff.isNegative() || maximumBackoff.compareTo(initialBackoff) < 0)
+      throw new IllegalArgumentException(
+        "Backoff must satisfy 0 <= initial <= maximum, got " + initialBackoff + " and " + maximumBackoff);
+  }
+}
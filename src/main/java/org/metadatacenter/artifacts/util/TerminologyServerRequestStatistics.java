@@ -0,0 +1,16 @@
+package org.metadatacenter.artifacts.util;
+
+/**
+ * Counts of the requests made by a {@link TerminologyServerClient}. Throttled requests had to wait for the rate
+ * limiter, retried requests are the retries sent after a 429 or 5xx response, and coalesced requests are value lookups
+ * that were answered by an identical lookup already in flight instead of by a request of their own.
+ */
+public record TerminologyServerRequestStatistics(long requestCount, long throttledRequestCount,
+                                                 long retriedRequestCount, long coalescedRequestCount)
+{
+  @Override public String toString()
+  {
+    return requestCount + " requests: " + throttledRequestCount + " throttled, " + retriedRequestCount + " retried, "
+      + coalescedRequestCount + " coalesced";
+  }
+}
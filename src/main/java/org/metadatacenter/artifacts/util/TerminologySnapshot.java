@@ -0,0 +1,297 @@
+package org.metadatacenter.artifacts.util;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A read-only file of terminology server values, memory-mapped so that lookups run at disk speed with no network
+ * <p></p>
+ * A snapshot holds the preferred label to URI maps of a set of controlled term value constraints, each stored under
+ * the cache key produced by {@link TerminologyServerClient#controlledTermValueConstraints2CacheKey} for the
+ * integrated search endpoint the values were retrieved from, which the snapshot records. The file starts with a
+ * header naming that endpoint and an index of 64-bit key fingerprints sorted for binary search, followed by the
+ * entries themselves; each entry repeats its full key so that fingerprint collisions are detected. Snapshots are
+ * written with {@link #write(String, Map, Path)} and served by an {@link OfflineTerminologyServerClient}. A snapshot
+ * can also be given to an online {@link TerminologyServerClient} of the same endpoint as its cache, which then
+ * requests only values missing from the snapshot; values put into a snapshot are discarded.
+ */
+public class TerminologySnapshot implements TerminologyValueCache
+{
+  public static final int MAGIC_NUMBER = 0x43545350;
+  public static final int FORMAT_VERSION = 2;
+
+  private static final int HEADER_SIZE = 12;
+  private static final int INDEX_ENTRY_SIZE = 12;
+
+  private final MappedByteBuffer buffer;
+  private final int size;
+  private final Optional<String> terminologyServerIntegratedSearchEndpoint;
+  private final int indexOffset;
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+
+  private TerminologySnapshot(MappedByteBuffer buffer)
+  {
+    if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC_NUMBER)
+      throw new IllegalArgumentException("Not a terminology snapshot");
+
+    if (buffer.getInt(4) != FORMAT_VERSION)
+      throw new IllegalArgumentException("Unsupported terminology snapshot format version " + buffer.getInt(4));
+
+    this.buffer = buffer;
+    this.size = buffer.getInt(8);
+
+    if (buffer.capacity() < HEADER_SIZE + 4 || HEADER_SIZE + (long)encodedStringLength(HEADER_SIZE)
+      > buffer.capacity())
+      throw new IllegalArgumentException("Truncated terminology snapshot");
+
+    this.terminologyServerIntegratedSearchEndpoint = Optional.ofNullable(decodeString(HEADER_SIZE));
+    this.indexOffset = HEADER_SIZE + encodedStringLength(HEADER_SIZE);
+
+    if (size < 0 || indexOffset + (long)size * INDEX_ENTRY_SIZE > buffer.capacity())
+      throw new IllegalArgumentException("Truncated terminology snapshot");
+  }
+
+  public static TerminologySnapshot open(Path snapshotFile) throws IOException
+  {
+    try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE)
+        throw new IllegalArgumentException("Terminology snapshot " + snapshotFile + " is larger than 2 GB");
+
+      return new TerminologySnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  /**
+   * Write a snapshot of values that were not retrieved from a particular terminology server, keyed by the cache keys
+   * of their value constraints without an endpoint
+   */
+  public static void write(Map<String, Map<String, String>> valuesByKey, Path snapshotFile) throws IOException
+  {
+    write(null, valuesByKey, snapshotFile);
+  }
+
+  /**
+   * Write a snapshot of the values of a set of value constraints retrieved from the terminology server with the given
+   * integrated search endpoint, keyed by their cache keys for that endpoint. The file is written in full and then
+   * moved into place.
+   */
+  public static void write(String terminologyServerIntegratedSearchEndpoint,
+    Map<String, Map<String, String>> valuesByKey, Path snapshotFile) throws IOException
+  {
+    ByteArrayOutputStream endpointOutputStream = new ByteArrayOutputStream();
+    DataOutputStream endpointDataOutputStream = new DataOutputStream(endpointOutputStream);
+    encodeString(terminologyServerIntegratedSearchEndpoint, endpointDataOutputStream);
+    endpointDataOutputStream.flush();
+    byte[] endpointEncoding = endpointOutputStream.toByteArray();
+
+    List<SnapshotEntry> entries = new ArrayList<>();
+
+    for (Map.Entry<String, Map<String, String>> valuesEntry : valuesByKey.entrySet())
+      entries.add(new SnapshotEntry(fingerprint(valuesEntry.getKey()),
+        encodeEntry(valuesEntry.getKey(), valuesEntry.getValue())));
+
+    entries.sort(Comparator.comparingLong(SnapshotEntry::fingerprint));
+
+    long offset = HEADER_SIZE + endpointEncoding.length + (long)entries.size() * INDEX_ENTRY_SIZE;
+    for (SnapshotEntry entry : entries)
+      offset += entry.encoding().length;
+
+    if (offset > Integer.MAX_VALUE)
+      throw new IllegalArgumentException("Terminology snapshot would be larger than 2 GB");
+
+    Path directory = snapshotFile.toAbsolutePath().getParent();
+    Path temporaryFile = Files.createTempFile(directory, snapshotFile.getFileName().toString(), ".tmp");
+
+    try {
+      try (OutputStream outputStream = Files.newOutputStream(temporaryFile);
+           DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(outputStream))) {
+        dataOutputStream.writeInt(MAGIC_NUMBER);
+        dataOutputStream.writeInt(FORMAT_VERSION);
+        dataOutputStream.writeInt(entries.size());
+        dataOutputStream.write(endpointEncoding);
+
+        int entryOffset = HEADER_SIZE + endpointEncoding.length + entries.size() * INDEX_ENTRY_SIZE;
+        for (SnapshotEntry entry : entries) {
+          dataOutputStream.writeLong(entry.fingerprint());
+          dataOutputStream.writeInt(entryOffset);
+          entryOffset += entry.encoding().length;
+        }
+
+        for (SnapshotEntry entry : entries)
+          dataOutputStream.write(entry.encoding());
+      }
+      Files.move(temporaryFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(temporaryFile);
+    }
+  }
+
+  public int size()
+  {
+    return size;
+  }
+
+  /**
+   * The integrated search endpoint of the terminology server the values were retrieved from, if they were retrieved
+   * from a particular server
+   */
+  public Optional<String> getTerminologyServerIntegratedSearchEndpoint()
+  {
+    return terminologyServerIntegratedSearchEndpoint;
+  }
+
+  @Override public Optional<Map<String, String>> get(String key)
+  {
+    long fingerprint = fingerprint(key);
+    byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+
+    for (int index = findFirstIndex(fingerprint); index < size && getFingerprint(index) == fingerprint; index++) {
+      int entryOffset = buffer.getInt(indexOffset + index * INDEX_ENTRY_SIZE + 8);
+
+      if (keyMatches(entryOffset, keyBytes)) {
+        hitCount.increment();
+        return Optional.of(decodeValues(entryOffset + 4 + keyBytes.length));
+      }
+    }
+
+    missCount.increment();
+    return Optional.empty();
+  }
+
+  // Snapshots are read-only, so values fetched by a client that falls back to the network are not kept
+  @Override public void put(String key, Map<String, String> values)
+  {
+  }
+
+  @Override public TerminologyValueCacheStatistics getStatistics()
+  {
+    return new TerminologyValueCacheStatistics(hitCount.sum(), missCount.sum(), 0, size);
+  }
+
+  private int findFirstIndex(long fingerprint)
+  {
+    int low = 0, high = size;
+
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+
+      if (getFingerprint(middle) < fingerprint)
+        low = middle + 1;
+      else
+        high = middle;
+    }
+    return low;
+  }
+
+  private long getFingerprint(int index)
+  {
+    return buffer.getLong(indexOffset + index * INDEX_ENTRY_SIZE);
+  }
+
+  private boolean keyMatches(int entryOffset, byte[] keyBytes)
+  {
+    if (buffer.getInt(entryOffset) != keyBytes.length)
+      return false;
+
+    byte[] entryKeyBytes = new byte[keyBytes.length];
+    buffer.get(entryOffset + 4, entryKeyBytes);
+
+    return MessageDigest.isEqual(entryKeyBytes, keyBytes);
+  }
+
+  // The mapped buffer is only read at absolute offsets, so concurrent lookups do not interfere
+  private Map<String, String> decodeValues(int offset)
+  {
+    int numberOfValues = buffer.getInt(offset);
+    Map<String, String> values = new LinkedHashMap<>(Math.max(16, numberOfValues * 4 / 3 + 1));
+    int position = offset + 4;
+
+    for (int valueIndex = 0; valueIndex < numberOfValues; valueIndex++) {
+      String preferredLabel = decodeString(position);
+      position += encodedStringLength(position);
+      String uri = decodeString(position);
+      position += encodedStringLength(position);
+      values.put(preferredLabel, uri);
+    }
+    return values;
+  }
+
+  private String decodeString(int offset)
+  {
+    int length = buffer.getInt(offset);
+
+    if (length < 0)
+      return null;
+
+    byte[] bytes = new byte[length];
+    buffer.get(offset + 4, bytes);
+
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private int encodedStringLength(int offset)
+  {
+    return 4 + Math.max(0, buffer.getInt(offset));
+  }
+
+  private static byte[] encodeEntry(String key, Map<String, String> values) throws IOException
+  {
+    ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+    DataOutputStream dataOutputStream = new DataOutputStream(byteArrayOutputStream);
+
+    encodeString(key, dataOutputStream);
+    dataOutputStream.writeInt(values.size());
+    for (Map.Entry<String, String> value : values.entrySet()) {
+      encodeString(value.getKey(), dataOutputStream);
+      encodeString(value.getValue(), dataOutputStream);
+    }
+    dataOutputStream.flush();
+
+    return byteArrayOutputStream.toByteArray();
+  }
+
+  private static void encodeString(String value, DataOutputStream dataOutputStream) throws IOException
+  {
+    if (value == null)
+      dataOutputStream.writeInt(-1);
+    else {
+      byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      dataOutputStream.writeInt(bytes.length);
+      dataOutputStream.write(bytes);
+    }
+  }
+
+  private static long fingerprint(String key)
+  {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+
+      return ByteBuffer.wrap(digest).getLong();
+    } catch (NoSuchAlgorithmException e) {
+      throw new RuntimeException("SHA-256 is not available: " + e.getMessage());
+    }
+  }
+
+  private record SnapshotEntry(long fingerprint, byte[] encoding) {}
+}
@@ -0,0 +1,20 @@
+package org.metadatacenter.artifacts.util;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A cache of the values retrieved from the terminology server by a {@link TerminologyServerClient}
+ * <p></p>
+ * Entries map a normalized JSON serialization of a controlled term value constraints object to the preferred
+ * label to URI map that the terminology server returned for it. Implementations must be safe for use by several
+ * threads.
+ */
+public interface TerminologyValueCache
+{
+  Optional<Map<String, String>> get(String key);
+
+  void put(String key, Map<String, String> values);
+
+  TerminologyValueCacheStatistics getStatistics();
+}
@@ -0,0 +1,20 @@
+package org.metadatacenter.artifacts.util;
+
+/**
+ * Counts of the lookups made in a {@link TerminologyValueCache}. Evictions include entries dropped because the cache
+ * was full and entries dropped because they expired.
+ */
+public record TerminologyValueCacheStatistics(long hitCount, long missCount, long evictionCount, int size)
+{
+  public double hitRate()
+  {
+    long lookupCount = hitCount + missCount;
+
+    return lookupCount == 0 ? 0.0 : (double)hitCount / lookupCount;
+  }
+
+  @Override public String toString()
+  {
+    return hitCount + " hits, " + missCount + " misses, " + evictionCount + " evictions, " + size + " entries";
+  }
+}
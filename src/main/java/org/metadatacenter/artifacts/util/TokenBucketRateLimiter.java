@@ -0,0 +1,73 @@
+package org.metadatacenter.artifacts.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * A token bucket that limits the rate at which requests are sent
+ * <p></p>
+ * The bucket holds up to burstSize permits and refills at permitsPerSecond. A caller that finds the bucket empty
+ * reserves the next permit and sleeps until it is due, so waiting callers are served in the order in which they
+ * arrived and the long-run rate never exceeds permitsPerSecond.
+ * <p></p>
+ * The bucket is tracked as the time at which it will next be full, in whole nanoseconds, with the interval between
+ * permits rounded up. Rounding errors therefore cannot accumulate into an extra permit in any window.
+ */
+public class TokenBucketRateLimiter
+{
+  private final long nanosPerPermit;
+  private final long burstNanos;
+  private final LongSupplier nanoTime;
+
+  private long fullAtNanos;
+
+  public TokenBucketRateLimiter(double permitsPerSecond, int burstSize)
+  {
+    this(permitsPerSecond, burstSize, System::nanoTime);
+  }
+
+  TokenBucketRateLimiter(double permitsPerSecond, int burstSize, LongSupplier nanoTime)
+  {
+    if (!(permitsPerSecond > 0.0))
+      throw new IllegalArgumentException("Rate limit must be positive, got " + permitsPerSecond);
+
+    if (burstSize < 1)
+      throw new IllegalArgumentException("Burst size must be positive, got " + burstSize);
+
+    this.nanosPerPermit = Math.max(1, (long)Math.ceil(TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+    this.burstNanos = (burstSize - 1) * nanosPerPermit;
+    this.nanoTime = nanoTime;
+    this.fullAtNanos = nanoTime.getAsLong();
+  }
+
+  /**
+   * Take a permit, waiting until one is available
+   *
+   * @return true if the caller had to wait
+   */
+  public boolean acquire() throws InterruptedException
+  {
+    long waitNanos = reserve();
+
+    if (waitNanos > 0) {
+      TimeUnit.NANOSECONDS.sleep(waitNanos);
+      return true;
+    } else
+      return false;
+  }
+
+  /**
+   * Take a permit without waiting for it
+   *
+   * @return the number of nanoseconds until the permit is due
+   */
+  synchronized long reserve()
+  {
+    long now = nanoTime.getAsLong();
+    long dueNanos = Math.max(now, fullAtNanos - burstNanos);
+
+    fullAtNanos = Math.max(fullAtNanos, now) + nanosPerPermit;
+
+    return dueNanos - now;
+  }
+}
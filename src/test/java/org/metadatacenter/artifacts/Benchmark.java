@@ -0,0 +1,12 @@
+package org.metadatacenter.artifacts;
+
+/**
+ * JUnit category of tests that measure time or memory. They are excluded from the default build and run with the
+ * benchmark profile:
+ * <pre>
+ * mvn test -Pbenchmark
+ * </pre>
+ */
+public interface Benchmark
+{
+}
@@ -0,0 +1,83 @@
+package org.metadatacenter.artifacts.model.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ArtifactPathTest
+{
+  @Test
+  public void testRootPath()
+  {
+    assertTrue(ArtifactPath.root().isRoot());
+    assertEquals("/", ArtifactPath.root().toString());
+  }
+
+  @Test
+  public void testChildAndIndexPaths()
+  {
+    ArtifactPath path = ArtifactPath.root().child("Study").child("Address").index(2).child("Zip");
+
+    assertEquals("/Study/Address[2]/Zip", path.toString());
+  }
+
+  @Test
+  public void testParentPathIsUnchangedByChildren()
+  {
+    ArtifactPath parentPath = ArtifactPath.root().child("Study");
+
+    parentPath.child("Address");
+    parentPath.index(0);
+
+    assertEquals("/Study", parentPath.toString());
+  }
+
+  @Test
+  public void testPathFromString()
+  {
+    assertSame(ArtifactPath.root(), ArtifactPath.of(""));
+    assertSame(ArtifactPath.root(), ArtifactPath.of("/"));
+    assertEquals("/Study/Address[1]", ArtifactPath.of("/Study").child("Address").index(1).toString());
+  }
+
+  @Test
+  public void testSegments()
+  {
+    ArtifactPath studyPath = ArtifactPath.root().child("Study");
+    ArtifactPath indexPath = studyPath.index(2);
+
+    assertFalse(studyPath.isIndex());
+    assertEquals("Study", studyPath.key());
+    assertEquals(-1, studyPath.index());
+    assertSame(ArtifactPath.root(), studyPath.parent());
+    assertTrue(indexPath.isIndex());
+    assertNull(indexPath.key());
+    assertEquals(2, indexPath.index());
+    assertSame(studyPath, indexPath.parent());
+    assertNull(ArtifactPath.root().parent());
+    assertNull(ArtifactPath.of("/Study[1]").parent());
+    assertEquals("/Study[1]", ArtifactPath.of("/Study[1]").key());
+  }
+
+  @Test
+  public void testEquality()
+  {
+    ArtifactPath path1 = ArtifactPath.root().child("Study").index(1);
+    ArtifactPath path2 = ArtifactPath.of("/Study").index(1);
+
+    assertEquals(path1, path2);
+    assertEquals(path1.hashCode(), path2.hashCode());
+    assertNotEquals(path1, ArtifactPath.root().child("Study").index(2));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeIndex()
+  {
+    ArtifactPath.root().child("Study").index(-1);
+  }
+}
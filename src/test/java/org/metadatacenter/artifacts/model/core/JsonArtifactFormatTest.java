@@ -0,0 +1,112 @@
+package org.metadatacenter.artifacts.model.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.Before;
+import org.junit.Test;
+import org.metadatacenter.artifacts.model.reader.JsonArtifactReader;
+import org.metadatacenter.artifacts.model.renderer.JsonArtifactRenderer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class JsonArtifactFormatTest
+{
+  private ObjectMapper mapper;
+  private JsonArtifactReader artifactReader;
+  private JsonArtifactRenderer artifactRenderer;
+
+  @Before
+  public void setup()
+  {
+    mapper = new ObjectMapper();
+    artifactReader = new JsonArtifactReader();
+    artifactRenderer = new JsonArtifactRenderer();
+  }
+
+  @Test
+  public void testTemplateSchemaArtifactRoundTrips() throws IOException
+  {
+    for (String templateFileName : List.of("SimpleTemplate.json", "MultiInstanceFieldTemplate.json",
+      "RADxCLIGeneratedTemplate.json", "ADVANCETemplate.json")) {
+      TemplateSchemaArtifact templateSchemaArtifact = artifactReader.readTemplateSchemaArtifact(
+        getFileContentAsObjectNode("templates/" + templateFileName));
+      TemplateSchemaArtifact jsonTemplateSchemaArtifact = artifactReader.readTemplateSchemaArtifact(
+        artifactRenderer.renderTemplateSchemaArtifact(templateSchemaArtifact));
+
+      for (JsonArtifactFormat format : JsonArtifactFormat.values()) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        artifactRenderer.renderTemplateSchemaArtifact(templateSchemaArtifact, outputStream, format);
+
+        TemplateSchemaArtifact formatTemplateSchemaArtifact = artifactReader.readTemplateSchemaArtifact(
+          new ByteArrayInputStream(outputStream.toByteArray()), format);
+
+        assertEquals(templateFileName + " in " + format, jsonTemplateSchemaArtifact, formatTemplateSchemaArtifact);
+      }
+    }
+  }
+
+  @Test
+  public void testTemplateInstanceArtifactRoundTrips() throws IOException
+  {
+    TemplateInstanceArtifact templateInstanceArtifact = artifactReader.readTemplateInstanceArtifact(
+      getFileContentAsObjectNode("instances/RADx2.0CLIGeneratedInstance.json"));
+    TemplateInstanceArtifact jsonTemplateInstanceArtifact = artifactReader.readTemplateInstanceArtifact(
+      artifactRenderer.renderTemplateInstanceArtifact(templateInstanceArtifact));
+
+    for (JsonArtifactFormat format : JsonArtifactFormat.values()) {
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      artifactRenderer.renderTemplateInstanceArtifact(templateInstanceArtifact, outputStream, format);
+
+      TemplateInstanceArtifact formatTemplateInstanceArtifact = artifactReader.readTemplateInstanceArtifact(
+        new ByteArrayInputStream(outputStream.toByteArray()), format);
+
+      assertEquals(format.toString(), jsonTemplateInstanceArtifact, formatTemplateInstanceArtifact);
+    }
+  }
+
+  @Test
+  public void testBinaryEncodingDecodesToSameTree() throws IOException
+  {
+    JsonNode templateNode = getFileContentAsObjectNode("templates/ADVANCETemplate.json");
+
+    for (JsonArtifactFormat format : JsonArtifactFormat.values()) {
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      try (var generator = format.createGenerator(outputStream)) {
+        generator.writeTree(templateNode);
+      }
+
+      try (var parser = format.createParser(new ByteArrayInputStream(outputStream.toByteArray()))) {
+        assertEquals(format.toString(), templateNode, parser.readValueAsTree());
+      }
+    }
+  }
+
+  @Test
+  public void testFromString()
+  {
+    assertEquals(JsonArtifactFormat.SMILE, JsonArtifactFormat.fromString("smile"));
+    assertEquals(JsonArtifactFormat.CBOR, JsonArtifactFormat.fromString("CBOR"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testFromStringWithUnknownFormat()
+  {
+    JsonArtifactFormat.fromString("bson");
+  }
+
+  private ObjectNode getFileContentAsObjectNode(String jsonFileName)
+  {
+    try (InputStream inputStream = JsonArtifactFormatTest.class.getClassLoader().getResourceAsStream(jsonFileName)) {
+      return (ObjectNode)mapper.readTree(inputStream);
+    } catch (IOException e) {
+      throw new RuntimeException("Error reading JSON file " + jsonFileName + ": " + e.getMessage());
+    }
+  }
+}
@@ -31,6 +31,44 @@ public class SchemaArtifactVisitorTest
     assertEquals(textFieldName1, schemaReporter.getReport().get(1));
   }
 
+  @Test
+  public void testVisitorWithArtifactPaths()
+  {
+    TextField textField1 = TextField.builder().withName("Text Field 1").build();
+    TextField textField2 = TextField.builder().withName("Text Field 2").build();
+    ElementSchemaArtifact elementSchemaArtifact = ElementSchemaArtifact.builder()
+      .withName("Element 1")
+      .withFieldSchema(textField2)
+      .build();
+
+    TemplateSchemaArtifact templateSchemaArtifact = TemplateSchemaArtifact.builder()
+      .withName("Template 1")
+      .withFieldSchema(textField1)
+      .withElementSchema(elementSchemaArtifact)
+      .build();
+
+    List<String> paths = new ArrayList<>();
+
+    templateSchemaArtifact.accept(new SchemaArtifactVisitor()
+    {
+      @Override public void visitTemplateSchemaArtifact(TemplateSchemaArtifact templateSchemaArtifact)
+      {
+      }
+
+      @Override public void visitElementSchemaArtifact(ElementSchemaArtifact elementSchemaArtifact, ArtifactPath path)
+      {
+        paths.add(path.toString());
+      }
+
+      @Override public void visitFieldSchemaArtifact(FieldSchemaArtifact fieldSchemaArtifact, ArtifactPath path)
+      {
+        paths.add(path.toString());
+      }
+    });
+
+    assertEquals(List.of("/Text Field 1", "/Element 1", "/Element 1/Text Field 2"), paths);
+  }
+
   private class SchemaReporter implements SchemaArtifactVisitor
   {
     private List<String> report = new ArrayList<>();
@@ -0,0 +1,122 @@
+package org.metadatacenter.artifacts.model.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.Before;
+import org.junit.Test;
+import org.metadatacenter.artifacts.model.core.fields.XsdNumericDatatype;
+import org.metadatacenter.artifacts.model.reader.JsonArtifactReader;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class TemplateSchemaArtifactSnapshotTest
+{
+  private ObjectMapper mapper;
+  private JsonArtifactReader artifactReader;
+
+  @Before
+  public void setup()
+  {
+    mapper = new ObjectMapper();
+    artifactReader = new JsonArtifactReader();
+  }
+
+  @Test
+  public void testSnapshotRoundTrips() throws IOException
+  {
+    for (String templateFileName : List.of("SimpleTemplate.json", "MultiInstanceFieldTemplate.json",
+      "RADxCLIGeneratedTemplate.json", "ADVANCETemplate.json", "DataCiteTemplate.json")) {
+      TemplateSchemaArtifact templateSchemaArtifact = artifactReader.readTemplateSchemaArtifact(
+        getFileContentAsObjectNode("templates/" + templateFileName));
+
+      assertEquals(templateFileName, templateSchemaArtifact, writeAndReadSnapshot(templateSchemaArtifact));
+    }
+  }
+
+  @Test
+  public void testBuiltTemplateSnapshotRoundTrips() throws IOException
+  {
+    ElementSchemaArtifact elementSchemaArtifact = ElementSchemaArtifact.builder()
+      .withName("Element")
+      .withIsMultiple(true)
+      .withFieldSchema(TextField.builder().withName("Text Field").withRegex("[a-z]+").build())
+      .withFieldSchema(NumericField.builder().withName("Numeric Field").withNumericType(XsdNumericDatatype.DECIMAL)
+        .withMinValue(1.5).withMaxValue(10).build())
+      .build();
+
+    TemplateSchemaArtifact templateSchemaArtifact = TemplateSchemaArtifact.builder()
+      .withName("Template")
+      .withVersion(new Version(1, 2, 3))
+      .withStatus(Status.PUBLISHED)
+      .withElementSchema(elementSchemaArtifact)
+      .build();
+
+    assertEquals(templateSchemaArtifact, writeAndReadSnapshot(templateSchemaArtifact));
+  }
+
+  @Test
+  public void testLazyTemplateSnapshotReadsAsTemplate() throws IOException
+  {
+    ObjectNode templateNode = getFileContentAsObjectNode("templates/ADVANCETemplate.json");
+    TemplateSchemaArtifact lazyTemplateSchemaArtifact = artifactReader.readLazyTemplateSchemaArtifact(templateNode);
+
+    assertEquals(artifactReader.readTemplateSchemaArtifact(templateNode),
+      writeAndReadSnapshot(lazyTemplateSchemaArtifact));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testReadingNonSnapshotFails() throws IOException
+  {
+    TemplateSchemaArtifactSnapshot.read(new ByteArrayInputStream("{\"@id\": \"x\"}".getBytes()));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testReadingUnsupportedFormatVersionFails() throws IOException
+  {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    TemplateSchemaArtifactSnapshot.write(TemplateSchemaArtifact.builder().withName("Template").build(), outputStream);
+
+    byte[] snapshot = outputStream.toByteArray();
+    snapshot[5] = (byte)(TemplateSchemaArtifactSnapshot.FORMAT_VERSION + 1);
+
+    TemplateSchemaArtifactSnapshot.read(new ByteArrayInputStream(snapshot));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testReadingSnapshotOfDifferentModelFails() throws IOException
+  {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    TemplateSchemaArtifactSnapshot.write(TemplateSchemaArtifact.builder().withName("Template").build(), outputStream);
+
+    // The model fingerprint follows the magic number and format version
+    byte[] snapshot = outputStream.toByteArray();
+    snapshot[6] ^= 1;
+
+    TemplateSchemaArtifactSnapshot.read(new ByteArrayInputStream(snapshot));
+  }
+
+  private TemplateSchemaArtifact writeAndReadSnapshot(TemplateSchemaArtifact templateSchemaArtifact)
+    throws IOException
+  {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    TemplateSchemaArtifactSnapshot.write(templateSchemaArtifact, outputStream);
+
+    return TemplateSchemaArtifactSnapshot.read(new ByteArrayInputStream(outputStream.toByteArray()));
+  }
+
+  private ObjectNode getFileContentAsObjectNode(String jsonFileName)
+  {
+    try (InputStream inputStream = TemplateSchemaArtifactSnapshotTest.class.getClassLoader()
+      .getResourceAsStream(jsonFileName)) {
+      return (ObjectNode)mapper.readTree(inputStream);
+    } catch (IOException e) {
+      throw new RuntimeException("Error reading JSON file " + jsonFileName + ": " + e.getMessage());
+    }
+  }
+}
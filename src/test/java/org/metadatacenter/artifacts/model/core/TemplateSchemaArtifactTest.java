@@ -2,8 +2,20 @@ package org.metadatacenter.artifacts.model.core;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class TemplateSchemaArtifactTest
 {
@@ -77,4 +89,96 @@ public class TemplateSchemaArtifactTest
     TemplateSchemaArtifact templateSchemaArtifact = TemplateSchemaArtifact.builder()
       .build();
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testLazyTemplateSchemaArtifactEqualsTemplateSchemaArtifact()
+  {
+    ElementSchemaArtifact elementSchemaArtifact = ElementSchemaArtifact.builder().withName("Element").build();
+    TemplateSchemaArtifact templateSchemaArtifact = TemplateSchemaArtifact.builder()
+      .withName("Template")
+      .withElementSchema(elementSchemaArtifact)
+      .build();
+    LinkedHashMap<String, Supplier<ElementSchemaArtifact>> elementSchemaArtifactSuppliers = new LinkedHashMap<>();
+    elementSchemaArtifactSuppliers.put("Element", () -> elementSchemaArtifact);
+
+    TemplateSchemaArtifact lazyTemplateSchemaArtifact =
+      TemplateSchemaArtifact.createLazy(templateSchemaArtifact, elementSchemaArtifactSuppliers);
+
+    assertEquals(templateSchemaArtifact, lazyTemplateSchemaArtifact);
+    assertEquals(lazyTemplateSchemaArtifact, templateSchemaArtifact);
+    assertEquals(templateSchemaArtifact.hashCode(), lazyTemplateSchemaArtifact.hashCode());
+  }
+
+  @Test
+  public void testLazyElementSchemaArtifactIsReadOnceWhenAccessedConcurrently() throws Exception
+  {
+    ElementSchemaArtifact elementSchemaArtifact = ElementSchemaArtifact.builder().withName("Element").build();
+    TemplateSchemaArtifact templateSchemaArtifact = TemplateSchemaArtifact.builder()
+      .withName("Template")
+      .withElementSchema(elementSchemaArtifact)
+      .build();
+    AtomicInteger reads = new AtomicInteger();
+    CountDownLatch readStarted = new CountDownLatch(1);
+    CountDownLatch accessesStarted = new CountDownLatch(1);
+    LinkedHashMap<String, Supplier<ElementSchemaArtifact>> elementSchemaArtifactSuppliers = new LinkedHashMap<>();
+    elementSchemaArtifactSuppliers.put("Element", () -> {
+      reads.incrementAndGet();
+      readStarted.countDown();
+      try {
+        accessesStarted.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return elementSchemaArtifact;
+    });
+
+    TemplateSchemaArtifact lazyTemplateSchemaArtifact =
+      TemplateSchemaArtifact.createLazy(templateSchemaArtifact, elementSchemaArtifactSuppliers);
+    ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+    try {
+      List<Future<ElementSchemaArtifact>> accesses = new ArrayList<>();
+      accesses.add(executorService.submit(() -> lazyTemplateSchemaArtifact.getElementSchemaArtifact("Element")));
+      readStarted.await();
+      for (int i = 0; i < 3; i++)
+        accesses.add(executorService.submit(() -> lazyTemplateSchemaArtifact.getElementSchemaArtifact("Element")));
+      accessesStarted.countDown();
+
+      for (Future<ElementSchemaArtifact> access : accesses)
+        assertSame(elementSchemaArtifact, access.get());
+      assertEquals(1, reads.get());
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  @Test
+  public void testLazyElementSchemaArtifactIsReadAgainAfterFailure()
+  {
+    ElementSchemaArtifact elementSchemaArtifact = ElementSchemaArtifact.builder().withName("Element").build();
+    TemplateSchemaArtifact templateSchemaArtifact = TemplateSchemaArtifact.builder()
+      .withName("Template")
+      .withElementSchema(elementSchemaArtifact)
+      .build();
+    AtomicInteger reads = new AtomicInteger();
+    LinkedHashMap<String, Supplier<ElementSchemaArtifact>> elementSchemaArtifactSuppliers = new LinkedHashMap<>();
+    elementSchemaArtifactSuppliers.put("Element", () -> {
+      if (reads.incrementAndGet() == 1)
+        throw new IllegalStateException("First read fails");
+      return elementSchemaArtifact;
+    });
+
+    TemplateSchemaArtifact lazyTemplateSchemaArtifact =
+      TemplateSchemaArtifact.createLazy(templateSchemaArtifact, elementSchemaArtifactSuppliers);
+
+    try {
+      lazyTemplateSchemaArtifact.getElementSchemaArtifact("Element");
+      fail("Expecting first read to fail");
+    } catch (IllegalStateException e) {
+      assertEquals("First read fails", e.getMessage());
+    }
+
+    assertSame(elementSchemaArtifact, lazyTemplateSchemaArtifact.getElementSchemaArtifact("Element"));
+    assertEquals(2, reads.get());
+  }
+}
@@ -0,0 +1,239 @@
+package org.metadatacenter.artifacts.model.reader;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.metadatacenter.artifacts.Benchmark;
+import org.metadatacenter.artifacts.model.core.FieldInstanceArtifact;
+import org.metadatacenter.artifacts.model.core.TemplateInstanceArtifact;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.metadatacenter.model.ModelNodeNames.JSON_LD_CONTEXT;
+import static org.metadatacenter.model.ModelNodeNames.JSON_LD_ID;
+import static org.metadatacenter.model.ModelNodeNames.RDFS_LABEL;
+import static org.metadatacenter.model.ModelNodeNames.SCHEMA_IS_BASED_ON;
+
+public class ArtifactInterningPoolTest
+{
+  private static final int NUMBER_OF_INSTANCES = 1_000;
+  private static final int NUMBER_OF_FIELDS = 50;
+  private static final int NUMBER_OF_TERMS = 20;
+
+  private ObjectMapper mapper;
+
+  @Before
+  public void setup()
+  {
+    mapper = new ObjectMapper();
+  }
+
+  @Test
+  public void testInternReturnsPooledString()
+  {
+    ArtifactInterningPool interningPool = new ArtifactInterningPool();
+    String key = new String("Study Name");
+    String equalKey = new String("Study Name");
+
+    assertSame(key, interningPool.intern(key));
+    assertSame(key, interningPool.intern(equalKey));
+    assertEquals(1, interningPool.size());
+  }
+
+  @Test
+  public void testInternUriReturnsPooledUri() throws URISyntaxException
+  {
+    ArtifactInterningPool interningPool = new ArtifactInterningPool();
+    URI uri = interningPool.internUri("https://schema.metadatacenter.org/properties/1");
+
+    assertSame(uri, interningPool.internUri("https://schema.metadatacenter.org/properties/1"));
+    assertSame(uri, interningPool.internUri(URI.create("https://schema.metadatacenter.org/properties/1")));
+    assertEquals(1, interningPool.size());
+  }
+
+  @Test(expected = URISyntaxException.class)
+  public void testInternInvalidUri() throws URISyntaxException
+  {
+    new ArtifactInterningPool().internUri("not a URI");
+  }
+
+  @Test
+  public void testPoolIsBounded() throws URISyntaxException
+  {
+    ArtifactInterningPool interningPool = new ArtifactInterningPool(2);
+    String key1 = interningPool.intern(new String("key1"));
+    URI uri1 = interningPool.internUri("https://example.com/1");
+    String key2 = new String("key2");
+
+    assertSame(key2, interningPool.intern(key2));
+    assertNotSame(key2, interningPool.intern(new String("key2")));
+    assertNotSame(interningPool.internUri("https://example.com/2"), interningPool.internUri("https://example.com/2"));
+    assertSame(key1, interningPool.intern(new String("key1")));
+    assertSame(uri1, interningPool.internUri("https://example.com/1"));
+    assertEquals(2, interningPool.size());
+  }
+
+  @Test
+  public void testReadersWithSharedPoolShareKeysAndUris()
+  {
+    ArtifactInterningPool interningPool = new ArtifactInterningPool();
+    JsonArtifactReader artifactReader = new JsonArtifactReader(interningPool);
+
+    TemplateInstanceArtifact instance1 = artifactReader.readTemplateInstanceArtifact(createInstance(1));
+    TemplateInstanceArtifact instance2 = artifactReader.readTemplateInstanceArtifact(createInstance(1));
+
+    assertEquals(instance1.childKeys(), instance2.childKeys());
+    assertSame(instance1.childKeys().get(0), instance2.childKeys().get(0));
+    assertSame(instance1.isBasedOn(), instance2.isBasedOn());
+    assertSame(instance1.jsonLdContext().get("Field 0"), instance2.jsonLdContext().get("Field 0"));
+    assertSame(instance1.singleInstanceFieldInstances().get("Field 0").jsonLdId().get(),
+      instance2.singleInstanceFieldInstances().get("Field 0").jsonLdId().get());
+  }
+
+  @Test
+  public void testInterningPoolDoesNotChangeReadInstances()
+  {
+    JsonArtifactReader artifactReader = new JsonArtifactReader();
+    JsonArtifactReader interningArtifactReader = new JsonArtifactReader(new ArtifactInterningPool());
+    ObjectNode instanceNode = createInstance(1);
+
+    assertEquals(artifactReader.readTemplateInstanceArtifact(instanceNode),
+      interningArtifactReader.readTemplateInstanceArtifact(instanceNode));
+  }
+
+  @Test
+  public void testSharedPoolDeduplicatesKeysAndUrisOfSyntheticCorpus()
+  {
+    List<ObjectNode> corpus = createCorpus();
+
+    FootprintCounts countsWithoutPool = countKeysAndUris(readCorpus(new JsonArtifactReader(), corpus));
+    FootprintCounts countsWithPool = countKeysAndUris(
+      readCorpus(new JsonArtifactReader(new ArtifactInterningPool()), corpus));
+
+    assertEquals(NUMBER_OF_FIELDS, countsWithPool.keys());
+    assertEquals(NUMBER_OF_FIELDS + 1 + NUMBER_OF_TERMS, countsWithPool.uris());
+    assertTrue(countsWithoutPool.keys() >= NUMBER_OF_INSTANCES * NUMBER_OF_FIELDS);
+    assertTrue(countsWithoutPool.uris() >= NUMBER_OF_INSTANCES * (2 * NUMBER_OF_FIELDS + 1));
+  }
+
+  /**
+   * Heap-footprint report for the synthetic corpus, estimating the retained heap of the instances read with and
+   * without an interning pool using a measurement after garbage collection
+   */
+  @Test
+  @Category(Benchmark.class)
+  public void testHeapFootprintOfSyntheticCorpus()
+  {
+    List<ObjectNode> corpus = createCorpus();
+
+    long heapBefore = usedHeap();
+    List<TemplateInstanceArtifact> instances = readCorpus(new JsonArtifactReader(), corpus);
+    long heapWithoutPool = usedHeap() - heapBefore;
+    FootprintCounts countsWithoutPool = countKeysAndUris(instances);
+
+    instances = null;
+    heapBefore = usedHeap();
+    ArtifactInterningPool interningPool = new ArtifactInterningPool();
+    instances = readCorpus(new JsonArtifactReader(interningPool), corpus);
+    long heapWithPool = usedHeap() - heapBefore;
+    FootprintCounts countsWithPool = countKeysAndUris(instances);
+
+    System.out.println("Synthetic corpus of " + NUMBER_OF_INSTANCES + " instances with " + NUMBER_OF_FIELDS
+      + " fields each: without interning " + countsWithoutPool + ", retained heap ~" + heapWithoutPool / 1024
+      + " KiB; with interning " + countsWithPool + ", retained heap ~" + heapWithPool / 1024 + " KiB; pool size "
+      + interningPool.size());
+  }
+
+  /**
+   * A synthetic corpus of instances that repeat the same child keys, property URIs, term URIs and template URI
+   */
+  private List<ObjectNode> createCorpus()
+  {
+    List<ObjectNode> corpus = new ArrayList<>();
+
+    for (int instanceIndex = 0; instanceIndex < NUMBER_OF_INSTANCES; instanceIndex++)
+      corpus.add(createInstance(instanceIndex));
+
+    return corpus;
+  }
+
+  private List<TemplateInstanceArtifact> readCorpus(JsonArtifactReader artifactReader, List<ObjectNode> corpus)
+  {
+    List<TemplateInstanceArtifact> instances = new ArrayList<>();
+
+    for (ObjectNode instanceNode : corpus)
+      instances.add(artifactReader.readTemplateInstanceArtifact(instanceNode));
+
+    return instances;
+  }
+
+  private FootprintCounts countKeysAndUris(List<TemplateInstanceArtifact> instances)
+  {
+    Set<String> keys = Collections.newSetFromMap(new IdentityHashMap<>());
+    Set<URI> uris = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    for (TemplateInstanceArtifact instance : instances) {
+      keys.addAll(instance.childKeys());
+      keys.addAll(instance.jsonLdContext().keySet());
+      uris.addAll(instance.jsonLdContext().values());
+      uris.add(instance.isBasedOn());
+
+      for (FieldInstanceArtifact fieldInstance : instance.singleInstanceFieldInstances().values())
+        fieldInstance.jsonLdId().ifPresent(uris::add);
+    }
+    return new FootprintCounts(keys.size(), uris.size());
+  }
+
+  private long usedHeap()
+  {
+    Runtime runtime = Runtime.getRuntime();
+
+    for (int i = 0; i < 3; i++)
+      System.gc();
+
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+  /**
+   * Create an instance whose keys, property URIs, term URIs and template URI are freshly allocated strings, as they
+   * would be when instances are read from separate documents.
+   */
+  private ObjectNode createInstance(int instanceIndex)
+  {
+    ObjectNode instanceNode = mapper.createObjectNode();
+    ObjectNode contextNode = instanceNode.putObject(JSON_LD_CONTEXT);
+
+    instanceNode.put(SCHEMA_IS_BASED_ON, new String("https://repo.metadatacenter.org/templates/1"));
+
+    for (int fieldIndex = 0; fieldIndex < NUMBER_OF_FIELDS; fieldIndex++) {
+      String fieldKey = "Field " + fieldIndex;
+      int termIndex = (instanceIndex + fieldIndex) % NUMBER_OF_TERMS;
+
+      contextNode.put(fieldKey, "https://schema.metadatacenter.org/properties/" + fieldIndex);
+      ObjectNode fieldNode = instanceNode.putObject(new String(fieldKey));
+      fieldNode.put(JSON_LD_ID, "http://purl.obolibrary.org/obo/TERM_" + termIndex);
+      fieldNode.put(RDFS_LABEL, "Term " + termIndex);
+    }
+    return instanceNode;
+  }
+
+  private record FootprintCounts(int keys, int uris)
+  {
+    @Override public String toString()
+    {
+      return keys + " distinct key objects and " + uris + " distinct URI objects";
+    }
+  }
+}
@@ -0,0 +1,118 @@
+package org.metadatacenter.artifacts.model.reader;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.metadatacenter.artifacts.Benchmark;
+import org.metadatacenter.artifacts.model.core.TemplateInstanceArtifact;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.metadatacenter.model.ModelNodeNames.JSON_LD_CONTEXT;
+import static org.metadatacenter.model.ModelNodeNames.JSON_LD_VALUE;
+import static org.metadatacenter.model.ModelNodeNames.SCHEMA_IS_BASED_ON;
+
+/**
+ * Benchmark that reads template instances with increasing numbers of child keys and checks that reading time grows
+ * linearly with the number of keys. With a quadratic duplicate-key check, going from 10,000 to 50,000 keys multiplies
+ * reading time by roughly 25; the bound used here is generous enough to be stable on an otherwise idle machine.
+ * <p></p>
+ * As it measures wall-clock time, it is excluded from the default build and run with the benchmark profile.
+ */
+@Category(Benchmark.class)
+public class JsonArtifactReaderScalingTest
+{
+  private static final int SMALL_NUMBER_OF_KEYS = 10_000;
+  private static final int LARGE_NUMBER_OF_KEYS = 50_000;
+  private static final int RUNS = 5;
+  private static final double MAXIMUM_SCALING_FACTOR = 12.0;
+
+  private JsonArtifactReader artifactReader;
+  private ObjectMapper mapper;
+
+  @Before
+  public void setup()
+  {
+    artifactReader = new JsonArtifactReader();
+    mapper = new ObjectMapper();
+  }
+
+  @Test
+  public void testReadingTimeScalesLinearlyWithNumberOfSingleInstanceChildKeys()
+  {
+    ObjectNode smallInstanceNode = createInstanceWithSingleInstanceFields(SMALL_NUMBER_OF_KEYS);
+    ObjectNode largeInstanceNode = createInstanceWithSingleInstanceFields(LARGE_NUMBER_OF_KEYS);
+
+    assertLinearScaling(smallInstanceNode, largeInstanceNode);
+  }
+
+  @Test
+  public void testReadingTimeScalesLinearlyWithNumberOfMultiInstanceChildKeys()
+  {
+    ObjectNode smallInstanceNode = createInstanceWithMultiInstanceFields(SMALL_NUMBER_OF_KEYS);
+    ObjectNode largeInstanceNode = createInstanceWithMultiInstanceFields(LARGE_NUMBER_OF_KEYS);
+
+    assertLinearScaling(smallInstanceNode, largeInstanceNode);
+  }
+
+  private void assertLinearScaling(ObjectNode smallInstanceNode, ObjectNode largeInstanceNode)
+  {
+    long smallReadingTime = minimumReadingTime(smallInstanceNode, SMALL_NUMBER_OF_KEYS);
+    long largeReadingTime = minimumReadingTime(largeInstanceNode, LARGE_NUMBER_OF_KEYS);
+    double scalingFactor = (double)largeReadingTime / Math.max(smallReadingTime, 1);
+
+    assertTrue("Reading " + LARGE_NUMBER_OF_KEYS + " keys took " + scalingFactor + " times as long as reading "
+      + SMALL_NUMBER_OF_KEYS + " keys", scalingFactor < MAXIMUM_SCALING_FACTOR);
+  }
+
+  private long minimumReadingTime(ObjectNode instanceNode, int expectedNumberOfKeys)
+  {
+    long minimumReadingTime = Long.MAX_VALUE;
+
+    for (int run = 0; run < RUNS; run++) {
+      long startTime = System.nanoTime();
+      TemplateInstanceArtifact templateInstanceArtifact = artifactReader.readTemplateInstanceArtifact(instanceNode);
+      long readingTime = System.nanoTime() - startTime;
+
+      assertEquals(expectedNumberOfKeys, templateInstanceArtifact.childKeys().size());
+
+      minimumReadingTime = Math.min(minimumReadingTime, readingTime);
+    }
+    return minimumReadingTime;
+  }
+
+  private ObjectNode createInstanceWithSingleInstanceFields(int numberOfFields)
+  {
+    ObjectNode instanceNode = createBaseInstance();
+
+    for (int fieldIndex = 0; fieldIndex < numberOfFields; fieldIndex++)
+      instanceNode.putObject("Field " + fieldIndex).put(JSON_LD_VALUE, "Value " + fieldIndex);
+
+    return instanceNode;
+  }
+
+  private ObjectNode createInstanceWithMultiInstanceFields(int numberOfFields)
+  {
+    ObjectNode instanceNode = createBaseInstance();
+
+    for (int fieldIndex = 0; fieldIndex < numberOfFields; fieldIndex++) {
+      ArrayNode fieldInstancesNode = instanceNode.putArray("Field " + fieldIndex);
+      fieldInstancesNode.addObject().put(JSON_LD_VALUE, "Value " + fieldIndex);
+    }
+
+    return instanceNode;
+  }
+
+  private ObjectNode createBaseInstance()
+  {
+    ObjectNode instanceNode = mapper.createObjectNode();
+
+    instanceNode.putObject(JSON_LD_CONTEXT);
+    instanceNode.put(SCHEMA_IS_BASED_ON, "https://repo.metadatacenter.org/templates/1");
+
+    return instanceNode;
+  }
+}
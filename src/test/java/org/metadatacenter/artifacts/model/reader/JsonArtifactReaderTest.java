@@ -13,13 +13,18 @@ import org.metadatacenter.artifacts.model.core.fields.XsdDatatype;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.metadatacenter.model.ModelNodeNames.ELEMENT_SCHEMA_ARTIFACT_TYPE_IRI;
 import static org.metadatacenter.model.ModelNodeNames.FIELD_INPUT_TYPE_TEXTFIELD;
 import static org.metadatacenter.model.ModelNodeNames.FIELD_SCHEMA_ARTIFACT_CONTEXT_PREFIX_MAPPINGS;
@@ -41,6 +46,7 @@ import static org.metadatacenter.model.ModelNodeNames.SCHEMA_ORG_SCHEMA_VERSION;
 import static org.metadatacenter.model.ModelNodeNames.TEMPLATE_SCHEMA_ARTIFACT_TYPE_IRI;
 import static org.metadatacenter.model.ModelNodeNames.UI;
 import static org.metadatacenter.model.ModelNodeNames.UI_FIELD_INPUT_TYPE;
+import static org.metadatacenter.model.ModelNodeNames.UI_ORDER;
 
 public class JsonArtifactReaderTest
 {
@@ -193,6 +199,73 @@ public class JsonArtifactReaderTest
   }
 
 
+  @Test
+  public void testStreamingReadOfTemplateSchemaArtifacts() throws IOException
+  {
+    for (String templateFileName : new String[] { "templates/SimpleTemplate.json", "templates/ADVANCETemplate.json",
+      "templates/DataCiteTemplate.json", "templates/MultiInstanceFieldTemplate.json",
+      "templates/SimpleTemplateWithAttributeValues.json", "templates/RADxCLIGeneratedTemplate.json" }) {
+      TemplateSchemaArtifact expectedTemplateSchemaArtifact = artifactReader.readTemplateSchemaArtifact(
+        getJSONFileContentAsObjectNode(templateFileName));
+
+      try (InputStream inputStream = getFileContentAsInputStream(templateFileName)) {
+        TemplateSchemaArtifact templateSchemaArtifact = artifactReader.readTemplateSchemaArtifact(inputStream);
+
+        assertEquals(expectedTemplateSchemaArtifact, templateSchemaArtifact);
+      }
+    }
+  }
+
+  @Test
+  public void testStreamingReadOfTemplateSchemaArtifactWithContextAfterChildren() throws IOException
+  {
+    ObjectNode objectNode = getJSONFileContentAsObjectNode("templates/ADVANCETemplate.json");
+    TemplateSchemaArtifact expectedTemplateSchemaArtifact = artifactReader.readTemplateSchemaArtifact(objectNode);
+
+    // Children preceding the @context entry holding their property URIs are converted when the properties end
+    ObjectNode propertiesNode = (ObjectNode)objectNode.get(JSON_SCHEMA_PROPERTIES);
+    propertiesNode.set(JSON_LD_CONTEXT, propertiesNode.remove(JSON_LD_CONTEXT));
+
+    TemplateSchemaArtifact templateSchemaArtifact = artifactReader.readTemplateSchemaArtifact(
+      mapper.getFactory().createParser(mapper.writeValueAsString(objectNode)));
+
+    assertEquals(expectedTemplateSchemaArtifact, templateSchemaArtifact);
+  }
+
+  @Test
+  public void testStreamingReadOfElementSchemaArtifact() throws IOException
+  {
+    ObjectNode objectNode = getJSONFileContentAsObjectNode("elements/element-001.json");
+
+    ElementSchemaArtifact expectedElementSchemaArtifact = artifactReader.readElementSchemaArtifact(objectNode);
+    ElementSchemaArtifact elementSchemaArtifact = artifactReader.readElementSchemaArtifact(
+      mapper.getFactory().createParser(mapper.writeValueAsString(objectNode)));
+
+    assertEquals(expectedElementSchemaArtifact, elementSchemaArtifact);
+  }
+
+  @Test
+  public void testStreamingReadOfFieldSchemaArtifact() throws IOException
+  {
+    ObjectNode objectNode = getJSONFileContentAsObjectNode("fields/field-001.json");
+
+    FieldSchemaArtifact expectedFieldSchemaArtifact = artifactReader.readFieldSchemaArtifact(objectNode);
+    FieldSchemaArtifact fieldSchemaArtifact = artifactReader.readFieldSchemaArtifact(
+      mapper.getFactory().createParser(mapper.writeValueAsString(objectNode)));
+
+    assertEquals(expectedFieldSchemaArtifact, fieldSchemaArtifact);
+  }
+
+  @Test(expected = ArtifactParseException.class)
+  public void testStreamingReadOfTemplateSchemaArtifactWithNonObjectChild() throws IOException
+  {
+    ObjectNode objectNode = createBaseTemplateSchemaArtifact("Test name", "Test description");
+
+    objectNode.with(JSON_SCHEMA_PROPERTIES).put("Child", "not a schema artifact");
+
+    artifactReader.readTemplateSchemaArtifact(mapper.getFactory().createParser(mapper.writeValueAsString(objectNode)));
+  }
+
   @Test
   public void testReadSimpleTemplateInstance()
   {
@@ -258,6 +331,138 @@ public class JsonArtifactReaderTest
     assertTrue(templateInstanceArtifact.attributeValueFieldInstanceGroups().get("Attribute-value field B").containsKey("Attribute-value instance field 4"));
   }
 
+  @Test
+  public void testParallelReadOfTemplateSchemaArtifacts()
+  {
+    ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+    JsonArtifactReader parallelArtifactReader = new JsonArtifactReader(forkJoinPool);
+
+    try {
+      for (String templateFileName : new String[] { "templates/SimpleTemplate.json", "templates/ADVANCETemplate.json",
+        "templates/DataCiteTemplate.json", "templates/RADxCLIGeneratedTemplate.json" }) {
+        ObjectNode objectNode = getJSONFileContentAsObjectNode(templateFileName);
+
+        TemplateSchemaArtifact expectedTemplateSchemaArtifact = artifactReader.readTemplateSchemaArtifact(objectNode);
+        TemplateSchemaArtifact templateSchemaArtifact = parallelArtifactReader.readTemplateSchemaArtifact(objectNode);
+
+        assertEquals(expectedTemplateSchemaArtifact, templateSchemaArtifact);
+        assertEquals(new ArrayList<>(expectedTemplateSchemaArtifact.elementSchemas().keySet()),
+          new ArrayList<>(templateSchemaArtifact.elementSchemas().keySet()));
+        assertEquals(new ArrayList<>(expectedTemplateSchemaArtifact.fieldSchemas().keySet()),
+          new ArrayList<>(templateSchemaArtifact.fieldSchemas().keySet()));
+      }
+    } finally {
+      forkJoinPool.shutdown();
+    }
+  }
+
+  @Test
+  public void testParallelReadReportsFirstErrorInDocumentOrder()
+  {
+    ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+    JsonArtifactReader parallelArtifactReader = new JsonArtifactReader(forkJoinPool);
+    ObjectNode objectNode = createBaseTemplateSchemaArtifact("Test name", "Test description");
+
+    for (int childIndex = 0; childIndex < 50; childIndex++)
+      objectNode.with(JSON_SCHEMA_PROPERTIES).putObject("Child " + childIndex).put(JSON_SCHEMA_TYPE, "string");
+
+    try {
+      for (int run = 0; run < 10; run++) {
+        try {
+          parallelArtifactReader.readTemplateSchemaArtifact(objectNode);
+          fail("Expecting parse exception");
+        } catch (ArtifactParseException e) {
+          assertEquals("/properties/Child 0", e.getPath());
+        }
+      }
+    } finally {
+      forkJoinPool.shutdown();
+    }
+  }
+
+  @Test
+  public void testLazyReadOfTemplateSchemaArtifacts()
+  {
+    for (String templateFileName : new String[] { "templates/SimpleTemplate.json", "templates/ADVANCETemplate.json",
+      "templates/RADxCLIGeneratedTemplate.json" }) {
+      ObjectNode objectNode = getJSONFileContentAsObjectNode(templateFileName);
+
+      TemplateSchemaArtifact expectedTemplateSchemaArtifact = artifactReader.readTemplateSchemaArtifact(objectNode);
+      TemplateSchemaArtifact templateSchemaArtifact = artifactReader.readLazyTemplateSchemaArtifact(objectNode);
+
+      assertEquals(expectedTemplateSchemaArtifact.name(), templateSchemaArtifact.name());
+      assertEquals(expectedTemplateSchemaArtifact.templateUi(), templateSchemaArtifact.templateUi());
+      assertEquals(expectedTemplateSchemaArtifact.fieldSchemas(), templateSchemaArtifact.fieldSchemas());
+      assertEquals(expectedTemplateSchemaArtifact.getChildKeys(), templateSchemaArtifact.getChildKeys());
+      assertEquals(expectedTemplateSchemaArtifact.elementSchemas(), templateSchemaArtifact.elementSchemas());
+      assertEquals(expectedTemplateSchemaArtifact, TemplateSchemaArtifact.builder(templateSchemaArtifact).build());
+      assertEquals(expectedTemplateSchemaArtifact, templateSchemaArtifact);
+      assertEquals(templateSchemaArtifact, expectedTemplateSchemaArtifact);
+      assertEquals(expectedTemplateSchemaArtifact.hashCode(), templateSchemaArtifact.hashCode());
+    }
+  }
+
+  @Test
+  public void testLazyReadDefersReadingOfElementSchemaArtifacts()
+  {
+    ObjectNode objectNode = createBaseTemplateSchemaArtifact("Test name", "Test description");
+    ObjectNode elementNode = objectNode.with(JSON_SCHEMA_PROPERTIES).putObject("Invalid element");
+
+    elementNode.put(JSON_SCHEMA_TYPE, JSON_SCHEMA_OBJECT);
+    elementNode.put(JSON_LD_TYPE, ELEMENT_SCHEMA_ARTIFACT_TYPE_IRI);
+    elementNode.put(SCHEMA_ORG_NAME, "Invalid element");
+    objectNode.with(UI).putArray(UI_ORDER).add("Invalid element");
+
+    TemplateSchemaArtifact templateSchemaArtifact = artifactReader.readLazyTemplateSchemaArtifact(objectNode);
+
+    assertEquals("Test name", templateSchemaArtifact.name());
+    assertTrue(templateSchemaArtifact.fieldSchemas().isEmpty());
+    assertTrue(templateSchemaArtifact.isElement("Invalid element"));
+
+    try {
+      templateSchemaArtifact.getElementSchemaArtifact("Invalid element");
+      fail("Expecting parse exception");
+    } catch (ArtifactParseException e) {
+      assertEquals("/properties/Invalid element", e.getPath());
+    }
+  }
+
+  @Test
+  public void testStreamingReadOfTemplateInstanceArtifacts() throws IOException
+  {
+    for (String instanceFileName : new String[] { "instances/SimpleInstance.json",
+      "instances/SimpleInstanceWithNesting.json", "instances/SimpleInstanceWithAttributeValues.json",
+      "instances/InstanceWithNestedAttributeValues.json", "instances/RADxMetadataInstance.json" }) {
+      TemplateInstanceArtifact expectedTemplateInstanceArtifact = artifactReader.readTemplateInstanceArtifact(
+        getJSONFileContentAsObjectNode(instanceFileName));
+
+      try (InputStream inputStream = getFileContentAsInputStream(instanceFileName)) {
+        TemplateInstanceArtifact templateInstanceArtifact = artifactReader.readTemplateInstanceArtifact(inputStream);
+
+        assertEquals(expectedTemplateInstanceArtifact, templateInstanceArtifact);
+      }
+    }
+  }
+
+  @Test
+  public void testStreamingReadOfTemplateInstanceArtifactWithDuplicateFieldsMatchesTreeRead() throws IOException
+  {
+    String instance = "{ \"@context\": {}, \"schema:isBasedOn\": \"https://repo.metadatacenter.org/templates/1\", "
+      + "\"Name\": { \"@value\": \"a\" }, \"Age\": { \"@value\": \"1\" }, "
+      + "\"Address\": { \"@context\": {}, \"Street\": { \"@value\": \"x\" }, \"Street\": { \"@value\": \"y\" } }, "
+      + "\"Name\": [ { \"@value\": \"b\" } ], "
+      + "\"schema:isBasedOn\": \"https://repo.metadatacenter.org/templates/2\", \"Age\": [] }";
+
+    TemplateInstanceArtifact expectedTemplateInstanceArtifact = artifactReader.readTemplateInstanceArtifact(
+      (ObjectNode)mapper.readTree(instance));
+    TemplateInstanceArtifact templateInstanceArtifact = artifactReader.readTemplateInstanceArtifact(
+      mapper.getFactory().createParser(instance));
+
+    assertEquals(expectedTemplateInstanceArtifact, templateInstanceArtifact);
+    assertEquals(List.of("Name", "Age", "Address"), templateInstanceArtifact.childKeys());
+    assertEquals(URI.create("https://repo.metadatacenter.org/templates/2"), templateInstanceArtifact.isBasedOn());
+  }
+
   private ObjectNode createBaseTemplateSchemaArtifact(String title, String description)
   {
     ObjectNode objectNode = createBaseSchemaArtifact(title, description);
@@ -318,6 +523,11 @@ public class JsonArtifactReaderTest
     return objectNode;
   }
 
+  private InputStream getFileContentAsInputStream(String fileName)
+  {
+    return JsonArtifactReaderTest.class.getClassLoader().getResourceAsStream(fileName);
+  }
+
   private ObjectNode getJSONFileContentAsObjectNode(String jsonFileName)
   {
     try {
@@ -1,5 +1,8 @@
 package org.metadatacenter.artifacts.model.reader;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import org.junit.Before;
 import org.junit.Test;
 import org.metadatacenter.artifacts.model.core.ElementSchemaArtifact;
@@ -9,6 +12,8 @@ import org.metadatacenter.artifacts.model.core.TemplateSchemaArtifact;
 import org.metadatacenter.artifacts.model.core.Version;
 import org.metadatacenter.artifacts.model.core.fields.FieldInputType;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.net.URI;
 import java.time.OffsetDateTime;
 import java.util.LinkedHashMap;
@@ -233,4 +238,48 @@ public class YamlArtifactReaderTest
     assertEquals(language, fieldSchemaArtifact.language().get());
   }
 
-}
\ No newline at end of file
+  @Test public void readStreamedTemplateSchemaArtifactTest() throws IOException
+  {
+    String yaml = """
+      template: Study
+      description: My study
+      identifier: ID1
+      modelVersion: 1.6.0
+      version: 1.2.3
+      status: bibo:draft
+      language: en
+      children:
+        - key: study-name
+          type: text-field
+          name: Study Name
+          configuration:
+            required: true
+        - key: address
+          type: element
+          name: Address
+          children:
+            - key: zip
+              type: text-field
+              name: ZIP
+      """;
+
+    LinkedHashMap<String, Object> yamlSource = new ObjectMapper(new YAMLFactory()).readValue(yaml,
+      new TypeReference<LinkedHashMap<String, Object>>() {});
+
+    TemplateSchemaArtifact templateSchemaArtifact = artifactReader.readTemplateSchemaArtifact(new StringReader(yaml));
+
+    assertEquals(artifactReader.readTemplateSchemaArtifact(yamlSource), templateSchemaArtifact);
+    assertEquals("Study", templateSchemaArtifact.name());
+  }
+
+  @Test(expected = ArtifactParseException.class) public void readStreamedTemplateSchemaArtifactWithoutModelVersionTest()
+    throws IOException
+  {
+    String yaml = """
+      template: Study
+      description: My study
+      """;
+
+    artifactReader.readTemplateSchemaArtifact(new StringReader(yaml));
+  }
+}
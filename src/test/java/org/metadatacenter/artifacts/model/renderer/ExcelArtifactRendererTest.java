@@ -0,0 +1,153 @@
+package org.metadatacenter.artifacts.model.renderer;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DataValidation;
+import org.apache.poi.ss.usermodel.DataValidationConstraint;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Test;
+import org.metadatacenter.artifacts.model.core.ControlledTermField;
+import org.metadatacenter.artifacts.model.core.ListField;
+import org.metadatacenter.artifacts.model.core.NumericField;
+import org.metadatacenter.artifacts.model.core.TemplateSchemaArtifact;
+import org.metadatacenter.artifacts.model.core.TextField;
+import org.metadatacenter.artifacts.model.core.fields.XsdNumericDatatype;
+import org.metadatacenter.artifacts.model.core.fields.constraints.ControlledTermValueConstraints;
+import org.metadatacenter.artifacts.ss.SpreadsheetFactory;
+import org.metadatacenter.artifacts.util.OfflineTerminologyServerClient;
+import org.metadatacenter.artifacts.util.TerminologyServerClient;
+import org.metadatacenter.artifacts.util.TerminologySnapshot;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class ExcelArtifactRendererTest
+{
+  private static final int NUMBER_OF_TERMS = 100;
+  private static final int STREAMING_ROW_WINDOW = 2;
+
+  @Test
+  public void testStreamingWorkbookMatchesWorkbook() throws IOException
+  {
+    ControlledTermField controlledTermField = ControlledTermField.builder()
+      .withName("Anatomy")
+      .withOntologyValueConstraint(URI.create("https://data.bioontology.org/ontologies/UBERON"), "UBERON",
+        "Uber Anatomy Ontology")
+      .build();
+    TemplateSchemaArtifact templateSchemaArtifact = TemplateSchemaArtifact.builder()
+      .withName("Study")
+      .withFieldSchema(TextField.builder().withName("Notes").build())
+      .withFieldSchema(ListField.builder().withName("Phase").withOption("Phase 1").withOption("Phase 2").build())
+      .withFieldSchema(NumericField.builder().withName("Age").withNumericType(XsdNumericDatatype.INTEGER)
+        .withMinValue(0).withMaxValue(150).build())
+      .withFieldSchema(controlledTermField)
+      .build();
+    Map<String, String> terms = new LinkedHashMap<>();
+    for (int termIndex = 0; termIndex < NUMBER_OF_TERMS; termIndex++) // More rows than the streaming window holds
+      terms.put("Term " + termIndex, "http://purl.obolibrary.org/obo/UBERON_" + termIndex);
+
+    Path snapshotFile = Files.createTempFile("terminology-snapshot", ".bin");
+    Path excelFile = Files.createTempFile("workbook", ".xlsx");
+    Path streamingExcelFile = Files.createTempFile("streaming-workbook", ".xlsx");
+
+    try {
+      TerminologySnapshot.write(Map.of(TerminologyServerClient.controlledTermValueConstraints2CacheKey(
+        (ControlledTermValueConstraints)controlledTermField.valueConstraints().get()), terms), snapshotFile);
+      TerminologyServerClient terminologyServerClient =
+        new OfflineTerminologyServerClient(TerminologySnapshot.open(snapshotFile));
+
+      SpreadsheetFactory.writeWorkbook(new ExcelArtifactRenderer(terminologyServerClient)
+        .render(templateSchemaArtifact, 0, 0), excelFile.toFile());
+      SpreadsheetFactory.writeWorkbook(new ExcelArtifactRenderer(terminologyServerClient,
+          TerminologyServerClient.DEFAULT_MAXIMUM_CONCURRENT_SEARCH_REQUESTS,
+          SpreadsheetFactory.createEmptyStreamingWorkbook(STREAMING_ROW_WINDOW))
+        .render(templateSchemaArtifact, 0, 0), streamingExcelFile.toFile());
+
+      try (Workbook workbook = readWorkbook(excelFile); Workbook streamingWorkbook = readWorkbook(streamingExcelFile)) {
+        assertEquals(getSheetNames(workbook), getSheetNames(streamingWorkbook));
+
+        for (int sheetIndex = 0; sheetIndex < workbook.getNumberOfSheets(); sheetIndex++) {
+          Sheet sheet = workbook.getSheetAt(sheetIndex);
+          Sheet streamingSheet = streamingWorkbook.getSheetAt(sheetIndex);
+
+          assertEquals(sheet.getSheetName(), getCellValues(sheet), getCellValues(streamingSheet));
+          assertEquals(sheet.getSheetName(), getDataValidations(sheet), getDataValidations(streamingSheet));
+        }
+        assertFalse(getDataValidations(workbook.getSheetAt(0)).isEmpty());
+      }
+    } finally {
+      Files.deleteIfExists(snapshotFile);
+      Files.deleteIfExists(excelFile);
+      Files.deleteIfExists(streamingExcelFile);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testStreamingWorkbookWindowBelowTwoRowsIsRejected()
+  {
+    SpreadsheetFactory.createEmptyStreamingWorkbook(1);
+  }
+
+  private Workbook readWorkbook(Path excelFile) throws IOException
+  {
+    try (InputStream inputStream = Files.newInputStream(excelFile)) {
+      return new XSSFWorkbook(inputStream);
+    }
+  }
+
+  private List<String> getSheetNames(Workbook workbook)
+  {
+    List<String> sheetNames = new ArrayList<>();
+
+    for (Sheet sheet : workbook)
+      sheetNames.add(sheet.getSheetName());
+
+    return sheetNames;
+  }
+
+  private List<List<String>> getCellValues(Sheet sheet)
+  {
+    DataFormatter dataFormatter = new DataFormatter();
+    List<List<String>> cellValues = new ArrayList<>();
+
+    for (Row row : sheet) {
+      List<String> rowValues = new ArrayList<>();
+      rowValues.add(String.valueOf(row.getRowNum()));
+      for (Cell cell : row)
+        rowValues.add(cell.getColumnIndex() + ":" + dataFormatter.formatCellValue(cell));
+      cellValues.add(rowValues);
+    }
+    return cellValues;
+  }
+
+  private List<String> getDataValidations(Sheet sheet)
+  {
+    List<String> dataValidations = new ArrayList<>();
+
+    for (DataValidation dataValidation : sheet.getDataValidations()) {
+      DataValidationConstraint constraint = dataValidation.getValidationConstraint();
+      List<String> regions = new ArrayList<>();
+
+      for (CellRangeAddress region : dataValidation.getRegions().getCellRangeAddresses())
+        regions.add(region.formatAsString());
+
+      dataValidations.add(regions + " " + constraint.getValidationType() + " " + constraint.getOperator() + " "
+        + constraint.getFormula1() + " " + constraint.getFormula2());
+    }
+    return dataValidations;
+  }
+}
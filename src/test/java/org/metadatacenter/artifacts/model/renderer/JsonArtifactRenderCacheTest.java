@@ -0,0 +1,185 @@
+package org.metadatacenter.artifacts.model.renderer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.Before;
+import org.junit.Test;
+import org.metadatacenter.artifacts.model.core.ElementSchemaArtifact;
+import org.metadatacenter.artifacts.model.core.FieldSchemaArtifact;
+import org.metadatacenter.artifacts.model.core.TemplateSchemaArtifact;
+import org.metadatacenter.artifacts.model.core.TextField;
+import org.metadatacenter.artifacts.model.reader.JsonArtifactReader;
+import org.metadatacenter.artifacts.model.tools.CustomPrettyPrinter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.metadatacenter.model.ModelNodeNames.SCHEMA_ORG_NAME;
+
+public class JsonArtifactRenderCacheTest
+{
+  private ObjectMapper mapper;
+  private ObjectWriter prettyObjectWriter;
+  private JsonArtifactReader artifactReader;
+
+  @Before
+  public void setup()
+  {
+    mapper = new ObjectMapper();
+    prettyObjectWriter = mapper.writer(new CustomPrettyPrinter());
+    artifactReader = new JsonArtifactReader();
+  }
+
+  @Test
+  public void testCachedRenderingMatchesUncachedRendering()
+  {
+    ObjectNode templateNode = getFileContentAsObjectNode("templates/ADVANCETemplate.json");
+    TemplateSchemaArtifact templateSchemaArtifact = artifactReader.readTemplateSchemaArtifact(templateNode);
+    TemplateSchemaArtifact equalTemplateSchemaArtifact = artifactReader.readTemplateSchemaArtifact(templateNode);
+    JsonArtifactRenderCache renderCache = new JsonArtifactRenderCache();
+    JsonArtifactRenderer cachingArtifactRenderer = new JsonArtifactRenderer(renderCache);
+
+    ObjectNode expectedRendering = new JsonArtifactRenderer().renderTemplateSchemaArtifact(templateSchemaArtifact);
+
+    assertEquals(expectedRendering, cachingArtifactRenderer.renderTemplateSchemaArtifact(templateSchemaArtifact));
+    assertEquals(0, renderCache.hits());
+    assertTrue(renderCache.size() > 0);
+    assertEquals(renderCache.misses(), renderCache.size());
+
+    long misses = renderCache.misses();
+
+    // Only the template's direct children are looked up once their renderings are cached
+    assertEquals(expectedRendering, cachingArtifactRenderer.renderTemplateSchemaArtifact(equalTemplateSchemaArtifact));
+    assertEquals(misses, renderCache.misses());
+    assertEquals(equalTemplateSchemaArtifact.getChildKeys().size(), renderCache.hits());
+  }
+
+  @Test
+  public void testModifyingRenderingDoesNotModifyCachedRendering()
+  {
+    FieldSchemaArtifact fieldSchemaArtifact = TextField.builder().withName("Text Field").build();
+    JsonArtifactRenderCache renderCache = new JsonArtifactRenderCache();
+    JsonArtifactRenderer cachingArtifactRenderer = new JsonArtifactRenderer(renderCache);
+
+    ObjectNode rendering = cachingArtifactRenderer.renderFieldSchemaArtifact("Text Field", fieldSchemaArtifact);
+    ObjectNode expectedRendering = rendering.deepCopy();
+
+    rendering.put(SCHEMA_ORG_NAME, "Modified");
+
+    assertEquals(expectedRendering,
+      cachingArtifactRenderer.renderFieldSchemaArtifact("Text Field", fieldSchemaArtifact));
+    assertEquals(1, renderCache.hits());
+    assertEquals(1, renderCache.misses());
+  }
+
+  @Test
+  public void testStreamedCachedRenderingMatchesTreeRendering() throws IOException
+  {
+    ElementSchemaArtifact innerElementSchemaArtifact = ElementSchemaArtifact.builder()
+      .withName("Inner Element")
+      .withIsMultiple(true)
+      .withFieldSchema(TextField.builder().withName("Text Field").build())
+      .build();
+
+    ElementSchemaArtifact outerElementSchemaArtifact = ElementSchemaArtifact.builder()
+      .withName("Outer Element")
+      .withElementSchema(innerElementSchemaArtifact)
+      .build();
+
+    JsonArtifactRenderCache renderCache = new JsonArtifactRenderCache();
+    JsonArtifactRenderer cachingArtifactRenderer = new JsonArtifactRenderer(renderCache);
+
+    byte[] treeRendering = prettyObjectWriter.writeValueAsBytes(
+      cachingArtifactRenderer.renderElementSchemaArtifact(outerElementSchemaArtifact));
+
+    ByteArrayOutputStream streamedRendering = new ByteArrayOutputStream();
+    try (JsonGenerator generator = prettyObjectWriter.createGenerator(streamedRendering)) {
+      cachingArtifactRenderer.renderElementSchemaArtifact(outerElementSchemaArtifact, generator);
+    }
+
+    assertArrayEquals(treeRendering, streamedRendering.toByteArray());
+    assertEquals(1, renderCache.hits());
+  }
+
+  @Test
+  public void testStreamedRenderingFillsCache() throws IOException
+  {
+    ElementSchemaArtifact innerElementSchemaArtifact = ElementSchemaArtifact.builder()
+      .withName("Inner Element")
+      .withFieldSchema(TextField.builder().withName("Text Field").build())
+      .build();
+
+    ElementSchemaArtifact outerElementSchemaArtifact = ElementSchemaArtifact.builder()
+      .withName("Outer Element")
+      .withElementSchema(innerElementSchemaArtifact)
+      .build();
+
+    ElementSchemaArtifact equalOuterElementSchemaArtifact = ElementSchemaArtifact.builder()
+      .withName("Outer Element")
+      .withElementSchema(ElementSchemaArtifact.builder()
+        .withName("Inner Element")
+        .withFieldSchema(TextField.builder().withName("Text Field").build())
+        .build())
+      .build();
+
+    JsonArtifactRenderCache renderCache = new JsonArtifactRenderCache();
+    JsonArtifactRenderer cachingArtifactRenderer = new JsonArtifactRenderer(renderCache);
+
+    ByteArrayOutputStream streamedRendering = new ByteArrayOutputStream();
+    try (JsonGenerator generator = prettyObjectWriter.createGenerator(streamedRendering)) {
+      cachingArtifactRenderer.renderElementSchemaArtifact(outerElementSchemaArtifact, generator);
+    }
+
+    assertEquals(3, renderCache.size());
+    assertEquals(0, renderCache.hits());
+
+    ByteArrayOutputStream equalStreamedRendering = new ByteArrayOutputStream();
+    try (JsonGenerator generator = prettyObjectWriter.createGenerator(equalStreamedRendering)) {
+      cachingArtifactRenderer.renderElementSchemaArtifact(equalOuterElementSchemaArtifact, generator);
+    }
+
+    assertArrayEquals(streamedRendering.toByteArray(), equalStreamedRendering.toByteArray());
+    assertArrayEquals(prettyObjectWriter.writeValueAsBytes(
+        new JsonArtifactRenderer().renderElementSchemaArtifact(outerElementSchemaArtifact)),
+      streamedRendering.toByteArray());
+    assertEquals(1, renderCache.hits());
+    assertEquals(3, renderCache.misses());
+  }
+
+  @Test
+  public void testFullCacheDoesNotAddRenderings()
+  {
+    JsonArtifactRenderCache renderCache = new JsonArtifactRenderCache(1);
+    JsonArtifactRenderer cachingArtifactRenderer = new JsonArtifactRenderer(renderCache);
+
+    cachingArtifactRenderer.renderFieldSchemaArtifact("Field 1", TextField.builder().withName("Field 1").build());
+    cachingArtifactRenderer.renderFieldSchemaArtifact("Field 2", TextField.builder().withName("Field 2").build());
+    cachingArtifactRenderer.renderFieldSchemaArtifact("Field 2", TextField.builder().withName("Field 2").build());
+
+    assertEquals(1, renderCache.size());
+    assertEquals(0, renderCache.hits());
+    assertEquals(3, renderCache.misses());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeMaximumSize()
+  {
+    new JsonArtifactRenderCache(-1);
+  }
+
+  private ObjectNode getFileContentAsObjectNode(String jsonFileName)
+  {
+    try (InputStream inputStream = JsonArtifactRenderCacheTest.class.getClassLoader()
+      .getResourceAsStream(jsonFileName)) {
+      return (ObjectNode)mapper.readTree(inputStream);
+    } catch (IOException e) {
+      throw new RuntimeException("Error reading JSON file " + jsonFileName + ": " + e.getMessage());
+    }
+  }
+}
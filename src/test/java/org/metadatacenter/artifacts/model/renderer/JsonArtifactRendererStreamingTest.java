@@ -0,0 +1,142 @@
+package org.metadatacenter.artifacts.model.renderer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.Before;
+import org.junit.Test;
+import org.metadatacenter.artifacts.model.core.ElementInstanceArtifact;
+import org.metadatacenter.artifacts.model.core.ElementSchemaArtifact;
+import org.metadatacenter.artifacts.model.core.TemplateInstanceArtifact;
+import org.metadatacenter.artifacts.model.core.TemplateSchemaArtifact;
+import org.metadatacenter.artifacts.model.core.TextField;
+import org.metadatacenter.artifacts.model.core.TextFieldInstance;
+import org.metadatacenter.artifacts.model.reader.JsonArtifactReader;
+import org.metadatacenter.artifacts.model.tools.CustomPrettyPrinter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+
+public class JsonArtifactRendererStreamingTest
+{
+  private ObjectMapper mapper;
+  private ObjectWriter prettyObjectWriter;
+  private JsonArtifactReader artifactReader;
+  private JsonArtifactRenderer artifactRenderer;
+
+  @Before
+  public void setup()
+  {
+    mapper = new ObjectMapper();
+    prettyObjectWriter = mapper.writer(new CustomPrettyPrinter());
+    artifactReader = new JsonArtifactReader();
+    artifactRenderer = new JsonArtifactRenderer();
+  }
+
+  @Test
+  public void testStreamedTemplateSchemaArtifactsMatchTreeRendering() throws IOException
+  {
+    for (String templateFileName : List.of("SimpleTemplate.json", "SimpleTemplateWithAttributeValues.json",
+      "MultiInstanceFieldTemplate.json", "RADxCLIGeneratedTemplate.json", "ADVANCETemplate.json")) {
+      TemplateSchemaArtifact templateSchemaArtifact = artifactReader.readTemplateSchemaArtifact(
+        getFileContentAsObjectNode("templates/" + templateFileName));
+
+      byte[] treeRendering = prettyObjectWriter.writeValueAsBytes(
+        artifactRenderer.renderTemplateSchemaArtifact(templateSchemaArtifact));
+
+      ByteArrayOutputStream streamedRendering = new ByteArrayOutputStream();
+      try (JsonGenerator generator = prettyObjectWriter.createGenerator(streamedRendering)) {
+        artifactRenderer.renderTemplateSchemaArtifact(templateSchemaArtifact, generator);
+      }
+
+      assertArrayEquals(templateFileName, treeRendering, streamedRendering.toByteArray());
+    }
+  }
+
+  @Test
+  public void testStreamedNestedElementSchemaArtifactMatchesTreeRendering() throws IOException
+  {
+    ElementSchemaArtifact innerElementSchemaArtifact = ElementSchemaArtifact.builder()
+      .withName("Inner Element")
+      .withIsMultiple(true)
+      .withMinItems(1)
+      .withFieldSchema(TextField.builder().withName("Text Field").build())
+      .build();
+
+    ElementSchemaArtifact outerElementSchemaArtifact = ElementSchemaArtifact.builder()
+      .withName("Outer Element")
+      .withElementSchema(innerElementSchemaArtifact)
+      .build();
+
+    byte[] treeRendering = prettyObjectWriter.writeValueAsBytes(
+      artifactRenderer.renderElementSchemaArtifact(outerElementSchemaArtifact));
+
+    ByteArrayOutputStream streamedRendering = new ByteArrayOutputStream();
+    try (JsonGenerator generator = prettyObjectWriter.createGenerator(streamedRendering)) {
+      artifactRenderer.renderElementSchemaArtifact(outerElementSchemaArtifact, generator);
+    }
+
+    assertArrayEquals(treeRendering, streamedRendering.toByteArray());
+  }
+
+  @Test
+  public void testStreamedTemplateInstanceArtifactMatchesTreeRendering() throws IOException
+  {
+    ElementInstanceArtifact elementInstanceArtifact = ElementInstanceArtifact.builder()
+      .withJsonLdId(URI.create("https://repo.metadatacenter.org/template-element-instances/1"))
+      .withSingleInstanceFieldInstance("Text Field", TextFieldInstance.builder().withValue("Value 1").build())
+      .build();
+
+    TemplateInstanceArtifact templateInstanceArtifact = TemplateInstanceArtifact.builder()
+      .withJsonLdId(URI.create("https://repo.metadatacenter.org/template-instances/1"))
+      .withIsBasedOn(URI.create("https://repo.metadatacenter.org/templates/1"))
+      .withName("Instance")
+      .withSingleInstanceFieldInstance("Name", TextFieldInstance.builder().withValue("Name 1").build())
+      .withSingleInstanceElementInstance("Element", elementInstanceArtifact)
+      .withMultiInstanceElementInstances("Elements", List.of(elementInstanceArtifact, elementInstanceArtifact))
+      .build();
+
+    byte[] treeRendering = prettyObjectWriter.writeValueAsBytes(
+      artifactRenderer.renderTemplateInstanceArtifact(templateInstanceArtifact));
+
+    ByteArrayOutputStream streamedRendering = new ByteArrayOutputStream();
+    try (JsonGenerator generator = prettyObjectWriter.createGenerator(streamedRendering)) {
+      artifactRenderer.renderTemplateInstanceArtifact(templateInstanceArtifact, generator);
+    }
+
+    assertArrayEquals(treeRendering, streamedRendering.toByteArray());
+  }
+
+  @Test
+  public void testStreamedInstanceFromFileMatchesTreeRendering() throws IOException
+  {
+    TemplateInstanceArtifact templateInstanceArtifact = artifactReader.readTemplateInstanceArtifact(
+      getFileContentAsObjectNode("instances/RADx2.0CLIGeneratedInstance.json"));
+
+    byte[] treeRendering = prettyObjectWriter.writeValueAsBytes(
+      artifactRenderer.renderTemplateInstanceArtifact(templateInstanceArtifact));
+
+    ByteArrayOutputStream streamedRendering = new ByteArrayOutputStream();
+    try (JsonGenerator generator = prettyObjectWriter.createGenerator(streamedRendering)) {
+      artifactRenderer.renderTemplateInstanceArtifact(templateInstanceArtifact, generator);
+    }
+
+    assertArrayEquals(treeRendering, streamedRendering.toByteArray());
+  }
+
+  private ObjectNode getFileContentAsObjectNode(String jsonFileName)
+  {
+    try (InputStream inputStream = JsonArtifactRendererStreamingTest.class.getClassLoader()
+      .getResourceAsStream(jsonFileName)) {
+      return (ObjectNode)mapper.readTree(inputStream);
+    } catch (IOException e) {
+      throw new RuntimeException("Error reading JSON file " + jsonFileName + ": " + e.getMessage());
+    }
+  }
+}
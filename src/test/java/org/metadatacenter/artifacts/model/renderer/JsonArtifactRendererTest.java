@@ -39,9 +39,12 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.metadatacenter.model.ModelNodeNames.FIELD_SCHEMA_ARTIFACT_TYPE_IRI;
+import static org.metadatacenter.model.ModelNodeNames.JSON_LD_CONTEXT;
 import static org.metadatacenter.model.ModelNodeNames.JSON_LD_ID;
 import static org.metadatacenter.model.ModelNodeNames.JSON_LD_TYPE;
 import static org.metadatacenter.model.ModelNodeNames.JSON_SCHEMA_OBJECT;
+import static org.metadatacenter.model.ModelNodeNames.JSON_SCHEMA_PROPERTIES;
+import static org.metadatacenter.model.ModelNodeNames.JSON_SCHEMA_REQUIRED;
 import static org.metadatacenter.model.ModelNodeNames.JSON_SCHEMA_SCHEMA;
 import static org.metadatacenter.model.ModelNodeNames.JSON_SCHEMA_SCHEMA_IRI;
 import static org.metadatacenter.model.ModelNodeNames.JSON_SCHEMA_TYPE;
@@ -343,6 +346,39 @@ public class JsonArtifactRendererTest
     assertEquals(rendering.get(SCHEMA_ORG_NAME).textValue(), "SDY232");
   }
 
+  @Test
+  public void testRenderingsDoNotShareStandardFragments()
+  {
+    TemplateSchemaArtifact templateSchemaArtifact = TemplateSchemaArtifact.builder().
+      withJsonLdId(URI.create("https://repo.metadatacenter.org/templates/123")).
+      withName("Study").
+      withLanguage("en").
+      withFieldSchema(TextField.builder().withName("Text Field").build()).
+      build();
+
+    TemplateInstanceArtifact templateInstanceArtifact = TemplateInstanceArtifact.builder().
+      withIsBasedOn(URI.create("https://repo.metadatacenter.org/templates/123")).
+      withJsonLdContextEntry("Text Field", URI.create("https://example.com/p1")).
+      withName("SDY232").
+      build();
+
+    ObjectNode expectedTemplateRendering = jsonArtifactRenderer.renderTemplateSchemaArtifact(templateSchemaArtifact);
+    ObjectNode expectedInstanceRendering = jsonArtifactRenderer.renderTemplateInstanceArtifact(templateInstanceArtifact);
+
+    for (ObjectNode rendering : List.of(jsonArtifactRenderer.renderTemplateSchemaArtifact(templateSchemaArtifact),
+      jsonArtifactRenderer.renderTemplateInstanceArtifact(templateInstanceArtifact))) {
+      rendering.withObject("/" + JSON_LD_CONTEXT).removeAll();
+      if (rendering.has(JSON_SCHEMA_PROPERTIES)) {
+        rendering.withObject("/" + JSON_SCHEMA_PROPERTIES).removeAll();
+        rendering.withArray(JSON_SCHEMA_REQUIRED).removeAll();
+      }
+    }
+
+    assertEquals(expectedTemplateRendering, jsonArtifactRenderer.renderTemplateSchemaArtifact(templateSchemaArtifact));
+    assertEquals(expectedInstanceRendering,
+      jsonArtifactRenderer.renderTemplateInstanceArtifact(templateInstanceArtifact));
+  }
+
   @Test
   public void testValidateInstanceAgainstTemplateArtifact() {
     TemplateSchemaArtifact templateSchemaArtifact = TemplateSchemaArtifact.builder().
@@ -1,5 +1,6 @@
 package org.metadatacenter.artifacts.model.renderer;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -16,6 +17,7 @@ import org.metadatacenter.artifacts.model.reader.JsonArtifactReaderTest;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -721,6 +723,57 @@ public class YamlArtifactRendererTest {
     assertEquals(expectedYaml, actualYaml);
   }
 
+  @Test
+  public void testStreamedTemplateSchemaArtifactRenderingMatchesMapRendering() throws IOException {
+    TemplateSchemaArtifact templateSchemaArtifact = artifactReader.readTemplateSchemaArtifact(
+        getFileContentAsObjectNode("templates/ADVANCETemplate.json"));
+    YamlArtifactRenderer yamlArtifactRenderer = new YamlArtifactRenderer(false);
+
+    StringWriter streamedYaml = new StringWriter();
+    try (JsonGenerator generator = mapper.createGenerator(streamedYaml)) {
+      yamlArtifactRenderer.renderTemplateSchemaArtifact(templateSchemaArtifact, generator);
+    }
+
+    String expectedYaml = mapper.writeValueAsString(
+        yamlArtifactRenderer.renderTemplateSchemaArtifact(templateSchemaArtifact));
+    assertEquals(expectedYaml, streamedYaml.toString());
+  }
+
+  @Test
+  public void testStreamedTemplateInstanceArtifactRenderingMatchesMapRendering() throws IOException {
+    TemplateInstanceArtifact templateInstanceArtifact = artifactReader.readTemplateInstanceArtifact(
+        getFileContentAsObjectNode("instances/InstanceWithNestedAttributeValues.json"));
+    YamlArtifactRenderer yamlArtifactRenderer = new YamlArtifactRenderer(true);
+
+    StringWriter streamedYaml = new StringWriter();
+    try (JsonGenerator generator = mapper.createGenerator(streamedYaml)) {
+      yamlArtifactRenderer.renderTemplateInstanceArtifact(templateInstanceArtifact, generator);
+    }
+
+    String expectedYaml = mapper.writeValueAsString(
+        yamlArtifactRenderer.renderTemplateInstanceArtifact(templateInstanceArtifact));
+    assertEquals(expectedYaml, streamedYaml.toString());
+  }
+
+  @Test
+  public void testStreamedRenderingOfNestedElementInstancesMatchesMapRendering() throws IOException {
+    TemplateInstanceArtifact templateInstanceArtifact = artifactReader.readTemplateInstanceArtifact(
+        getFileContentAsObjectNode("instances/RADx2.0CLIGeneratedInstance.json"));
+
+    for (boolean isCompact : new boolean[] { false, true }) {
+      YamlArtifactRenderer yamlArtifactRenderer = new YamlArtifactRenderer(isCompact);
+
+      StringWriter streamedYaml = new StringWriter();
+      try (JsonGenerator generator = mapper.createGenerator(streamedYaml)) {
+        yamlArtifactRenderer.renderTemplateInstanceArtifact(templateInstanceArtifact, generator);
+      }
+
+      String expectedYaml = mapper.writeValueAsString(
+          yamlArtifactRenderer.renderTemplateInstanceArtifact(templateInstanceArtifact));
+      assertEquals(expectedYaml, streamedYaml.toString());
+    }
+  }
+
   private ObjectNode getFileContentAsObjectNode(String jsonFileName) {
     try {
       return (ObjectNode) mapper.readTree(new File(
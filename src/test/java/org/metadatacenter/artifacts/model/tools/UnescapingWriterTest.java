@@ -0,0 +1,58 @@
+package org.metadatacenter.artifacts.model.tools;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.Assert.assertEquals;
+
+public class UnescapingWriterTest
+{
+  @Test
+  public void testEscapesAreReplaced() throws IOException
+  {
+    assertEquals("a\u0085b\u00a0c\u0080d\u009fe", unescape("a\\Nb\\_c\\x80d\\x9fe"));
+  }
+
+  @Test
+  public void testOtherEscapesAreKept() throws IOException
+  {
+    assertEquals("\\n \\t \\\" \\x7f \\xa0 \\x8g \\u0085", unescape("\\n \\t \\\" \\x7f \\xa0 \\x8g \\u0085"));
+  }
+
+  @Test
+  public void testEscapesSplitAcrossWritesAreReplaced() throws IOException
+  {
+    String escapedText = "a\\Nb\\_c\\x85d\\x9fe\\n";
+    String expectedText = "a\u0085b\u00a0c\u0085d\u009fe\\n";
+
+    for (int splitIndex = 0; splitIndex <= escapedText.length(); splitIndex++) {
+      StringWriter stringWriter = new StringWriter();
+
+      try (UnescapingWriter unescapingWriter = new UnescapingWriter(stringWriter)) {
+        unescapingWriter.write(escapedText, 0, splitIndex);
+        unescapingWriter.write(escapedText.toCharArray(), splitIndex, escapedText.length() - splitIndex);
+      }
+
+      assertEquals("Split at " + splitIndex, expectedText, stringWriter.toString());
+    }
+  }
+
+  @Test
+  public void testIncompleteEscapeIsWrittenOnClose() throws IOException
+  {
+    assertEquals("a\\x9", unescape("a\\x9"));
+    assertEquals("a\\", unescape("a\\"));
+  }
+
+  private String unescape(String escapedText) throws IOException
+  {
+    StringWriter stringWriter = new StringWriter();
+
+    try (UnescapingWriter unescapingWriter = new UnescapingWriter(stringWriter)) {
+      unescapingWriter.write(escapedText);
+    }
+    return stringWriter.toString();
+  }
+}
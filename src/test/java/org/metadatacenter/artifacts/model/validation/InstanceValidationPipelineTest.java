@@ -0,0 +1,201 @@
+package org.metadatacenter.artifacts.model.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.Before;
+import org.junit.Test;
+import org.metadatacenter.artifacts.model.core.TemplateInstanceArtifact;
+import org.metadatacenter.artifacts.model.core.TemplateSchemaArtifact;
+import org.metadatacenter.artifacts.model.reader.JsonArtifactReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class InstanceValidationPipelineTest
+{
+  private ObjectMapper mapper;
+  private JsonArtifactReader artifactReader;
+  private TemplateSchemaArtifact templateSchemaArtifact;
+  private ObjectNode instanceNode;
+
+  @Before
+  public void setup()
+  {
+    mapper = new ObjectMapper();
+    artifactReader = new JsonArtifactReader();
+    templateSchemaArtifact = artifactReader.readTemplateSchemaArtifact(
+      getFileContentAsObjectNode("templates/RADx2.0CLIGeneratedTemplate.json"));
+    instanceNode = getFileContentAsObjectNode("instances/RADx2.0CLIGeneratedInstance.json");
+  }
+
+  @Test
+  public void testValidateNdjson() throws IOException
+  {
+    ObjectNode unknownTemplateInstanceNode = instanceNode.deepCopy();
+    unknownTemplateInstanceNode.put("schema:isBasedOn", "https://repo.metadatacenter.org/templates/unknown");
+
+    String ndjson = mapper.writeValueAsString(instanceNode) + "\n\n"
+      + mapper.writeValueAsString(unknownTemplateInstanceNode) + "\n"
+      + "[]\n"
+      + mapper.writeValueAsString(instanceNode) + "\n";
+
+    InstanceValidationPipeline pipeline = new InstanceValidationPipeline(List.of(templateSchemaArtifact), 2);
+    StringWriter reportWriter = new StringWriter();
+
+    InstanceValidationSummary summary = pipeline.validateNdjson("batch", new StringReader(ndjson), reportWriter);
+
+    assertEquals(new InstanceValidationSummary(4, 0, 2, 2), summary);
+
+    Map<String, JsonNode> reportLines = readReport(reportWriter.toString());
+
+    assertEquals(4, reportLines.size());
+    assertEquals("invalid", reportLines.get("batch:1").get("status").asText());
+    assertEquals("failed", reportLines.get("batch:3").get("status").asText());
+    assertEquals("failed", reportLines.get("batch:4").get("status").asText());
+    assertEquals("invalid", reportLines.get("batch:5").get("status").asText());
+    assertTrue(reportLines.get("batch:5").get("violations").size() > 0);
+    assertEquals("TEMPORAL_FORMAT", reportLines.get("batch:5").get("violations").get(1).get("type").asText());
+  }
+
+  @Test
+  public void testInstanceFailingWithErrorIsReported() throws IOException
+  {
+    JsonArtifactReader failingArtifactReader = new JsonArtifactReader()
+    {
+      @Override public TemplateInstanceArtifact readTemplateInstanceArtifact(ObjectNode sourceNode)
+      {
+        throw new StackOverflowError();
+      }
+    };
+    String ndjson = mapper.writeValueAsString(instanceNode) + "\n";
+
+    InstanceValidationPipeline pipeline = new InstanceValidationPipeline(List.of(templateSchemaArtifact), 1, 1,
+      failingArtifactReader);
+    StringWriter reportWriter = new StringWriter();
+
+    InstanceValidationSummary summary = pipeline.validateNdjson("batch", new StringReader(ndjson), reportWriter);
+
+    assertEquals(new InstanceValidationSummary(1, 0, 0, 1), summary);
+    assertEquals("failed", readReport(reportWriter.toString()).get("batch:1").get("status").asText());
+  }
+
+  @Test
+  public void testValidateDirectory() throws IOException
+  {
+    Path instanceDirectory = Files.createTempDirectory("instances");
+    int numberOfInstances = 20;
+
+    try {
+      for (int i = 0; i < numberOfInstances; i++)
+        Files.writeString(instanceDirectory.resolve("instance" + i + ".json"), mapper.writeValueAsString(instanceNode));
+      Files.writeString(instanceDirectory.resolve("README.txt"), "Not an instance");
+
+      InstanceValidationPipeline pipeline = new InstanceValidationPipeline(List.of(templateSchemaArtifact), 4);
+      StringWriter reportWriter = new StringWriter();
+
+      InstanceValidationSummary summary = pipeline.validateDirectory(instanceDirectory, reportWriter);
+
+      assertEquals(new InstanceValidationSummary(numberOfInstances, 0, numberOfInstances, 0), summary);
+      assertEquals(numberOfInstances, readReport(reportWriter.toString()).size());
+    } finally {
+      try (var paths = Files.list(instanceDirectory)) {
+        for (Path path : paths.toList())
+          Files.delete(path);
+      }
+      Files.delete(instanceDirectory);
+    }
+  }
+
+  @Test
+  public void testNumberOfPendingInstancesIsBounded() throws IOException
+  {
+    int numberOfWorkers = 2;
+    int maximumPendingInstances = 3;
+    int numberOfInstances = 200;
+    String instanceLine = mapper.writeValueAsString(instanceNode) + "\n";
+    AtomicInteger linesRead = new AtomicInteger();
+    AtomicInteger linesReported = new AtomicInteger();
+    AtomicInteger maximumLinesAhead = new AtomicInteger();
+
+    Reader instanceReader = new Reader()
+    {
+      private final StringReader lines = new StringReader(instanceLine.repeat(numberOfInstances));
+
+      @Override public int read(char[] buffer, int offset, int length) throws IOException
+      {
+        int read = lines.read(buffer, offset, Math.min(length, 1));
+        if (read == 1 && buffer[offset] == '\n') {
+          int ahead = linesRead.incrementAndGet() - linesReported.get();
+          maximumLinesAhead.accumulateAndGet(ahead, Math::max);
+        }
+        return read;
+      }
+
+      @Override public void close()
+      {
+      }
+    };
+
+    StringWriter reportWriter = new StringWriter()
+    {
+      @Override public void write(int c)
+      {
+        super.write(c);
+        if (c == '\n')
+          linesReported.incrementAndGet();
+      }
+    };
+
+    InstanceValidationPipeline pipeline = new InstanceValidationPipeline(List.of(templateSchemaArtifact),
+      numberOfWorkers, maximumPendingInstances, artifactReader);
+
+    InstanceValidationSummary summary = pipeline.validateNdjson("batch", instanceReader, reportWriter);
+
+    assertEquals(numberOfInstances, summary.numberOfInstances());
+    assertEquals(numberOfInstances, linesReported.get());
+    // The line being read is one ahead of the pending instances, which are not yet reported
+    assertTrue("Read " + maximumLinesAhead.get() + " lines ahead of the report",
+      maximumLinesAhead.get() <= maximumPendingInstances + 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDuplicateTemplates()
+  {
+    new InstanceValidationPipeline(List.of(templateSchemaArtifact, templateSchemaArtifact), 1);
+  }
+
+  private Map<String, JsonNode> readReport(String report) throws IOException
+  {
+    Map<String, JsonNode> reportLines = new HashMap<>();
+
+    for (String line : report.split("\n")) {
+      JsonNode reportLine = mapper.readTree(line);
+      reportLines.put(reportLine.get("source").asText(), reportLine);
+    }
+    return reportLines;
+  }
+
+  private ObjectNode getFileContentAsObjectNode(String jsonFileName)
+  {
+    try (InputStream inputStream = InstanceValidationPipelineTest.class.getClassLoader()
+      .getResourceAsStream(jsonFileName)) {
+      return (ObjectNode)mapper.readTree(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      throw new RuntimeException("Error reading JSON file " + jsonFileName + ": " + e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,293 @@
+package org.metadatacenter.artifacts.model.validation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.Before;
+import org.junit.Test;
+import org.metadatacenter.artifacts.model.core.CheckboxField;
+import org.metadatacenter.artifacts.model.core.ControlledTermField;
+import org.metadatacenter.artifacts.model.core.ControlledTermFieldInstance;
+import org.metadatacenter.artifacts.model.core.ElementInstanceArtifact;
+import org.metadatacenter.artifacts.model.core.ElementSchemaArtifact;
+import org.metadatacenter.artifacts.model.core.FieldInstanceArtifact;
+import org.metadatacenter.artifacts.model.core.NumericField;
+import org.metadatacenter.artifacts.model.core.NumericFieldInstance;
+import org.metadatacenter.artifacts.model.core.TemplateInstanceArtifact;
+import org.metadatacenter.artifacts.model.core.TemplateSchemaArtifact;
+import org.metadatacenter.artifacts.model.core.TemporalField;
+import org.metadatacenter.artifacts.model.core.TemporalFieldInstance;
+import org.metadatacenter.artifacts.model.core.TextField;
+import org.metadatacenter.artifacts.model.core.TextFieldInstance;
+import org.metadatacenter.artifacts.model.core.fields.TemporalGranularity;
+import org.metadatacenter.artifacts.model.core.fields.XsdNumericDatatype;
+import org.metadatacenter.artifacts.model.core.fields.XsdTemporalDatatype;
+import org.metadatacenter.artifacts.model.core.fields.constraints.ValueType;
+import org.metadatacenter.artifacts.model.reader.JsonArtifactReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class InstanceValidatorTest
+{
+  private static final URI TEMPLATE_URI = URI.create("https://repo.metadatacenter.org/templates/3232");
+
+  private ObjectMapper mapper;
+  private JsonArtifactReader artifactReader;
+
+  @Before
+  public void setup()
+  {
+    mapper = new ObjectMapper();
+    artifactReader = new JsonArtifactReader();
+  }
+
+  @Test
+  public void testValidInstance()
+  {
+    TemplateSchemaArtifact templateSchemaArtifact = createTemplate();
+    TemplateInstanceArtifact templateInstanceArtifact = createInstanceBuilder()
+      .withSingleInstanceFieldInstance("Name", TextFieldInstance.builder().withValue("Study 1").build())
+      .withSingleInstanceFieldInstance("Age", NumericFieldInstance.builder().withValue(42).build())
+      .withSingleInstanceFieldInstance("Date", TemporalFieldInstance.builder().withValue("2023-01-17").build())
+      .build();
+
+    InstanceValidator instanceValidator = InstanceValidator.compile(templateSchemaArtifact);
+
+    assertEquals(List.of(), instanceValidator.validate(templateInstanceArtifact));
+    assertTrue(instanceValidator.isValid(templateInstanceArtifact));
+  }
+
+  @Test
+  public void testFieldValueViolations()
+  {
+    TemplateSchemaArtifact templateSchemaArtifact = createTemplate();
+    TemplateInstanceArtifact templateInstanceArtifact = createInstanceBuilder()
+      .withSingleInstanceFieldInstance("Name", TextFieldInstance.builder().withValue("A").build())
+      .withSingleInstanceFieldInstance("Age", NumericFieldInstance.builder().withValue(420).build())
+      .withSingleInstanceFieldInstance("Date", TemporalFieldInstance.builder().withValue("17/01/2023").build())
+      .build();
+
+    List<InstanceViolation> violations = InstanceValidator.compile(templateSchemaArtifact)
+      .validate(templateInstanceArtifact);
+
+    assertEquals(List.of(InstanceViolationType.MIN_LENGTH, InstanceViolationType.REGEX,
+      InstanceViolationType.MAX_VALUE, InstanceViolationType.TEMPORAL_FORMAT), types(violations));
+    assertEquals(List.of("/Name", "/Name", "/Age", "/Date"), paths(violations));
+  }
+
+  @Test
+  public void testRequiredValueAndNumericFormat()
+  {
+    TemplateSchemaArtifact templateSchemaArtifact = createTemplate();
+    TemplateInstanceArtifact templateInstanceArtifact = createInstanceBuilder()
+      .withSingleInstanceFieldInstance("Name", TextFieldInstance.builder().build())
+      .withSingleInstanceFieldInstance("Age", NumericFieldInstance.builder().withValue(4.5).build())
+      .withSingleInstanceFieldInstance("Date", TemporalFieldInstance.builder().build())
+      .build();
+
+    List<InstanceViolation> violations = InstanceValidator.compile(templateSchemaArtifact)
+      .validate(templateInstanceArtifact);
+
+    assertEquals(List.of(InstanceViolationType.REQUIRED_VALUE, InstanceViolationType.NUMERIC_FORMAT),
+      types(violations));
+  }
+
+  @Test
+  public void testMissingUnknownAndMismatchedTemplate()
+  {
+    TemplateSchemaArtifact templateSchemaArtifact = createTemplate();
+    TemplateInstanceArtifact templateInstanceArtifact = TemplateInstanceArtifact.builder()
+      .withIsBasedOn(URI.create("https://repo.metadatacenter.org/templates/4343"))
+      .withSingleInstanceFieldInstance("Name", TextFieldInstance.builder().withValue("Study 1").build())
+      .withSingleInstanceFieldInstance("Surname", TextFieldInstance.builder().withValue("Smith").build())
+      .build();
+
+    List<InstanceViolation> violations = InstanceValidator.compile(templateSchemaArtifact)
+      .validate(templateInstanceArtifact);
+
+    assertEquals(List.of(InstanceViolationType.TEMPLATE_MISMATCH, InstanceViolationType.MISSING_CHILD,
+      InstanceViolationType.MISSING_CHILD, InstanceViolationType.UNKNOWN_CHILD), types(violations));
+    assertEquals(List.of("/", "/Age", "/Date", "/Surname"), paths(violations));
+  }
+
+  @Test
+  public void testCardinalityAndItemCounts()
+  {
+    TextField keywordField = TextField.builder()
+      .withName("Keyword")
+      .withIsMultiple(true)
+      .withMinItems(2)
+      .withMaxItems(3)
+      .build();
+
+    CheckboxField checkboxField = CheckboxField.builder()
+      .withName("Colors")
+      .withOption("Red")
+      .withOption("Green")
+      .build();
+
+    TextField titleField = TextField.builder()
+      .withName("Title")
+      .build();
+
+    TemplateSchemaArtifact templateSchemaArtifact = TemplateSchemaArtifact.builder()
+      .withJsonLdId(TEMPLATE_URI)
+      .withName("Template")
+      .withFieldSchema(keywordField)
+      .withFieldSchema(checkboxField)
+      .withFieldSchema(titleField)
+      .build();
+
+    FieldInstanceArtifact keyword = TextFieldInstance.builder().withValue("Keyword").build();
+    TemplateInstanceArtifact templateInstanceArtifact = createInstanceBuilder()
+      .withMultiInstanceFieldInstances("Keyword", List.of(keyword, keyword, keyword, keyword))
+      .withMultiInstanceFieldInstances("Colors", List.of(TextFieldInstance.builder().withValue("Red").build(),
+        TextFieldInstance.builder().withValue("Blue").build()))
+      .withMultiInstanceFieldInstances("Title", List.of(TextFieldInstance.builder().withValue("Title").build()))
+      .build();
+
+    List<InstanceViolation> violations = InstanceValidator.compile(templateSchemaArtifact)
+      .validate(templateInstanceArtifact);
+
+    assertEquals(List.of(InstanceViolationType.MAX_ITEMS, InstanceViolationType.LITERAL,
+      InstanceViolationType.CARDINALITY), types(violations));
+    assertEquals(List.of("/Keyword", "/Colors[1]", "/Title"), paths(violations));
+  }
+
+  @Test
+  public void testNestedElementsAndControlledTerms()
+  {
+    URI permittedClass = URI.create("http://purl.obolibrary.org/obo/NCBITaxon_9606");
+
+    ControlledTermField speciesField = ControlledTermField.builder()
+      .withName("Species")
+      .withClassValueConstraint(permittedClass, "NCBITAXON", "Homo sapiens", "Homo sapiens", ValueType.ONTOLOGY_CLASS)
+      .build();
+
+    ElementSchemaArtifact elementSchemaArtifact = ElementSchemaArtifact.builder()
+      .withName("Subject")
+      .withIsMultiple(true)
+      .withFieldSchema(speciesField)
+      .build();
+
+    TemplateSchemaArtifact templateSchemaArtifact = TemplateSchemaArtifact.builder()
+      .withJsonLdId(TEMPLATE_URI)
+      .withName("Template")
+      .withElementSchema(elementSchemaArtifact)
+      .build();
+
+    ElementInstanceArtifact subject1 = ElementInstanceArtifact.builder()
+      .withSingleInstanceFieldInstance("Species", ControlledTermFieldInstance.builder().withValue(permittedClass).build())
+      .build();
+    ElementInstanceArtifact subject2 = ElementInstanceArtifact.builder()
+      .withSingleInstanceFieldInstance("Species",
+        ControlledTermFieldInstance.builder().withValue(URI.create("http://purl.obolibrary.org/obo/NCBITaxon_10090"))
+          .build())
+      .build();
+
+    TemplateInstanceArtifact templateInstanceArtifact = createInstanceBuilder()
+      .withMultiInstanceElementInstances("Subject", List.of(subject1, subject2))
+      .build();
+
+    List<InstanceViolation> violations = InstanceValidator.compile(templateSchemaArtifact)
+      .validate(templateInstanceArtifact);
+
+    assertEquals(List.of(InstanceViolationType.CONTROLLED_TERM), types(violations));
+    assertEquals(List.of("/Subject[1]/Species"), paths(violations));
+  }
+
+  @Test
+  public void testCompiledValidatorIsReusable()
+  {
+    InstanceValidator instanceValidator = InstanceValidator.compile(createTemplate());
+
+    for (int i = 0; i < 100; i++) {
+      TemplateInstanceArtifact templateInstanceArtifact = createInstanceBuilder()
+        .withSingleInstanceFieldInstance("Name", TextFieldInstance.builder().withValue("Study " + i).build())
+        .withSingleInstanceFieldInstance("Age", NumericFieldInstance.builder().withValue(i).build())
+        .withSingleInstanceFieldInstance("Date", TemporalFieldInstance.builder().withValue("2023-01-17").build())
+        .build();
+
+      assertTrue(instanceValidator.isValid(templateInstanceArtifact));
+    }
+  }
+
+  @Test
+  public void testValidateRADxInstance()
+  {
+    TemplateSchemaArtifact templateSchemaArtifact = artifactReader.readTemplateSchemaArtifact(
+      getFileContentAsObjectNode("templates/RADx2.0CLIGeneratedTemplate.json"));
+    TemplateInstanceArtifact templateInstanceArtifact = artifactReader.readTemplateInstanceArtifact(
+      getFileContentAsObjectNode("instances/RADx2.0CLIGeneratedInstance.json"));
+
+    List<InstanceViolation> violations = InstanceValidator.compile(templateSchemaArtifact)
+      .validate(templateInstanceArtifact);
+
+    assertTrue(violations.contains(new InstanceViolation(InstanceViolationType.TEMPORAL_FORMAT,
+      "/Data File Parent Studies[0]/Study Start Date", "value '10/5/21' is not a valid xsd:date")));
+    assertTrue(violations.stream().noneMatch(violation -> violation.type() == InstanceViolationType.MISSING_CHILD
+      || violation.type() == InstanceViolationType.UNKNOWN_CHILD
+      || violation.type() == InstanceViolationType.TEMPLATE_MISMATCH));
+  }
+
+  private TemplateSchemaArtifact createTemplate()
+  {
+    TextField nameField = TextField.builder()
+      .withName("Name")
+      .withRequiredValue(true)
+      .withMinLength(2)
+      .withMaxLength(20)
+      .withRegex("[A-Z][a-z]+ [0-9]+")
+      .build();
+
+    NumericField ageField = NumericField.builder()
+      .withName("Age")
+      .withNumericType(XsdNumericDatatype.INTEGER)
+      .withMinValue(0)
+      .withMaxValue(150)
+      .build();
+
+    TemporalField dateField = TemporalField.builder()
+      .withName("Date")
+      .withTemporalType(XsdTemporalDatatype.DATE)
+      .withTemporalGranularity(TemporalGranularity.DAY)
+      .build();
+
+    return TemplateSchemaArtifact.builder()
+      .withJsonLdId(TEMPLATE_URI)
+      .withName("Template")
+      .withFieldSchema(nameField)
+      .withFieldSchema(ageField)
+      .withFieldSchema(dateField)
+      .build();
+  }
+
+  private TemplateInstanceArtifact.Builder createInstanceBuilder()
+  {
+    return TemplateInstanceArtifact.builder().withIsBasedOn(TEMPLATE_URI);
+  }
+
+  private List<InstanceViolationType> types(List<InstanceViolation> violations)
+  {
+    return violations.stream().map(InstanceViolation::type).toList();
+  }
+
+  private List<String> paths(List<InstanceViolation> violations)
+  {
+    return violations.stream().map(InstanceViolation::path).toList();
+  }
+
+  private ObjectNode getFileContentAsObjectNode(String jsonFileName)
+  {
+    try (InputStream inputStream = InstanceValidatorTest.class.getClassLoader().getResourceAsStream(jsonFileName)) {
+      return (ObjectNode)mapper.readTree(inputStream);
+    } catch (IOException e) {
+      throw new RuntimeException("Error reading JSON file " + jsonFileName + ": " + e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package org.metadatacenter.artifacts.model.visitors;
+
+import org.junit.Test;
+import org.metadatacenter.artifacts.model.core.ControlledTermField;
+import org.metadatacenter.artifacts.model.core.ElementSchemaArtifact;
+import org.metadatacenter.artifacts.model.core.TemplateSchemaArtifact;
+import org.metadatacenter.artifacts.model.core.TextField;
+import org.metadatacenter.artifacts.model.core.fields.constraints.ControlledTermValueConstraints;
+import org.metadatacenter.artifacts.model.core.fields.constraints.OntologyValueConstraint;
+import org.metadatacenter.artifacts.model.core.fields.constraints.ValueSetValueConstraint;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+
+public class ControlledTermValueConstraintsCollectorTest
+{
+  @Test
+  public void testFieldAndPerSourceValueConstraintsAreCollected()
+  {
+    OntologyValueConstraint ontologyValueConstraint = new OntologyValueConstraint(
+      URI.create("https://data.bioontology.org/ontologies/UBERON"), "UBERON", "Uber Anatomy Ontology", Optional.empty());
+    ValueSetValueConstraint valueSetValueConstraint = new ValueSetValueConstraint(
+      URI.create("https://cadsr.nci.nih.gov/metadata/CADSR-VS/77d61de250089d223d7153a4283e738043a15707"), "CADSR-VS",
+      "Stable Disease", Optional.empty());
+
+    ControlledTermField anatomyField = ControlledTermField.builder()
+      .withName("Anatomy")
+      .withOntologyValueConstraint(ontologyValueConstraint.uri(), ontologyValueConstraint.acronym(),
+        ontologyValueConstraint.name())
+      .withValueSetValueConstraint(valueSetValueConstraint.uri(), valueSetValueConstraint.vsCollection(),
+        valueSetValueConstraint.name())
+      .build();
+    ControlledTermField sameAnatomyField = ControlledTermField.builder()
+      .withName("Other Anatomy")
+      .withOntologyValueConstraint(ontologyValueConstraint.uri(), ontologyValueConstraint.acronym(),
+        ontologyValueConstraint.name())
+      .withValueSetValueConstraint(valueSetValueConstraint.uri(), valueSetValueConstraint.vsCollection(),
+        valueSetValueConstraint.name())
+      .build();
+
+    TemplateSchemaArtifact templateSchemaArtifact = TemplateSchemaArtifact.builder()
+      .withName("Template")
+      .withFieldSchema(anatomyField)
+      .withFieldSchema(TextField.builder().withName("Notes").build())
+      .withElementSchema(ElementSchemaArtifact.builder().withName("Element").withFieldSchema(sameAnatomyField).build())
+      .build();
+
+    ControlledTermValueConstraintsCollector collector = new ControlledTermValueConstraintsCollector();
+    templateSchemaArtifact.accept(collector);
+
+    assertEquals(List.of(
+        (ControlledTermValueConstraints)anatomyField.valueConstraints().get(),
+        ControlledTermValueConstraints.builder().withOntologyValueConstraint(ontologyValueConstraint).build(),
+        ControlledTermValueConstraints.builder().withValueSetValueConstraint(valueSetValueConstraint).build()),
+      collector.getControlledTermValueConstraints());
+  }
+}
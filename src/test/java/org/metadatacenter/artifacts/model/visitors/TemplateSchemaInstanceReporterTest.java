@@ -1,6 +1,7 @@
 package org.metadatacenter.artifacts.model.visitors;
 
 import org.junit.Test;
+import org.metadatacenter.artifacts.model.core.ArtifactPath;
 import org.metadatacenter.artifacts.model.core.ElementSchemaArtifact;
 import org.metadatacenter.artifacts.model.core.NumericField;
 import org.metadatacenter.artifacts.model.core.TemplateSchemaArtifact;
@@ -106,4 +107,78 @@ public class TemplateSchemaInstanceReporterTest
     assertTrue(reporter.getValueConstraints("/" + elementName + "[3]/" + numericFieldName + "[7]").isPresent());
   }
 
-}
\ No newline at end of file
+  @Test
+  public void indexedPathReporterTest()
+  {
+    String textFieldName = "text field";
+    String innerElementName = "inner element";
+    String outerElementName = "outer element";
+
+    TextField textField = TextField.builder()
+      .withName(textFieldName)
+      .build();
+
+    ElementSchemaArtifact innerElementSchemaArtifact = ElementSchemaArtifact.builder().
+      withName(innerElementName).
+      withFieldSchema(textField).
+      build();
+
+    ElementSchemaArtifact outerElementSchemaArtifact = ElementSchemaArtifact.builder().
+      withName(outerElementName).
+      withElementSchema(innerElementSchemaArtifact).
+      build();
+
+    TemplateSchemaArtifact templateSchemaArtifact = TemplateSchemaArtifact.builder().
+      withName("my template").
+      withElementSchema(outerElementSchemaArtifact).
+      build();
+
+    TemplateReporter reporter = new TemplateReporter(templateSchemaArtifact);
+
+    assertEquals(outerElementSchemaArtifact, reporter.getElementSchema("/" + outerElementName + "[12]").get());
+    assertEquals(innerElementSchemaArtifact,
+      reporter.getElementSchema("/" + outerElementName + "[0]/" + innerElementName + "[1]").get());
+    assertEquals(textField,
+      reporter.getFieldSchema("/" + outerElementName + "[0]/" + innerElementName + "[1]/" + textFieldName + "[2]")
+        .get());
+    assertEquals(textField, reporter.getFieldSchema(
+      ArtifactPath.root().child(outerElementName).index(3).child(innerElementName).child(textFieldName)).get());
+    assertEquals(innerElementSchemaArtifact,
+      reporter.getElementSchema(ArtifactPath.root().child(outerElementName).child(innerElementName).index(0)).get());
+    assertEquals(textField, reporter.getFieldSchema(
+      ArtifactPath.of("/" + outerElementName + "[1]").child(innerElementName).child(textFieldName)).get());
+    assertTrue(reporter.getFieldSchema(ArtifactPath.root().child(outerElementName).child(innerElementName)).isEmpty());
+    assertTrue(reporter.getFieldSchema(
+      ArtifactPath.root().child(outerElementName).child(innerElementName).child("text")).isEmpty());
+    assertTrue(reporter.getFieldSchema(
+      ArtifactPath.root().child("outer").child(innerElementName).child(textFieldName)).isEmpty());
+    assertTrue(reporter.getElementSchema(ArtifactPath.root()).isEmpty());
+
+    assertTrue(reporter.getFieldSchema("/" + outerElementName).isEmpty());
+    assertTrue(reporter.getElementSchema("/" + outerElementName + "/" + innerElementName + "/" + textFieldName)
+      .isEmpty());
+    assertTrue(reporter.getFieldSchema("/" + outerElementName + "/" + innerElementName + "/text").isEmpty());
+    assertTrue(reporter.getFieldSchema("/" + outerElementName + "/" + innerElementName + "/" + textFieldName + "/x")
+      .isEmpty());
+    assertTrue(reporter.getFieldSchema("/" + outerElementName + "[]/" + innerElementName + "/" + textFieldName)
+      .isEmpty());
+    assertTrue(reporter.getFieldSchema("/").isEmpty());
+  }
+
+  @Test
+  public void manyChildrenReporterTest()
+  {
+    TemplateSchemaArtifact.Builder templateSchemaArtifactBuilder = TemplateSchemaArtifact.builder().
+      withName("my template");
+
+    for (int fieldNumber = 0; fieldNumber < 1000; fieldNumber++)
+      templateSchemaArtifactBuilder.withFieldSchema(TextField.builder().withName("field " + fieldNumber).build());
+
+    TemplateReporter reporter = new TemplateReporter(templateSchemaArtifactBuilder.build());
+
+    for (int fieldNumber = 0; fieldNumber < 1000; fieldNumber++)
+      assertEquals("field " + fieldNumber, reporter.getFieldSchema("/field " + fieldNumber + "[0]").get().name());
+
+    assertTrue(reporter.getFieldSchema("/field 1000").isEmpty());
+  }
+}
@@ -0,0 +1,154 @@
+package org.metadatacenter.artifacts.util;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class InMemoryTerminologyValueCacheTest
+{
+  private static final Map<String, String> VALUES = Map.of("Heart", "http://purl.obolibrary.org/obo/UBERON_0000948");
+
+  private MutableClock clock;
+
+  @Before
+  public void setup()
+  {
+    clock = new MutableClock();
+  }
+
+  @Test
+  public void testHitsAndMissesAreCounted()
+  {
+    InMemoryTerminologyValueCache cache = new InMemoryTerminologyValueCache(10, Duration.ofHours(1), clock);
+
+    assertFalse(cache.get("a").isPresent());
+    cache.put("a", VALUES);
+    assertEquals(Optional.of(VALUES), cache.get("a"));
+    assertEquals(Optional.of(VALUES), cache.get("a"));
+
+    assertEquals(new TerminologyValueCacheStatistics(2, 1, 0, 1), cache.getStatistics());
+  }
+
+  @Test
+  public void testLeastRecentlyUsedEntryIsEvicted()
+  {
+    InMemoryTerminologyValueCache cache = new InMemoryTerminologyValueCache(2, Duration.ofHours(1), clock);
+
+    cache.put("a", VALUES);
+    cache.put("b", VALUES);
+    cache.get("a");
+    cache.put("c", VALUES);
+
+    assertTrue(cache.get("a").isPresent());
+    assertFalse(cache.get("b").isPresent());
+    assertTrue(cache.get("c").isPresent());
+    assertEquals(1, cache.getStatistics().evictionCount());
+  }
+
+  @Test
+  public void testExpiredEntryIsNotReturned()
+  {
+    InMemoryTerminologyValueCache cache = new InMemoryTerminologyValueCache(10, Duration.ofHours(1), clock);
+
+    cache.put("a", VALUES);
+    clock.advance(Duration.ofHours(1));
+
+    assertFalse(cache.get("a").isPresent());
+    assertEquals(new TerminologyValueCacheStatistics(0, 1, 1, 0), cache.getStatistics());
+  }
+
+  @Test
+  public void testSavedCacheLoadsUnexpiredEntries() throws IOException
+  {
+    Path cacheFile = Files.createTempFile("terminology-cache", ".json");
+
+    try {
+      InMemoryTerminologyValueCache cache = new InMemoryTerminologyValueCache(10, Duration.ofHours(1), clock);
+      cache.put("a", VALUES);
+      clock.advance(Duration.ofMinutes(40));
+      cache.put("b", Map.of());
+      cache.save(cacheFile);
+
+      clock.advance(Duration.ofMinutes(30));
+      InMemoryTerminologyValueCache loadedCache = new InMemoryTerminologyValueCache(10, Duration.ofHours(1), clock);
+      loadedCache.load(cacheFile);
+
+      assertFalse(loadedCache.get("a").isPresent());
+      assertEquals(Optional.of(Map.of()), loadedCache.get("b"));
+    } finally {
+      Files.deleteIfExists(cacheFile);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testCacheFileOfOtherFormatVersionIsRejected() throws IOException
+  {
+    Path cacheFile = Files.createTempFile("terminology-cache", ".json");
+
+    try {
+      Files.writeString(cacheFile, "{\"version\": " + (InMemoryTerminologyValueCache.FORMAT_VERSION + 1)
+        + ", \"entries\": []}");
+      new InMemoryTerminologyValueCache(10, Duration.ofHours(1), clock).load(cacheFile);
+    } finally {
+      Files.deleteIfExists(cacheFile);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnversionedCacheFileIsRejected() throws IOException
+  {
+    Path cacheFile = Files.createTempFile("terminology-cache", ".json");
+
+    try {
+      Files.writeString(cacheFile, "[{\"key\": \"a\", \"retrievedAt\": 0, \"values\": {}}]");
+      new InMemoryTerminologyValueCache(10, Duration.ofHours(1), clock).load(cacheFile);
+    } finally {
+      Files.deleteIfExists(cacheFile);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNonPositiveMaximumSizeIsRejected()
+  {
+    new InMemoryTerminologyValueCache(0, Duration.ofHours(1));
+  }
+
+  private static class MutableClock extends Clock
+  {
+    private Instant instant = Instant.parse("2024-01-01T00:00:00Z");
+
+    void advance(Duration duration)
+    {
+      instant = instant.plus(duration);
+    }
+
+    @Override public ZoneId getZone()
+    {
+      return ZoneOffset.UTC;
+    }
+
+    @Override public Clock withZone(ZoneId zone)
+    {
+      return this;
+    }
+
+    @Override public Instant instant()
+    {
+      return instant;
+    }
+  }
+}
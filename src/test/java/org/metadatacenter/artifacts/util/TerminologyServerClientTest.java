@@ -0,0 +1,359 @@
+package org.metadatacenter.artifacts.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.metadatacenter.artifacts.model.core.fields.constraints.BranchValueConstraint;
+import org.metadatacenter.artifacts.model.core.fields.constraints.ControlledTermValueConstraints;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class TerminologyServerClientTest
+{
+  private static final int NUMBER_OF_VALUES = 2500;
+  private static final TerminologyServerRequestPolicy FAST_RETRY_POLICY = new TerminologyServerRequestPolicy(1000.0,
+    100, 2, Duration.ofMillis(1), Duration.ofMillis(5));
+
+  private final ObjectMapper mapper = new ObjectMapper();
+  private final AtomicInteger numberOfRequests = new AtomicInteger();
+  private final Queue<Integer> failureResponseCodes = new ConcurrentLinkedQueue<>();
+  private final CountDownLatch responsesReleased = new CountDownLatch(1);
+
+  private volatile boolean holdResponses = false;
+  private volatile int numberOfValues = NUMBER_OF_VALUES;
+
+  private HttpServer server;
+  private ExecutorService serverExecutor;
+  private String endpointBase;
+  private ControlledTermValueConstraints controlledTermValueConstraints;
+
+  @Before
+  public void setup() throws IOException
+  {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/bioportal/integrated-search", this::respondWithPage);
+    server.createContext("/bioportal/integrated-retrieve", this::respondWithPage);
+    server.createContext("/mirror/integrated-search", this::respondWithPage);
+    serverExecutor = Executors.newCachedThreadPool();
+    server.setExecutor(serverExecutor);
+    server.start();
+
+    endpointBase = "http://127.0.0.1:" + server.getAddress().getPort() + "/bioportal/";
+    controlledTermValueConstraints = ControlledTermValueConstraints.builder()
+      .withBranchValueConstraint(new BranchValueConstraint(URI.create("http://purl.obolibrary.org/obo/UBERON_0001062"),
+        "Uber Anatomy Ontology (UBERON)", "UBERON", "anatomical entity", 10))
+      .build();
+  }
+
+  @After
+  public void tearDown()
+  {
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  @Test
+  public void testStreamedValuesCoverAllPagesInOrder()
+  {
+    TerminologyServerClient terminologyServerClient = new TerminologyServerClient(
+      endpointBase + "integrated-search", "key");
+    List<String> preferredLabels = new ArrayList<>();
+
+    terminologyServerClient.streamValuesFromTerminologyServer(controlledTermValueConstraints, 1000, 2,
+      (preferredLabel, uri) -> {
+        assertEquals("http://example.org/" + preferredLabel, uri);
+        preferredLabels.add(preferredLabel);
+      });
+
+    assertEquals(NUMBER_OF_VALUES, preferredLabels.size());
+    for (int valueIndex = 0; valueIndex < NUMBER_OF_VALUES; valueIndex++)
+      assertEquals("Value " + valueIndex, preferredLabels.get(valueIndex));
+    assertEquals(3, numberOfRequests.get());
+  }
+
+  @Test
+  public void testRepeatedLookupIsServedFromCache()
+  {
+    TerminologyServerClient terminologyServerClient = new TerminologyServerClient(
+      endpointBase + "integrated-search", "key");
+
+    Map<String, String> values = terminologyServerClient.getValuesFromTerminologyServer(
+      controlledTermValueConstraints);
+
+    assertEquals(values, terminologyServerClient.getValuesFromTerminologyServer(controlledTermValueConstraints));
+    assertEquals(1, numberOfRequests.get());
+    assertEquals(new TerminologyValueCacheStatistics(1, 1, 0, 1), terminologyServerClient.getCacheStatistics());
+  }
+
+  @Test
+  public void testLookupsOnDifferentServersAreCachedSeparately()
+  {
+    InMemoryTerminologyValueCache terminologyValueCache = new InMemoryTerminologyValueCache();
+    TerminologyServerClient terminologyServerClient = new TerminologyServerClient(
+      endpointBase + "integrated-search", "key", terminologyValueCache);
+    TerminologyServerClient mirrorTerminologyServerClient = new TerminologyServerClient(
+      endpointBase.replace("/bioportal/", "/mirror/") + "integrated-search", "key", terminologyValueCache);
+
+    terminologyServerClient.getValuesFromTerminologyServer(controlledTermValueConstraints);
+    mirrorTerminologyServerClient.getValuesFromTerminologyServer(controlledTermValueConstraints);
+
+    assertEquals(2, numberOfRequests.get());
+    assertEquals(2, terminologyValueCache.getStatistics().size());
+  }
+
+  @Test
+  public void testLookupIsServedFromSnapshotOfSameServer() throws IOException
+  {
+    String endpoint = endpointBase + "integrated-search";
+    Map<String, String> snapshotValues = Map.of("Heart", "http://purl.obolibrary.org/obo/UBERON_0000948");
+    Path snapshotFile = Files.createTempFile("terminology-snapshot", ".bin");
+
+    try {
+      TerminologySnapshot.write(endpoint, Map.of(TerminologyServerClient.controlledTermValueConstraints2CacheKey(
+        endpoint, controlledTermValueConstraints), snapshotValues), snapshotFile);
+      TerminologySnapshot terminologySnapshot = TerminologySnapshot.open(snapshotFile);
+      TerminologyServerClient terminologyServerClient = new TerminologyServerClient(endpoint, "key",
+        terminologySnapshot);
+
+      assertEquals(snapshotValues, terminologyServerClient.getValuesFromTerminologyServer(
+        controlledTermValueConstraints));
+      assertEquals(snapshotValues, new OfflineTerminologyServerClient(terminologySnapshot)
+        .getValuesFromTerminologyServer(controlledTermValueConstraints));
+      assertEquals(0, numberOfRequests.get());
+    } finally {
+      Files.deleteIfExists(snapshotFile);
+    }
+  }
+
+  @Test
+  public void testLookupBeyondOneSearchPageRetrievesAllValues()
+  {
+    TerminologyServerClient terminologyServerClient = new TerminologyServerClient(
+      endpointBase + "integrated-search", "key");
+    numberOfValues = 2 * TerminologyServerClient.SEARCH_PAGE_SIZE + 500;
+
+    Map<String, String> values = terminologyServerClient.getValuesFromTerminologyServer(
+      controlledTermValueConstraints);
+
+    assertEquals(numberOfValues, values.size());
+    assertEquals("http://example.org/Value " + (numberOfValues - 1), values.get("Value " + (numberOfValues - 1)));
+    // One search request, then every page of the retrieve endpoint
+    assertEquals(1 + (numberOfValues + TerminologyServerClient.DEFAULT_RETRIEVE_PAGE_SIZE - 1)
+      / TerminologyServerClient.DEFAULT_RETRIEVE_PAGE_SIZE, numberOfRequests.get());
+  }
+
+  @Test
+  public void testLookupBeyondOneSearchPageWithoutRetrieveEndpointPagesSearch()
+  {
+    TerminologyServerClient terminologyServerClient = new TerminologyServerClient(endpointBase + "integrated-search",
+      Optional.empty(), "key", new InMemoryTerminologyValueCache());
+    numberOfValues = 2 * TerminologyServerClient.SEARCH_PAGE_SIZE + 500;
+
+    Map<String, String> values = terminologyServerClient.getValuesFromTerminologyServer(
+      controlledTermValueConstraints);
+
+    assertEquals(numberOfValues, values.size());
+    assertEquals(3, numberOfRequests.get());
+  }
+
+  @Test
+  public void testThrottledRequestIsRetried()
+  {
+    TerminologyServerClient terminologyServerClient = new TerminologyServerClient(endpointBase + "integrated-search",
+      Optional.empty(), "key", new InMemoryTerminologyValueCache(), FAST_RETRY_POLICY);
+    failureResponseCodes.add(429);
+    failureResponseCodes.add(503);
+
+    Map<String, String> values = terminologyServerClient.getValuesFromTerminologyServer(
+      controlledTermValueConstraints);
+
+    assertEquals(NUMBER_OF_VALUES, values.size());
+    assertEquals(new TerminologyServerRequestStatistics(3, 0, 2, 0), terminologyServerClient.getRequestStatistics());
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void testRequestFailsWhenRetriesAreExhausted()
+  {
+    TerminologyServerClient terminologyServerClient = new TerminologyServerClient(endpointBase + "integrated-search",
+      Optional.empty(), "key", new InMemoryTerminologyValueCache(), FAST_RETRY_POLICY);
+    for (int failureIndex = 0; failureIndex <= FAST_RETRY_POLICY.maximumRetries(); failureIndex++)
+      failureResponseCodes.add(500);
+
+    terminologyServerClient.getValuesFromTerminologyServer(controlledTermValueConstraints);
+  }
+
+  @Test(timeout = 10000)
+  public void testConcurrentIdenticalLookupsShareOneRequest() throws Exception
+  {
+    TerminologyServerClient terminologyServerClient = new TerminologyServerClient(
+      endpointBase + "integrated-search", "key");
+    holdResponses = true;
+
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      List<Future<Map<String, String>>> lookups = new ArrayList<>();
+      for (int lookupIndex = 0; lookupIndex < 3; lookupIndex++)
+        lookups.add(executor.submit(
+          () -> terminologyServerClient.getValuesFromTerminologyServer(controlledTermValueConstraints)));
+
+      while (terminologyServerClient.getRequestStatistics().coalescedRequestCount() < 2)
+        Thread.sleep(5);
+      responsesReleased.countDown();
+
+      for (Future<Map<String, String>> lookup : lookups)
+        assertEquals(NUMBER_OF_VALUES, lookup.get().size());
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(1, numberOfRequests.get());
+    assertEquals(new TerminologyServerRequestStatistics(1, 0, 0, 2), terminologyServerClient.getRequestStatistics());
+  }
+
+  @Test(timeout = 10000)
+  public void testDistinctLookupsAreSentConcurrently() throws Exception
+  {
+    TerminologyServerClient terminologyServerClient = new TerminologyServerClient(
+      endpointBase + "integrated-search", "key");
+    List<ControlledTermValueConstraints> valueConstraints = new ArrayList<>();
+    for (int branchIndex = 0; branchIndex < 3; branchIndex++)
+      valueConstraints.add(ControlledTermValueConstraints.builder()
+        .withBranchValueConstraint(new BranchValueConstraint(
+          URI.create("http://purl.obolibrary.org/obo/UBERON_000106" + branchIndex), "Uber Anatomy Ontology (UBERON)",
+          "UBERON", "branch " + branchIndex, 10))
+        .build());
+    valueConstraints.add(valueConstraints.get(0));
+    holdResponses = true;
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<Map<ControlledTermValueConstraints, Map<String, String>>> lookup = executor.submit(
+        () -> terminologyServerClient.getValuesFromTerminologyServer(valueConstraints, 3));
+
+      // All three requests reach the server while every response is held back
+      while (numberOfRequests.get() < 3)
+        Thread.sleep(5);
+      responsesReleased.countDown();
+
+      Map<ControlledTermValueConstraints, Map<String, String>> valuesByValueConstraints = lookup.get();
+      assertEquals(valueConstraints.subList(0, 3), new ArrayList<>(valuesByValueConstraints.keySet()));
+      for (Map<String, String> values : valuesByValueConstraints.values())
+        assertEquals(NUMBER_OF_VALUES, values.size());
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(3, numberOfRequests.get());
+  }
+
+  @Test(timeout = 10000)
+  public void testFirstLookupToFailIsRethrownAndOthersAreCancelled() throws InterruptedException
+  {
+    ControlledTermValueConstraints slowValueConstraints = controlledTermValueConstraints;
+    CountDownLatch slowLookupInterrupted = new CountDownLatch(1);
+    TerminologyServerClient terminologyServerClient = new TerminologyServerClient(null,
+      new InMemoryTerminologyValueCache())
+    {
+      @Override protected Map<String, String> searchValuesFromTerminologyServer(
+        ControlledTermValueConstraints valueConstraints)
+      {
+        if (!valueConstraints.equals(slowValueConstraints))
+          throw new RuntimeException("fast lookup failed");
+
+        try {
+          new CountDownLatch(1).await();
+        } catch (InterruptedException e) {
+          slowLookupInterrupted.countDown();
+        }
+        throw new RuntimeException("slow lookup failed");
+      }
+    };
+    ControlledTermValueConstraints fastValueConstraints = ControlledTermValueConstraints.builder()
+      .withBranchValueConstraint(new BranchValueConstraint(URI.create("http://purl.obolibrary.org/obo/UBERON_0000061"),
+        "Uber Anatomy Ontology (UBERON)", "UBERON", "anatomical structure", 10))
+      .build();
+
+    try {
+      terminologyServerClient.getValuesFromTerminologyServer(List.of(slowValueConstraints, fastValueConstraints), 2);
+      fail("Expected the failure of the second lookup");
+    } catch (RuntimeException e) {
+      assertEquals("fast lookup failed", e.getMessage());
+    }
+
+    slowLookupInterrupted.await();
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void testStreamingWithoutRetrieveEndpointFails()
+  {
+    TerminologyServerClient terminologyServerClient = new TerminologyServerClient(endpointBase + "search",
+      Optional.empty(), "key", new InMemoryTerminologyValueCache());
+
+    terminologyServerClient.streamValuesFromTerminologyServer(controlledTermValueConstraints, (label, uri) -> {});
+  }
+
+  private void respondWithPage(HttpExchange exchange) throws IOException
+  {
+    numberOfRequests.incrementAndGet();
+
+    Integer failureResponseCode = failureResponseCodes.poll();
+    if (failureResponseCode != null) {
+      exchange.getRequestBody().readAllBytes(); // An unread request body makes the server drop the connection
+      exchange.sendResponseHeaders(failureResponseCode, -1);
+      exchange.close();
+      return;
+    }
+
+    if (holdResponses) {
+      try {
+        responsesReleased.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    JsonNode request = mapper.readTree(exchange.getRequestBody());
+    int page = request.get("page").asInt();
+    int pageSize = request.get("pageSize").asInt();
+
+    ObjectNode response = mapper.createObjectNode();
+    ArrayNode collection = response.putArray("collection");
+    for (int valueIndex = (page - 1) * pageSize; valueIndex < Math.min(page * pageSize, numberOfValues); valueIndex++)
+      collection.addObject().put("@id", "http://example.org/Value " + valueIndex).put("prefLabel", "Value " + valueIndex);
+    response.put("page", page);
+    response.put("pageCount", (numberOfValues + pageSize - 1) / pageSize);
+    response.put("totalCount", numberOfValues);
+
+    byte[] body = mapper.writeValueAsBytes(response);
+    exchange.sendResponseHeaders(200, body.length);
+    try (OutputStream outputStream = exchange.getResponseBody()) {
+      outputStream.write(body);
+    }
+  }
+}
@@ -0,0 +1,149 @@
+package org.metadatacenter.artifacts.util;
+
+import org.junit.Test;
+import org.metadatacenter.artifacts.model.core.fields.constraints.ControlledTermValueConstraints;
+import org.metadatacenter.artifacts.model.core.fields.constraints.OntologyValueConstraint;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class TerminologySnapshotTest
+{
+  private static final Map<String, String> ANATOMY_VALUES = Map.of(
+    "Heart", "http://purl.obolibrary.org/obo/UBERON_0000948",
+    "Liver", "http://purl.obolibrary.org/obo/UBERON_0002107");
+
+  @Test
+  public void testWrittenSnapshotReturnsStoredValues() throws IOException
+  {
+    Map<String, String> valuesWithNullLabel = new HashMap<>();
+    valuesWithNullLabel.put(null, "http://purl.obolibrary.org/obo/UBERON_0000000");
+
+    Map<String, Map<String, String>> valuesByKey = new HashMap<>();
+    for (int i = 0; i < 100; i++)
+      valuesByKey.put("key" + i, ANATOMY_VALUES);
+    valuesByKey.put("nullLabel", valuesWithNullLabel);
+    valuesByKey.put("empty", Map.of());
+
+    Path snapshotFile = Files.createTempFile("terminology-snapshot", ".bin");
+
+    try {
+      TerminologySnapshot.write(valuesByKey, snapshotFile);
+      TerminologySnapshot snapshot = TerminologySnapshot.open(snapshotFile);
+
+      assertEquals(102, snapshot.size());
+      for (int i = 0; i < 100; i++)
+        assertEquals(Optional.of(ANATOMY_VALUES), snapshot.get("key" + i));
+      assertEquals(Optional.of(valuesWithNullLabel), snapshot.get("nullLabel"));
+      assertEquals(Optional.of(Map.of()), snapshot.get("empty"));
+      assertFalse(snapshot.get("missing").isPresent());
+
+      assertEquals(new TerminologyValueCacheStatistics(102, 1, 0, 102), snapshot.getStatistics());
+    } finally {
+      Files.deleteIfExists(snapshotFile);
+    }
+  }
+
+  @Test
+  public void testSnapshotRecordsEndpoint() throws IOException
+  {
+    Path snapshotFile = Files.createTempFile("terminology-snapshot", ".bin");
+
+    try {
+      TerminologySnapshot.write("https://terminology.example.org/bioportal/integrated-search",
+        Map.of("key", ANATOMY_VALUES), snapshotFile);
+      TerminologySnapshot snapshot = TerminologySnapshot.open(snapshotFile);
+
+      assertEquals(Optional.of("https://terminology.example.org/bioportal/integrated-search"),
+        snapshot.getTerminologyServerIntegratedSearchEndpoint());
+      assertEquals(Optional.of(ANATOMY_VALUES), snapshot.get("key"));
+
+      TerminologySnapshot.write(Map.of(), snapshotFile);
+      assertFalse(TerminologySnapshot.open(snapshotFile).getTerminologyServerIntegratedSearchEndpoint().isPresent());
+    } finally {
+      Files.deleteIfExists(snapshotFile);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testOpeningNonSnapshotFails() throws IOException
+  {
+    Path snapshotFile = Files.createTempFile("terminology-snapshot", ".bin");
+
+    try {
+      Files.writeString(snapshotFile, "{\"not\": \"a snapshot\"}");
+      TerminologySnapshot.open(snapshotFile);
+    } finally {
+      Files.deleteIfExists(snapshotFile);
+    }
+  }
+
+  @Test
+  public void testValuesPutIntoSnapshotAreDiscarded() throws IOException
+  {
+    Path snapshotFile = Files.createTempFile("terminology-snapshot", ".bin");
+
+    try {
+      TerminologySnapshot.write(Map.of(), snapshotFile);
+      TerminologySnapshot snapshot = TerminologySnapshot.open(snapshotFile);
+
+      snapshot.put("key", ANATOMY_VALUES);
+
+      assertFalse(snapshot.get("key").isPresent());
+      assertEquals(0, snapshot.size());
+    } finally {
+      Files.deleteIfExists(snapshotFile);
+    }
+  }
+
+  @Test
+  public void testOfflineClientReturnsSnapshotValues() throws IOException
+  {
+    ControlledTermValueConstraints valueConstraints = ControlledTermValueConstraints.builder()
+      .withOntologyValueConstraint(new OntologyValueConstraint(URI.create("https://data.bioontology.org/ontologies/UBERON"),
+        "UBERON", "Uber Anatomy Ontology", Optional.empty()))
+      .build();
+    Path snapshotFile = Files.createTempFile("terminology-snapshot", ".bin");
+
+    try {
+      TerminologySnapshot.write(
+        Map.of(TerminologyServerClient.controlledTermValueConstraints2CacheKey(valueConstraints), ANATOMY_VALUES),
+        snapshotFile);
+      OfflineTerminologyServerClient client = new OfflineTerminologyServerClient(TerminologySnapshot.open(snapshotFile));
+      Map<String, String> streamedValues = new HashMap<>();
+
+      assertEquals(ANATOMY_VALUES, client.getValuesFromTerminologyServer(valueConstraints));
+      client.streamValuesFromTerminologyServer(valueConstraints, streamedValues::put);
+      assertEquals(ANATOMY_VALUES, streamedValues);
+      assertEquals(0, client.getRequestStatistics().requestCount());
+    } finally {
+      Files.deleteIfExists(snapshotFile);
+    }
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void testOfflineClientFailsForValueConstraintsMissingFromSnapshot() throws IOException
+  {
+    ControlledTermValueConstraints valueConstraints = ControlledTermValueConstraints.builder()
+      .withOntologyValueConstraint(new OntologyValueConstraint(URI.create("https://data.bioontology.org/ontologies/DOID"),
+        "DOID", "Human Disease Ontology", Optional.empty()))
+      .build();
+    Path snapshotFile = Files.createTempFile("terminology-snapshot", ".bin");
+
+    try {
+      TerminologySnapshot.write(Map.of(), snapshotFile);
+      new OfflineTerminologyServerClient(TerminologySnapshot.open(snapshotFile))
+        .getValuesFromTerminologyServer(valueConstraints);
+    } finally {
+      Files.deleteIfExists(snapshotFile);
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package org.metadatacenter.artifacts.util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TokenBucketRateLimiterTest
+{
+  private static final long MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1);
+
+  @Test
+  public void testBurstIsServedImmediately()
+  {
+    AtomicLong now = new AtomicLong();
+    TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(10.0, 3, now::get);
+
+    assertEquals(0, rateLimiter.reserve());
+    assertEquals(0, rateLimiter.reserve());
+    assertEquals(0, rateLimiter.reserve());
+    assertEquals(100 * MILLISECOND, rateLimiter.reserve());
+    assertEquals(200 * MILLISECOND, rateLimiter.reserve());
+  }
+
+  @Test
+  public void testBucketRefillsOverTime()
+  {
+    AtomicLong now = new AtomicLong();
+    TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(10.0, 2, now::get);
+
+    rateLimiter.reserve();
+    rateLimiter.reserve();
+    now.addAndGet(150 * MILLISECOND);
+
+    assertEquals(0, rateLimiter.reserve());
+    assertEquals(50 * MILLISECOND, rateLimiter.reserve());
+  }
+
+  @Test
+  public void testBucketDoesNotFillBeyondBurstSize()
+  {
+    AtomicLong now = new AtomicLong();
+    TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(10.0, 1, now::get);
+
+    now.addAndGet(TimeUnit.SECONDS.toNanos(60));
+
+    assertEquals(0, rateLimiter.reserve());
+    assertEquals(100 * MILLISECOND, rateLimiter.reserve());
+  }
+
+  @Test
+  public void testDefaultPolicySendsAtMostFifteenRequestsInAnySecond()
+  {
+    TerminologyServerRequestPolicy requestPolicy = TerminologyServerRequestPolicy.DEFAULT;
+    AtomicLong now = new AtomicLong();
+    TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(requestPolicy.requestsPerSecond(),
+      requestPolicy.burstSize(), now::get);
+    List<Long> sendTimes = new ArrayList<>();
+
+    // A full bucket followed by a backlog of requests, then more requests after the bucket has refilled while idle
+    for (int i = 0; i < 40; i++)
+      sendTimes.add(now.get() + rateLimiter.reserve());
+    now.set(sendTimes.get(sendTimes.size() - 1) + TimeUnit.SECONDS.toNanos(5));
+    for (int i = 0; i < 40; i++) {
+      sendTimes.add(now.get() + rateLimiter.reserve());
+      now.addAndGet(10 * MILLISECOND);
+    }
+
+    for (long windowStart : sendTimes) {
+      long requestsInWindow = sendTimes.stream()
+        .filter(sendTime -> sendTime >= windowStart && sendTime < windowStart + TimeUnit.SECONDS.toNanos(1))
+        .count();
+
+      assertTrue("Sent " + requestsInWindow + " requests in one second", requestsInWindow <= 15);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNonPositiveRateIsRejected()
+  {
+    new TokenBucketRateLimiter(0.0, 1);
+  }
+}